@@ -0,0 +1,55 @@
+package com.bananadate.benchmark;
+
+import com.bananadate.service.DistrictPolygonIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 장소 1건당 구 판정 비용 벤치마크
+ * 서울 GeoJSON(25개 구)을 대상으로 서울 경계 상자 안의 무작위 좌표(일부는 서울시 밖)의 구를 찾습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DistrictPolygonIndexBenchmark {
+
+    private static final int QUERY_COUNT = 1024;
+
+    private DistrictPolygonIndex index;
+    private double[] latitudes;
+    private double[] longitudes;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/geo/seoul-districts.json")) {
+            index = DistrictPolygonIndex.fromGeoJson(new ObjectMapper().readTree(in), "code");
+        }
+
+        Random random = new Random(42);
+        latitudes = new double[QUERY_COUNT];
+        longitudes = new double[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            latitudes[i] = 37.43 + random.nextDouble() * 0.27;
+            longitudes[i] = 126.80 + random.nextDouble() * 0.38;
+        }
+    }
+
+    @Benchmark
+    public String findDistrictId() {
+        cursor = (cursor + 1) & (QUERY_COUNT - 1);
+        return index.findDistrictId(latitudes[cursor], longitudes[cursor]);
+    }
+}
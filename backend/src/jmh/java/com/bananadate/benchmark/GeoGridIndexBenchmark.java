@@ -0,0 +1,77 @@
+package com.bananadate.benchmark;
+
+import com.bananadate.service.GeoGridIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주변 장소 검색 벤치마크
+ * 서울 범위(약 22km × 26km)에 무작위로 흩어진 10만/100만 개 좌표에서 k-최근접 및 반경 검색 시간을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeoGridIndexBenchmark {
+
+    private static final double MIN_LAT = 37.43;
+    private static final double MAX_LAT = 37.70;
+    private static final double MIN_LNG = 126.80;
+    private static final double MAX_LNG = 127.18;
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"100000", "1000000"})
+    private int points;
+
+    private GeoGridIndex index;
+    private double[] queryLatitudes;
+    private double[] queryLongitudes;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        index = new GeoGridIndex(0.005);
+        for (int id = 0; id < points; id++) {
+            index.add(id, randomBetween(random, MIN_LAT, MAX_LAT), randomBetween(random, MIN_LNG, MAX_LNG));
+        }
+
+        queryLatitudes = new double[QUERY_COUNT];
+        queryLongitudes = new double[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queryLatitudes[i] = randomBetween(random, MIN_LAT, MAX_LAT);
+            queryLongitudes[i] = randomBetween(random, MIN_LNG, MAX_LNG);
+        }
+    }
+
+    @Benchmark
+    public List<GeoGridIndex.Neighbor> nearest20() {
+        int i = nextQuery();
+        return index.nearest(queryLatitudes[i], queryLongitudes[i], 20);
+    }
+
+    @Benchmark
+    public List<GeoGridIndex.Neighbor> withinRadius500m() {
+        int i = nextQuery();
+        return index.withinRadius(queryLatitudes[i], queryLongitudes[i], 500, 50);
+    }
+
+    private int nextQuery() {
+        cursor = (cursor + 1) & (QUERY_COUNT - 1);
+        return cursor;
+    }
+
+    private static double randomBetween(Random random, double min, double max) {
+        return min + random.nextDouble() * (max - min);
+    }
+}
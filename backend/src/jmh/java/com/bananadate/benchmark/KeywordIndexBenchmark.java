@@ -0,0 +1,121 @@
+package com.bananadate.benchmark;
+
+import com.bananadate.service.KeywordIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키워드 검색 벤치마크: 바이그램 색인 vs LIKE '%키워드%'
+ * 같은 무작위 장소(이름/카테고리/주소)를 KeywordIndex와 인메모리 H2 테이블(place_name, category, address에 인덱스)에 넣고,
+ * 기존 findByCategoryContaining과 같은 형태의 LIKE 질의와 색인 검색의 상위 20개 조회 시간을 비교합니다.
+ * H2는 PostgreSQL과 실행 계획이 다르지만, 앞에 %가 붙은 LIKE는 두 DB 모두 B-tree 인덱스를 쓰지 못하고 전체를 스캔합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeywordIndexBenchmark {
+
+    private static final String[] BRANDS = {
+            "스타벅스", "투썸플레이스", "블루보틀", "이디야", "할리스", "파리바게뜨", "아웃백", "빕스", "교촌치킨", "본죽"
+    };
+    private static final String[] AREAS = {
+            "강남", "역삼", "선릉", "홍대", "합정", "연남", "성수", "건대", "이태원", "여의도", "잠실", "신촌"
+    };
+    private static final String[] SUFFIXES = {"역점", "본점", "점", "직영점", "타워점", "센터점"};
+    private static final String[] CATEGORIES = {
+            "음식점 > 카페 > 커피전문점", "음식점 > 양식 > 스테이크", "음식점 > 치킨", "음식점 > 한식 > 죽", "음식점 > 간식 > 제과,베이커리"
+    };
+    private static final String[] DISTRICTS = {"강남구", "마포구", "성동구", "광진구", "용산구", "영등포구", "송파구", "서대문구"};
+
+    @Param({"100000"})
+    private int places;
+
+    @Param({"스타벅스 강남", "베이커리", "성수"})
+    private String keyword;
+
+    private KeywordIndex index;
+    private Connection connection;
+    private PreparedStatement likeQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        Random random = new Random(42);
+        index = new KeywordIndex();
+        connection = DriverManager.getConnection("jdbc:h2:mem:keyword_benchmark");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE places (id BIGINT PRIMARY KEY, place_name VARCHAR(255), "
+                    + "category VARCHAR(255), address VARCHAR(255))");
+            statement.execute("CREATE INDEX idx_place_name ON places (place_name)");
+            statement.execute("CREATE INDEX idx_category ON places (category)");
+        }
+
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO places VALUES (?, ?, ?, ?)")) {
+            for (int id = 1; id <= places; id++) {
+                String area = AREAS[random.nextInt(AREAS.length)];
+                String name = BRANDS[random.nextInt(BRANDS.length)] + " " + area + SUFFIXES[random.nextInt(SUFFIXES.length)];
+                String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+                String address = "서울 " + DISTRICTS[random.nextInt(DISTRICTS.length)] + " " + area + "동 " + (1 + random.nextInt(999));
+
+                index.put(id, name, category, address);
+                insert.setLong(1, id);
+                insert.setString(2, name);
+                insert.setString(3, category);
+                insert.setString(4, address);
+                insert.addBatch();
+                if (id % 1000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+
+        likeQuery = connection.prepareStatement("SELECT id FROM places "
+                + "WHERE place_name LIKE ? OR category LIKE ? OR address LIKE ? ORDER BY id DESC LIMIT 20");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        likeQuery.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public KeywordIndex.Hits bigramIndex() {
+        return index.search(keyword, 20);
+    }
+
+    @Benchmark
+    public List<Long> likeScan() throws SQLException {
+        // 단어가 여러 개이면 기존 LIKE로는 표현할 수 없으므로 첫 단어만 비교 (LIKE에 유리한 조건)
+        String pattern = "%" + keyword.split(" ")[0] + "%";
+        likeQuery.setString(1, pattern);
+        likeQuery.setString(2, pattern);
+        likeQuery.setString(3, pattern);
+        List<Long> ids = new ArrayList<>(20);
+        try (ResultSet resultSet = likeQuery.executeQuery()) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,75 @@
+package com.bananadate.benchmark;
+
+import com.bananadate.service.MoodTagIndex;
+import com.bananadate.service.TagQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분위기 태그 검색 벤치마크
+ * 장소마다 태그 30종 중 3개, 카테고리, 점수를 무작위로 부여한 10만/100만 개 장소에서
+ * 단일 태그, 다중 태그 AND/OR/NOT, 카테고리·점수 필터 조합의 상위 20개 검색 시간을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoodTagIndexBenchmark {
+
+    private static final String[] TAGS = {
+            "로맨틱", "야경명소", "루프탑", "조용한", "시끄러운", "감성", "아늑한", "뷰맛집", "고급스러운", "캐주얼",
+            "힙한", "레트로", "자연친화", "산책", "포토존", "분위기있는", "이색데이트", "실내", "야외", "가성비",
+            "기념일", "오션뷰", "한강뷰", "브런치", "디저트", "와인", "칵테일", "라이브음악", "전시", "체험"
+    };
+    private static final String[] CATEGORIES = {
+            "음식점 > 카페", "음식점 > 양식", "음식점 > 일식", "음식점 > 한식", "음식점 > 술집", "문화,예술 > 전시관"
+    };
+
+    @Param({"100000", "1000000"})
+    private int places;
+
+    private MoodTagIndex index;
+    private TagQuery singleTag;
+    private TagQuery multiTag;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        index = new MoodTagIndex();
+        for (int id = 1; id <= places; id++) {
+            List<String> tags = new ArrayList<>(3);
+            for (int i = 0; i < 3; i++) {
+                tags.add("#" + TAGS[random.nextInt(TAGS.length)]);
+            }
+            index.put(id, tags, CATEGORIES[random.nextInt(CATEGORIES.length)], 1 + random.nextInt(10));
+        }
+        singleTag = TagQuery.parse("로맨틱");
+        multiTag = TagQuery.parse("로맨틱|감성,야경명소|루프탑|한강뷰,-시끄러운");
+    }
+
+    @Benchmark
+    public MoodTagIndex.Hits singleTag() {
+        return index.search(singleTag, null, null, null, 20);
+    }
+
+    @Benchmark
+    public MoodTagIndex.Hits multiTagAndOrNot() {
+        return index.search(multiTag, null, null, null, 20);
+    }
+
+    @Benchmark
+    public MoodTagIndex.Hits multiTagWithFilters() {
+        return index.search(multiTag, "카페", 7, null, 20);
+    }
+}
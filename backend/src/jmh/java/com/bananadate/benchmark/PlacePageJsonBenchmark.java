@@ -0,0 +1,103 @@
+package com.bananadate.benchmark;
+
+import com.bananadate.dto.PlaceResponse;
+import com.bananadate.entity.Place;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 장소 목록 페이지 JSON 변환 비용 벤치마크
+ * GET /api/places와 같이 Page<Place>를 Page<PlaceResponse>로 바꿔 직렬화하는 비용과,
+ * 클라이언트가 그 응답 본문을 다시 읽는 비용을 측정합니다.
+ * ObjectMapper는 Spring Boot 기본 설정(날짜 ISO 문자열, 모르는 필드 무시)과 같게 만듭니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlacePageJsonBenchmark {
+
+    private static final String[][] MOOD_TAGS = {
+            {"#아늑한", "#감성카페"}, {"#로맨틱", "#야경명소", "#기념일"}, {"#활기찬"}, {}
+    };
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<Place> page;
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<Place> places = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            boolean curated = random.nextBoolean();
+            places.add(Place.builder()
+                    .id((long) i + 1)
+                    .kakaoPlaceId(String.valueOf(10_000_000 + i))
+                    .placeName("장소 " + i)
+                    .category("음식점 > 카페 > 커피전문점")
+                    .address("서울 강남구 테헤란로 " + (1 + random.nextInt(500)))
+                    .latitude(37.43 + random.nextDouble() * 0.27)
+                    .longitude(126.80 + random.nextDouble() * 0.38)
+                    .phone("02-555-" + (1000 + random.nextInt(9000)))
+                    .placeUrl("http://place.map.kakao.com/" + (10_000_000 + i))
+                    .districtId("11230")
+                    .dateScore(curated ? 1 + random.nextInt(10) : null)
+                    .moodTags(curated ? List.of(MOOD_TAGS[random.nextInt(MOOD_TAGS.length)]) : null)
+                    .priceRange(curated ? "10,000-20,000원" : null)
+                    .bestTime(curated ? "저녁 6-9시" : null)
+                    .recommendation(curated ? "분위기 좋은 데이트 카페" : null)
+                    .curatedAt(curated ? now : null)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        page = new PageImpl<>(places, PageRequest.of(0, pageSize), 10_000);
+        body = serializePage();
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws IOException {
+        Page<PlaceResponse> responses = page.map(place -> PlaceResponse.of(place,
+                place.getMoodTags() != null ? List.copyOf(place.getMoodTags()) : List.of()));
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public PageBody deserializePage() throws IOException {
+        return objectMapper.readValue(body, PageBody.class);
+    }
+
+    /**
+     * 클라이언트가 읽는 페이지 응답 본문 (PageImpl은 역직렬화할 수 없으므로 필요한 필드만 받음)
+     */
+    public record PageBody(List<PlaceResponse> content, long totalElements, int totalPages, int number, int size) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.KakaoLocalSearchResponse;
+import com.bananadate.entity.Place;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카카오 문서 1건을 Place 엔티티로 바꾸는 비용 벤치마크 (좌표 파싱 + 구 판정 포함)
+ * convertToPlace가 패키지 전용이므로 서비스와 같은 패키지에 둡니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PlaceConversionBenchmark {
+
+    private static final int DOCUMENT_COUNT = 1024;
+    private static final String[] CATEGORIES = {
+            "음식점 > 카페 > 커피전문점", "음식점 > 양식 > 이탈리안", "음식점 > 일식 > 초밥,롤", "음식점 > 한식 > 육류,고기"
+    };
+
+    private PlaceCollectionService placeCollectionService;
+    private KakaoLocalSearchResponse.Document[] documents;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DistrictLocator districtLocator = new DistrictLocator(new ObjectMapper(),
+                new ClassPathResource("geo/seoul-districts.json"));
+        placeCollectionService = new PlaceCollectionService(null, null, null, null, districtLocator, null);
+
+        Random random = new Random(42);
+        documents = new KakaoLocalSearchResponse.Document[DOCUMENT_COUNT];
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            KakaoLocalSearchResponse.Document doc = new KakaoLocalSearchResponse.Document();
+            doc.setId(String.valueOf(10_000_000 + i));
+            doc.setPlaceName("장소 " + i);
+            doc.setCategoryName(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+            doc.setAddressName("서울 강남구 역삼동 " + (1 + random.nextInt(999)));
+            // 도로명 주소가 없는 문서도 섞어 지번 주소 대체 분기를 함께 측정
+            doc.setRoadAddressName(random.nextInt(4) == 0 ? "" : "서울 강남구 테헤란로 " + (1 + random.nextInt(500)));
+            doc.setX(String.format(Locale.ROOT, "%.7f", 126.80 + random.nextDouble() * 0.38));
+            doc.setY(String.format(Locale.ROOT, "%.7f", 37.43 + random.nextDouble() * 0.27));
+            doc.setPhone("02-" + (1000 + random.nextInt(9000)) + "-" + (1000 + random.nextInt(9000)));
+            doc.setPlaceUrl("http://place.map.kakao.com/" + doc.getId());
+            documents[i] = doc;
+        }
+    }
+
+    @Benchmark
+    public Place convertToPlace() {
+        cursor = (cursor + 1) & (DOCUMENT_COUNT - 1);
+        return placeCollectionService.convertToPlace(documents[cursor]);
+    }
+}
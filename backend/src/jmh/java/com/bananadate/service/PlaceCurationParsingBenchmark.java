@@ -0,0 +1,94 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.PlaceBasicInfo;
+import com.bananadate.dto.PlaceCurationResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 큐레이션 요청/응답 처리의 CPU 비용 벤치마크 (API 호출 제외)
+ * 프롬프트 생성, Messages API 응답 본문 파싱, 마크다운 코드 블록 제거, 분석 결과 JSON 파싱을 각각 측정합니다.
+ * 응답은 실제 Messages API 형식(id, model, content, stop_reason, usage)을 따르며,
+ * 분석 결과가 순수 JSON인 경우와 ```json 코드 블록으로 감싸인 경우를 비교합니다.
+ * 대상 메서드가 패키지 전용이므로 서비스와 같은 패키지에 둡니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PlaceCurationParsingBenchmark {
+
+    private static final String ANALYSIS_JSON = """
+            {
+              "date_score": 8,
+              "mood_tags": ["#아늑한", "#감성카페", "#대화하기좋은"],
+              "price_range": "10,000-20,000원",
+              "best_time": "오후 2-5시",
+              "recommendation": "조용히 대화하기 좋은 루프탑 카페"
+            }""";
+
+    @Param({"plain", "markdown"})
+    private String format;
+
+    private PlaceCurationService placeCurationService;
+    private PlaceBasicInfo placeInfo;
+    private String analysisText;
+    private String responseBody;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        placeCurationService = new PlaceCurationService(WebClient.builder(), objectMapper, "benchmark-api-key",
+                new CurationCache(null, 1), new SimpleMeterRegistry());
+
+        placeInfo = PlaceBasicInfo.builder()
+                .kakaoPlaceId("27184538")
+                .placeName("블루보틀 성수 카페")
+                .category("음식점 > 카페 > 커피전문점")
+                .address("서울 성동구 아차산로 7")
+                .build();
+
+        analysisText = "markdown".equals(format) ? "```json\n" + ANALYSIS_JSON + "\n```" : ANALYSIS_JSON;
+        responseBody = objectMapper.writeValueAsString(Map.of(
+                "id", "msg_01XFDUDYJgAACzvnptvVoYEL",
+                "type", "message",
+                "role", "assistant",
+                "model", "claude-opus-4-20250514",
+                "content", new Object[]{Map.of("type", "text", "text", analysisText)},
+                "stop_reason", "end_turn",
+                "usage", Map.of("input_tokens", 412, "output_tokens", 96)));
+    }
+
+    @Benchmark
+    public String buildPrompt() {
+        return placeCurationService.buildPrompt(placeInfo);
+    }
+
+    @Benchmark
+    public PlaceCurationService.ClaudeReply readReply() throws JsonProcessingException {
+        return placeCurationService.readReply(responseBody);
+    }
+
+    @Benchmark
+    public String extractJsonFromMarkdown() {
+        return PlaceCurationService.extractJsonFromMarkdown(analysisText);
+    }
+
+    @Benchmark
+    public PlaceCurationResult parseAnalysisResult() throws JsonProcessingException {
+        return placeCurationService.parseAnalysisResult(analysisText, placeInfo);
+    }
+}
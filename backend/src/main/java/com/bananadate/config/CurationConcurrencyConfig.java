@@ -0,0 +1,37 @@
+package com.bananadate.config;
+
+import com.bananadate.service.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 배치 큐레이션의 Claude API 동시 호출 설정
+ * 429/503 응답에 맞춰 동시 실행 한도를 조절하는 제한기를 등록하고,
+ * 현재 한도와 실행 중인 요청 수를 /actuator/metrics 로 노출합니다.
+ */
+@Configuration
+public class CurationConcurrencyConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter curationConcurrencyLimiter(
+            @Value("${curation.concurrency.initial-limit:4}") int initialLimit,
+            @Value("${curation.concurrency.min-limit:1}") int minLimit,
+            @Value("${curation.concurrency.max-limit:16}") int maxLimit) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit);
+    }
+
+    @Bean
+    public MeterBinder curationConcurrencyMetrics(AdaptiveConcurrencyLimiter curationConcurrencyLimiter) {
+        return registry -> {
+            Gauge.builder("curation.concurrency.limit", curationConcurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("배치 큐레이션의 현재 Claude API 동시 호출 한도")
+                    .register(registry);
+            Gauge.builder("curation.concurrency.in-flight", curationConcurrencyLimiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .description("현재 실행 중인 Claude API 큐레이션 호출 수")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.bananadate.config;
+
+import com.bananadate.service.TokenBucketRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 카카오 Local API 호출 설정
+ * 모든 카카오 API 요청이 공유하는 전역 Rate Limiter를 등록합니다.
+ */
+@Configuration
+public class KakaoApiConfig {
+
+    @Bean
+    public TokenBucketRateLimiter kakaoRateLimiter(
+            @Value("${kakao.api.rate-limit.permits-per-second:10}") double permitsPerSecond,
+            @Value("${kakao.api.rate-limit.burst:5}") int burst) {
+        return new TokenBucketRateLimiter(permitsPerSecond, burst);
+    }
+}
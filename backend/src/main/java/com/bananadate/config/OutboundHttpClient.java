@@ -0,0 +1,86 @@
+package com.bananadate.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 외부 API(업스트림) 하나의 HTTP 연결 설정
+ * 업스트림마다 이름 붙은 연결 풀을 따로 두어, 한 업스트림이 느려지거나 멈춰도 다른 업스트림의 연결을 차지하지 않습니다.
+ *
+ * - 연결/응답 타임아웃: 응답이 오지 않는 업스트림 때문에 block() 호출자가 무한히 기다리지 않도록 합니다.
+ * - 연결 풀: 최대 연결 수를 넘는 요청은 대기열에서 기다리며, pendingAcquireTimeout 안에 연결을 얻지 못하면 실패합니다.
+ * - keep-alive: 유휴 연결은 maxIdleTime 뒤 백그라운드에서 정리하여, 업스트림이 먼저 끊은 연결을 재사용하지 않습니다.
+ * - HTTP/2: TLS(ALPN)로 협상되면 사용하고, 지원하지 않는 서버나 평문 HTTP에서는 HTTP/1.1을 사용합니다.
+ *
+ * 풀 사용량(활성/유휴/대기 연결 수, 연결 획득 대기 시간)은 reactor.netty.connection.provider.* 지표로 노출됩니다 (name 태그 = 업스트림 이름).
+ */
+public class OutboundHttpClient {
+
+    /**
+     * 업스트림 연결 설정
+     *
+     * @param name                  업스트림 이름 (풀 이름과 지표 태그로 사용)
+     * @param connectTimeout        TCP 연결 타임아웃
+     * @param responseTimeout       요청을 보낸 뒤 응답(및 다음 데이터)을 기다리는 최대 시간
+     * @param maxConnections        최대 연결 수
+     * @param pendingAcquireTimeout 풀이 가득 찼을 때 연결을 기다리는 최대 시간
+     * @param maxIdleTime           유휴 연결을 유지하는 최대 시간
+     * @param http2                 HTTP/2 협상 여부
+     */
+    public record Settings(String name,
+                           Duration connectTimeout,
+                           Duration responseTimeout,
+                           int maxConnections,
+                           Duration pendingAcquireTimeout,
+                           Duration maxIdleTime,
+                           boolean http2) {
+    }
+
+    private final Settings settings;
+    private final ConnectionProvider connectionProvider;
+    private final ReactorClientHttpConnector connector;
+
+    public OutboundHttpClient(Settings settings) {
+        this.settings = settings;
+        this.connectionProvider = ConnectionProvider.builder(settings.name())
+                .maxConnections(settings.maxConnections())
+                .pendingAcquireTimeout(settings.pendingAcquireTimeout())
+                .maxIdleTime(settings.maxIdleTime())
+                .evictInBackground(settings.maxIdleTime())
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(settings.connectTimeout().toMillis()))
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(settings.responseTimeout());
+        if (settings.http2()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+        this.connector = new ReactorClientHttpConnector(httpClient);
+    }
+
+    /**
+     * 이 업스트림의 연결 풀을 쓰도록 WebClient.Builder 설정
+     */
+    public WebClient.Builder configure(WebClient.Builder builder) {
+        return builder.clientConnector(connector);
+    }
+
+    public Settings getSettings() {
+        return settings;
+    }
+
+    /**
+     * 연결 풀 종료 (애플리케이션 종료 시)
+     */
+    public void dispose() {
+        connectionProvider.dispose();
+    }
+}
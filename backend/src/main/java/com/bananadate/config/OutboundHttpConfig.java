@@ -0,0 +1,77 @@
+package com.bananadate.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+/**
+ * 외부 API 호출용 WebClient 설정
+ * 카카오와 Claude API에 각각 연결 풀과 타임아웃을 가진 OutboundHttpClient를 두고,
+ * 서비스에는 해당 업스트림의 풀을 쓰는 WebClient.Builder를 주입합니다 (@Qualifier로 선택).
+ *
+ * Builder는 Spring Boot 기본 Builder와 같이 등록된 WebClientCustomizer(코덱, 관측)를 모두 적용하므로,
+ * 응답 시간은 http.client.requests 지표(client.name 태그 = 호스트)로 그대로 기록됩니다.
+ * 주입받은 쪽에서 baseUrl 등을 바꾸므로 Builder는 주입할 때마다 새로 만듭니다 (prototype).
+ */
+@Configuration
+public class OutboundHttpConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public OutboundHttpClient kakaoHttpClient(
+            @Value("${kakao.api.http.connect-timeout:PT2S}") Duration connectTimeout,
+            @Value("${kakao.api.http.response-timeout:PT5S}") Duration responseTimeout,
+            @Value("${kakao.api.http.max-connections:20}") int maxConnections,
+            @Value("${kakao.api.http.pending-acquire-timeout:PT10S}") Duration pendingAcquireTimeout,
+            @Value("${kakao.api.http.max-idle-time:PT30S}") Duration maxIdleTime,
+            @Value("${kakao.api.http.http2:true}") boolean http2) {
+        return new OutboundHttpClient(new OutboundHttpClient.Settings("kakao", connectTimeout, responseTimeout,
+                maxConnections, pendingAcquireTimeout, maxIdleTime, http2));
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public OutboundHttpClient claudeHttpClient(
+            @Value("${claude.api.http.connect-timeout:PT5S}") Duration connectTimeout,
+            @Value("${claude.api.http.response-timeout:PT2M}") Duration responseTimeout,
+            @Value("${claude.api.http.max-connections:32}") int maxConnections,
+            @Value("${claude.api.http.pending-acquire-timeout:PT30S}") Duration pendingAcquireTimeout,
+            @Value("${claude.api.http.max-idle-time:PT30S}") Duration maxIdleTime,
+            @Value("${claude.api.http.http2:true}") boolean http2) {
+        return new OutboundHttpClient(new OutboundHttpClient.Settings("claude", connectTimeout, responseTimeout,
+                maxConnections, pendingAcquireTimeout, maxIdleTime, http2));
+    }
+
+    @Bean
+    @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+    public WebClient.Builder kakaoWebClientBuilder(
+            ObjectProvider<WebClientCustomizer> customizers,
+            @Qualifier("kakaoHttpClient") OutboundHttpClient kakaoHttpClient) {
+        return newBuilder(customizers, kakaoHttpClient);
+    }
+
+    @Bean
+    @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+    public WebClient.Builder claudeWebClientBuilder(
+            ObjectProvider<WebClientCustomizer> customizers,
+            @Qualifier("claudeHttpClient") OutboundHttpClient claudeHttpClient) {
+        return newBuilder(customizers, claudeHttpClient);
+    }
+
+    /**
+     * Spring Boot 기본 Builder와 같은 순서로 customizer를 적용한 뒤 업스트림 연결 풀을 지정
+     * (기본 커넥터를 지정하는 customizer보다 나중에 적용해야 함)
+     */
+    private static WebClient.Builder newBuilder(
+            ObjectProvider<WebClientCustomizer> customizers, OutboundHttpClient outboundHttpClient) {
+        WebClient.Builder builder = WebClient.builder();
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        return outboundHttpClient.configure(builder);
+    }
+}
@@ -0,0 +1,13 @@
+package com.bananadate.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 활성화
+ * 예) 장소 통계 카운터를 DB 집계와 주기적으로 맞추는 작업
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
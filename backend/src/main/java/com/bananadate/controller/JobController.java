@@ -0,0 +1,51 @@
+package com.bananadate.controller;
+
+import com.bananadate.dto.JobStatusResponse;
+import com.bananadate.service.JobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 비동기 작업 조회 및 취소 API 컨트롤러
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+public class JobController {
+
+    private final JobService jobService;
+
+    /**
+     * 작업 진행 상황 조회
+     *
+     * @param jobId 작업 ID
+     * @return 작업 상태 (처리 수, 성공/실패 수, 처리 속도, 남은 예상 시간)
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<JobStatusResponse> getJob(@PathVariable String jobId) {
+        return jobService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 작업 취소
+     *
+     * @param jobId 작업 ID
+     * @return 취소 요청 후 작업 상태
+     */
+    @PostMapping("/{jobId}/cancel")
+    public ResponseEntity<JobStatusResponse> cancelJob(@PathVariable String jobId) {
+        log.info("Cancelling job: {}", jobId);
+        return jobService.cancel(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
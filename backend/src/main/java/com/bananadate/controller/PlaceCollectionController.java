@@ -1,23 +1,58 @@
 package com.bananadate.controller;
 
-import com.bananadate.dto.BatchCurationResult;
-import com.bananadate.dto.PlaceCollectionResult;
+import com.bananadate.dto.CursorPage;
+import com.bananadate.dto.JobStatusResponse;
+import com.bananadate.dto.NearbyPlaceResponse;
 import com.bananadate.dto.PlaceCurationResult;
+import com.bananadate.dto.PlaceResponse;
+import com.bananadate.dto.PlaceSearchResult;
+import com.bananadate.dto.PlaceStats;
 import com.bananadate.entity.Place;
 import com.bananadate.repository.PlaceRepository;
+import com.bananadate.service.BulkCurationBackends;
+import com.bananadate.service.DistrictBackfillService;
+import com.bananadate.service.GeoGridIndex;
+import com.bananadate.service.JobProgress;
+import com.bananadate.service.JobService;
 import com.bananadate.service.PlaceBatchCurationService;
 import com.bananadate.service.PlaceCollectionService;
+import com.bananadate.service.PlaceDetailCache;
+import com.bananadate.service.PlaceExportFormat;
+import com.bananadate.service.PlaceExportService;
+import com.bananadate.service.PlaceImportService;
+import com.bananadate.service.PlaceKeywordSearch;
+import com.bananadate.service.PlaceQueryService;
+import com.bananadate.service.PlaceRanking;
+import com.bananadate.service.PlaceSpatialIndex;
+import com.bananadate.service.PlaceStatistics;
+import com.bananadate.service.PlaceTagSearch;
+import com.bananadate.service.TagQuery;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 장소 수집 및 조회 API 컨트롤러
@@ -30,99 +65,353 @@ public class PlaceCollectionController {
 
     private final PlaceCollectionService placeCollectionService;
     private final PlaceBatchCurationService placeBatchCurationService;
+    private final BulkCurationBackends bulkCurationBackends;
+    private final DistrictBackfillService districtBackfillService;
     private final PlaceRepository placeRepository;
+    private final PlaceSpatialIndex placeSpatialIndex;
+    private final PlaceQueryService placeQueryService;
+    private final PlaceDetailCache placeDetailCache;
+    private final PlaceStatistics placeStatistics;
+    private final PlaceRanking placeRanking;
+    private final PlaceTagSearch placeTagSearch;
+    private final PlaceKeywordSearch placeKeywordSearch;
+    private final PlaceExportService placeExportService;
+    private final PlaceImportService placeImportService;
+    private final JobService jobService;
+
+    private static final String PLACE_COLLECTION_JOB = "PLACE_COLLECTION";
+    private static final String BATCH_CURATION_JOB = "BATCH_CURATION";
+    private static final int MAX_NEARBY_LIMIT = 500;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_TOP_LIMIT = 100;
+    private static final int MAX_SEARCH_LIMIT = 100;
 
     /**
-     * 서울 주요 상권의 장소 수집 실행
+     * 캐시(브라우저/CDN)는 응답을 저장하되 매번 ETag로 재검증
+     */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePublic();
+
+    /**
+     * 서울 주요 상권의 장소 수집 작업 등록
+     * 수집은 백그라운드 작업으로 실행되며, 진행 상황은 GET /api/jobs/{jobId}로 조회합니다.
      *
-     * @return 수집 결과
+     * @param concurrent true이면 쿼리를 동시에 실행 (전역 Rate Limiter로 속도 제어)
+     * @return 등록된 작업 상태 (202 Accepted)
      */
     @PostMapping("/collect")
-    public ResponseEntity<PlaceCollectionResult> collectPlaces() {
-        log.info("Starting place collection via API endpoint");
-        PlaceCollectionResult result = placeCollectionService.collectPlaces();
-        return ResponseEntity.ok(result);
+    public ResponseEntity<JobStatusResponse> collectPlaces(
+            @RequestParam(defaultValue = "false") boolean concurrent) {
+        log.info("Submitting place collection job via API endpoint (concurrent: {})", concurrent);
+        return submitJob(PLACE_COLLECTION_JOB, progress -> concurrent
+                ? placeCollectionService.collectPlacesConcurrently(progress)
+                : placeCollectionService.collectPlaces(progress));
+    }
+
+    /**
+     * 카카오 문서 일괄 가져오기 작업 등록 (스테이징/재해 복구용 초기 적재)
+     * 본문은 gzip으로 압축한 NDJSON(한 줄에 카카오 Local API 문서 하나)이며, 임시 파일에 저장한 뒤 백그라운드 작업으로 가져옵니다.
+     * 진행 상황은 GET /api/jobs/{jobId}로 조회합니다.
+     *
+     * @param body 요청 본문 (gzip NDJSON)
+     * @return 등록된 작업 상태 (202 Accepted), gzip이 아니면 400
+     */
+    @PostMapping("/import")
+    public ResponseEntity<JobStatusResponse> importPlaces(InputStream body) throws IOException {
+        Path file;
+        try {
+            file = placeImportService.stage(body);
+        } catch (IllegalArgumentException e) {
+            log.debug("Rejected place import: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+
+        log.info("Submitting place import job via API endpoint ({} bytes)", Files.size(file));
+        // 작업이 거절되거나 시작 전에 취소되어도 임시 파일이 남지 않도록 정리 작업으로 삭제
+        return submitJob(PlaceImportService.JOB_TYPE,
+                progress -> placeImportService.importStagedFile(file, progress),
+                () -> placeImportService.discardStagedFile(file));
     }
 
     /**
      * 수집된 장소 목록 조회
+     * 페이지 번호(OFFSET) 방식이라 뒤쪽 페이지일수록 느려지므로, 깊은 페이지 탐색은 GET /api/places/cursor를 사용합니다.
      *
      * @param page     페이지 번호 (0부터 시작)
      * @param size     페이지당 개수
      * @param category 카테고리 필터 (optional)
      * @param curated  큐레이션 상태 필터 (optional): true=큐레이션됨, false=큐레이션안됨
-     * @return 장소 목록
+     * @param districtIds 구 ID 필터 (optional, 여러 개 가능): 예) districtIds=11230,11220
+     * @return 장소 목록, If-None-Match가 페이지 ETag와 같으면 304 (분위기 태그 조회와 직렬화 생략)
      */
     @GetMapping
-    public ResponseEntity<Page<Place>> getPlaces(
+    public ResponseEntity<Page<PlaceResponse>> getPlaces(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) String category,
-            @RequestParam(required = false) Boolean curated) {
-
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-
-        Page<Place> places;
-        if (category != null && !category.isEmpty()) {
-            places = placeRepository.findByCategoryContaining(category, pageable);
-        } else if (curated != null) {
-            if (curated) {
-                places = placeRepository.findCuratedPlaces(pageable);
-            } else {
-                places = placeRepository.findUncuratedPlaces(pageable);
-            }
-        } else {
-            places = placeRepository.findAll(pageable);
+            @RequestParam(required = false) Boolean curated,
+            @RequestParam(required = false) List<String> districtIds,
+            WebRequest request) {
+        Page<Place> places = placeQueryService.findPlacePage(page, size, category, curated, districtIds);
+        String eTag = PlaceValidators.pageETag(places);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(REVALIDATE)
+                .body(placeQueryService.toResponsePage(places));
+    }
+
+    /**
+     * 수집된 장소 목록 커서 기반 조회
+     * 페이지 번호 대신 이전 응답의 nextCursor로 다음 페이지를 조회하며, 전체 개수는 계산하지 않습니다.
+     * 큐레이션된 장소(curated=true)는 데이트 점수순, 나머지는 최신순으로 정렬합니다.
+     *
+     * @param cursor      이전 페이지의 nextCursor (optional, 없으면 첫 페이지)
+     * @param size        페이지당 개수
+     * @param category    카테고리 필터 (optional)
+     * @param curated     큐레이션 상태 필터 (optional)
+     * @param districtIds 구 ID 필터 (optional)
+     * @return 장소 목록과 다음 페이지 커서, 커서가 잘못되었으면 400
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<PlaceResponse>> getPlacesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Boolean curated,
+            @RequestParam(required = false) List<String> districtIds) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(placeQueryService.findPlaces(category, curated, districtIds, cursor, size));
+        } catch (IllegalArgumentException e) {
+            log.debug("Rejected place cursor: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 주변 장소 조회
+     * 메모리 공간 인덱스로 검색한 뒤 결과 장소만 ID로 조회합니다.
+     *
+     * @param lat    검색 위도
+     * @param lng    검색 경도
+     * @param radius 검색 반경 (미터, optional): 지정하지 않으면 가장 가까운 limit개
+     * @param limit  최대 결과 수
+     * @return 가까운 순으로 정렬된 장소와 거리
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyPlaceResponse>> getNearbyPlaces(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(required = false) Double radius,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180 || (radius != null && radius < 0)
+                || limit < 1 || limit > MAX_NEARBY_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<GeoGridIndex.Neighbor> neighbors = placeSpatialIndex.findNearby(lat, lng, radius, limit);
+        Map<Long, PlaceResponse> placesById = placeQueryService.toResponses(placeRepository.findAllById(
+                        neighbors.stream().map(GeoGridIndex.Neighbor::id).toList()))
+                .stream()
+                .collect(Collectors.toMap(PlaceResponse::getId, Function.identity()));
+
+        List<NearbyPlaceResponse> response = neighbors.stream()
+                .map(neighbor -> {
+                    PlaceResponse place = placesById.get(neighbor.id());
+                    return place == null ? null : NearbyPlaceResponse.builder()
+                            .place(place)
+                            .distanceMeters(neighbor.distanceMeters())
+                            .build();
+                })
+                .filter(Objects::nonNull)
+                .toList();
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 데이트 점수 상위 장소 조회
+     * 큐레이션 결과로 갱신되는 메모리 순위에서 바로 꺼내므로 DB를 조회하지 않습니다.
+     *
+     * @param district 구 ID (optional, 예: 11230)
+     * @param category 카테고리 단계 하나 (optional, 예: 카페)
+     * @param limit    최대 결과 수
+     * @return 점수 내림차순 장소 목록
+     */
+    @GetMapping("/top")
+    public ResponseEntity<List<PlaceResponse>> getTopPlaces(
+            @RequestParam(required = false) String district,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > MAX_TOP_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(placeRanking.top(district, category, limit));
+    }
+
+    /**
+     * 분위기 태그로 장소 검색
+     * 쉼표는 AND, "|"는 OR, "-" 접두사는 NOT입니다. 예: tags=로맨틱,야경명소|루프탑,-시끄러운
+     * 메모리 태그 역색인(압축 비트맵)으로 조건을 계산한 뒤 결과 장소만 조회합니다.
+     *
+     * @param tags     태그 조건
+     * @param category 카테고리 단계 하나 (optional, 예: 카페)
+     * @param minScore 최소 데이트 점수 (optional)
+     * @param maxScore 최대 데이트 점수 (optional)
+     * @param limit    최대 결과 수
+     * @return 점수 내림차순 장소 목록과 전체 일치 수
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PlaceSearchResult> searchByTags(
+            @RequestParam String tags,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Integer minScore,
+            @RequestParam(required = false) Integer maxScore,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            return ResponseEntity.ok(placeTagSearch.search(TagQuery.parse(tags), category, minScore, maxScore, limit));
+        } catch (IllegalArgumentException e) {
+            log.debug("Rejected tag query: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 키워드로 장소 검색
+     * 장소 이름/카테고리/주소에 대해 LIKE '%키워드%'와 같은 부분 일치 검색을 메모리 바이그램 색인으로 수행하며,
+     * 이름 일치를 주소 일치보다 우선하는 관련도순으로 반환합니다. 공백으로 구분한 단어는 모두 포함해야 합니다.
+     *
+     * @param keyword 검색어 (두 글자 이상인 단어 1개 이상)
+     * @param limit   최대 결과 수
+     * @return 관련도순 장소 목록과 전체 일치 수
+     */
+    @GetMapping("/search/keyword")
+    public ResponseEntity<PlaceSearchResult> searchByKeyword(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(placeKeywordSearch.search(keyword, limit));
+        } catch (IllegalArgumentException e) {
+            log.debug("Rejected keyword query: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 장소 전체 내보내기 (분위기 태그 포함)
+     * JDBC 커서로 읽은 장소를 응답 스트림에 바로 쓰므로 장소 수와 관계없이 메모리 사용량이 일정합니다.
+     *
+     * @param format 내보내기 형식 (ndjson 또는 csv)
+     * @return 첨부 파일로 내려가는 장소 스트림
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPlaces(@RequestParam(defaultValue = "ndjson") String format) {
+        PlaceExportFormat exportFormat;
+        try {
+            exportFormat = PlaceExportFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            log.debug("Rejected export format: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         }
 
-        return ResponseEntity.ok(places);
+        StreamingResponseBody body = out -> placeExportService.export(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("places." + exportFormat.extension())
+                        .build()
+                        .toString())
+                .body(body);
     }
 
     /**
      * 특정 장소 상세 정보 조회
+     * 직렬화된 응답을 near cache(PlaceDetailCache)에서 꺼내며, 큐레이션 등으로 장소가 바뀌면 캐시가 무효화됩니다.
+     * ETag/Last-Modified는 장소 수정 시각으로 만들며, If-None-Match/If-Modified-Since가 일치하면 304를 반환합니다.
+     * (캐시에 없으면 수정 시각 컬럼만 조회하여 검증)
      *
      * @param id 장소 ID
-     * @return 장소 상세 정보
+     * @return 장소 상세 정보 (JSON)
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Place> getPlaceById(@PathVariable Long id) {
-        return placeRepository.findById(id)
-                .map(ResponseEntity::ok)
+    public ResponseEntity<byte[]> getPlaceById(@PathVariable Long id, WebRequest request) {
+        Optional<LocalDateTime> updatedAt = placeDetailCache.getIfPresent(id)
+                .map(PlaceDetailCache.Entry::updatedAt)
+                .or(() -> placeQueryService.getPlaceUpdatedAt(id));
+        if (updatedAt.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        String eTag = PlaceValidators.placeETag(id, updatedAt.get());
+        long lastModified = PlaceValidators.toEpochMillis(updatedAt.get());
+        if (request.checkNotModified(eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .lastModified(lastModified)
+                    .cacheControl(REVALIDATE)
+                    .build();
+        }
+
+        return placeDetailCache.get(id)
+                .map(entry -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .eTag(PlaceValidators.placeETag(id, entry.updatedAt()))
+                        .lastModified(PlaceValidators.toEpochMillis(entry.updatedAt()))
+                        .cacheControl(REVALIDATE)
+                        .body(entry.json()))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     /**
      * 장소 통계 정보 조회
+     * 이벤트로 갱신되는 메모리 카운터를 반환하므로 테이블 크기와 관계없이 일정한 시간에 응답합니다.
+     * 카운터는 주기적으로 DB 집계와 맞춥니다 (place.stats.reconcile-interval).
      *
-     * @return 통계 정보
+     * @return 통계 정보 (전체/큐레이션 수, 카테고리/구/점수 구간별 분포)
      */
     @GetMapping("/stats")
-    public ResponseEntity<Map<String, Object>> getPlaceStats() {
-        long totalCount = placeRepository.count();
-        long curatedCount = placeRepository.countCuratedPlaces();
-        long uncuratedCount = placeRepository.countUncuratedPlaces();
-
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("totalCount", totalCount);
-        stats.put("curatedCount", curatedCount);
-        stats.put("uncuratedCount", uncuratedCount);
-        stats.put("curationRate", totalCount > 0 ? (double) curatedCount / totalCount * 100 : 0);
-
-        return ResponseEntity.ok(stats);
+    public ResponseEntity<PlaceStats> getPlaceStats() {
+        return ResponseEntity.ok(placeStatistics.snapshot());
     }
 
     /**
-     * 큐레이션되지 않은 장소를 배치로 큐레이션
+     * 큐레이션되지 않은 장소의 배치 큐레이션 작업 등록
+     * 큐레이션은 백그라운드 작업으로 실행되며, 진행 상황은 GET /api/jobs/{jobId}로 조회합니다.
      *
-     * @param limit 한 번에 처리할 최대 개수 (optional, 지정하지 않으면 전체)
-     * @return 배치 큐레이션 결과
+     * @param limit   한 번에 처리할 최대 개수 (optional, 지정하지 않으면 전체)
+     * @param backend 큐레이션 백엔드 (optional): sync=Messages API 동기 호출, message-batch=Message Batches API
+     * @return 등록된 작업 상태 (202 Accepted), 알 수 없는 백엔드이면 400
      */
     @PostMapping("/curate-all")
-    public ResponseEntity<BatchCurationResult> curateAllPlaces(
-            @RequestParam(required = false) Integer limit) {
-        log.info("Starting batch curation via API endpoint (limit: {})", limit);
-        BatchCurationResult result = placeBatchCurationService.curateUncuratedPlaces(limit);
-        return ResponseEntity.ok(result);
+    public ResponseEntity<JobStatusResponse> curateAllPlaces(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String backend) {
+        log.info("Submitting batch curation job via API endpoint (limit: {}, backend: {})", limit, backend);
+        return bulkCurationBackends.find(backend)
+                .map(curationBackend -> submitJob(BATCH_CURATION_JOB,
+                        progress -> curationBackend.curateUncuratedPlaces(limit, progress)))
+                .orElseGet(() -> ResponseEntity.badRequest().build());
+    }
+
+    /**
+     * 구 ID가 비어 있는 기존 장소의 구 ID backfill 작업 등록
+     * 진행 상황은 GET /api/jobs/{jobId}로 조회합니다.
+     *
+     * @return 등록된 작업 상태 (202 Accepted)
+     */
+    @PostMapping("/districts/backfill")
+    public ResponseEntity<JobStatusResponse> backfillDistricts() {
+        log.info("Submitting district backfill job via API endpoint");
+        return submitJob(DistrictBackfillService.JOB_TYPE, districtBackfillService::backfillDistricts);
     }
 
     /**
@@ -137,4 +426,24 @@ public class PlaceCollectionController {
         PlaceCurationResult result = placeBatchCurationService.curateSinglePlace(id);
         return ResponseEntity.ok(result);
     }
+
+    /**
+     * 백그라운드 작업 등록 후 202 Accepted 응답 생성
+     * 작업 실행 대기열이 가득 차면 429 Too Many Requests 반환
+     */
+    private ResponseEntity<JobStatusResponse> submitJob(String type, Function<JobProgress, ?> work) {
+        return submitJob(type, work, () -> {
+        });
+    }
+
+    private ResponseEntity<JobStatusResponse> submitJob(String type, Function<JobProgress, ?> work, Runnable cleanup) {
+        try {
+            JobStatusResponse job = jobService.submit(type, work, cleanup);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/jobs/" + job.getJobId()))
+                    .body(job);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.bananadate.controller;
 
+import com.bananadate.dto.CurationCacheStats;
 import com.bananadate.dto.PlaceBasicInfo;
 import com.bananadate.dto.PlaceCurationResult;
 import com.bananadate.service.PlaceCurationService;
@@ -8,6 +9,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -45,4 +47,15 @@ public class PlaceCurationController {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    /**
+     * 큐레이션 캐시 통계 조회
+     *
+     * @return 적중률과 절약한 Claude API 호출 수
+     */
+    @GetMapping("/curate/cache-stats")
+    @Operation(summary = "큐레이션 캐시 통계", description = "큐레이션 캐시 적중률과 절약한 Claude API 호출 수를 조회합니다")
+    public ResponseEntity<CurationCacheStats> getCacheStats() {
+        return ResponseEntity.ok(placeCurationService.getCacheStats());
+    }
 }
@@ -0,0 +1,60 @@
+package com.bananadate.controller;
+
+import com.bananadate.entity.Place;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 장소 응답의 조건부 GET 검증자 (ETag, Last-Modified)
+ * 장소는 수집/큐레이션/구 ID backfill 때마다 updated_at이 갱신되므로 이를 버전으로 사용합니다.
+ */
+final class PlaceValidators {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private PlaceValidators() {
+    }
+
+    /**
+     * 장소 상세 ETag ("장소ID-수정시각")
+     */
+    static String placeETag(Long id, LocalDateTime updatedAt) {
+        return "\"" + id + "-" + Long.toString(toEpochMillis(updatedAt), 36) + "\"";
+    }
+
+    /**
+     * 장소 목록 페이지 ETag
+     * 페이지 위치, 전체 개수, 페이지에 담긴 장소들의 (ID, 수정 시각)을 해시하므로
+     * 항목이 추가/삭제/수정되거나 다른 페이지에서 밀려 들어오면 달라집니다.
+     * 밀려 들어온 항목은 수정 시각이 오래되었을 수 있어 목록에는 Last-Modified를 쓰지 않습니다.
+     */
+    static String pageETag(Page<Place> page) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = mix(hash, page.getNumber());
+        hash = mix(hash, page.getSize());
+        hash = mix(hash, page.getTotalElements());
+        for (Place place : page.getContent()) {
+            hash = mix(hash, place.getId());
+            hash = mix(hash, toEpochMillis(place.getUpdatedAt()));
+        }
+        return "\"p-" + Long.toUnsignedString(hash, 36) + "\"";
+    }
+
+    /**
+     * Last-Modified 값 (epoch 밀리초, 서버 시간대 기준)
+     */
+    static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? 0L : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static long mix(long hash, long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash ^= (value >>> shift) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
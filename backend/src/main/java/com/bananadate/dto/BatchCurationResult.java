@@ -34,6 +34,31 @@ public class BatchCurationResult {
      */
     private long elapsedTimeSeconds;
 
+    /**
+     * 호출한 Claude API 요청 수 (여러 장소를 묶은 요청은 1회)
+     */
+    private int apiCalls;
+
+    /**
+     * 사용한 입력 토큰 수
+     */
+    private long inputTokens;
+
+    /**
+     * 사용한 출력 토큰 수
+     */
+    private long outputTokens;
+
+    /**
+     * 처리한 장소당 평균 토큰 수 (입력 + 출력)
+     */
+    private double tokensPerPlace;
+
+    /**
+     * 처리한 장소당 평균 소요 시간 (밀리초)
+     */
+    private double millisPerPlace;
+
     /**
      * 결과 메시지
      */
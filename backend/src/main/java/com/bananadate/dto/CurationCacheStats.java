@@ -0,0 +1,46 @@
+package com.bananadate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 큐레이션 캐시 통계
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CurationCacheStats {
+
+    /**
+     * 메모리 캐시 적중 수
+     */
+    private long memoryHits;
+
+    /**
+     * DB 캐시 적중 수
+     */
+    private long persistentHits;
+
+    /**
+     * 캐시 미스 수 (Claude API 호출 필요)
+     */
+    private long misses;
+
+    /**
+     * 전체 적중률 (0.0-1.0)
+     */
+    private double hitRate;
+
+    /**
+     * 캐시로 절약한 Claude API 호출 수
+     */
+    private long savedApiCalls;
+
+    /**
+     * 현재 메모리 캐시에 보관 중인 항목 수
+     */
+    private long memoryEntries;
+}
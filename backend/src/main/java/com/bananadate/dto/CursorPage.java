@@ -0,0 +1,39 @@
+package com.bananadate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답 DTO
+ * 전체 개수를 세지 않으며, 다음 페이지는 nextCursor로 조회합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    /**
+     * 현재 페이지 항목
+     */
+    private List<T> content;
+
+    /**
+     * 요청한 페이지 크기
+     */
+    private int size;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+
+    /**
+     * 다음 페이지 조회용 커서 (마지막 페이지이면 null)
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,41 @@
+package com.bananadate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 구 ID backfill 결과 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DistrictBackfillResult {
+
+    /**
+     * 확인한 장소 수 (구 ID가 비어 있던 장소)
+     */
+    private int scannedCount;
+
+    /**
+     * 구 ID를 채운 장소 수
+     */
+    private int assignedCount;
+
+    /**
+     * 어느 구에도 속하지 않아 비워 둔 장소 수 (서울시 밖)
+     */
+    private int unmatchedCount;
+
+    /**
+     * 소요 시간 (밀리초)
+     */
+    private long elapsedMillis;
+
+    /**
+     * 결과 메시지
+     */
+    private String message;
+}
@@ -0,0 +1,20 @@
+package com.bananadate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * GROUP BY 집계 결과 한 건 (그룹 키와 개수)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupCount {
+
+    private String key;
+
+    private Long count;
+}
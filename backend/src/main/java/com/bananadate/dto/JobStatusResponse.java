@@ -0,0 +1,88 @@
+package com.bananadate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 작업 진행 상황 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobStatusResponse {
+
+    /**
+     * 작업 ID
+     */
+    private String jobId;
+
+    /**
+     * 작업 종류 (예: PLACE_COLLECTION, BATCH_CURATION)
+     */
+    private String type;
+
+    /**
+     * 작업 상태
+     */
+    private JobStatus status;
+
+    /**
+     * 처리할 전체 작업 단위 수 (아직 모르면 0)
+     */
+    private int total;
+
+    /**
+     * 처리한 작업 단위 수
+     */
+    private int processed;
+
+    /**
+     * 성공한 작업 단위 수
+     */
+    private int succeeded;
+
+    /**
+     * 실패한 작업 단위 수
+     */
+    private int failed;
+
+    /**
+     * 초당 처리 속도
+     */
+    private double ratePerSecond;
+
+    /**
+     * 남은 예상 시간 (초, 계산할 수 없으면 null)
+     */
+    private Long etaSeconds;
+
+    /**
+     * 작업 등록 시각
+     */
+    private LocalDateTime submittedAt;
+
+    /**
+     * 작업 시작 시각
+     */
+    private LocalDateTime startedAt;
+
+    /**
+     * 작업 종료 시각
+     */
+    private LocalDateTime finishedAt;
+
+    /**
+     * 작업 결과 (완료된 경우)
+     */
+    private Object result;
+
+    /**
+     * 실패 사유 (실패한 경우)
+     */
+    private String errorMessage;
+}
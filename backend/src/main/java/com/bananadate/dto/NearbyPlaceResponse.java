@@ -0,0 +1,26 @@
+package com.bananadate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주변 장소 검색 결과 한 건
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyPlaceResponse {
+
+    /**
+     * 장소 정보
+     */
+    private PlaceResponse place;
+
+    /**
+     * 검색 지점과의 거리 (미터)
+     */
+    private double distanceMeters;
+}
@@ -0,0 +1,52 @@
+package com.bananadate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 여러 장소를 묶어 분석한 결과
+ * 장소는 카카오 장소 ID로 구분합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceBatchAnalysis {
+
+    /**
+     * 분석에 성공한 장소 (키: 카카오 장소 ID)
+     */
+    @Builder.Default
+    private Map<String, PlaceCurationResult> results = new LinkedHashMap<>();
+
+    /**
+     * 분할 재시도 후에도 분석에 실패한 장소와 원인 (키: 카카오 장소 ID)
+     */
+    @Builder.Default
+    private Map<String, Exception> failures = new LinkedHashMap<>();
+
+    /**
+     * 실제로 호출한 Claude API 요청 수 (분할 재시도 포함)
+     */
+    private int apiCalls;
+
+    /**
+     * 캐시에서 응답한 장소 수
+     */
+    private int cacheHits;
+
+    /**
+     * 사용한 입력 토큰 수
+     */
+    private long inputTokens;
+
+    /**
+     * 사용한 출력 토큰 수
+     */
+    private long outputTokens;
+}
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 /**
  * 장소 수집 결과 DTO
  */
@@ -34,6 +36,16 @@ public class PlaceCollectionResult {
      */
     private long elapsedTimeSeconds;
 
+    /**
+     * 초당 처리한 문서 수 (totalAttempted / 전체 소요 시간)
+     */
+    private double throughputPerSecond;
+
+    /**
+     * 쿼리별 실행 통계
+     */
+    private List<QueryCollectionStat> queryStats;
+
     /**
      * 수집 상태 메시지
      */
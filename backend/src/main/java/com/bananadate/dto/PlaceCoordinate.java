@@ -0,0 +1,22 @@
+package com.bananadate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 장소 ID와 좌표 (공간 인덱스 적재용)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceCoordinate {
+
+    private Long id;
+
+    private Double latitude;
+
+    private Double longitude;
+}
@@ -0,0 +1,79 @@
+package com.bananadate.dto;
+
+import com.bananadate.entity.Place;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 장소 목록 커서 (마지막으로 본 장소의 정렬 키와 ID)
+ * 클라이언트에는 내용을 알 수 없는 Base64 URL-safe 문자열로 전달합니다.
+ *
+ * @param sortKey    정렬 기준
+ * @param createdAt  sortKey가 CREATED_AT일 때 마지막 장소의 생성 시각
+ * @param dateScore  sortKey가 DATE_SCORE일 때 마지막 장소의 데이트 점수
+ * @param id         마지막 장소의 ID (정렬 키가 같은 장소 사이의 순서)
+ */
+public record PlaceCursor(SortKey sortKey, LocalDateTime createdAt, Integer dateScore, long id) {
+
+    /**
+     * 커서 목록의 정렬 기준 (모두 내림차순, 같은 값이면 ID 내림차순)
+     */
+    public enum SortKey {
+        /**
+         * 최신순 (createdAt, id)
+         */
+        CREATED_AT,
+        /**
+         * 데이트 점수순 (dateScore, id) - 큐레이션된 장소 목록
+         */
+        DATE_SCORE
+    }
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 장소 목록의 마지막 장소로 다음 페이지 커서 생성
+     */
+    public static PlaceCursor after(SortKey sortKey, Place place) {
+        return switch (sortKey) {
+            case CREATED_AT -> new PlaceCursor(sortKey, place.getCreatedAt(), null, place.getId());
+            case DATE_SCORE -> new PlaceCursor(sortKey, null, place.getDateScore(), place.getId());
+        };
+    }
+
+    /**
+     * 클라이언트에 전달할 커서 문자열로 변환
+     */
+    public String encode() {
+        String sortValue = sortKey == SortKey.CREATED_AT ? createdAt.toString() : dateScore.toString();
+        String raw = sortKey.name() + SEPARATOR + sortValue + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static PlaceCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+
+            SortKey sortKey = SortKey.valueOf(parts[0]);
+            long id = Long.parseLong(parts[2]);
+            return switch (sortKey) {
+                case CREATED_AT -> new PlaceCursor(sortKey, LocalDateTime.parse(parts[1]), null, id);
+                case DATE_SCORE -> new PlaceCursor(sortKey, null, Integer.valueOf(parts[1]), id);
+            };
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.bananadate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 장소 일괄 가져오기 결과 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceImportResult {
+
+    /**
+     * 읽은 문서 수
+     */
+    private long readCount;
+
+    /**
+     * 새로 저장한 장소 수
+     */
+    private long importedCount;
+
+    /**
+     * 이미 저장되어 있어 건너뛴 장소 수 (파일 안의 중복 포함)
+     */
+    private long skippedCount;
+
+    /**
+     * ID, 주소, 좌표 등 필수 값이 없어 저장하지 못한 문서 수
+     */
+    private long invalidCount;
+
+    /**
+     * 소요 시간 (밀리초)
+     */
+    private long elapsedMillis;
+
+    /**
+     * 초당 처리 문서 수
+     */
+    private double throughputPerSecond;
+
+    /**
+     * 결과 메시지
+     */
+    private String message;
+}
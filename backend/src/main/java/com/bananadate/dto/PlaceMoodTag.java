@@ -0,0 +1,20 @@
+package com.bananadate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 장소 ID와 분위기 태그 한 건 (태그 일괄 조회용)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceMoodTag {
+
+    private Long placeId;
+
+    private String moodTag;
+}
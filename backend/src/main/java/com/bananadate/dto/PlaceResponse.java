@@ -0,0 +1,87 @@
+package com.bananadate.dto;
+
+import com.bananadate.entity.Place;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 장소 조회 응답 DTO
+ * 엔티티를 그대로 직렬화하면 장소마다 moodTags 컬렉션을 따로 조회(N+1)하므로,
+ * 분위기 태그는 페이지 단위로 한 번에 조회한 값을 받아 채웁니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceResponse {
+
+    private Long id;
+
+    private String kakaoPlaceId;
+
+    private String placeName;
+
+    private String category;
+
+    private String address;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    private String phone;
+
+    private String placeUrl;
+
+    private String districtId;
+
+    private Integer dateScore;
+
+    private List<String> moodTags;
+
+    private String priceRange;
+
+    private String bestTime;
+
+    private String recommendation;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime curatedAt;
+
+    private boolean curated;
+
+    /**
+     * 엔티티와 미리 조회한 분위기 태그로 응답 생성 (place.getMoodTags()는 호출하지 않음)
+     */
+    public static PlaceResponse of(Place place, List<String> moodTags) {
+        return PlaceResponse.builder()
+                .id(place.getId())
+                .kakaoPlaceId(place.getKakaoPlaceId())
+                .placeName(place.getPlaceName())
+                .category(place.getCategory())
+                .address(place.getAddress())
+                .latitude(place.getLatitude())
+                .longitude(place.getLongitude())
+                .phone(place.getPhone())
+                .placeUrl(place.getPlaceUrl())
+                .districtId(place.getDistrictId())
+                .dateScore(place.getDateScore())
+                .moodTags(moodTags)
+                .priceRange(place.getPriceRange())
+                .bestTime(place.getBestTime())
+                .recommendation(place.getRecommendation())
+                .createdAt(place.getCreatedAt())
+                .updatedAt(place.getUpdatedAt())
+                .curatedAt(place.getCuratedAt())
+                .curated(place.isCurated())
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.bananadate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 장소 ID와 검색 대상 텍스트 (키워드 색인 적재용)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceSearchDocument {
+
+    private Long id;
+
+    private String placeName;
+
+    private String category;
+
+    private String address;
+}
@@ -0,0 +1,28 @@
+package com.bananadate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 장소 검색 결과 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceSearchResult {
+
+    /**
+     * 조건을 만족하는 전체 장소 수
+     */
+    private long totalCount;
+
+    /**
+     * 순위순 장소 목록 (최대 limit개)
+     */
+    private List<PlaceResponse> places;
+}
@@ -0,0 +1,59 @@
+package com.bananadate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 장소 통계 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceStats {
+
+    /**
+     * 전체 장소 수
+     */
+    private long totalCount;
+
+    /**
+     * 큐레이션된 장소 수
+     */
+    private long curatedCount;
+
+    /**
+     * 큐레이션되지 않은 장소 수
+     */
+    private long uncuratedCount;
+
+    /**
+     * 큐레이션 비율 (%)
+     */
+    private double curationRate;
+
+    /**
+     * 카테고리별 장소 수
+     */
+    private Map<String, Long> byCategory;
+
+    /**
+     * 구 ID별 장소 수 (구가 지정되지 않은 장소 제외)
+     */
+    private Map<String, Long> byDistrict;
+
+    /**
+     * 데이트 점수 구간별 큐레이션된 장소 수 (예: "9-10")
+     */
+    private Map<String, Long> byScoreBucket;
+
+    /**
+     * 마지막으로 DB 집계와 맞춘 시각
+     */
+    private LocalDateTime reconciledAt;
+}
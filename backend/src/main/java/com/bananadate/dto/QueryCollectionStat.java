@@ -0,0 +1,36 @@
+package com.bananadate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 수집 쿼리 1건의 실행 통계
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueryCollectionStat {
+
+    /**
+     * 검색 키워드 (예: "강남역 카페")
+     */
+    private String query;
+
+    /**
+     * 카카오 API에서 받아온 문서 수
+     */
+    private int documentCount;
+
+    /**
+     * 쿼리 처리에 걸린 시간 (밀리초, Rate Limiter 대기 포함)
+     */
+    private long latencyMillis;
+
+    /**
+     * 쿼리 성공 여부
+     */
+    private boolean success;
+}
@@ -0,0 +1,86 @@
+package com.bananadate.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 큐레이션 결과 캐시 엔티티
+ * 프롬프트 버전, 모델, 프롬프트 내용의 해시를 키로 Claude API 분석 결과(JSON)를 저장
+ *
+ * 키를 직접 지정하므로 Persistable로 새 항목임을 알려, save()가 merge(SELECT 후 INSERT) 대신 바로 INSERT하도록 합니다.
+ * 항목은 한 번 저장하면 바뀌지 않으며, 같은 키가 이미 있으면 INSERT가 키 중복으로 실패합니다.
+ */
+@Entity
+@Table(name = "curation_cache")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CurationCacheEntry implements Persistable<String> {
+
+    /**
+     * 캐시 키 (SHA-256 16진수 문자열)
+     */
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;
+
+    /**
+     * 프롬프트 템플릿 버전
+     */
+    @Column(name = "prompt_version", nullable = false)
+    private String promptVersion;
+
+    /**
+     * 분석에 사용한 Claude 모델
+     */
+    @Column(name = "model", nullable = false)
+    private String model;
+
+    /**
+     * Claude API가 반환한 분석 결과 JSON
+     */
+    @Column(name = "analysis_json", nullable = false, length = 4000)
+    private String analysisJson;
+
+    /**
+     * 생성 시각
+     */
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 아직 저장되지 않은 항목 여부 (DB에서 읽거나 저장한 뒤에는 false)
+     */
+    @Transient
+    @Builder.Default
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean newEntry = true;
+
+    @Override
+    public String getId() {
+        return cacheKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntry;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntry = false;
+    }
+}
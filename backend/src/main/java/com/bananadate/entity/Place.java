@@ -19,7 +19,10 @@ import java.util.List;
 @Table(name = "places", indexes = {
         @Index(name = "idx_kakao_place_id", columnList = "kakao_place_id", unique = true),
         @Index(name = "idx_category", columnList = "category"),
-        @Index(name = "idx_curated_at", columnList = "curated_at")
+        @Index(name = "idx_curated_at", columnList = "curated_at"),
+        @Index(name = "idx_district_id", columnList = "district_id"),
+        @Index(name = "idx_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_date_score_id", columnList = "date_score, id")
 })
 @Data
 @Builder
@@ -81,6 +84,20 @@ public class Place {
     @Column(name = "place_url")
     private String placeUrl;
 
+    /**
+     * 행정구 ID (구 경계 GeoJSON의 code, 예: 강남구 "11230")
+     * 저장 시 좌표로 계산하며, 서울시 밖의 좌표이면 null
+     */
+    @Column(name = "district_id", length = 5)
+    private String districtId;
+
+    /**
+     * 좌표로 구를 판정한 시각
+     * 서울시 밖이라 구 ID가 비어 있는 장소를 backfill이 매번 다시 판정하지 않도록 기록 (판정 전이면 null)
+     */
+    @Column(name = "district_checked_at")
+    private LocalDateTime districtCheckedAt;
+
     // ========== Claude API 큐레이션 정보 (나중에 채움) ==========
 
     /**
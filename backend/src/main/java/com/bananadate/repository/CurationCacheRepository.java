@@ -0,0 +1,12 @@
+package com.bananadate.repository;
+
+import com.bananadate.entity.CurationCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 큐레이션 결과 캐시 Repository
+ */
+@Repository
+public interface CurationCacheRepository extends JpaRepository<CurationCacheEntry, String> {
+}
@@ -0,0 +1,222 @@
+package com.bananadate.repository;
+
+import com.bananadate.entity.Place;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Place 대량 저장용 JDBC Writer
+ * Place는 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못하므로,
+ * 여러 행을 담은 INSERT ... ON CONFLICT (kakao_place_id) DO NOTHING 문 하나로 저장합니다.
+ * 이미 있는 kakao_place_id는 오류 없이 무시되므로 수집 작업이 동시에 실행되어도 안전합니다.
+ *
+ * 호출 시간(place.write)과 실제로 쓴 행 수(place.write.rows)를 작업 종류(operation 태그)별로 기록합니다.
+ * JPA 리포지토리를 거치는 저장(saveAll 등)은 spring.data.repository.invocations 지표로 기록됩니다.
+ */
+@Slf4j
+@Repository
+public class PlaceBulkWriter {
+
+    private static final String INSERT_PREFIX = "INSERT INTO places "
+            + "(kakao_place_id, place_name, category, address, latitude, longitude, phone, place_url, district_id, "
+            + "district_checked_at, created_at, updated_at) "
+            + "VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String ON_CONFLICT_SUFFIX = " ON CONFLICT (kakao_place_id) DO NOTHING RETURNING id, kakao_place_id";
+    private static final int COLUMN_COUNT = 12;
+    private static final String UPDATE_DISTRICT_SQL =
+            "UPDATE places SET district_id = ?, district_checked_at = ?, updated_at = ? WHERE id = ?";
+    private static final String MARK_DISTRICT_CHECKED_SQL = "UPDATE places SET district_checked_at = ? WHERE id = ?";
+
+    // PostgreSQL은 한 문장에 바인딩 파라미터를 최대 65535개까지 허용
+    private static final int MAX_ROWS_PER_STATEMENT = 65535 / COLUMN_COUNT;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final Timer insertTimer;
+    private final Timer updateDistrictTimer;
+    private final Counter insertedRows;
+    private final Counter updatedDistrictRows;
+
+    public PlaceBulkWriter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${place.write.batch-size:500}") int batchSize,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(1, Math.min(batchSize, MAX_ROWS_PER_STATEMENT));
+        this.insertTimer = writeTimer(meterRegistry, "insert");
+        this.updateDistrictTimer = writeTimer(meterRegistry, "update-district");
+        this.insertedRows = rowCounter(meterRegistry, "insert");
+        this.updatedDistrictRows = rowCounter(meterRegistry, "update-district");
+    }
+
+    private static Timer writeTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("place.write")
+                .description("장소 대량 저장 호출 시간 (호출 1회 = 여러 행)")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private static Counter rowCounter(MeterRegistry meterRegistry, String operation) {
+        return Counter.builder("place.write.rows")
+                .description("대량 저장으로 실제 INSERT/UPDATE된 장소 행 수")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 장소를 일괄 저장 (이미 존재하는 kakao_place_id는 건너뜀)
+     * 저장된 Place에는 DB가 발급한 id와 생성/수정 시각이 채워집니다.
+     *
+     * @param places 저장할 장소 목록
+     * @return 실제로 INSERT된 장소 목록
+     */
+    @Transactional
+    public List<Place> insertIgnoringDuplicates(List<Place> places) {
+        if (places.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Place> inserted = insertTimer.record(() -> insertChunks(places));
+        insertedRows.increment(inserted.size());
+        return inserted;
+    }
+
+    private List<Place> insertChunks(List<Place> places) {
+
+        // 같은 요청 안의 중복 제거 후 kakao_place_id 순으로 정렬
+        // (동시에 실행되는 수집 작업끼리 항상 같은 순서로 유니크 인덱스 잠금을 잡아 데드락 방지)
+        Map<String, Place> placesByKakaoId = new LinkedHashMap<>();
+        places.stream()
+                .sorted(Comparator.comparing(Place::getKakaoPlaceId))
+                .forEach(place -> placesByKakaoId.putIfAbsent(place.getKakaoPlaceId(), place));
+        List<Place> uniquePlaces = new ArrayList<>(placesByKakaoId.values());
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Place> inserted = new ArrayList<>();
+
+        for (int from = 0; from < uniquePlaces.size(); from += batchSize) {
+            List<Place> chunk = uniquePlaces.subList(from, Math.min(from + batchSize, uniquePlaces.size()));
+            String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), ROW_PLACEHOLDER))
+                    + ON_CONFLICT_SUFFIX;
+
+            jdbcTemplate.query(sql, ps -> bindChunk(ps, chunk, now), rs -> {
+                Place place = placesByKakaoId.get(rs.getString("kakao_place_id"));
+                place.setId(rs.getLong("id"));
+                place.setDistrictCheckedAt(now);
+                place.setCreatedAt(now);
+                place.setUpdatedAt(now);
+                inserted.add(place);
+            });
+        }
+
+        log.debug("Bulk inserted {} of {} places", inserted.size(), uniquePlaces.size());
+        return inserted;
+    }
+
+    /**
+     * 장소별 구 ID를 JDBC 배치 UPDATE로 일괄 갱신 (기존 행 backfill용)
+     * 엔티티를 거치지 않으므로 @UpdateTimestamp 대신 updated_at을 직접 갱신합니다 (조건부 GET 검증자가 바뀌도록).
+     *
+     * @param districtIdsByPlaceId 장소 ID → 구 ID
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    public int updateDistrictIds(Map<Long, String> districtIdsByPlaceId) {
+        if (districtIdsByPlaceId.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Map.Entry<Long, String>> entries = new ArrayList<>(districtIdsByPlaceId.entrySet());
+        int[][] counts = updateDistrictTimer.record(() ->
+                jdbcTemplate.batchUpdate(UPDATE_DISTRICT_SQL, entries, batchSize, (ps, entry) -> {
+                    ps.setString(1, entry.getValue());
+                    ps.setTimestamp(2, now);
+                    ps.setTimestamp(3, now);
+                    ps.setLong(4, entry.getKey());
+                }));
+
+        int updated = sum(counts);
+        updatedDistrictRows.increment(updated);
+        return updated;
+    }
+
+    /**
+     * 구를 찾지 못한(서울시 밖) 장소를 판정 완료로 표시하여 다음 backfill 대상에서 제외
+     * 구 ID와 응답 내용은 그대로이므로 updated_at은 바꾸지 않습니다.
+     *
+     * @param placeIds 장소 ID 목록
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    public int markDistrictsChecked(Collection<Long> placeIds) {
+        if (placeIds.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> ids = new ArrayList<>(placeIds);
+        int[][] counts = updateDistrictTimer.record(() ->
+                jdbcTemplate.batchUpdate(MARK_DISTRICT_CHECKED_SQL, ids, batchSize, (ps, id) -> {
+                    ps.setTimestamp(1, now);
+                    ps.setLong(2, id);
+                }));
+        return sum(counts);
+    }
+
+    private static int sum(int[][] counts) {
+        int updated = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                updated += Math.max(count, 0);
+            }
+        }
+        return updated;
+    }
+
+    private void bindChunk(PreparedStatement ps, List<Place> chunk, LocalDateTime now) throws SQLException {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        int index = 1;
+        for (Place place : chunk) {
+            ps.setString(index++, place.getKakaoPlaceId());
+            ps.setString(index++, place.getPlaceName());
+            ps.setString(index++, place.getCategory());
+            ps.setString(index++, place.getAddress());
+            ps.setDouble(index++, place.getLatitude());
+            ps.setDouble(index++, place.getLongitude());
+            setNullableString(ps, index++, place.getPhone());
+            setNullableString(ps, index++, place.getPlaceUrl());
+            setNullableString(ps, index++, place.getDistrictId());
+            ps.setTimestamp(index++, timestamp);
+            ps.setTimestamp(index++, timestamp);
+            ps.setTimestamp(index++, timestamp);
+        }
+    }
+
+    private void setNullableString(PreparedStatement ps, int index, String value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.VARCHAR);
+        } else {
+            ps.setString(index, value);
+        }
+    }
+}
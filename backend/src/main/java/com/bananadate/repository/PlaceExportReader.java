@@ -0,0 +1,126 @@
+package com.bananadate.repository;
+
+import com.bananadate.dto.PlaceResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 장소 전체를 한 번에 읽어 내보내기 위한 JDBC 스트리밍 Reader
+ * 엔티티나 페이지를 만들지 않고 정방향 커서(TYPE_FORWARD_ONLY, fetch size 지정)로 행을 읽어 PlaceResponse로 넘기므로,
+ * 전체 행 수와 관계없이 메모리에는 fetch size만큼의 행만 올라옵니다.
+ * PostgreSQL JDBC 드라이버는 자동 커밋이 꺼진 트랜잭션 안에서만 fetch size를 지키므로 읽기 전용 트랜잭션으로 실행합니다.
+ *
+ * 분위기 태그는 LEFT JOIN으로 같은 커서에서 읽고, ID 순으로 정렬된 연속 행을 장소 하나로 묶습니다.
+ */
+@Repository
+public class PlaceExportReader {
+
+    private static final String SELECT_SQL = "SELECT p.id, p.kakao_place_id, p.place_name, p.category, p.address, "
+            + "p.latitude, p.longitude, p.phone, p.place_url, p.district_id, p.date_score, p.price_range, p.best_time, "
+            + "p.recommendation, p.created_at, p.updated_at, p.curated_at, t.mood_tag "
+            + "FROM places p LEFT JOIN place_mood_tags t ON t.place_id = p.id "
+            + "ORDER BY p.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PlaceExportReader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 모든 장소를 ID 순으로 읽어 하나씩 전달
+     *
+     * @param fetchSize 한 번에 DB에서 가져올 행 수
+     * @param consumer  장소 처리기 (분위기 태그 포함)
+     * @return 전달한 장소 수
+     */
+    @Transactional(readOnly = true)
+    public long streamAll(int fetchSize, Consumer<PlaceResponse> consumer) {
+        PlaceAssembler assembler = new PlaceAssembler(consumer);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    SELECT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, assembler);
+        assembler.finish();
+        return assembler.count;
+    }
+
+    /**
+     * 같은 장소의 연속 행(태그마다 1행)을 하나의 PlaceResponse로 조립
+     */
+    private static class PlaceAssembler implements RowCallbackHandler {
+
+        private final Consumer<PlaceResponse> consumer;
+        private PlaceResponse current;
+        private long count;
+
+        PlaceAssembler(Consumer<PlaceResponse> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long id = rs.getLong("id");
+            if (current == null || current.getId() != id) {
+                finish();
+                current = toResponse(rs);
+            }
+            String moodTag = rs.getString("mood_tag");
+            if (moodTag != null) {
+                current.getMoodTags().add(moodTag);
+            }
+        }
+
+        void finish() {
+            if (current != null) {
+                consumer.accept(current);
+                count++;
+                current = null;
+            }
+        }
+
+        private static PlaceResponse toResponse(ResultSet rs) throws SQLException {
+            Integer dateScore = rs.getObject("date_score", Integer.class);
+            LocalDateTime curatedAt = toLocalDateTime(rs.getTimestamp("curated_at"));
+            List<String> moodTags = new ArrayList<>(3);
+            return PlaceResponse.builder()
+                    .id(rs.getLong("id"))
+                    .kakaoPlaceId(rs.getString("kakao_place_id"))
+                    .placeName(rs.getString("place_name"))
+                    .category(rs.getString("category"))
+                    .address(rs.getString("address"))
+                    .latitude(rs.getObject("latitude", Double.class))
+                    .longitude(rs.getObject("longitude", Double.class))
+                    .phone(rs.getString("phone"))
+                    .placeUrl(rs.getString("place_url"))
+                    .districtId(rs.getString("district_id"))
+                    .dateScore(dateScore)
+                    .moodTags(moodTags)
+                    .priceRange(rs.getString("price_range"))
+                    .bestTime(rs.getString("best_time"))
+                    .recommendation(rs.getString("recommendation"))
+                    .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+                    .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+                    .curatedAt(curatedAt)
+                    .curated(dateScore != null && curatedAt != null)
+                    .build();
+        }
+
+        private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+            return timestamp != null ? timestamp.toLocalDateTime() : null;
+        }
+    }
+}
@@ -1,12 +1,19 @@
 package com.bananadate.repository;
 
+import com.bananadate.dto.GroupCount;
+import com.bananadate.dto.PlaceCoordinate;
+import com.bananadate.dto.PlaceMoodTag;
+import com.bananadate.dto.PlaceSearchDocument;
 import com.bananadate.entity.Place;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,7 +21,7 @@ import java.util.Optional;
  * Place 엔티티의 데이터베이스 접근을 위한 Repository
  */
 @Repository
-public interface PlaceRepository extends JpaRepository<Place, Long> {
+public interface PlaceRepository extends JpaRepository<Place, Long>, JpaSpecificationExecutor<Place> {
 
     /**
      * 카카오 장소 ID로 장소 조회
@@ -26,6 +33,47 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
      */
     boolean existsByKakaoPlaceId(String kakaoPlaceId);
 
+    /**
+     * 주어진 카카오 장소 ID 중 이미 저장된 ID 목록 조회 (IN 쿼리 1회)
+     */
+    @Query("SELECT p.kakaoPlaceId FROM Place p WHERE p.kakaoPlaceId IN :kakaoPlaceIds")
+    List<String> findExistingKakaoPlaceIds(Collection<String> kakaoPlaceIds);
+
+    /**
+     * 저장된 모든 카카오 장소 ID 조회
+     */
+    @Query("SELECT p.kakaoPlaceId FROM Place p")
+    List<String> findAllKakaoPlaceIds();
+
+    /**
+     * 저장된 모든 장소의 ID와 좌표 조회 (엔티티를 만들지 않음)
+     */
+    @Query("SELECT new com.bananadate.dto.PlaceCoordinate(p.id, p.latitude, p.longitude) FROM Place p")
+    List<PlaceCoordinate> findAllCoordinates();
+
+    /**
+     * 특정 ID 이후의 구를 아직 판정하지 않은 장소 좌표를 ID 순으로 조회 (구 ID backfill용)
+     */
+    @Query("SELECT new com.bananadate.dto.PlaceCoordinate(p.id, p.latitude, p.longitude) FROM Place p "
+            + "WHERE p.districtId IS NULL AND p.districtCheckedAt IS NULL AND p.id > :lastId ORDER BY p.id")
+    List<PlaceCoordinate> findCoordinatesWithoutDistrictAfter(Long lastId, Pageable pageable);
+
+    /**
+     * 구를 아직 판정하지 않은 장소 수 조회 (서울시 밖으로 판정된 장소는 제외)
+     */
+    long countByDistrictIdIsNullAndDistrictCheckedAtIsNull();
+
+    /**
+     * 여러 구에 속한 장소 목록 조회 (페이징, district_id 인덱스 사용)
+     */
+    Page<Place> findByDistrictIdIn(Collection<String> districtIds, Pageable pageable);
+
+    /**
+     * 여러 장소의 분위기 태그를 한 번에 조회 (목록 응답의 N+1 방지)
+     */
+    @Query("SELECT new com.bananadate.dto.PlaceMoodTag(p.id, t) FROM Place p JOIN p.moodTags t WHERE p.id IN :placeIds")
+    List<PlaceMoodTag> findMoodTagsByPlaceIds(Collection<Long> placeIds);
+
     /**
      * 카테고리로 장소 목록 조회
      */
@@ -53,12 +101,37 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
     @Query("SELECT p FROM Place p WHERE p.dateScore IS NULL OR p.curatedAt IS NULL")
     Page<Place> findUncuratedPlaces(Pageable pageable);
 
+    /**
+     * 특정 ID 이후의 큐레이션되지 않은 장소 목록을 ID 순으로 조회 (청크 단위 처리용)
+     */
+    @Query("SELECT p FROM Place p WHERE (p.dateScore IS NULL OR p.curatedAt IS NULL) AND p.id > :lastId ORDER BY p.id")
+    List<Place> findUncuratedPlacesAfter(Long lastId, Pageable pageable);
+
     /**
      * 큐레이션된 장소 목록 조회
      */
     @Query("SELECT p FROM Place p WHERE p.dateScore IS NOT NULL AND p.curatedAt IS NOT NULL")
     List<Place> findCuratedPlaces();
 
+    /**
+     * 장소 수정 시각만 조회 (조건부 GET 검증용)
+     */
+    @Query("SELECT p.updatedAt FROM Place p WHERE p.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(Long id);
+
+    /**
+     * 특정 ID 이후의 장소 이름/카테고리/주소를 ID 순으로 조회 (엔티티를 만들지 않음)
+     */
+    @Query("SELECT new com.bananadate.dto.PlaceSearchDocument(p.id, p.placeName, p.category, p.address) "
+            + "FROM Place p WHERE p.id > :lastId ORDER BY p.id")
+    List<PlaceSearchDocument> findSearchDocumentsAfter(Long lastId, Pageable pageable);
+
+    /**
+     * 특정 ID 이후의 큐레이션된 장소 목록을 ID 순으로 조회 (청크 단위 처리용)
+     */
+    @Query("SELECT p FROM Place p WHERE p.dateScore IS NOT NULL AND p.curatedAt IS NOT NULL AND p.id > :lastId ORDER BY p.id")
+    List<Place> findCuratedPlacesAfter(Long lastId, Pageable pageable);
+
     /**
      * 큐레이션된 장소 목록 조회 (페이징)
      */
@@ -87,4 +160,24 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
      */
     @Query("SELECT COUNT(p) FROM Place p WHERE p.dateScore IS NULL OR p.curatedAt IS NULL")
     long countUncuratedPlaces();
+
+    /**
+     * 카테고리별 장소 수 집계
+     */
+    @Query("SELECT new com.bananadate.dto.GroupCount(p.category, COUNT(p)) FROM Place p GROUP BY p.category")
+    List<GroupCount> countByCategory();
+
+    /**
+     * 구별 장소 수 집계 (구가 지정되지 않은 장소 제외)
+     */
+    @Query("SELECT new com.bananadate.dto.GroupCount(p.districtId, COUNT(p)) FROM Place p "
+            + "WHERE p.districtId IS NOT NULL GROUP BY p.districtId")
+    List<GroupCount> countByDistrict();
+
+    /**
+     * 데이트 점수별 큐레이션된 장소 수 집계
+     */
+    @Query("SELECT new com.bananadate.dto.GroupCount(CAST(p.dateScore AS String), COUNT(p)) FROM Place p "
+            + "WHERE p.dateScore IS NOT NULL AND p.curatedAt IS NOT NULL GROUP BY p.dateScore")
+    List<GroupCount> countCuratedByDateScore();
 }
@@ -0,0 +1,54 @@
+package com.bananadate.repository;
+
+import com.bananadate.dto.PlaceCursor;
+import com.bananadate.entity.Place;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+/**
+ * Place 목록 조회 조건 (동적 필터와 커서 조건 조합용)
+ */
+public final class PlaceSpecifications {
+
+    private PlaceSpecifications() {
+    }
+
+    /**
+     * 카테고리에 키워드가 포함된 장소
+     */
+    public static Specification<Place> categoryContains(String keyword) {
+        return (root, query, cb) -> cb.like(root.get("category"), "%" + keyword + "%");
+    }
+
+    /**
+     * 큐레이션 상태가 일치하는 장소 (true=큐레이션됨, false=큐레이션안됨)
+     */
+    public static Specification<Place> curated(boolean curated) {
+        return (root, query, cb) -> curated
+                ? cb.and(cb.isNotNull(root.get("dateScore")), cb.isNotNull(root.get("curatedAt")))
+                : cb.or(cb.isNull(root.get("dateScore")), cb.isNull(root.get("curatedAt")));
+    }
+
+    /**
+     * 주어진 구에 속한 장소
+     */
+    public static Specification<Place> inDistricts(Collection<String> districtIds) {
+        return (root, query, cb) -> root.get("districtId").in(districtIds);
+    }
+
+    /**
+     * 커서 이후 (내림차순 기준으로 더 뒤)의 장소
+     * (정렬 키 < 커서 값) OR (정렬 키 = 커서 값 AND id < 커서 id)
+     */
+    public static Specification<Place> after(PlaceCursor cursor) {
+        return (root, query, cb) -> switch (cursor.sortKey()) {
+            case CREATED_AT -> cb.or(
+                    cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                    cb.and(cb.equal(root.get("createdAt"), cursor.createdAt()), cb.lessThan(root.get("id"), cursor.id())));
+            case DATE_SCORE -> cb.or(
+                    cb.lessThan(root.get("dateScore"), cursor.dateScore()),
+                    cb.and(cb.equal(root.get("dateScore"), cursor.dateScore()), cb.lessThan(root.get("id"), cursor.id())));
+        };
+    }
+}
@@ -0,0 +1,143 @@
+package com.bananadate.service;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * AIMD(Additive Increase, Multiplicative Decrease) 방식의 적응형 동시성 제한기
+ * 요청이 성공하면 동시 실행 한도를 조금씩(한도당 +1/limit) 늘리고,
+ * 외부 API가 과부하 응답(429/503)을 주면 한도를 backoffRatio 비율로 줄입니다.
+ *
+ * 같은 과부하 구간에 동시에 실행 중이던 요청들이 모두 실패해도 한도가 연쇄적으로 줄지 않도록,
+ * 마지막 감소 이후에 시작된 요청의 과부하만 감소에 반영합니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    /**
+     * 요청 1건의 결과
+     */
+    public enum Outcome {
+        /**
+         * 성공 (한도 증가)
+         */
+        SUCCESS,
+        /**
+         * 과부하 응답 (한도 감소)
+         */
+        OVERLOAD,
+        /**
+         * 한도 조절과 무관한 결과 (예: 응답 파싱 실패, 취소)
+         */
+        IGNORED
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final LongSupplier nanoClock;
+
+    // synchronized 대신 ReentrantLock을 사용하여 가상 스레드가 캐리어 스레드에 고정(pinning)되지 않도록 함
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitAvailable = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private long lastDecreaseNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, 0.5, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, LongSupplier nanoClock) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid limits: min=" + minLimit + ", max=" + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be between 0 and 1: " + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.nanoClock = nanoClock;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+        this.lastDecreaseNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * 실행 슬롯을 얻을 때까지 대기
+     *
+     * @return 요청 시작 시각 (release 시 그대로 전달)
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public long acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            while (inFlight >= (int) limit) {
+                permitAvailable.await();
+            }
+            inFlight++;
+            return nanoClock.getAsLong();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실행 슬롯 반환 및 결과에 따른 한도 조절
+     *
+     * @param startNanos acquire()가 반환한 요청 시작 시각
+     * @param outcome    요청 결과
+     */
+    public void release(long startNanos, Outcome outcome) {
+        lock.lock();
+        try {
+            inFlight--;
+            switch (outcome) {
+                case SUCCESS -> limit = Math.min(maxLimit, limit + 1.0 / limit);
+                case OVERLOAD -> {
+                    if (startNanos - lastDecreaseNanos > 0) {
+                        limit = Math.max(minLimit, limit * backoffRatio);
+                        lastDecreaseNanos = nanoClock.getAsLong();
+                    }
+                }
+                case IGNORED -> {
+                }
+            }
+            permitAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 동시 실행 한도
+     */
+    public double getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 한도가 늘어날 수 있는 최댓값
+     */
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * 현재 실행 중인 요청 수
+     */
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.BatchCurationResult;
+
+/**
+ * 큐레이션되지 않은 장소를 일괄 큐레이션하는 백엔드
+ * 동기 Messages API 호출(sync)과 Message Batches API(message-batch) 구현 중에서 선택할 수 있습니다.
+ */
+public interface BulkCurationBackend {
+
+    /**
+     * 백엔드 이름 (POST /api/places/curate-all 의 backend 파라미터 값)
+     */
+    String getName();
+
+    /**
+     * 큐레이션되지 않은 장소를 일괄 큐레이션
+     *
+     * @param limit    처리할 최대 개수 (null이면 전체)
+     * @param progress 진행 상황 보고 및 취소 확인
+     * @return 배치 큐레이션 결과
+     */
+    BatchCurationResult curateUncuratedPlaces(Integer limit, JobProgress progress);
+}
@@ -0,0 +1,51 @@
+package com.bananadate.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 등록된 일괄 큐레이션 백엔드 목록
+ * 이름을 지정하지 않으면 curation.bulk.default-backend 설정값의 백엔드를 사용합니다.
+ */
+@Component
+public class BulkCurationBackends {
+
+    private final Map<String, BulkCurationBackend> backends = new LinkedHashMap<>();
+    private final String defaultBackend;
+
+    public BulkCurationBackends(
+            List<BulkCurationBackend> backends,
+            @Value("${curation.bulk.default-backend:" + PlaceBatchCurationService.NAME + "}") String defaultBackend) {
+        backends.forEach(backend -> this.backends.put(backend.getName(), backend));
+        if (!this.backends.containsKey(defaultBackend)) {
+            throw new IllegalStateException("Unknown default bulk curation backend: " + defaultBackend);
+        }
+        this.defaultBackend = defaultBackend;
+    }
+
+    /**
+     * 이름으로 백엔드 조회
+     *
+     * @param name 백엔드 이름 (null 또는 빈 문자열이면 기본 백엔드)
+     * @return 백엔드 (등록되지 않은 이름이면 empty)
+     */
+    public Optional<BulkCurationBackend> find(String name) {
+        if (name == null || name.isBlank()) {
+            return Optional.of(backends.get(defaultBackend));
+        }
+        return Optional.ofNullable(backends.get(name));
+    }
+
+    /**
+     * 등록된 백엔드 이름 목록
+     */
+    public Set<String> getNames() {
+        return backends.keySet();
+    }
+}
@@ -0,0 +1,167 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.CurationCacheStats;
+import com.bananadate.entity.CurationCacheEntry;
+import com.bananadate.repository.CurationCacheRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Claude API 큐레이션 결과의 2단계 캐시
+ * 1단계는 프로세스 내 Caffeine(W-TinyLFU) 캐시, 2단계는 curation_cache 테이블입니다.
+ * 키는 프롬프트 버전, 모델, 프롬프트 내용의 SHA-256 해시이므로 입력이 같으면 같은 결과를 재사용합니다.
+ *
+ * 캐시는 비용 절감용이므로 DB 조회/저장이 실패해도 예외를 던지지 않고 미스로 처리합니다.
+ */
+@Slf4j
+@Component
+public class CurationCache implements MeterBinder {
+
+    private final CurationCacheRepository curationCacheRepository;
+    private final Cache<String, String> memoryCache;
+
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder persistentHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CurationCache(
+            CurationCacheRepository curationCacheRepository,
+            @Value("${curation.cache.max-entries:10000}") long maxEntries) {
+        this.curationCacheRepository = curationCacheRepository;
+        this.memoryCache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    /**
+     * 캐시 키 생성
+     *
+     * @param promptVersion 프롬프트 템플릿 버전
+     * @param model         Claude 모델
+     * @param prompt        입력값이 채워진 프롬프트
+     * @return SHA-256 16진수 문자열
+     */
+    public static String keyOf(String promptVersion, String model, String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            // 구분자를 넣어 필드 경계가 달라도 같은 문자열이 되는 경우를 방지
+            digest.update(promptVersion.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(model.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(prompt.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 캐시된 분석 결과 조회 (메모리 → DB 순)
+     * DB에서 찾은 결과는 메모리 캐시에도 올려둡니다.
+     *
+     * @param cacheKey 캐시 키
+     * @return 분석 결과 JSON (없으면 empty)
+     */
+    public Optional<String> get(String cacheKey) {
+        String cached = memoryCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            memoryHits.increment();
+            return Optional.of(cached);
+        }
+
+        try {
+            Optional<String> persisted = curationCacheRepository.findById(cacheKey)
+                    .map(CurationCacheEntry::getAnalysisJson);
+            if (persisted.isPresent()) {
+                persistentHits.increment();
+                memoryCache.put(cacheKey, persisted.get());
+                return persisted;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read curation cache entry: {}", cacheKey, e);
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 분석 결과를 메모리와 DB에 저장
+     *
+     * @param cacheKey      캐시 키
+     * @param promptVersion 프롬프트 템플릿 버전
+     * @param model         Claude 모델
+     * @param analysisJson  분석 결과 JSON
+     */
+    public void put(String cacheKey, String promptVersion, String model, String analysisJson) {
+        memoryCache.put(cacheKey, analysisJson);
+
+        try {
+            curationCacheRepository.save(CurationCacheEntry.builder()
+                    .cacheKey(cacheKey)
+                    .promptVersion(promptVersion)
+                    .model(model)
+                    .analysisJson(analysisJson)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 입력을 동시에 분석한 다른 요청이 먼저 저장한 경우
+            log.debug("Curation cache entry already stored: {}", cacheKey);
+        } catch (Exception e) {
+            log.warn("Failed to store curation cache entry: {}", cacheKey, e);
+        }
+    }
+
+    /**
+     * 캐시 통계 조회
+     */
+    public CurationCacheStats getStats() {
+        long memory = memoryHits.sum();
+        long persistent = persistentHits.sum();
+        long miss = misses.sum();
+        long lookups = memory + persistent + miss;
+
+        return CurationCacheStats.builder()
+                .memoryHits(memory)
+                .persistentHits(persistent)
+                .misses(miss)
+                .hitRate(lookups > 0 ? (double) (memory + persistent) / lookups : 0.0)
+                .savedApiCalls(memory + persistent)
+                .memoryEntries(memoryCache.estimatedSize())
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("curation.cache.requests", memoryHits, LongAdder::sum)
+                .description("큐레이션 캐시 조회 수")
+                .tag("result", "memory-hit")
+                .register(registry);
+        FunctionCounter.builder("curation.cache.requests", persistentHits, LongAdder::sum)
+                .description("큐레이션 캐시 조회 수")
+                .tag("result", "persistent-hit")
+                .register(registry);
+        FunctionCounter.builder("curation.cache.requests", misses, LongAdder::sum)
+                .description("큐레이션 캐시 조회 수")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("curation.cache.size", memoryCache, Cache::estimatedSize)
+                .description("메모리 큐레이션 캐시 항목 수")
+                .register(registry);
+    }
+}
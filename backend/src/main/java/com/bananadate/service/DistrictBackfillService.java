@@ -0,0 +1,127 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.DistrictBackfillResult;
+import com.bananadate.dto.PlaceCoordinate;
+import com.bananadate.repository.PlaceBulkWriter;
+import com.bananadate.repository.PlaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 기존 장소의 구 ID backfill 서비스
+ * 구를 아직 판정하지 않은 장소의 좌표만 ID 순으로 chunkSize개씩 읽어 구를 계산하고, 청크마다 배치 UPDATE로 커밋합니다.
+ * 서울시 밖의 장소는 구 ID를 비워 둔 채 판정 시각(district_checked_at)만 기록하여,
+ * 재시작할 때마다 같은 장소를 다시 판정하고 backfill 작업이 등록되지 않도록 합니다.
+ * 다음 청크는 오프셋 대신 마지막 ID 기준으로 조회합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DistrictBackfillService {
+
+    public static final String JOB_TYPE = "DISTRICT_BACKFILL";
+
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private final PlaceRepository placeRepository;
+    private final PlaceBulkWriter placeBulkWriter;
+    private final DistrictLocator districtLocator;
+    private final JobService jobService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${place.district.backfill-chunk-size:" + DEFAULT_CHUNK_SIZE + "}")
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    @Value("${place.district.backfill-on-startup:true}")
+    private boolean backfillOnStartup = true;
+
+    /**
+     * 애플리케이션 시작 시 구를 아직 판정하지 않은 장소가 있으면 backfill 작업 등록
+     * 진행 상황은 다른 백그라운드 작업과 같이 GET /api/jobs/{jobId}로 조회합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void submitBackfillOnStartup() {
+        if (!backfillOnStartup || placeRepository.countByDistrictIdIsNullAndDistrictCheckedAtIsNull() == 0) {
+            return;
+        }
+        try {
+            log.info("Submitted district backfill job {}", jobService.submit(JOB_TYPE, this::backfillDistricts).getJobId());
+        } catch (RejectedExecutionException e) {
+            log.warn("Could not submit district backfill job on startup", e);
+        }
+    }
+
+    /**
+     * 구를 아직 판정하지 않은 모든 장소에 구 ID를 채우고, 서울시 밖의 장소는 판정 완료로 표시
+     *
+     * @param progress 진행 상황 보고 및 취소 확인
+     * @return backfill 결과
+     */
+    public DistrictBackfillResult backfillDistricts(JobProgress progress) {
+        Instant startTime = Instant.now();
+        progress.setTotal((int) Math.min(Integer.MAX_VALUE,
+                placeRepository.countByDistrictIdIsNullAndDistrictCheckedAtIsNull()));
+
+        int scannedCount = 0;
+        int assignedCount = 0;
+        long lastId = 0L;
+
+        while (!progress.isCancelled()) {
+            List<PlaceCoordinate> chunk = placeRepository.findCoordinatesWithoutDistrictAfter(
+                    lastId, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            lastId = chunk.get(chunk.size() - 1).getId();
+
+            Map<Long, String> districtIds = new HashMap<>();
+            List<Long> unmatchedIds = new ArrayList<>();
+            for (PlaceCoordinate coordinate : chunk) {
+                String districtId = districtLocator.findDistrictId(coordinate.getLatitude(), coordinate.getLongitude());
+                if (districtId != null) {
+                    districtIds.put(coordinate.getId(), districtId);
+                    progress.recordSuccess();
+                } else {
+                    unmatchedIds.add(coordinate.getId());
+                    progress.recordFailure();
+                }
+            }
+
+            assignedCount += placeBulkWriter.updateDistrictIds(districtIds);
+            placeBulkWriter.markDistrictsChecked(unmatchedIds);
+            scannedCount += chunk.size();
+            log.debug("Backfilled districts for {} of {} places (last ID: {})", districtIds.size(), chunk.size(), lastId);
+        }
+
+        long elapsedMillis = Duration.between(startTime, Instant.now()).toMillis();
+        DistrictBackfillResult result = DistrictBackfillResult.builder()
+                .scannedCount(scannedCount)
+                .assignedCount(assignedCount)
+                .unmatchedCount(scannedCount - assignedCount)
+                .elapsedMillis(elapsedMillis)
+                .message(String.format("%s districts for %d of %d places in %d ms",
+                        progress.isCancelled() ? "Cancelled after assigning" : "Assigned",
+                        assignedCount, scannedCount, elapsedMillis))
+                .build();
+
+        if (assignedCount > 0) {
+            eventPublisher.publishEvent(new DistrictsBackfilledEvent(assignedCount));
+        }
+        log.info("District backfill completed: {}", result.getMessage());
+        return result;
+    }
+}
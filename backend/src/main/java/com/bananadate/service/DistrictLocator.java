@@ -0,0 +1,47 @@
+package com.bananadate.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 좌표로 서울시 구를 찾는 서비스
+ * 애플리케이션 시작 시 구 경계 GeoJSON(프론트엔드의 seoul-districts.json과 같은 파일)을 읽어 인덱스를 만듭니다.
+ * 구 ID는 GeoJSON의 code 속성 (예: 강남구 "11230")입니다.
+ */
+@Slf4j
+@Component
+public class DistrictLocator {
+
+    static final String DISTRICT_ID_PROPERTY = "code";
+
+    private final DistrictPolygonIndex index;
+
+    public DistrictLocator(
+            ObjectMapper objectMapper,
+            @Value("${place.district.geojson:classpath:geo/seoul-districts.json}") Resource geoJson) {
+        try (InputStream in = geoJson.getInputStream()) {
+            this.index = DistrictPolygonIndex.fromGeoJson(objectMapper.readTree(in), DISTRICT_ID_PROPERTY);
+        } catch (IOException e) {
+            throw new IllegalStateException("구 경계 GeoJSON을 읽을 수 없습니다: " + geoJson, e);
+        }
+        log.info("Loaded {} district polygons from {}", index.size(), geoJson);
+    }
+
+    /**
+     * 좌표가 속한 구 ID 조회
+     *
+     * @return 구 ID, 좌표가 없거나 서울시 밖이면 null
+     */
+    public String findDistrictId(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            return null;
+        }
+        return index.findDistrictId(latitude, longitude);
+    }
+}
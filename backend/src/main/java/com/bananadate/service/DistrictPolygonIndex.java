@@ -0,0 +1,149 @@
+package com.bananadate.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 행정구역 경계 다각형 인덱스
+ * 좌표가 속한 구를 찾을 때, 경계 상자(bounding box)로 후보를 먼저 거른 뒤
+ * 후보 다각형에 대해서만 ray casting으로 포함 여부를 판정합니다.
+ *
+ * GeoJSON FeatureCollection의 Polygon/MultiPolygon을 지원하며,
+ * 각 Polygon의 첫 번째 링은 외곽선, 나머지 링은 구멍(hole)으로 취급합니다.
+ */
+public class DistrictPolygonIndex {
+
+    private final List<DistrictShape> shapes;
+
+    private DistrictPolygonIndex(List<DistrictShape> shapes) {
+        this.shapes = shapes;
+    }
+
+    /**
+     * GeoJSON FeatureCollection으로 인덱스 생성
+     *
+     * @param featureCollection GeoJSON FeatureCollection
+     * @param idProperty        구 ID로 사용할 feature 속성 이름 (예: "code")
+     */
+    public static DistrictPolygonIndex fromGeoJson(JsonNode featureCollection, String idProperty) {
+        List<DistrictShape> shapes = new ArrayList<>();
+        for (JsonNode feature : featureCollection.path("features")) {
+            String districtId = feature.path("properties").path(idProperty).asText(null);
+            JsonNode geometry = feature.path("geometry");
+            if (districtId == null) {
+                continue;
+            }
+
+            switch (geometry.path("type").asText()) {
+                case "Polygon" -> shapes.add(toShape(districtId, geometry.path("coordinates")));
+                case "MultiPolygon" -> {
+                    for (JsonNode polygon : geometry.path("coordinates")) {
+                        shapes.add(toShape(districtId, polygon));
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return new DistrictPolygonIndex(List.copyOf(shapes));
+    }
+
+    /**
+     * 좌표가 속한 구 ID 조회
+     *
+     * @return 구 ID, 어느 구에도 속하지 않으면 null
+     */
+    public String findDistrictId(double latitude, double longitude) {
+        for (DistrictShape shape : shapes) {
+            if (shape.contains(latitude, longitude)) {
+                return shape.districtId();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 인덱스에 담긴 다각형 수
+     */
+    public int size() {
+        return shapes.size();
+    }
+
+    private static DistrictShape toShape(String districtId, JsonNode polygon) {
+        List<Ring> rings = new ArrayList<>();
+        for (JsonNode ring : polygon) {
+            double[] longitudes = new double[ring.size()];
+            double[] latitudes = new double[ring.size()];
+            for (int i = 0; i < ring.size(); i++) {
+                longitudes[i] = ring.get(i).get(0).asDouble();
+                latitudes[i] = ring.get(i).get(1).asDouble();
+            }
+            rings.add(new Ring(longitudes, latitudes));
+        }
+
+        Ring outer = rings.get(0);
+        double minLat = Double.MAX_VALUE;
+        double maxLat = -Double.MAX_VALUE;
+        double minLng = Double.MAX_VALUE;
+        double maxLng = -Double.MAX_VALUE;
+        for (int i = 0; i < outer.latitudes().length; i++) {
+            minLat = Math.min(minLat, outer.latitudes()[i]);
+            maxLat = Math.max(maxLat, outer.latitudes()[i]);
+            minLng = Math.min(minLng, outer.longitudes()[i]);
+            maxLng = Math.max(maxLng, outer.longitudes()[i]);
+        }
+        return new DistrictShape(districtId, minLat, maxLat, minLng, maxLng, outer,
+                List.copyOf(rings.subList(1, rings.size())));
+    }
+
+    /**
+     * 다각형 하나 (외곽선 + 구멍)와 경계 상자
+     */
+    private record DistrictShape(String districtId,
+                                 double minLat, double maxLat, double minLng, double maxLng,
+                                 Ring outer, List<Ring> holes) {
+
+        boolean contains(double latitude, double longitude) {
+            if (latitude < minLat || latitude > maxLat || longitude < minLng || longitude > maxLng) {
+                return false;
+            }
+            if (!outer.contains(latitude, longitude)) {
+                return false;
+            }
+            for (Ring hole : holes) {
+                if (hole.contains(latitude, longitude)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 다각형의 링 하나 (경도/위도 배열)
+     */
+    private record Ring(double[] longitudes, double[] latitudes) {
+
+        /**
+         * ray casting: 점에서 동쪽으로 그은 반직선이 변과 홀수 번 교차하면 내부
+         */
+        boolean contains(double latitude, double longitude) {
+            boolean inside = false;
+            int count = latitudes.length;
+            for (int i = 0, j = count - 1; i < count; j = i++) {
+                double latI = latitudes[i];
+                double latJ = latitudes[j];
+                if ((latI > latitude) != (latJ > latitude)) {
+                    double crossingLng = longitudes[i]
+                            + (latitude - latI) * (longitudes[j] - longitudes[i]) / (latJ - latI);
+                    if (longitude < crossingLng) {
+                        inside = !inside;
+                    }
+                }
+            }
+            return inside;
+        }
+    }
+}
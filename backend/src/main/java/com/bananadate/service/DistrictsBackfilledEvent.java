@@ -0,0 +1,10 @@
+package com.bananadate.service;
+
+/**
+ * 기존 장소의 구 ID backfill로 구 ID가 채워졌음을 알리는 이벤트
+ * backfill은 JDBC로 직접 갱신하므로, 장소 정보를 메모리에 들고 있는 구성 요소는 이 이벤트로 다시 적재합니다.
+ *
+ * @param assignedCount 구 ID가 채워진 장소 수
+ */
+public record DistrictsBackfilledEvent(int assignedCount) {
+}
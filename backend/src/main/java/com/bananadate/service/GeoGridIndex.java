@@ -0,0 +1,322 @@
+package com.bananadate.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 위도/경도 격자 기반의 메모리 공간 인덱스
+ * 좌표를 cellDegrees 크기의 격자 칸에 나눠 담고, 질의 지점 주변 칸만 확인하여
+ * 반경 검색과 k-최근접 검색을 수행합니다.
+ *
+ * 칸마다 ID와 좌표를 기본형 배열로 보관하여 100만 건 규모에서도 객체 생성 없이 탐색합니다.
+ * 읽기는 동시에 여러 스레드가 수행할 수 있고, 추가는 쓰기 락으로 직렬화합니다.
+ */
+public class GeoGridIndex {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE_LAT = Math.PI * EARTH_RADIUS_METERS / 180;
+
+    /**
+     * 검색 결과 한 건
+     *
+     * @param id             장소 ID
+     * @param distanceMeters 질의 지점과의 거리 (미터)
+     */
+    public record Neighbor(long id, double distanceMeters) {
+    }
+
+    private final double cellDegrees;
+    private final Map<Long, Cell> cells = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int size;
+    private int minRow = Integer.MAX_VALUE;
+    private int maxRow = Integer.MIN_VALUE;
+    private int minCol = Integer.MAX_VALUE;
+    private int maxCol = Integer.MIN_VALUE;
+
+    /**
+     * @param cellDegrees 격자 칸 크기 (도 단위, 예: 0.01 ≈ 위도 방향 1.1km)
+     */
+    public GeoGridIndex(double cellDegrees) {
+        if (cellDegrees <= 0) {
+            throw new IllegalArgumentException("cellDegrees must be positive: " + cellDegrees);
+        }
+        this.cellDegrees = cellDegrees;
+    }
+
+    /**
+     * 좌표 추가 (같은 ID가 같은 칸에 이미 있으면 무시)
+     */
+    public void add(long id, double latitude, double longitude) {
+        int row = row(latitude);
+        int col = col(longitude);
+
+        lock.writeLock().lock();
+        try {
+            Cell cell = cells.computeIfAbsent(key(row, col), k -> new Cell());
+            if (cell.contains(id)) {
+                return;
+            }
+            cell.add(id, latitude, longitude);
+            size++;
+            minRow = Math.min(minRow, row);
+            maxRow = Math.max(maxRow, row);
+            minCol = Math.min(minCol, col);
+            maxCol = Math.max(maxCol, col);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스에 담긴 좌표 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 반경 검색
+     *
+     * @param latitude     질의 위도
+     * @param longitude    질의 경도
+     * @param radiusMeters 반경 (미터)
+     * @param limit        최대 결과 수
+     * @return 반경 안의 좌표 (가까운 순)
+     */
+    public List<Neighbor> withinRadius(double latitude, double longitude, double radiusMeters, int limit) {
+        if (limit <= 0 || radiusMeters < 0) {
+            return List.of();
+        }
+
+        double latDelta = radiusMeters / METERS_PER_DEGREE_LAT;
+        double lngDelta = radiusMeters / metersPerDegreeLng(latitude);
+        int fromRow = row(latitude - latDelta);
+        int toRow = row(latitude + latDelta);
+        int fromCol = col(longitude - lngDelta);
+        int toCol = col(longitude + lngDelta);
+
+        BoundedNeighbors nearest = new BoundedNeighbors(limit);
+        lock.readLock().lock();
+        try {
+            if (size == 0) {
+                return List.of();
+            }
+            fromRow = Math.max(fromRow, minRow);
+            toRow = Math.min(toRow, maxRow);
+            fromCol = Math.max(fromCol, minCol);
+            toCol = Math.min(toCol, maxCol);
+
+            for (int row = fromRow; row <= toRow; row++) {
+                for (int col = fromCol; col <= toCol; col++) {
+                    Cell cell = cells.get(key(row, col));
+                    if (cell != null) {
+                        cell.collect(latitude, longitude, radiusMeters, nearest);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return nearest.toSortedList();
+    }
+
+    /**
+     * k-최근접 검색
+     * 질의 지점의 칸부터 바깥쪽 고리(ring) 순으로 넓혀 가며, 다음 고리의 최소 거리가
+     * 현재 k번째 거리보다 멀어지면 중단합니다.
+     *
+     * @param latitude  질의 위도
+     * @param longitude 질의 경도
+     * @param k         결과 수
+     * @return 가까운 순으로 최대 k개
+     */
+    public List<Neighbor> nearest(double latitude, double longitude, int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+
+        int centerRow = row(latitude);
+        int centerCol = col(longitude);
+
+        BoundedNeighbors nearest = new BoundedNeighbors(k);
+        lock.readLock().lock();
+        try {
+            if (size == 0) {
+                return List.of();
+            }
+            int maxRing = Math.max(
+                    Math.max(Math.abs(centerRow - minRow), Math.abs(maxRow - centerRow)),
+                    Math.max(Math.abs(centerCol - minCol), Math.abs(maxCol - centerCol)));
+
+            for (int ring = 0; ring <= maxRing; ring++) {
+                visitRing(centerRow, centerCol, ring, latitude, longitude, nearest);
+                if (nearest.worstDistance() <= unvisitedLowerBound(latitude, ring)) {
+                    break;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return nearest.toSortedList();
+    }
+
+    /**
+     * 두 좌표 사이의 거리 (하버사인, 미터)
+     */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private void visitRing(int centerRow, int centerCol, int ring, double latitude, double longitude,
+                           BoundedNeighbors nearest) {
+        for (int row = centerRow - ring; row <= centerRow + ring; row++) {
+            if (row < minRow || row > maxRow) {
+                continue;
+            }
+            boolean edgeRow = row == centerRow - ring || row == centerRow + ring;
+            // 고리의 위/아래 줄은 전체, 나머지 줄은 양 끝 칸만 방문
+            int step = edgeRow ? 1 : Math.max(1, 2 * ring);
+            for (int col = centerCol - ring; col <= centerCol + ring; col += step) {
+                if (col < minCol || col > maxCol) {
+                    continue;
+                }
+                Cell cell = cells.get(key(row, col));
+                if (cell != null) {
+                    cell.collect(latitude, longitude, Double.MAX_VALUE, nearest);
+                }
+            }
+        }
+    }
+
+    /**
+     * ring번째 고리까지 방문했을 때 아직 방문하지 않은 칸의 좌표까지의 최소 거리
+     * 경도 방향 칸 폭은 극에 가까울수록 좁아지므로, 다음 고리가 닿는 가장 고위도 기준으로 계산합니다.
+     */
+    private double unvisitedLowerBound(double latitude, int ring) {
+        double farthestLatitude = Math.min(90, Math.abs(latitude) + (ring + 1) * cellDegrees);
+        return ring * cellDegrees * Math.min(METERS_PER_DEGREE_LAT, metersPerDegreeLng(farthestLatitude));
+    }
+
+    private static double metersPerDegreeLng(double latitude) {
+        return Math.max(1e-6, METERS_PER_DEGREE_LAT * Math.cos(Math.toRadians(latitude)));
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor(latitude / cellDegrees);
+    }
+
+    private int col(double longitude) {
+        return (int) Math.floor(longitude / cellDegrees);
+    }
+
+    private static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xFFFFFFFFL);
+    }
+
+    /**
+     * 격자 칸 하나에 담긴 좌표 (기본형 배열)
+     */
+    private static class Cell {
+        private long[] ids = new long[4];
+        private double[] latitudes = new double[4];
+        private double[] longitudes = new double[4];
+        private int count;
+
+        boolean contains(long id) {
+            for (int i = 0; i < count; i++) {
+                if (ids[i] == id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void add(long id, double latitude, double longitude) {
+            if (count == ids.length) {
+                int capacity = count * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                latitudes = Arrays.copyOf(latitudes, capacity);
+                longitudes = Arrays.copyOf(longitudes, capacity);
+            }
+            ids[count] = id;
+            latitudes[count] = latitude;
+            longitudes[count] = longitude;
+            count++;
+        }
+
+        void collect(double latitude, double longitude, double radiusMeters, BoundedNeighbors nearest) {
+            double bound = Math.min(radiusMeters, nearest.worstDistance());
+            for (int i = 0; i < count; i++) {
+                // 위도 차이만으로 계산한 거리는 실제 거리보다 작거나 같으므로, 이것만으로 멀면 하버사인 계산 생략
+                if (Math.abs(latitudes[i] - latitude) * METERS_PER_DEGREE_LAT > bound) {
+                    continue;
+                }
+                double distance = distanceMeters(latitude, longitude, latitudes[i], longitudes[i]);
+                if (distance <= bound && nearest.offer(ids[i], distance)) {
+                    bound = Math.min(radiusMeters, nearest.worstDistance());
+                }
+            }
+        }
+    }
+
+    /**
+     * 가장 가까운 최대 capacity개만 유지하는 최대 힙
+     */
+    private static class BoundedNeighbors {
+        private final int capacity;
+        private final PriorityQueue<Neighbor> heap;
+
+        BoundedNeighbors(int capacity) {
+            this.capacity = capacity;
+            this.heap = new PriorityQueue<>(Math.min(capacity, 1024),
+                    Comparator.comparingDouble(Neighbor::distanceMeters).reversed());
+        }
+
+        /**
+         * @return 결과에 포함되었는지 여부
+         */
+        boolean offer(long id, double distance) {
+            if (heap.size() < capacity) {
+                heap.add(new Neighbor(id, distance));
+                return true;
+            }
+            if (distance < heap.peek().distanceMeters()) {
+                heap.poll();
+                heap.add(new Neighbor(id, distance));
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * 현재 결과에 들어가기 위한 최대 거리 (아직 가득 차지 않았으면 무한대)
+         */
+        double worstDistance() {
+            return heap.size() < capacity ? Double.MAX_VALUE : heap.peek().distanceMeters();
+        }
+
+        List<Neighbor> toSortedList() {
+            List<Neighbor> result = new ArrayList<>(heap);
+            result.sort(Comparator.comparingDouble(Neighbor::distanceMeters));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.JobStatus;
+import com.bananadate.dto.JobStatusResponse;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 백그라운드에서 실행되는 작업 1건의 상태
+ * 작업을 실행하는 스레드가 진행 상황을 기록하고, 조회/취소 요청은 다른 스레드에서 들어옵니다.
+ * 대기(QUEUED) 상태에서 실행(RUNNING)과 취소(CANCELLED)로의 전이는 compareAndSet으로 한 쪽만 성공하므로,
+ * 막 시작한 작업이 취소로 바뀌었다가 다시 실행 중으로 돌아가는 일이 없습니다.
+ * 정리 작업(cleanup)은 실행을 마쳤든, 시작 전에 취소되었든 작업이 끝나면 한 번만 실행됩니다.
+ */
+@Slf4j
+public class Job implements JobProgress {
+
+    @Getter
+    private final String id;
+    @Getter
+    private final String type;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger succeeded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    private final AtomicReference<JobStatus> status = new AtomicReference<>(JobStatus.QUEUED);
+    private volatile boolean cancelRequested;
+    private volatile LocalDateTime startedAt;
+    @Getter
+    private volatile LocalDateTime finishedAt;
+    private volatile Object result;
+    private volatile String errorMessage;
+    private volatile Future<?> future;
+    private final Runnable cleanup;
+    private final AtomicBoolean cleanedUp = new AtomicBoolean();
+
+    public Job(String id, String type) {
+        this(id, type, () -> {
+        });
+    }
+
+    /**
+     * @param cleanup 작업이 끝난 뒤 한 번 실행할 정리 작업 (예: 업로드된 임시 파일 삭제)
+     */
+    public Job(String id, String type, Runnable cleanup) {
+        this.id = id;
+        this.type = type;
+        this.cleanup = cleanup;
+    }
+
+    @Override
+    public void setTotal(int total) {
+        this.total.set(total);
+    }
+
+    @Override
+    public void recordSuccess() {
+        succeeded.incrementAndGet();
+    }
+
+    @Override
+    public void recordFailure() {
+        failed.incrementAndGet();
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelRequested;
+    }
+
+    public JobStatus getStatus() {
+        return status.get();
+    }
+
+    /**
+     * 취소 요청 (실행 중이면 작업 스레드를 인터럽트)
+     *
+     * @return 취소 요청이 받아들여졌는지 여부 (이미 끝난 작업이면 false)
+     */
+    public boolean requestCancel() {
+        if (status.get().isFinished()) {
+            return false;
+        }
+        cancelRequested = true;
+        if (status.compareAndSet(JobStatus.QUEUED, JobStatus.CANCELLED)) {
+            // 아직 시작하지 않은 작업은 실행되지 않으므로 바로 취소 처리하고 정리 작업도 여기서 실행
+            finishedAt = LocalDateTime.now();
+            runCleanup();
+        }
+        Future<?> runningFuture = future;
+        if (runningFuture != null) {
+            runningFuture.cancel(true);
+        }
+        return true;
+    }
+
+    void attach(Future<?> future) {
+        this.future = future;
+    }
+
+    /**
+     * 대기 중인 작업을 실행 중으로 전이
+     *
+     * @return 전이에 성공했는지 여부 (이미 취소된 작업이면 false이며, 작업을 실행하지 않아야 함)
+     */
+    boolean markRunning() {
+        if (!status.compareAndSet(JobStatus.QUEUED, JobStatus.RUNNING)) {
+            return false;
+        }
+        startedAt = LocalDateTime.now();
+        return true;
+    }
+
+    /**
+     * 실행 중인 작업을 최종 상태로 전이
+     */
+    void markFinished(JobStatus finalStatus, Object result, String errorMessage) {
+        this.result = result;
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+        status.compareAndSet(JobStatus.RUNNING, finalStatus);
+    }
+
+    /**
+     * 정리 작업 실행 (이미 실행했으면 무시, 실패는 로그만 남김)
+     */
+    void runCleanup() {
+        if (!cleanedUp.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            cleanup.run();
+        } catch (RuntimeException e) {
+            log.warn("Job cleanup failed: {} ({})", id, type, e);
+        }
+    }
+
+    /**
+     * 현재 상태를 응답 DTO로 변환 (처리 속도와 남은 예상 시간 포함)
+     */
+    public JobStatusResponse toResponse() {
+        // 상태를 먼저 읽어, 완료로 보이는 응답에는 완료 시점의 진행 수가 담기도록 함
+        JobStatus currentStatus = status.get();
+        int processed = succeeded.get() + failed.get();
+        int totalCount = total.get();
+
+        double ratePerSecond = 0;
+        Long etaSeconds = null;
+        LocalDateTime start = startedAt;
+        if (start != null) {
+            LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+            long elapsedMillis = Math.max(Duration.between(start, end).toMillis(), 1);
+            ratePerSecond = processed * 1000.0 / elapsedMillis;
+            if (!currentStatus.isFinished() && ratePerSecond > 0 && totalCount >= processed) {
+                etaSeconds = (long) Math.ceil((totalCount - processed) / ratePerSecond);
+            }
+        }
+
+        return JobStatusResponse.builder()
+                .jobId(id)
+                .type(type)
+                .status(currentStatus)
+                .total(totalCount)
+                .processed(processed)
+                .succeeded(succeeded.get())
+                .failed(failed.get())
+                .ratePerSecond(ratePerSecond)
+                .etaSeconds(etaSeconds)
+                .submittedAt(submittedAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .result(result)
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.bananadate.service;
+
+/**
+ * 장시간 실행되는 작업의 진행 상황 보고 및 취소 확인용 인터페이스
+ * 서비스는 처리 단위마다 결과를 기록하고, 주기적으로 isCancelled()를 확인하여 중단합니다.
+ */
+public interface JobProgress {
+
+    /**
+     * 진행 상황을 기록하지 않는 기본 구현 (동기 호출용)
+     */
+    JobProgress NONE = new JobProgress() {
+        @Override
+        public void setTotal(int total) {
+        }
+
+        @Override
+        public void recordSuccess() {
+        }
+
+        @Override
+        public void recordFailure() {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+    };
+
+    /**
+     * 처리할 전체 작업 단위 수 설정
+     */
+    void setTotal(int total);
+
+    /**
+     * 작업 단위 1개 성공 기록
+     */
+    void recordSuccess();
+
+    /**
+     * 작업 단위 1개 실패 기록
+     */
+    void recordFailure();
+
+    /**
+     * 취소 요청 여부
+     */
+    boolean isCancelled();
+
+    /**
+     * 작업 단위 1개의 결과 기록
+     */
+    default void record(boolean success) {
+        if (success) {
+            recordSuccess();
+        } else {
+            recordFailure();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.JobStatus;
+import com.bananadate.dto.JobStatusResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 장시간 실행되는 작업(장소 수집, 배치 큐레이션)을 요청 스레드 밖에서 실행하는 서비스
+ * 작업은 크기가 제한된 전용 스레드 풀에서 실행되므로, 대량 작업이 몰려도
+ * Tomcat 워커나 DB 커넥션을 모두 차지하여 조회 요청을 굶기지 않습니다.
+ */
+@Slf4j
+@Service
+public class JobService {
+
+    private final ThreadPoolExecutor executor;
+    private final Duration retention;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public JobService(
+            @Value("${jobs.executor.pool-size:2}") int poolSize,
+            @Value("${jobs.executor.queue-capacity:10}") int queueCapacity,
+            @Value("${jobs.retention-minutes:60}") long retentionMinutes) {
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("job-", 1).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.retention = Duration.ofMinutes(retentionMinutes);
+    }
+
+    /**
+     * 작업 등록
+     *
+     * @param type 작업 종류
+     * @param work 실행할 작업 (진행 상황 보고용 JobProgress를 받아 결과를 반환)
+     * @return 등록된 작업 상태
+     * @throws RejectedExecutionException 실행 대기열이 가득 찬 경우
+     */
+    public JobStatusResponse submit(String type, Function<JobProgress, ?> work) {
+        return submit(type, work, () -> {
+        });
+    }
+
+    /**
+     * 정리 작업과 함께 작업 등록
+     * 정리 작업은 작업이 끝났을 때, 시작 전에 취소되었을 때, 등록이 거절되었을 때 모두 한 번 실행됩니다.
+     *
+     * @param type    작업 종류
+     * @param work    실행할 작업 (진행 상황 보고용 JobProgress를 받아 결과를 반환)
+     * @param cleanup 작업이 끝난 뒤 실행할 정리 작업 (예: 업로드된 임시 파일 삭제)
+     * @return 등록된 작업 상태
+     * @throws RejectedExecutionException 실행 대기열이 가득 찬 경우
+     */
+    public JobStatusResponse submit(String type, Function<JobProgress, ?> work, Runnable cleanup) {
+        evictExpiredJobs();
+
+        Job job = new Job(UUID.randomUUID().toString(), type, cleanup);
+        jobs.put(job.getId(), job);
+
+        try {
+            job.attach(executor.submit(() -> run(job, work)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            job.runCleanup();
+            log.warn("Job rejected, executor is saturated: {}", type);
+            throw e;
+        }
+
+        log.info("Job submitted: {} ({})", job.getId(), type);
+        return job.toResponse();
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public Optional<JobStatusResponse> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(Job::toResponse);
+    }
+
+    /**
+     * 작업 취소
+     *
+     * @return 취소 요청 후 작업 상태 (작업이 없으면 empty)
+     */
+    public Optional<JobStatusResponse> cancel(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            return Optional.empty();
+        }
+        if (job.requestCancel()) {
+            log.info("Job cancellation requested: {} ({})", jobId, job.getType());
+        }
+        return Optional.of(job.toResponse());
+    }
+
+    private void run(Job job, Function<JobProgress, ?> work) {
+        if (!job.markRunning()) {
+            // 시작 전에 취소된 작업 (정리 작업은 취소 요청에서 실행됨)
+            job.runCleanup();
+            return;
+        }
+        log.info("Job started: {} ({})", job.getId(), job.getType());
+
+        try {
+            Object result = work.apply(job);
+            job.markFinished(job.isCancelled() ? JobStatus.CANCELLED : JobStatus.SUCCEEDED, result, null);
+        } catch (Exception e) {
+            if (job.isCancelled()) {
+                job.markFinished(JobStatus.CANCELLED, null, null);
+            } else {
+                log.error("Job failed: {} ({})", job.getId(), job.getType(), e);
+                job.markFinished(JobStatus.FAILED, null, e.getMessage());
+            }
+        } finally {
+            job.runCleanup();
+        }
+
+        log.info("Job finished: {} ({}) with status {}", job.getId(), job.getType(), job.getStatus());
+    }
+
+    /**
+     * 보관 기간이 지난 완료 작업 제거
+     */
+    private void evictExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.getStatus().isFinished()
+                && job.getFinishedAt() != null
+                && job.getFinishedAt().isBefore(threshold));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
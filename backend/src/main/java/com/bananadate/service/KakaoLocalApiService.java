@@ -1,17 +1,25 @@
 package com.bananadate.service;
 
 import com.bananadate.dto.KakaoLocalSearchResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
-import java.util.ArrayList;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 카카오 Local API 연동 서비스
+ * 검색 응답 시간(kakao.api.search)과 전역 Rate Limiter 대기 시간(kakao.api.rate-limit.wait)을 지표로 기록합니다.
  */
 @Slf4j
 @Service
@@ -19,18 +27,33 @@ public class KakaoLocalApiService {
 
     private final WebClient webClient;
     private final String apiKey;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final Timer searchSuccessTimer;
+    private final Timer searchErrorTimer;
+    private final Timer rateLimitWaitTimer;
 
     private static final String KAKAO_LOCAL_API_URL = "https://dapi.kakao.com/v2/local/search/keyword.json";
     private static final int PAGE_SIZE = 15; // 카카오 API 한 페이지당 최대 15개
     private static final int MAX_RESULTS_PER_QUERY = 25; // 각 쿼리당 수집할 최대 개수
+    private static final int MAX_PAGE = 45; // 카카오 API가 허용하는 최대 페이지 번호
 
     public KakaoLocalApiService(
-            WebClient.Builder webClientBuilder,
-            @Value("${kakao.api.rest-key}") String apiKey) {
+            @Qualifier("kakaoWebClientBuilder") WebClient.Builder webClientBuilder,
+            @Value("${kakao.api.rest-key}") String apiKey,
+            TokenBucketRateLimiter kakaoRateLimiter,
+            MeterRegistry meterRegistry) {
         this.webClient = webClientBuilder
                 .baseUrl(KAKAO_LOCAL_API_URL)
                 .build();
         this.apiKey = apiKey;
+        this.rateLimiter = kakaoRateLimiter;
+        this.meterRegistry = meterRegistry;
+        this.searchSuccessTimer = searchTimer(meterRegistry, "success");
+        this.searchErrorTimer = searchTimer(meterRegistry, "error");
+        this.rateLimitWaitTimer = Timer.builder("kakao.api.rate-limit.wait")
+                .description("카카오 API 호출 전 전역 Rate Limiter에서 기다린 시간")
+                .register(meterRegistry);
     }
 
     /**
@@ -42,31 +65,94 @@ public class KakaoLocalApiService {
      * @return 검색 결과
      */
     public KakaoLocalSearchResponse searchPlaces(String query, int page, int size) {
-        log.info("Searching places with query: {}, page: {}, size: {}", query, page, size);
-
-        try {
-            KakaoLocalSearchResponse response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .queryParam("query", query)
-                            .queryParam("page", page)
-                            .queryParam("size", Math.min(size, PAGE_SIZE))
-                            .build())
-                    .header("Authorization", "KakaoAK " + apiKey)
-                    .retrieve()
-                    .bodyToMono(KakaoLocalSearchResponse.class)
-                    .block();
-
-            if (response != null && response.getDocuments() != null) {
-                log.info("Found {} places for query: {}", response.getDocuments().size(), query);
-            }
-
-            return response;
-
-        } catch (WebClientResponseException e) {
-            log.error("Kakao API call failed with status: {}, body: {}",
-                    e.getStatusCode(), e.getResponseBodyAsString());
-            throw new RuntimeException("카카오 Local API 호출 실패: " + e.getMessage(), e);
-        }
+        return searchPlacesAsync(query, page, size).block();
+    }
+
+    /**
+     * 키워드로 장소 검색 (Non-blocking)
+     * 구독 시점에 전역 Rate Limiter에서 토큰을 예약하고, 대기 시간만큼 지연한 뒤 요청을 보냅니다.
+     *
+     * @param query 검색 키워드
+     * @param page  페이지 번호 (1부터 시작, 최대 45)
+     * @param size  한 페이지당 문서 수 (1-15)
+     * @return 검색 결과 Mono
+     */
+    public Mono<KakaoLocalSearchResponse> searchPlacesAsync(String query, int page, int size) {
+        return Mono.defer(() -> {
+                    log.info("Searching places with query: {}, page: {}, size: {}", query, page, size);
+                    // Rate limiting: 전역 토큰 버킷에서 토큰을 예약한 만큼 대기 후 호출
+                    long waitNanos = rateLimiter.reserve();
+                    rateLimitWaitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+                    return Mono.delay(Duration.ofNanos(waitNanos));
+                })
+                .then(Mono.defer(() -> {
+                    // 대기 시간을 뺀 카카오 API 응답 시간만 측정
+                    Timer.Sample sample = Timer.start(meterRegistry);
+                    return webClient.get()
+                            .uri(uriBuilder -> uriBuilder
+                                    .queryParam("query", query)
+                                    .queryParam("page", page)
+                                    .queryParam("size", Math.min(size, PAGE_SIZE))
+                                    .build())
+                            .header("Authorization", "KakaoAK " + apiKey)
+                            .retrieve()
+                            .bodyToMono(KakaoLocalSearchResponse.class)
+                            .doOnSuccess(response -> sample.stop(searchSuccessTimer))
+                            .doOnError(e -> sample.stop(searchErrorTimer));
+                }))
+                .doOnNext(response -> {
+                    if (response.getDocuments() != null) {
+                        log.info("Found {} places for query: {}", response.getDocuments().size(), query);
+                    }
+                })
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Kakao API call failed with status: {}, body: {}",
+                            e.getStatusCode(), e.getResponseBodyAsString());
+                    return new RuntimeException("카카오 Local API 호출 실패: " + e.getMessage(), e);
+                });
+    }
+
+    private static Timer searchTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("kakao.api.search")
+                .description("카카오 Local API 키워드 검색 응답 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키워드로 장소를 페이지 단위로 지연 조회하는 스트림
+     * 다음 페이지는 이전 페이지 응답이 도착한 뒤에만 요청하며 (최대 1페이지 선행),
+     * meta.is_end에 도달하거나 maxResults개를 받으면(또는 구독이 취소되면) 더 이상 요청하지 않습니다.
+     *
+     * @param query      검색 키워드
+     * @param maxResults 최대 문서 수
+     * @return 장소 문서 스트림
+     */
+    public Flux<KakaoLocalSearchResponse.Document> searchPlacesFlux(String query, int maxResults) {
+        return searchPage(query, 1)
+                .expand(page -> page.hasNext() ? searchPage(query, page.number() + 1) : Mono.empty())
+                .concatMapIterable(SearchPage::documents, 1)
+                .take(maxResults);
+    }
+
+    /**
+     * 여러 키워드를 동시에 검색하여 하나의 스트림으로 합침
+     * 실패한 쿼리는 로그만 남기고 건너뛰어 나머지 쿼리의 결과는 계속 전달합니다.
+     *
+     * @param queries            검색 키워드 목록
+     * @param maxResultsPerQuery 쿼리당 최대 문서 수
+     * @param concurrency        동시에 진행할 최대 쿼리 수
+     * @return 장소 문서 스트림 (쿼리 간 순서는 보장하지 않음)
+     */
+    public Flux<KakaoLocalSearchResponse.Document> searchAllPlacesFlux(
+            List<String> queries, int maxResultsPerQuery, int concurrency) {
+        return Flux.fromIterable(queries)
+                .flatMap(query -> searchPlacesFlux(query, maxResultsPerQuery)
+                                .onErrorResume(e -> {
+                                    log.error("Failed to search places for query: {}", query, e);
+                                    return Flux.empty();
+                                }),
+                        concurrency);
     }
 
     /**
@@ -76,44 +162,33 @@ public class KakaoLocalApiService {
      * @return 수집된 장소 목록
      */
     public List<KakaoLocalSearchResponse.Document> searchPlacesWithLimit(String query) {
-        List<KakaoLocalSearchResponse.Document> allDocuments = new ArrayList<>();
-        int page = 1;
-        boolean hasMore = true;
-
-        while (hasMore && allDocuments.size() < MAX_RESULTS_PER_QUERY) {
-            KakaoLocalSearchResponse response = searchPlaces(query, page, PAGE_SIZE);
-
-            if (response == null || response.getDocuments() == null || response.getDocuments().isEmpty()) {
-                break;
-            }
-
-            // 최대 개수까지만 추가
-            int remainingCount = MAX_RESULTS_PER_QUERY - allDocuments.size();
-            List<KakaoLocalSearchResponse.Document> documents = response.getDocuments();
-            int countToAdd = Math.min(documents.size(), remainingCount);
-
-            allDocuments.addAll(documents.subList(0, countToAdd));
-
-            // 마지막 페이지이거나 충분히 수집했으면 종료
-            hasMore = response.getMeta() != null
-                    && !response.getMeta().getIsEnd()
-                    && allDocuments.size() < MAX_RESULTS_PER_QUERY;
-
-            page++;
-
-            // Rate limiting: 0.5초 대기
-            if (hasMore) {
-                try {
-                    Thread.sleep(500);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    log.warn("Sleep interrupted", e);
-                    break;
-                }
-            }
-        }
+        List<KakaoLocalSearchResponse.Document> allDocuments = searchPlacesFlux(query, MAX_RESULTS_PER_QUERY)
+                .collectList()
+                .block();
 
         log.info("Collected {} places for query: {}", allDocuments.size(), query);
         return allDocuments;
     }
+
+    private Mono<SearchPage> searchPage(String query, int page) {
+        return searchPlacesAsync(query, page, PAGE_SIZE)
+                .map(response -> new SearchPage(page, response));
+    }
+
+    /**
+     * 검색 결과 한 페이지와 페이지 번호
+     */
+    private record SearchPage(int number, KakaoLocalSearchResponse response) {
+
+        List<KakaoLocalSearchResponse.Document> documents() {
+            return response.getDocuments() != null ? response.getDocuments() : List.of();
+        }
+
+        boolean hasNext() {
+            return response.getMeta() != null
+                    && !Boolean.TRUE.equals(response.getMeta().getIsEnd())
+                    && !documents().isEmpty()
+                    && number < MAX_PAGE;
+        }
+    }
 }
@@ -0,0 +1,256 @@
+package com.bananadate.service;
+
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 장소 이름/카테고리/주소의 바이그램(2-gram) 역색인
+ * 한국어는 띄어쓰기가 일정하지 않으므로 공백과 기호를 모두 지운 텍스트에서 연속한 두 글자마다 장소 ID 비트맵을 만들고,
+ * 검색어의 바이그램 비트맵 교집합으로 후보를 고른 뒤 실제 포함 여부를 확인하여 순위를 매깁니다.
+ * (LIKE '%키워드%'와 같은 부분 문자열 의미를 유지하면서 전체 스캔을 피합니다)
+ *
+ * 검색어는 공백으로 나눈 단어를 모두 포함해야 하며(AND), 한 글자 단어는 선택도가 낮아 무시합니다.
+ * 순위 점수는 단어마다 이름 일치(완전 일치 > 접두 일치 > 포함) > 카테고리 포함 > 주소 포함 순으로 가중치를 더하고,
+ * 같은 점수는 최신 ID를 우선합니다.
+ *
+ * 장소 ID는 비트맵 원소(int) 범위 안이어야 합니다.
+ * 읽기는 동시에 여러 스레드가 수행할 수 있고, 추가/교체는 쓰기 락으로 직렬화합니다.
+ */
+public class KeywordIndex {
+
+    private static final int MIN_TERM_LENGTH = 2;
+
+    private static final int NAME_EXACT_SCORE = 30;
+    private static final int NAME_PREFIX_SCORE = 20;
+    private static final int NAME_CONTAINS_SCORE = 10;
+    private static final int CATEGORY_SCORE = 3;
+    private static final int ADDRESS_SCORE = 2;
+
+    private static final Comparator<ScoredId> RANK_ORDER = Comparator
+            .comparingInt(ScoredId::score).reversed()
+            .thenComparing(Comparator.comparingInt(ScoredId::id).reversed());
+
+    /**
+     * 검색 결과
+     *
+     * @param totalCount 검색어를 모두 포함하는 전체 장소 수
+     * @param ids        점수 내림차순 장소 ID (최대 limit개)
+     */
+    public record Hits(long totalCount, List<Long> ids) {
+    }
+
+    private final Map<Integer, RoaringBitmap> placesByGram = new HashMap<>();
+    private final Map<Integer, Document> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 장소 색인 (이미 있으면 교체)
+     */
+    public void put(long placeId, String placeName, String category, String address) {
+        int id = toBitmapId(placeId);
+        Document document = new Document(normalize(placeName), normalize(category), normalize(address));
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.put(id, document);
+            if (previous != null) {
+                for (int gram : previous.grams()) {
+                    RoaringBitmap bitmap = placesByGram.get(gram);
+                    if (bitmap != null) {
+                        bitmap.remove(id);
+                        if (bitmap.isEmpty()) {
+                            placesByGram.remove(gram);
+                        }
+                    }
+                }
+            }
+            for (int gram : document.grams()) {
+                placesByGram.computeIfAbsent(gram, k -> new RoaringBitmap()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드 검색
+     *
+     * @param keyword 검색어 (공백으로 구분한 단어는 AND)
+     * @param limit   최대 결과 수
+     * @throws IllegalArgumentException 두 글자 이상인 단어가 없는 경우
+     */
+    public Hits search(String keyword, int limit) {
+        List<String> terms = terms(keyword);
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("검색어는 두 글자 이상이어야 합니다: " + keyword);
+        }
+
+        lock.readLock().lock();
+        try {
+            RoaringBitmap candidates = candidates(terms);
+            if (candidates.isEmpty()) {
+                return new Hits(0, List.of());
+            }
+
+            PriorityQueue<ScoredId> top = new PriorityQueue<>(limit + 1, RANK_ORDER.reversed());
+            long totalCount = 0;
+            IntIterator iterator = candidates.getIntIterator();
+            while (iterator.hasNext()) {
+                int id = iterator.next();
+                int score = documents.get(id).score(terms);
+                if (score == 0) {
+                    continue;
+                }
+                totalCount++;
+                top.offer(new ScoredId(id, score));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<ScoredId> ranked = new ArrayList<>(top);
+            ranked.sort(RANK_ORDER);
+            return new Hits(totalCount, ranked.stream().map(hit -> (long) hit.id()).toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 장소 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 검색어 바이그램을 포함하는 장소 (작은 비트맵부터 교집합)
+     */
+    private RoaringBitmap candidates(List<String> terms) {
+        Set<Integer> grams = new LinkedHashSet<>();
+        for (String term : terms) {
+            addGrams(term, grams);
+        }
+
+        List<RoaringBitmap> postings = new ArrayList<>(grams.size());
+        for (int gram : grams) {
+            RoaringBitmap bitmap = placesByGram.get(gram);
+            if (bitmap == null) {
+                return new RoaringBitmap();
+            }
+            postings.add(bitmap);
+        }
+        postings.sort(Comparator.comparingLong(RoaringBitmap::getLongCardinality));
+
+        RoaringBitmap result = postings.get(0);
+        for (int i = 1; i < postings.size() && !result.isEmpty(); i++) {
+            result = RoaringBitmap.and(result, postings.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 검색어를 정규화한 단어 목록 (두 글자 미만 제외)
+     */
+    static List<String> terms(String keyword) {
+        List<String> terms = new ArrayList<>();
+        if (keyword == null) {
+            return terms;
+        }
+        for (String word : keyword.trim().split("\\s+")) {
+            String term = normalize(word);
+            if (term.length() >= MIN_TERM_LENGTH && !terms.contains(term)) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 색인/검색 공통 정규화: 소문자로 바꾸고 글자와 숫자만 남김
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        text.toLowerCase(Locale.ROOT).codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(normalized::appendCodePoint);
+        return normalized.toString();
+    }
+
+    private static void addGrams(String text, Set<Integer> grams) {
+        for (int i = 0; i + 1 < text.length(); i++) {
+            grams.add((text.charAt(i) << 16) | text.charAt(i + 1));
+        }
+    }
+
+    private static int toBitmapId(long placeId) {
+        if (placeId < 0 || placeId > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("place id out of bitmap range: " + placeId);
+        }
+        return (int) placeId;
+    }
+
+    private record ScoredId(int id, int score) {
+    }
+
+    /**
+     * 색인된 장소의 정규화된 텍스트 (후보 확인, 순위 계산, 교체 시 이전 바이그램 제거에 사용)
+     */
+    private record Document(String name, String category, String address) {
+
+        Set<Integer> grams() {
+            Set<Integer> grams = new LinkedHashSet<>();
+            addGrams(name, grams);
+            addGrams(category, grams);
+            addGrams(address, grams);
+            return grams;
+        }
+
+        /**
+         * 모든 단어를 포함하면 가중치 합, 하나라도 없으면 0
+         */
+        int score(List<String> terms) {
+            int total = 0;
+            for (String term : terms) {
+                int score = 0;
+                if (name.equals(term)) {
+                    score += NAME_EXACT_SCORE;
+                } else if (name.startsWith(term)) {
+                    score += NAME_PREFIX_SCORE;
+                } else if (name.contains(term)) {
+                    score += NAME_CONTAINS_SCORE;
+                }
+                if (category.contains(term)) {
+                    score += CATEGORY_SCORE;
+                }
+                if (address.contains(term)) {
+                    score += ADDRESS_SCORE;
+                }
+                if (score == 0) {
+                    return 0;
+                }
+                total += score;
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.bananadate.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이미 DB에 저장된 카카오 장소 ID의 메모리 집합
+ * 애플리케이션 시작 시 전체 ID로 채워지고, 수집으로 새로 저장된 ID가 추가됩니다.
+ * 정확한(exact) 집합이므로 여기에 있는 ID는 DB 조회 없이 중복으로 판단할 수 있습니다.
+ * 다른 인스턴스가 저장한 ID는 없을 수 있으므로, 집합에 없는 ID는 DB에서 한 번 더 확인해야 합니다.
+ */
+@Component
+public class KnownPlaceIdRegistry {
+
+    private final Set<String> knownIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * DB에서 읽어온 전체 ID로 집합을 채움
+     */
+    public void warmUp(Collection<String> kakaoPlaceIds) {
+        knownIds.addAll(kakaoPlaceIds);
+    }
+
+    public boolean contains(String kakaoPlaceId) {
+        return knownIds.contains(kakaoPlaceId);
+    }
+
+    public void addAll(Collection<String> kakaoPlaceIds) {
+        knownIds.addAll(kakaoPlaceIds);
+    }
+}
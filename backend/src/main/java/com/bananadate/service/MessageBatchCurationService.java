@@ -0,0 +1,530 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.BatchCurationResult;
+import com.bananadate.dto.PlaceBasicInfo;
+import com.bananadate.dto.PlaceCurationResult;
+import com.bananadate.entity.Place;
+import com.bananadate.repository.PlaceRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.timeout.ReadTimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Subscription;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Claude Message Batches API를 이용한 오프라인 일괄 큐레이션 백엔드
+ * 지연 시간보다 처리량과 비용이 중요한 전체 재큐레이션(야간 작업 등)에 사용합니다.
+ *
+ * 큐레이션되지 않은 장소를 ID 순으로 읽어 메시지 배치로 제출하고, 처리가 끝날 때까지 상태를 폴링한 뒤
+ * JSONL 결과를 스트리밍으로 읽어 chunkSize개씩 Place에 반영하고 커밋합니다.
+ * 프롬프트와 응답 파싱은 PlaceCurationService와 동일하며, 캐시에 있는 장소는 제출하지 않습니다.
+ *
+ * 제출한 배치는 이미 비용이 청구되므로 한 배치의 실패가 다른 배치를 버리게 하지 않습니다.
+ * 상태 폴링과 결과 조회의 일시적 실패(5xx, 429, 타임아웃, 연결 오류)는 백오프하며 재시도하고,
+ * 그래도 반영하지 못한 배치는 ID를 ERROR 로그와 결과 메시지에 남겨 나중에 결과를 다시 받을 수 있게 합니다.
+ * (Message Batches API는 결과를 29일 동안 보관)
+ */
+@Slf4j
+@Service
+public class MessageBatchCurationService implements BulkCurationBackend {
+
+    public static final String NAME = "message-batch";
+
+    private static final String BATCHES_PATH = "/v1/messages/batches";
+    private static final int MAX_TRANSIENT_RETRIES = 5;
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofMinutes(5);
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final PlaceRepository placeRepository;
+    private final PlaceCurationService placeCurationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration pollInterval;
+    private final int chunkSize;
+    private final int maxRequestsPerBatch;
+
+    public MessageBatchCurationService(
+            @Qualifier("claudeWebClientBuilder") WebClient.Builder webClientBuilder,
+            ObjectMapper objectMapper,
+            PlaceRepository placeRepository,
+            PlaceCurationService placeCurationService,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${claude.api.key:}") String apiKey,
+            @Value("${claude.api.base-url:https://api.anthropic.com}") String baseUrl,
+            @Value("${curation.message-batch.poll-interval:PT30S}") Duration pollInterval,
+            @Value("${curation.message-batch.chunk-size:500}") int chunkSize,
+            @Value("${curation.message-batch.max-requests:10000}") int maxRequestsPerBatch) {
+        this.webClient = webClientBuilder
+                .baseUrl(baseUrl)
+                .defaultHeader("x-api-key", apiKey)
+                .defaultHeader("anthropic-version", "2023-06-01")
+                .build();
+        this.objectMapper = objectMapper;
+        this.placeRepository = placeRepository;
+        this.placeCurationService = placeCurationService;
+        this.eventPublisher = eventPublisher;
+        this.pollInterval = pollInterval;
+        this.chunkSize = chunkSize;
+        this.maxRequestsPerBatch = maxRequestsPerBatch;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * 큐레이션되지 않은 장소를 메시지 배치로 큐레이션
+     * 취소 요청이 들어오면 제출하지 않은 장소는 건너뛰고, 제출한 배치는 취소 요청 후 이미 처리된 결과만 반영합니다.
+     * 배치 하나를 반영하지 못해도 나머지 배치는 계속 반영하고, 제출이 중간에 실패하면 이미 제출한 배치를 반영한 뒤 예외를 던집니다.
+     *
+     * @param limit    처리할 최대 개수 (null이면 전체)
+     * @param progress 진행 상황 보고 및 취소 확인
+     * @return 배치 큐레이션 결과
+     */
+    @Override
+    public BatchCurationResult curateUncuratedPlaces(Integer limit, JobProgress progress) {
+        log.info("Starting message batch curation...");
+        Instant startTime = Instant.now();
+
+        long remaining = placeRepository.countUncuratedPlaces();
+        if (limit != null && limit > 0) {
+            remaining = Math.min(limit, remaining);
+        }
+
+        log.info("Found {} uncurated places to process", remaining);
+        progress.setTotal((int) remaining);
+
+        CurationTally tally = new CurationTally();
+        List<String> batchIds;
+        try {
+            batchIds = submitBatches(remaining, progress, tally);
+
+            for (String batchId : batchIds) {
+                try {
+                    applyBatch(batchId, progress, tally);
+                } catch (RuntimeException e) {
+                    // 다른 배치는 계속 반영하고, 이 배치는 ID로 나중에 결과를 다시 받을 수 있도록 남김
+                    tally.unappliedBatchIds.add(batchId);
+                    log.error("Failed to apply message batch {}; retrieve its results later with this ID", batchId, e);
+                }
+            }
+        } finally {
+            // 실행 중 지워 둔 인터럽트 상태를 작업 스레드에 복원
+            if (tally.interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (!tally.unappliedBatchIds.isEmpty()) {
+            log.error("Message batches not applied: {}", tally.unappliedBatchIds);
+        }
+        if (tally.submitFailure != null) {
+            throw new IllegalStateException(String.format(
+                    "메시지 배치 제출 중 실패 (제출한 배치 %d개 중 반영하지 못한 배치: %s)",
+                    batchIds.size(), tally.unappliedBatchIds), tally.submitFailure);
+        }
+
+        int totalProcessed = tally.successCount + tally.failedCount;
+        Duration elapsed = Duration.between(startTime, Instant.now());
+        long elapsedSeconds = elapsed.getSeconds();
+
+        BatchCurationResult result = BatchCurationResult.builder()
+                .successCount(tally.successCount)
+                .failedCount(tally.failedCount)
+                .totalProcessed(totalProcessed)
+                .elapsedTimeSeconds(elapsedSeconds)
+                .apiCalls(batchIds.size())
+                .inputTokens(tally.inputTokens)
+                .outputTokens(tally.outputTokens)
+                .tokensPerPlace(totalProcessed > 0
+                        ? (double) (tally.inputTokens + tally.outputTokens) / totalProcessed : 0.0)
+                .millisPerPlace(totalProcessed > 0 ? (double) elapsed.toMillis() / totalProcessed : 0.0)
+                .message(String.format("%s %d places (%d failed, %d total) via %d message batches in %d seconds%s",
+                        progress.isCancelled() ? "Cancelled after curating" : "Successfully curated",
+                        tally.successCount, tally.failedCount, totalProcessed, batchIds.size(), elapsedSeconds,
+                        tally.unappliedBatchIds.isEmpty() ? ""
+                                : " (message batches not applied: " + tally.unappliedBatchIds + ")"))
+                .build();
+
+        log.info("Message batch curation completed: {}", result.getMessage());
+        return result;
+    }
+
+    /**
+     * 큐레이션되지 않은 장소를 읽어 최대 maxRequestsPerBatch개씩 메시지 배치로 제출
+     * 캐시에 분석 결과가 있는 장소는 제출하지 않고 바로 반영합니다.
+     * 중간에 실패하면 더 제출하지 않고 실패를 기록한 뒤, 그때까지 제출한 배치 ID를 반환합니다 (이미 비용이 청구된 배치를 버리지 않음).
+     *
+     * @return 제출한 배치 ID 목록
+     */
+    private List<String> submitBatches(long remaining, JobProgress progress, CurationTally tally) {
+        List<String> batchIds = new ArrayList<>();
+        try {
+            submitBatches(remaining, progress, tally, batchIds);
+        } catch (RuntimeException e) {
+            log.error("Stopped submitting message batches after {} submitted: {}", batchIds.size(), batchIds, e);
+            tally.submitFailure = e;
+        }
+        return batchIds;
+    }
+
+    private void submitBatches(long remaining, JobProgress progress, CurationTally tally, List<String> batchIds) {
+        List<Map<String, Object>> requests = new ArrayList<>();
+        long lastId = 0L;
+
+        while (remaining > 0 && !progress.isCancelled()) {
+            int pageSize = (int) Math.min(chunkSize, remaining);
+            List<Place> chunk = placeRepository.findUncuratedPlacesAfter(lastId, PageRequest.of(0, pageSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            lastId = chunk.get(chunk.size() - 1).getId();
+            remaining -= chunk.size();
+
+            List<Place> cachedPlaces = new ArrayList<>();
+            for (Place place : chunk) {
+                PlaceBasicInfo placeInfo = PlaceBatchCurationService.toBasicInfo(place);
+                Optional<PlaceCurationResult> cached = placeCurationService.findCachedAnalysis(placeInfo);
+                if (cached.isPresent()) {
+                    PlaceBatchCurationService.applyCurationResult(place, cached.get());
+                    cachedPlaces.add(place);
+                    continue;
+                }
+
+                Map<String, Object> request = new LinkedHashMap<>();
+                request.put("custom_id", String.valueOf(place.getId()));
+                request.put("params", placeCurationService.buildMessageParams(placeInfo));
+                requests.add(request);
+
+                if (requests.size() >= maxRequestsPerBatch) {
+                    batchIds.add(submitBatch(requests, tally));
+                    requests = new ArrayList<>();
+                }
+            }
+
+            if (!cachedPlaces.isEmpty()) {
+                eventPublisher.publishEvent(PlacesCuratedEvent.firstCuration(placeRepository.saveAll(cachedPlaces)));
+                tally.successCount += cachedPlaces.size();
+                cachedPlaces.forEach(place -> progress.recordSuccess());
+                log.info("Applied {} cached curation results without submitting", cachedPlaces.size());
+            }
+        }
+
+        if (!requests.isEmpty() && !progress.isCancelled()) {
+            batchIds.add(submitBatch(requests, tally));
+        }
+    }
+
+    /**
+     * 메시지 배치 제출
+     * 요청 중 인터럽트되어도 요청을 버리지 않고 응답을 기다리므로, 같은 배치를 다시 제출하거나 만들어진 배치를 놓치지 않습니다.
+     *
+     * @return 배치 ID
+     */
+    private String submitBatch(List<Map<String, Object>> requests, CurationTally tally) {
+        JsonNode batch = blockIgnoringInterrupt(webClient.post()
+                .uri(BATCHES_PATH)
+                .header("Content-Type", "application/json")
+                .bodyValue(Map.of("requests", requests))
+                .retrieve()
+                .bodyToMono(JsonNode.class), tally);
+
+        String batchId = batch.path("id").asText();
+        log.info("Submitted message batch {} with {} requests", batchId, requests.size());
+        return batchId;
+    }
+
+    /**
+     * 배치 처리가 끝날 때까지 기다린 뒤 결과를 Place에 반영
+     */
+    private void applyBatch(String batchId, JobProgress progress, CurationTally tally) {
+        JsonNode batch = awaitBatch(batchId, progress, tally);
+        String resultsUrl = batch.path("results_url").asText(null);
+        if (resultsUrl == null) {
+            log.warn("Message batch {} ended without results", batchId);
+            return;
+        }
+        streamResults(resultsUrl, progress, tally);
+    }
+
+    /**
+     * 배치 처리가 끝날 때까지 pollInterval 간격으로 상태를 폴링
+     * 폴링 중 취소 요청이 들어오면 배치 취소를 요청하고, 취소 처리가 끝날 때까지 계속 폴링합니다.
+     *
+     * @return 처리가 끝난 배치 정보 (results_url 포함)
+     */
+    private JsonNode awaitBatch(String batchId, JobProgress progress, CurationTally tally) {
+        boolean cancelRequested = false;
+
+        while (true) {
+            if (progress.isCancelled() && !cancelRequested) {
+                log.info("Cancelling message batch {}", batchId);
+                blockIgnoringInterrupt(webClient.post()
+                        .uri(BATCHES_PATH + "/{batchId}/cancel", batchId)
+                        .retrieve()
+                        .toBodilessEntity()
+                        .retryWhen(transientRetry()), tally);
+                cancelRequested = true;
+            }
+
+            JsonNode batch = blockIgnoringInterrupt(webClient.get()
+                    .uri(BATCHES_PATH + "/{batchId}", batchId)
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .retryWhen(transientRetry()), tally);
+
+            if ("ended".equals(batch.path("processing_status").asText())) {
+                log.info("Message batch {} ended: {}", batchId, batch.path("request_counts"));
+                return batch;
+            }
+
+            log.debug("Message batch {} is {}: {}", batchId,
+                    batch.path("processing_status").asText(), batch.path("request_counts"));
+
+            try {
+                Thread.sleep(pollInterval.toMillis());
+            } catch (InterruptedException e) {
+                // 작업 취소로 인터럽트된 경우: 다음 반복에서 배치 취소를 요청하고, 인터럽트 상태는 종료 시 복원
+                tally.interrupted = true;
+            }
+        }
+    }
+
+    /**
+     * 일시적 실패를 폴링 간격부터 늘려 가며 재시도 (제출은 중복 배치를 만들 수 있으므로 재시도하지 않음)
+     */
+    private Retry transientRetry() {
+        return Retry.backoff(MAX_TRANSIENT_RETRIES, pollInterval)
+                .maxBackoff(MAX_RETRY_BACKOFF)
+                .filter(MessageBatchCurationService::isTransientFailure)
+                .doBeforeRetry(retrySignal -> log.warn("Retrying message batch request after transient failure ({}): {}",
+                        retrySignal.totalRetries() + 1, retrySignal.failure().toString()))
+                .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) -> retrySignal.failure());
+    }
+
+    /**
+     * 다시 요청하면 성공할 수 있는 실패인지 (5xx, 429, 응답 타임아웃, 연결 오류)
+     */
+    static boolean isTransientFailure(Throwable throwable) {
+        if (throwable instanceof WebClientResponseException e
+                && (e.getStatusCode().is5xxServerError() || e.getStatusCode().value() == 429)) {
+            return true;
+        }
+        // 응답 본문을 읽다가 끊긴 경우는 200 응답의 WebClientResponseException으로 감싸져 오므로 원인까지 확인
+        for (Throwable t = throwable; t != null; t = t.getCause()) {
+            if (t instanceof WebClientRequestException || t instanceof IOException
+                    || t instanceof ReadTimeoutException || t instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 요청 결과를 기다리되, 작업 취소로 인터럽트되어도 요청을 취소하지 않고 끝까지 기다림
+     * Mono.block()은 인터럽트되면 진행 중인 요청을 취소하므로 Future로 기다립니다.
+     */
+    private <T> T blockIgnoringInterrupt(Mono<T> request, CurationTally tally) {
+        CompletableFuture<T> response = request.toFuture();
+        return awaitIgnoringInterrupt(response::get, tally);
+    }
+
+    /**
+     * 인터럽트를 무시하고 대기
+     * 이미 제출한 배치는 취소 요청과 결과 수집까지 마쳐야 하므로 인터럽트로 중단하지 않습니다.
+     * 인터럽트 상태는 Thread.interrupted()로 지우고 기록해 두었다가 큐레이션을 마친 뒤 복원합니다.
+     * (남겨 두면 이후의 대기와 DB 커넥션 획득이 곧바로 실패합니다.)
+     */
+    private static <T> T awaitIgnoringInterrupt(InterruptibleWait<T> wait, CurationTally tally) {
+        if (Thread.interrupted()) {
+            tally.interrupted = true;
+        }
+        while (true) {
+            try {
+                return wait.get();
+            } catch (InterruptedException e) {
+                tally.interrupted = true;
+            } catch (ExecutionException e) {
+                throw Exceptions.propagate(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * JSONL 결과를 한 줄씩 스트리밍으로 읽어 chunkSize개씩 Place에 반영
+     * toIterable()은 인터럽트되면 스트림을 취소하므로, 직접 한 묶음씩 요청해 받아 인터럽트되어도 끝까지 반영합니다.
+     * 읽는 중 일시적으로 실패하면 결과 파일을 다시 요청하되, 이미 받은 줄은 건너뛰어 같은 결과를 두 번 반영하지 않습니다.
+     */
+    private void streamResults(String resultsUrl, JobProgress progress, CurationTally tally) {
+        ResultChunks chunks = new ResultChunks();
+        AtomicLong receivedLines = new AtomicLong();
+        Flux.defer(() -> webClient.get()
+                        .uri(URI.create(resultsUrl))
+                        .retrieve()
+                        .bodyToFlux(String.class)
+                        .skip(receivedLines.get()))
+                .doOnNext(line -> receivedLines.incrementAndGet())
+                .retryWhen(transientRetry())
+                .filter(line -> !line.isBlank())
+                .buffer(chunkSize)
+                .subscribe(chunks);
+
+        List<String> lines;
+        while ((lines = chunks.next(tally)) != null) {
+            applyResults(lines, progress, tally);
+        }
+    }
+
+    /**
+     * 결과 줄 묶음을 Place에 반영하고 하나의 짧은 트랜잭션으로 커밋
+     */
+    private void applyResults(List<String> lines, JobProgress progress, CurationTally tally) {
+        Map<Long, JsonNode> resultsByPlaceId = new LinkedHashMap<>();
+        for (String line : lines) {
+            try {
+                JsonNode node = objectMapper.readTree(line);
+                resultsByPlaceId.put(Long.valueOf(node.path("custom_id").asText()), node.path("result"));
+            } catch (JsonProcessingException | NumberFormatException e) {
+                log.error("Skipping malformed message batch result line: {}", line, e);
+            }
+        }
+
+        List<Place> curatedPlaces = new ArrayList<>();
+        List<Integer> previousDateScores = new ArrayList<>();
+        for (Place place : placeRepository.findAllById(resultsByPlaceId.keySet())) {
+            JsonNode result = resultsByPlaceId.get(place.getId());
+            String type = result.path("type").asText();
+
+            if ("succeeded".equals(type)) {
+                JsonNode message = result.path("message");
+                try {
+                    PlaceCurationResult curationResult = placeCurationService.parseMessageResult(
+                            message, PlaceBatchCurationService.toBasicInfo(place));
+                    // 배치 처리 중 다른 작업이 먼저 큐레이션했을 수 있으므로 이전 점수를 함께 기록
+                    Integer previousDateScore = place.isCurated() ? place.getDateScore() : null;
+                    PlaceBatchCurationService.applyCurationResult(place, curationResult);
+                    curatedPlaces.add(place);
+                    previousDateScores.add(previousDateScore);
+                    tally.successCount++;
+                    tally.inputTokens += message.path("usage").path("input_tokens").asLong();
+                    tally.outputTokens += message.path("usage").path("output_tokens").asLong();
+                    progress.recordSuccess();
+                } catch (Exception e) {
+                    tally.failedCount++;
+                    progress.recordFailure();
+                    log.error("Failed to parse curation for place: {} (ID: {})", place.getPlaceName(), place.getId(), e);
+                }
+            } else if ("canceled".equals(type)) {
+                // 취소된 요청은 미큐레이션 상태로 남겨 다음 실행에서 다시 처리
+                log.debug("Curation request canceled for place ID: {}", place.getId());
+            } else {
+                tally.failedCount++;
+                progress.recordFailure();
+                log.error("Curation request {} for place: {} (ID: {}): {}",
+                        type, place.getPlaceName(), place.getId(), result.path("error"));
+            }
+        }
+
+        if (!curatedPlaces.isEmpty()) {
+            // 저장 시 갱신된 값(updatedAt 등)이 반영된 엔티티로 이벤트를 발행
+            List<Place> savedPlaces = placeRepository.saveAll(curatedPlaces);
+            eventPublisher.publishEvent(PlacesCuratedEvent.of(savedPlaces, previousDateScores));
+            log.info("Committed message batch results for {} places", curatedPlaces.size());
+        }
+    }
+
+    /**
+     * 결과 줄 묶음을 하나씩 받아 두는 구독자 (한 묶음을 받으면 다음 묶음 하나만 미리 요청)
+     */
+    private static class ResultChunks extends BaseSubscriber<List<String>> {
+        private final BlockingQueue<Signal<List<String>>> signals = new LinkedBlockingQueue<>();
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            request(1);
+        }
+
+        @Override
+        protected void hookOnNext(List<String> lines) {
+            signals.add(Signal.next(lines));
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            signals.add(Signal.complete());
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+            signals.add(Signal.error(throwable));
+        }
+
+        /**
+         * 다음 결과 줄 묶음
+         *
+         * @return 결과 줄 묶음 (끝났으면 null)
+         */
+        List<String> next(CurationTally tally) {
+            Signal<List<String>> signal = awaitIgnoringInterrupt(signals::take, tally);
+            if (signal.isOnError()) {
+                throw Exceptions.propagate(signal.getThrowable());
+            }
+            if (signal.isOnComplete()) {
+                return null;
+            }
+            request(1);
+            return signal.get();
+        }
+    }
+
+    @FunctionalInterface
+    private interface InterruptibleWait<T> {
+        T get() throws InterruptedException, ExecutionException;
+    }
+
+    /**
+     * 실행 중 누적 집계
+     */
+    private static class CurationTally {
+        private final List<String> unappliedBatchIds = new ArrayList<>();
+        private RuntimeException submitFailure;
+        private int successCount;
+        private int failedCount;
+        private long inputTokens;
+        private long outputTokens;
+        private boolean interrupted;
+    }
+}
@@ -0,0 +1,264 @@
+package com.bananadate.service;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 분위기 태그 역색인
+ * 태그/카테고리 단계/데이트 점수마다 장소 ID 집합을 압축 비트맵(RoaringBitmap)으로 보관하여,
+ * AND/OR/NOT 조합과 카테고리·점수 필터를 모두 비트맵 연산으로 처리합니다.
+ * 결과는 점수 비트맵을 높은 점수부터 교집합하며 꺼내므로 정렬 없이 점수 내림차순(같은 점수는 최신 ID 우선)으로 나옵니다.
+ *
+ * 장소 ID는 비트맵 원소(int) 범위 안이어야 합니다.
+ * 읽기는 동시에 여러 스레드가 수행할 수 있고, 추가/교체는 쓰기 락으로 직렬화합니다.
+ */
+public class MoodTagIndex {
+
+    private static final int MIN_SCORE = 1;
+    private static final int MAX_SCORE = 10;
+
+    /**
+     * 검색 결과
+     *
+     * @param totalCount 조건을 만족하는 전체 장소 수
+     * @param ids        점수 내림차순 장소 ID (최대 limit개)
+     */
+    public record Hits(long totalCount, List<Long> ids) {
+    }
+
+    private final Map<String, RoaringBitmap> placesByTag = new HashMap<>();
+    private final Map<String, RoaringBitmap> placesByCategory = new HashMap<>();
+    private final RoaringBitmap[] placesByScore = new RoaringBitmap[MAX_SCORE + 1];
+    private final Map<Integer, Posting> postings = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public MoodTagIndex() {
+        for (int score = 0; score < placesByScore.length; score++) {
+            placesByScore[score] = new RoaringBitmap();
+        }
+    }
+
+    /**
+     * 큐레이션된 장소를 색인 (이미 있으면 교체, 점수가 없으면 제거)
+     *
+     * @param placeId   장소 ID
+     * @param moodTags  분위기 태그 ("#" 유무 무관)
+     * @param category  카테고리 경로
+     * @param dateScore 데이트 점수
+     */
+    public void put(long placeId, Collection<String> moodTags, String category, Integer dateScore) {
+        int id = toBitmapId(placeId);
+        if (dateScore == null) {
+            remove(placeId);
+            return;
+        }
+
+        Set<String> tags = new LinkedHashSet<>();
+        if (moodTags != null) {
+            for (String moodTag : moodTags) {
+                String normalized = TagQuery.normalize(moodTag);
+                if (!normalized.isEmpty()) {
+                    tags.add(normalized);
+                }
+            }
+        }
+        Posting posting = new Posting(Set.copyOf(tags), Set.copyOf(PlaceCategories.segments(category)),
+                clampScore(dateScore));
+
+        lock.writeLock().lock();
+        try {
+            Posting previous = postings.put(id, posting);
+            if (previous != null) {
+                unindex(id, previous);
+            }
+            for (String tag : posting.tags()) {
+                placesByTag.computeIfAbsent(tag, k -> new RoaringBitmap()).add(id);
+            }
+            for (String segment : posting.categories()) {
+                placesByCategory.computeIfAbsent(segment, k -> new RoaringBitmap()).add(id);
+            }
+            placesByScore[posting.score()].add(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 장소를 색인에서 제거
+     */
+    public void remove(long placeId) {
+        int id = toBitmapId(placeId);
+        lock.writeLock().lock();
+        try {
+            Posting previous = postings.remove(id);
+            if (previous != null) {
+                unindex(id, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 태그 조건 검색
+     *
+     * @param query    태그 조건
+     * @param category 카테고리 단계 하나 (null이면 전체)
+     * @param minScore 최소 점수 (null이면 제한 없음)
+     * @param maxScore 최대 점수 (null이면 제한 없음)
+     * @param limit    최대 결과 수
+     */
+    public Hits search(TagQuery query, String category, Integer minScore, Integer maxScore, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matched = matchRequired(query.required());
+            if (matched.isEmpty()) {
+                return new Hits(0, List.of());
+            }
+
+            if (category != null && !category.isBlank()) {
+                RoaringBitmap categoryPlaces = placesByCategory.get(category.trim());
+                if (categoryPlaces == null) {
+                    return new Hits(0, List.of());
+                }
+                matched = RoaringBitmap.and(matched, categoryPlaces);
+            }
+
+            RoaringBitmap excludedPlaces = union(query.excluded());
+            if (!excludedPlaces.isEmpty()) {
+                matched = RoaringBitmap.andNot(matched, excludedPlaces);
+            }
+
+            return collectByScore(matched,
+                    minScore != null ? clampScore(minScore) : MIN_SCORE,
+                    maxScore != null ? clampScore(maxScore) : MAX_SCORE,
+                    limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 장소 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * AND로 묶인 OR 그룹들의 교집합 (작은 그룹부터 교집합하여 중간 결과를 빨리 줄임)
+     */
+    private RoaringBitmap matchRequired(List<Set<String>> groups) {
+        List<RoaringBitmap> unions = new ArrayList<>(groups.size());
+        for (Set<String> group : groups) {
+            RoaringBitmap union = union(group);
+            if (union.isEmpty()) {
+                return union;
+            }
+            unions.add(union);
+        }
+        unions.sort(Comparator.comparingLong(RoaringBitmap::getLongCardinality));
+
+        RoaringBitmap matched = unions.get(0);
+        for (int i = 1; i < unions.size() && !matched.isEmpty(); i++) {
+            matched = RoaringBitmap.and(matched, unions.get(i));
+        }
+        return matched;
+    }
+
+    /**
+     * 태그 합집합 (태그가 하나면 색인 비트맵을 그대로 반환하므로 호출자는 결과를 변경하면 안 됨)
+     */
+    private RoaringBitmap union(Set<String> tags) {
+        List<RoaringBitmap> bitmaps = new ArrayList<>(tags.size());
+        for (String tag : tags) {
+            RoaringBitmap bitmap = placesByTag.get(tag);
+            if (bitmap != null) {
+                bitmaps.add(bitmap);
+            }
+        }
+        if (bitmaps.isEmpty()) {
+            return new RoaringBitmap();
+        }
+        if (bitmaps.size() == 1) {
+            return bitmaps.get(0);
+        }
+        return FastAggregation.or(bitmaps.iterator());
+    }
+
+    /**
+     * 높은 점수부터 점수 비트맵과 교집합하며 limit개까지 ID를 꺼내고, 나머지 점수는 개수만 셈
+     */
+    private Hits collectByScore(RoaringBitmap matched, int minScore, int maxScore, int limit) {
+        long totalCount = 0;
+        List<Long> ids = new ArrayList<>(Math.min(limit, 64));
+        for (int score = maxScore; score >= minScore; score--) {
+            RoaringBitmap scorePlaces = placesByScore[score];
+            if (ids.size() >= limit) {
+                totalCount += RoaringBitmap.andCardinality(matched, scorePlaces);
+                continue;
+            }
+
+            RoaringBitmap hits = RoaringBitmap.and(matched, scorePlaces);
+            totalCount += hits.getLongCardinality();
+            IntIterator iterator = hits.getReverseIntIterator();
+            while (iterator.hasNext() && ids.size() < limit) {
+                ids.add((long) iterator.next());
+            }
+        }
+        return new Hits(totalCount, ids);
+    }
+
+    private void unindex(int id, Posting posting) {
+        for (String tag : posting.tags()) {
+            removeFrom(placesByTag, tag, id);
+        }
+        for (String segment : posting.categories()) {
+            removeFrom(placesByCategory, segment, id);
+        }
+        placesByScore[posting.score()].remove(id);
+    }
+
+    private static void removeFrom(Map<String, RoaringBitmap> bitmaps, String key, int id) {
+        RoaringBitmap bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private static int toBitmapId(long placeId) {
+        if (placeId < 0 || placeId > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("place id out of bitmap range: " + placeId);
+        }
+        return (int) placeId;
+    }
+
+    private static int clampScore(int score) {
+        return Math.max(MIN_SCORE, Math.min(score, MAX_SCORE));
+    }
+
+    /**
+     * 장소 하나가 색인된 키 (교체/제거 시 이전 비트를 지우는 데 사용)
+     */
+    private record Posting(Set<String> tags, Set<String> categories, int score) {
+    }
+}
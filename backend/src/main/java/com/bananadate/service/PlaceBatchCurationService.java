@@ -2,30 +2,63 @@ package com.bananadate.service;
 
 import com.bananadate.dto.BatchCurationResult;
 import com.bananadate.dto.PlaceBasicInfo;
+import com.bananadate.dto.PlaceBatchAnalysis;
 import com.bananadate.dto.PlaceCurationResult;
 import com.bananadate.entity.Place;
 import com.bananadate.repository.PlaceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * 장소 배치 큐레이션 서비스
  * 큐레이션되지 않은 장소들을 일괄 처리
+ *
+ * Claude API 호출은 트랜잭션 밖에서 수행하고, 결과는 청크 단위의 짧은 트랜잭션(saveAll)으로 커밋합니다.
+ * 따라서 DB 커넥션은 조회/저장하는 동안만 점유되고, 이미 완료된 큐레이션은 이후 실패와 무관하게 유지됩니다.
+ * 장소는 placesPerRequest개씩 묶어 한 번의 Claude API 요청으로 분석하고(지시문 토큰과 왕복 지연 절감),
+ * 묶음들은 가상 스레드로 동시에 수행하되 동시 호출 수는 AdaptiveConcurrencyLimiter가 조절합니다.
+ * 커밋 청크 크기와 동시 호출 수는 서로 무관하며, 청크가 작아도 제한기의 한도까지 동시에 호출합니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class PlaceBatchCurationService {
+public class PlaceBatchCurationService implements BulkCurationBackend {
+
+    public static final String NAME = "sync";
+
+    private static final int DEFAULT_CHUNK_SIZE = 20;
+    private static final int DEFAULT_PLACES_PER_REQUEST = 10;
 
     private final PlaceRepository placeRepository;
     private final PlaceCurationService placeCurationService;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${curation.batch.chunk-size:" + DEFAULT_CHUNK_SIZE + "}")
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    @Value("${curation.batch.places-per-request:" + DEFAULT_PLACES_PER_REQUEST + "}")
+    private int placesPerRequest = DEFAULT_PLACES_PER_REQUEST;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
 
     /**
      * 큐레이션되지 않은 모든 장소를 배치로 큐레이션
@@ -33,91 +66,256 @@ public class PlaceBatchCurationService {
      * @param limit 한 번에 처리할 최대 개수 (null이면 전체)
      * @return 배치 큐레이션 결과
      */
-    @Transactional
     public BatchCurationResult curateUncuratedPlaces(Integer limit) {
-        log.info("Starting batch curation...");
-        Instant startTime = Instant.now();
-
-        int successCount = 0;
-        int failedCount = 0;
+        return curateUncuratedPlaces(limit, JobProgress.NONE);
+    }
 
-        // 큐레이션되지 않은 장소 목록 조회
-        List<Place> uncuratedPlaces = placeRepository.findUncuratedPlaces();
+    /**
+     * 큐레이션되지 않은 장소를 배치로 큐레이션하며 장소 단위로 진행 상황을 보고
+     * 장소는 ID 순으로 placesPerRequest개씩 읽어 묶음 하나로 제출하고, 결과는 도착하는 대로 모아 chunkSize개씩 커밋합니다.
+     * 제출은 동시성 제한기의 최대 한도만큼 앞서 나가므로(슬라이딩 윈도), 묶음 하나가 끝나면 바로 다음 묶음을 읽어 제출합니다.
+     * (실제 동시 호출 수는 제한기가 현재 한도로 조절하고, 나머지 묶음은 슬롯을 기다림)
+     * 취소 요청이 들어오면 더 제출하지 않고 아직 시작하지 않은 묶음은 건너뛰되, 이미 받은 결과는 저장합니다.
+     *
+     * @param limit    한 번에 처리할 최대 개수 (null이면 전체)
+     * @param progress 진행 상황 보고 및 취소 확인
+     * @return 배치 큐레이션 결과
+     */
+    @Override
+    public BatchCurationResult curateUncuratedPlaces(Integer limit, JobProgress progress) {
+        int window = concurrencyLimiter.getMaxLimit();
+        log.info("Starting batch curation (chunk size: {}, places per request: {}, window: {})...",
+                chunkSize, placesPerRequest, window);
+        Instant startTime = Instant.now();
+        CurationTally tally = new CurationTally();
 
+        long remaining = placeRepository.countUncuratedPlaces();
         if (limit != null && limit > 0) {
-            uncuratedPlaces = uncuratedPlaces.subList(0, Math.min(limit, uncuratedPlaces.size()));
+            remaining = Math.min(limit, remaining);
         }
 
-        int totalProcessed = uncuratedPlaces.size();
-        log.info("Found {} uncurated places to process", totalProcessed);
-
-        for (Place place : uncuratedPlaces) {
-            try {
-                log.info("Curating place: {} (ID: {})", place.getPlaceName(), place.getId());
-
-                // Place를 PlaceBasicInfo로 변환
-                PlaceBasicInfo basicInfo = PlaceBasicInfo.builder()
-                        .placeName(place.getPlaceName())
-                        .category(place.getCategory())
-                        .address(place.getAddress())
-                        .latitude(place.getLatitude())
-                        .longitude(place.getLongitude())
-                        .kakaoPlaceId(place.getKakaoPlaceId())
-                        .build();
-
-                // Claude API로 큐레이션
-                PlaceCurationResult curationResult = placeCurationService.analyzePlaceForDate(basicInfo);
-
-                // 큐레이션 결과를 Place 엔티티에 반영
-                place.setDateScore(curationResult.getDateScore());
-                place.setMoodTags(curationResult.getMoodTags());
-                place.setPriceRange(curationResult.getPriceRange());
-                place.setBestTime(curationResult.getBestTime());
-                place.setRecommendation(curationResult.getRecommendation());
-                place.setCuratedAt(LocalDateTime.now());
-
-                placeRepository.save(place);
-                successCount++;
-
-                log.info("Successfully curated place: {} (Score: {})", place.getPlaceName(), place.getDateScore());
-
-            } catch (Exception e) {
-                failedCount++;
-                log.error("Failed to curate place: {} (ID: {})", place.getPlaceName(), place.getId(), e);
+        log.info("Found {} uncurated places to process", remaining);
+        progress.setTotal((int) remaining);
+
+        // 실패한 장소는 계속 미큐레이션 상태로 남으므로, 오프셋 대신 마지막 ID 기준으로 다음 묶음을 조회
+        long lastId = 0L;
+        int inFlight = 0;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletionService<CuratedBatch> completion = new ExecutorCompletionService<>(executor);
+            while (true) {
+                // 빈 자리만큼 다음 묶음을 읽어 제출
+                while (inFlight < window && remaining > 0 && !progress.isCancelled()) {
+                    int pageSize = (int) Math.min(placesPerRequest, remaining);
+                    List<Place> batch = placeRepository.findUncuratedPlacesAfter(lastId, PageRequest.of(0, pageSize));
+                    if (batch.isEmpty()) {
+                        remaining = 0;
+                        break;
+                    }
+                    lastId = batch.get(batch.size() - 1).getId();
+                    remaining -= batch.size();
+                    completion.submit(() -> new CuratedBatch(batch, curateWithLimit(batch, progress)));
+                    inFlight++;
+                }
+                if (inFlight == 0) {
+                    break;
+                }
+
+                try {
+                    collect(completion.take(), progress, tally);
+                    inFlight--;
+                } catch (InterruptedException e) {
+                    // 취소로 인터럽트되면 진행 중인 호출도 중단시키고, 그때까지 받은 결과는 저장한 뒤 인터럽트 상태를 복원
+                    tally.interrupted = true;
+                    executor.shutdownNow();
+                    executor.close();
+                    Future<CuratedBatch> done;
+                    while ((done = completion.poll()) != null) {
+                        collect(done, progress, tally);
+                    }
+                    break;
+                }
+
+                // 결과를 chunkSize개씩 하나의 짧은 트랜잭션으로 커밋
+                while (tally.uncommitted.size() >= chunkSize) {
+                    commit(tally, chunkSize);
+                }
             }
         }
 
+        if (!tally.uncommitted.isEmpty()) {
+            commit(tally, tally.uncommitted.size());
+        }
+        if (tally.interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        int successCount = tally.successCount;
+        int failedCount = tally.failedCount;
+        int totalProcessed = successCount + failedCount;
+
         Instant endTime = Instant.now();
-        long elapsedSeconds = Duration.between(startTime, endTime).getSeconds();
+        Duration elapsed = Duration.between(startTime, endTime);
+        long elapsedSeconds = elapsed.getSeconds();
 
         BatchCurationResult result = BatchCurationResult.builder()
                 .successCount(successCount)
                 .failedCount(failedCount)
                 .totalProcessed(totalProcessed)
                 .elapsedTimeSeconds(elapsedSeconds)
-                .message(String.format("Successfully curated %d places (%d failed, %d total) in %d seconds",
+                .apiCalls(tally.apiCalls)
+                .inputTokens(tally.inputTokens)
+                .outputTokens(tally.outputTokens)
+                .tokensPerPlace(totalProcessed > 0
+                        ? (double) (tally.inputTokens + tally.outputTokens) / totalProcessed : 0.0)
+                .millisPerPlace(totalProcessed > 0 ? (double) elapsed.toMillis() / totalProcessed : 0.0)
+                .message(String.format("%s %d places (%d failed, %d total) in %d seconds",
+                        progress.isCancelled() ? "Cancelled after curating" : "Successfully curated",
                         successCount, failedCount, totalProcessed, elapsedSeconds))
                 .build();
 
+        log.info("Batch curation used {} API calls, {} input / {} output tokens ({} tokens/place, {} ms/place)",
+                tally.apiCalls, tally.inputTokens, tally.outputTokens,
+                String.format("%.1f", result.getTokensPerPlace()), String.format("%.1f", result.getMillisPerPlace()));
         log.info("Batch curation completed: {}", result.getMessage());
         return result;
     }
 
+    /**
+     * 끝난 묶음의 결과를 집계하고, 성공한 장소를 커밋 대기 목록에 추가
+     */
+    private void collect(Future<CuratedBatch> future, JobProgress progress, CurationTally tally) {
+        if (future.state() != Future.State.SUCCESS || future.resultNow().analysis() == null) {
+            return;
+        }
+
+        CuratedBatch curated = future.resultNow();
+        PlaceBatchAnalysis analysis = curated.analysis();
+        tally.apiCalls += analysis.getApiCalls();
+        tally.inputTokens += analysis.getInputTokens();
+        tally.outputTokens += analysis.getOutputTokens();
+
+        for (Place place : curated.places()) {
+            if (analysis.getResults().containsKey(place.getKakaoPlaceId())) {
+                tally.uncommitted.add(place);
+                tally.successCount++;
+            } else if (!progress.isCancelled()) {
+                tally.failedCount++;
+            }
+        }
+    }
+
+    /**
+     * 커밋 대기 목록의 앞에서 count개를 하나의 짧은 트랜잭션으로 저장
+     */
+    private void commit(CurationTally tally, int count) {
+        List<Place> chunk = tally.uncommitted.subList(0, count);
+        // 저장 시 갱신된 값(updatedAt 등)이 반영된 엔티티로 이벤트를 발행
+        List<Place> savedPlaces = placeRepository.saveAll(new ArrayList<>(chunk));
+        eventPublisher.publishEvent(PlacesCuratedEvent.firstCuration(savedPlaces));
+        log.info("Committed curation chunk of {} places", count);
+        chunk.clear();
+    }
+
+    /**
+     * 동시성 제한기에서 슬롯을 얻은 뒤 장소 묶음을 한 번의 요청으로 큐레이션
+     * 429/503으로 실패하면 한도를 줄이고, 성공하면 한도를 조금씩 늘립니다.
+     *
+     * @return 묶음 분석 결과 (성공한 장소에는 결과가 반영됨), 취소되어 시작하지 않은 경우 null
+     */
+    private PlaceBatchAnalysis curateWithLimit(List<Place> places, JobProgress progress) throws InterruptedException {
+        long startNanos = concurrencyLimiter.acquire();
+        AdaptiveConcurrencyLimiter.Outcome outcome = AdaptiveConcurrencyLimiter.Outcome.IGNORED;
+        try {
+            if (progress.isCancelled()) {
+                return null;
+            }
+
+            log.info("Curating {} places (IDs {}-{})",
+                    places.size(), places.get(0).getId(), places.get(places.size() - 1).getId());
+
+            // Claude API로 큐레이션 (트랜잭션 밖에서 호출)
+            PlaceBatchAnalysis analysis = placeCurationService.analyzePlacesForDate(
+                    places.stream().map(PlaceBatchCurationService::toBasicInfo).toList());
+
+            for (Place place : places) {
+                PlaceCurationResult curationResult = analysis.getResults().get(place.getKakaoPlaceId());
+                if (curationResult != null) {
+                    // 큐레이션 결과를 Place 엔티티에 반영
+                    applyCurationResult(place, curationResult);
+                    progress.recordSuccess();
+                    log.info("Successfully curated place: {} (Score: {})", place.getPlaceName(), place.getDateScore());
+                } else if (!progress.isCancelled()) {
+                    progress.recordFailure();
+                    log.error("Failed to curate place: {} (ID: {})", place.getPlaceName(), place.getId(),
+                            analysis.getFailures().get(place.getKakaoPlaceId()));
+                }
+            }
+
+            if (analysis.getFailures().values().stream().anyMatch(PlaceCurationService::isOverloadResponse)) {
+                outcome = AdaptiveConcurrencyLimiter.Outcome.OVERLOAD;
+            } else if (!analysis.getResults().isEmpty()) {
+                outcome = AdaptiveConcurrencyLimiter.Outcome.SUCCESS;
+            }
+            return analysis;
+
+        } catch (Exception e) {
+            if (progress.isCancelled()) {
+                // 취소로 중단된 호출은 실패로 집계하지 않음
+                return null;
+            }
+            if (PlaceCurationService.isOverloadResponse(e)) {
+                outcome = AdaptiveConcurrencyLimiter.Outcome.OVERLOAD;
+            }
+            log.error("Failed to curate {} places (IDs {}-{})",
+                    places.size(), places.get(0).getId(), places.get(places.size() - 1).getId(), e);
+
+            PlaceBatchAnalysis failed = new PlaceBatchAnalysis();
+            for (Place place : places) {
+                failed.getFailures().put(place.getKakaoPlaceId(), e);
+                progress.recordFailure();
+            }
+            return failed;
+
+        } finally {
+            concurrencyLimiter.release(startNanos, outcome);
+        }
+    }
+
     /**
      * 특정 장소를 큐레이션
+     * Claude API 호출 동안에는 트랜잭션을 열지 않고, 결과 저장만 짧은 트랜잭션으로 처리합니다.
      *
      * @param placeId 장소 ID
      * @return 큐레이션 결과
      */
-    @Transactional
     public PlaceCurationResult curateSinglePlace(Long placeId) {
         log.info("Curating single place with ID: {}", placeId);
 
         Place place = placeRepository.findById(placeId)
                 .orElseThrow(() -> new IllegalArgumentException("Place not found with ID: " + placeId));
 
-        // Place를 PlaceBasicInfo로 변환
-        PlaceBasicInfo basicInfo = PlaceBasicInfo.builder()
+        // Claude API로 큐레이션
+        PlaceCurationResult curationResult = placeCurationService.analyzePlaceForDate(toBasicInfo(place));
+
+        // 큐레이션 결과를 Place 엔티티에 반영
+        Integer previousDateScore = place.isCurated() ? place.getDateScore() : null;
+        applyCurationResult(place, curationResult);
+
+        Place savedPlace = placeRepository.save(place);
+        eventPublisher.publishEvent(new PlacesCuratedEvent(List.of(
+                new PlacesCuratedEvent.Change(savedPlace, previousDateScore))));
+
+        log.info("Successfully curated place: {} (Score: {})", place.getPlaceName(), place.getDateScore());
+
+        return curationResult;
+    }
+
+    /**
+     * Place를 PlaceBasicInfo로 변환
+     */
+    static PlaceBasicInfo toBasicInfo(Place place) {
+        return PlaceBasicInfo.builder()
                 .placeName(place.getPlaceName())
                 .category(place.getCategory())
                 .address(place.getAddress())
@@ -125,22 +323,36 @@ public class PlaceBatchCurationService {
                 .longitude(place.getLongitude())
                 .kakaoPlaceId(place.getKakaoPlaceId())
                 .build();
+    }
 
-        // Claude API로 큐레이션
-        PlaceCurationResult curationResult = placeCurationService.analyzePlaceForDate(basicInfo);
-
-        // 큐레이션 결과를 Place 엔티티에 반영
+    /**
+     * 큐레이션 결과를 Place 엔티티에 반영
+     */
+    static void applyCurationResult(Place place, PlaceCurationResult curationResult) {
         place.setDateScore(curationResult.getDateScore());
         place.setMoodTags(curationResult.getMoodTags());
         place.setPriceRange(curationResult.getPriceRange());
         place.setBestTime(curationResult.getBestTime());
         place.setRecommendation(curationResult.getRecommendation());
         place.setCuratedAt(LocalDateTime.now());
+    }
 
-        placeRepository.save(place);
-
-        log.info("Successfully curated place: {} (Score: {})", place.getPlaceName(), place.getDateScore());
+    /**
+     * 제출한 장소 묶음과 분석 결과 (취소되어 시작하지 않은 경우 analysis는 null)
+     */
+    private record CuratedBatch(List<Place> places, PlaceBatchAnalysis analysis) {
+    }
 
-        return curationResult;
+    /**
+     * 실행 중 누적 집계와 아직 커밋하지 않은 장소
+     */
+    private static class CurationTally {
+        private final List<Place> uncommitted = new ArrayList<>();
+        private int successCount;
+        private int failedCount;
+        private int apiCalls;
+        private long inputTokens;
+        private long outputTokens;
+        private boolean interrupted;
     }
 }
@@ -0,0 +1,35 @@
+package com.bananadate.service;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 카카오 카테고리 경로 처리
+ * 카테고리는 "음식점 > 카페 > 커피전문점"처럼 단계가 ">"로 구분되며, 인덱스는 각 단계를 따로 조회할 수 있도록 나눠 담습니다.
+ */
+final class PlaceCategories {
+
+    private static final String SEPARATOR = ">";
+
+    private PlaceCategories() {
+    }
+
+    /**
+     * 카테고리 경로의 각 단계 (앞뒤 공백 제거, 중복 제거, 순서 유지)
+     *
+     * @param category 카테고리 경로 (null 가능)
+     * @return 단계 목록, 카테고리가 없으면 빈 집합
+     */
+    static Set<String> segments(String category) {
+        Set<String> segments = new LinkedHashSet<>();
+        if (category == null) {
+            return segments;
+        }
+        for (String segment : category.split(SEPARATOR)) {
+            if (!segment.isBlank()) {
+                segments.add(segment.trim());
+            }
+        }
+        return segments;
+    }
+}
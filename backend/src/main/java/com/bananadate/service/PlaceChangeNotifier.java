@@ -0,0 +1,220 @@
+package com.bananadate.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 인스턴스 간 장소 변경 알림 (PostgreSQL LISTEN/NOTIFY)
+ * 장소가 변경된 인스턴스는 place_changed 채널로 "발신 노드 ID|장소 ID 목록"(전체이면 "*")을 NOTIFY하고,
+ * 모든 인스턴스는 전용 연결 하나로 LISTEN하다가 다른 노드의 알림을 RemotePlacesChangedEvent로 발행합니다.
+ * LISTEN 연결은 계속 열려 있어야 하므로 커넥션 풀을 거치지 않고 DriverManager로 따로 열어, 요청 처리에 쓸 풀 용량을 줄이지 않습니다.
+ *
+ * PostgreSQL이 아니거나(로컬 H2) 비활성화된 경우 아무 일도 하지 않습니다.
+ * 연결이 끊기면 재연결하며, 끊긴 동안의 알림은 알 수 없으므로 재연결 후 전체 무효화 이벤트를 발행합니다.
+ * 알림은 캐시 무효화용이므로 NOTIFY가 실패해도 예외를 던지지 않습니다.
+ */
+@Slf4j
+@Component
+public class PlaceChangeNotifier {
+
+    static final String CHANNEL = "place_changed";
+
+    private static final String ALL = "*";
+    private static final String NODE_SEPARATOR = "|";
+    private static final int MAX_IDS_PER_NOTIFICATION = 500;
+    private static final int POLL_TIMEOUT_MILLIS = 5_000;
+    private static final long RECONNECT_DELAY_MILLIS = 5_000;
+
+    private final DataSource dataSource;
+    private final DataSourceProperties dataSourceProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile boolean active;
+    private volatile Thread listenerThread;
+
+    public PlaceChangeNotifier(
+            DataSource dataSource,
+            DataSourceProperties dataSourceProperties,
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${place.change-notify.enabled:true}") boolean enabled) {
+        this.dataSource = dataSource;
+        this.dataSourceProperties = dataSourceProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+    }
+
+    /**
+     * PostgreSQL이면 LISTEN 스레드 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || !isPostgres()) {
+            log.info("Place change notifications disabled (enabled: {})", enabled);
+            return;
+        }
+        active = true;
+        listenerThread = Thread.ofPlatform()
+                .name("place-change-listener")
+                .daemon(true)
+                .start(this::listen);
+        log.info("Listening for place changes on channel {} as node {}", CHANNEL, nodeId);
+    }
+
+    /**
+     * LISTEN 스레드 종료 (최대 한 번의 대기 시간 안에 끝남)
+     */
+    @PreDestroy
+    public void stop() {
+        active = false;
+        Thread thread = listenerThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * 다른 인스턴스에 장소 변경 알림 (NOTIFY 페이로드 한도를 넘지 않도록 나눠 보냄)
+     */
+    public void publish(Collection<Long> placeIds) {
+        if (!active || placeIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(placeIds);
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_NOTIFICATION) {
+            List<Long> chunk = ids.subList(from, Math.min(from + MAX_IDS_PER_NOTIFICATION, ids.size()));
+            notify(chunk.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        }
+    }
+
+    /**
+     * 다른 인스턴스에 전체 장소 변경 알림
+     */
+    public void publishAll() {
+        if (active) {
+            notify(ALL);
+        }
+    }
+
+    private void notify(String body) {
+        try {
+            jdbcTemplate.execute("SELECT pg_notify(?, ?)", (PreparedStatementCallback<Boolean>) ps -> {
+                ps.setString(1, CHANNEL);
+                ps.setString(2, nodeId + NODE_SEPARATOR + body);
+                return ps.execute();
+            });
+        } catch (Exception e) {
+            log.warn("Failed to notify place change: {}", body, e);
+        }
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (active) {
+            try (Connection connection = openListenConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (reconnecting) {
+                    log.info("Reconnected place change listener");
+                    eventPublisher.publishEvent(RemotePlacesChangedEvent.allPlaces());
+                }
+
+                while (active) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            handle(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!active) {
+                    break;
+                }
+                log.warn("Place change listener disconnected, retrying in {} ms", RECONNECT_DELAY_MILLIS, e);
+                reconnecting = true;
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * 풀 밖의 LISTEN 전용 연결 (풀과 같은 URL과 계정 사용)
+     */
+    Connection openListenConnection() throws SQLException {
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+    }
+
+    /**
+     * 알림 페이로드 해석 (자기 노드가 보낸 알림은 이미 반영했으므로 무시)
+     */
+    void handle(String payload) {
+        int separator = payload.indexOf(NODE_SEPARATOR);
+        if (separator < 0 || payload.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+
+        String body = payload.substring(separator + 1);
+        if (ALL.equals(body)) {
+            eventPublisher.publishEvent(RemotePlacesChangedEvent.allPlaces());
+            return;
+        }
+        List<Long> placeIds = new ArrayList<>();
+        for (String id : body.split(",")) {
+            try {
+                placeIds.add(Long.parseLong(id.trim()));
+            } catch (NumberFormatException e) {
+                log.debug("Ignored malformed place id in notification: {}", id);
+            }
+        }
+        if (!placeIds.isEmpty()) {
+            eventPublisher.publishEvent(new RemotePlacesChangedEvent(placeIds, false));
+        }
+    }
+
+    private boolean isPostgres() {
+        try (Connection connection = dataSource.getConnection()) {
+            return "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            log.warn("Failed to detect database for place change notifications", e);
+            return false;
+        }
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+}
@@ -2,17 +2,29 @@ package com.bananadate.service;
 
 import com.bananadate.dto.KakaoLocalSearchResponse;
 import com.bananadate.dto.PlaceCollectionResult;
+import com.bananadate.dto.QueryCollectionStat;
 import com.bananadate.entity.Place;
+import com.bananadate.repository.PlaceBulkWriter;
 import com.bananadate.repository.PlaceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 장소 수집 서비스
@@ -25,6 +37,10 @@ public class PlaceCollectionService {
 
     private final KakaoLocalApiService kakaoLocalApiService;
     private final PlaceRepository placeRepository;
+    private final PlaceBulkWriter placeBulkWriter;
+    private final KnownPlaceIdRegistry knownPlaceIdRegistry;
+    private final DistrictLocator districtLocator;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 수집할 지역 (5개)
     private static final List<String> TARGET_LOCATIONS = Arrays.asList(
@@ -45,78 +61,268 @@ public class PlaceCollectionService {
 
     /**
      * 서울 주요 상권의 장소를 수집
-     * 5개 지역 × 4개 카테고리 = 20개 쿼리 실행
+     * 5개 지역 × 4개 카테고리 = 20개 쿼리를 순차적으로 실행
+     * 저장은 쿼리 단위로 커밋되므로 중간에 실패해도 앞선 쿼리의 결과는 유지됩니다.
      *
      * @return 수집 결과
      */
-    @Transactional
     public PlaceCollectionResult collectPlaces() {
+        return collectPlaces(JobProgress.NONE);
+    }
+
+    /**
+     * 서울 주요 상권의 장소를 순차적으로 수집하며 쿼리 단위로 진행 상황을 보고
+     * 취소 요청이 들어오면 다음 쿼리를 시작하기 전에 중단합니다.
+     *
+     * @param progress 진행 상황 보고 및 취소 확인
+     * @return 수집 결과
+     */
+    public PlaceCollectionResult collectPlaces(JobProgress progress) {
         log.info("Starting place collection...");
         Instant startTime = Instant.now();
 
-        int collectedCount = 0;
-        int skippedCount = 0;
-        int totalAttempted = 0;
+        CollectionTally tally = new CollectionTally();
+        List<String> queries = buildQueries();
+        progress.setTotal(queries.size());
+
+        for (String query : queries) {
+            if (progress.isCancelled()) {
+                log.info("Place collection cancelled");
+                break;
+            }
+
+            log.info("Collecting places for query: {}", query);
+            QueryFetch fetch = fetchQuery(query);
+            saveDocuments(fetch, tally);
+            progress.record(fetch.success());
+        }
+
+        return buildResult(tally, startTime, progress.isCancelled());
+    }
+
+    /**
+     * 서울 주요 상권의 장소를 동시에 수집
+     * 각 쿼리를 가상 스레드에서 실행하고, 호출 속도는 카카오 API 전역 Rate Limiter가 제어합니다.
+     * DB 저장은 호출 스레드에서 쿼리 순서대로 수행합니다.
+     *
+     * @return 수집 결과
+     */
+    public PlaceCollectionResult collectPlacesConcurrently() {
+        return collectPlacesConcurrently(JobProgress.NONE);
+    }
+
+    /**
+     * 서울 주요 상권의 장소를 동시에 수집하며 쿼리 단위로 진행 상황을 보고
+     * 취소 요청이 들어오면 아직 끝나지 않은 쿼리를 중단합니다.
+     *
+     * @param progress 진행 상황 보고 및 취소 확인
+     * @return 수집 결과
+     */
+    public PlaceCollectionResult collectPlacesConcurrently(JobProgress progress) {
+        log.info("Starting concurrent place collection...");
+        Instant startTime = Instant.now();
+
+        CollectionTally tally = new CollectionTally();
+        List<String> queries = buildQueries();
+        progress.setTotal(queries.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<QueryFetch>> futures = new ArrayList<>();
+            for (String query : queries) {
+                futures.add(executor.submit(() -> fetchQuery(query)));
+            }
+
+            for (Future<QueryFetch> future : futures) {
+                if (progress.isCancelled()) {
+                    log.info("Concurrent place collection cancelled");
+                    executor.shutdownNow();
+                    break;
+                }
+
+                QueryFetch fetch = future.get();
+                saveDocuments(fetch, tally);
+                progress.record(fetch.success());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Concurrent place collection interrupted", e);
+        } catch (ExecutionException e) {
+            // fetchQuery는 예외를 삼키므로 여기까지 오는 경우는 없어야 함
+            log.error("Unexpected failure during concurrent place collection", e);
+        }
 
+        return buildResult(tally, startTime, progress.isCancelled());
+    }
+
+    /**
+     * 수집할 검색 쿼리 목록 생성 (지역 × 카테고리)
+     */
+    private List<String> buildQueries() {
+        List<String> queries = new ArrayList<>();
         for (String location : TARGET_LOCATIONS) {
             for (String category : TARGET_CATEGORIES) {
-                String query = location + " " + category;
-                log.info("Collecting places for query: {}", query);
-
-                try {
-                    // 카카오 API로 장소 검색
-                    List<KakaoLocalSearchResponse.Document> documents = kakaoLocalApiService.searchPlacesWithLimit(query);
-                    totalAttempted += documents.size();
-
-                    // 각 장소를 DB에 저장
-                    for (KakaoLocalSearchResponse.Document doc : documents) {
-                        // 중복 확인
-                        if (placeRepository.existsByKakaoPlaceId(doc.getId())) {
-                            log.debug("Place already exists: {} (ID: {})", doc.getPlaceName(), doc.getId());
-                            skippedCount++;
-                            continue;
-                        }
-
-                        // Place 엔티티로 변환 및 저장
-                        Place place = convertToPlace(doc);
-                        placeRepository.save(place);
-                        collectedCount++;
-
-                        log.debug("Saved place: {} (ID: {})", place.getPlaceName(), place.getKakaoPlaceId());
-                    }
-
-                    // Rate limiting: 각 쿼리 사이에 0.5초 대기
-                    Thread.sleep(500);
-
-                } catch (Exception e) {
-                    log.error("Failed to collect places for query: {}", query, e);
-                }
+                queries.add(location + " " + category);
+            }
+        }
+        return queries;
+    }
+
+    /**
+     * 쿼리 1건에 대해 카카오 API 검색을 수행하고 소요 시간을 측정
+     * 실패한 쿼리는 빈 결과로 기록하여 다른 쿼리의 수집을 계속 진행
+     */
+    private QueryFetch fetchQuery(String query) {
+        long startNanos = System.nanoTime();
+        try {
+            List<KakaoLocalSearchResponse.Document> documents = kakaoLocalApiService.searchPlacesWithLimit(query);
+            return new QueryFetch(query, documents, elapsedMillis(startNanos), true);
+        } catch (Exception e) {
+            log.error("Failed to collect places for query: {}", query, e);
+            return new QueryFetch(query, List.of(), elapsedMillis(startNanos), false);
+        }
+    }
+
+    /**
+     * 쿼리 1건의 검색 결과를 DB에 저장하고 집계에 반영
+     */
+    private void saveDocuments(QueryFetch fetch, CollectionTally tally) {
+        tally.totalAttempted += fetch.documents().size();
+        tally.queryStats.add(QueryCollectionStat.builder()
+                .query(fetch.query())
+                .documentCount(fetch.documents().size())
+                .latencyMillis(fetch.latencyMillis())
+                .success(fetch.success())
+                .build());
+
+        try {
+            int insertedCount = storeNewDocuments(fetch.documents());
+            tally.collectedCount += insertedCount;
+            tally.skippedCount += fetch.documents().size() - insertedCount;
+            log.debug("Saved {} places for query: {}", insertedCount, fetch.query());
+        } catch (Exception e) {
+            log.error("Failed to save places for query: {}", fetch.query(), e);
+        }
+    }
+
+    /**
+     * 카카오 문서 중 아직 저장되지 않은 장소만 Place로 변환하여 한 번에 저장하고 PlacesCollectedEvent 발행
+     * 다른 수집 작업이 먼저 저장한 ID는 INSERT 단계에서 건너뜁니다.
+     *
+     * @param documents 카카오 API 문서 (좌표는 숫자 문자열이어야 함)
+     * @return 실제로 저장된 장소 수
+     */
+    public int storeNewDocuments(List<KakaoLocalSearchResponse.Document> documents) {
+        List<KakaoLocalSearchResponse.Document> newDocuments = filterNewDocuments(documents);
+        if (newDocuments.isEmpty()) {
+            return 0;
+        }
+
+        List<Place> places = newDocuments.stream()
+                .map(this::convertToPlace)
+                .toList();
+        List<Place> inserted = placeBulkWriter.insertIgnoringDuplicates(places);
+
+        knownPlaceIdRegistry.addAll(places.stream().map(Place::getKakaoPlaceId).toList());
+        if (!inserted.isEmpty()) {
+            eventPublisher.publishEvent(new PlacesCollectedEvent(inserted));
+        }
+        return inserted.size();
+    }
+
+    /**
+     * 아직 저장되지 않은 문서만 골라냄
+     * 1) 같은 배치 안의 중복 ID 제거
+     * 2) 메모리 ID 집합에 있는 ID는 DB 조회 없이 중복 처리
+     * 3) 나머지 ID만 IN 쿼리 1회로 DB에서 확인
+     */
+    private List<KakaoLocalSearchResponse.Document> filterNewDocuments(List<KakaoLocalSearchResponse.Document> documents) {
+        Map<String, KakaoLocalSearchResponse.Document> candidates = new LinkedHashMap<>();
+        for (KakaoLocalSearchResponse.Document doc : documents) {
+            if (!knownPlaceIdRegistry.contains(doc.getId())) {
+                candidates.putIfAbsent(doc.getId(), doc);
             }
         }
 
-        Instant endTime = Instant.now();
-        long elapsedSeconds = Duration.between(startTime, endTime).getSeconds();
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> existingIds = placeRepository.findExistingKakaoPlaceIds(candidates.keySet());
+        if (!existingIds.isEmpty()) {
+            log.debug("{} places already exist in database", existingIds.size());
+            knownPlaceIdRegistry.addAll(existingIds);
+            existingIds.forEach(candidates::remove);
+        }
+
+        return new ArrayList<>(candidates.values());
+    }
+
+    /**
+     * 애플리케이션 시작 시 저장된 카카오 장소 ID를 메모리 집합에 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpKnownPlaceIds() {
+        Instant startTime = Instant.now();
+        List<String> kakaoPlaceIds = placeRepository.findAllKakaoPlaceIds();
+        knownPlaceIdRegistry.warmUp(kakaoPlaceIds);
+        log.info("Loaded {} known place IDs in {} ms",
+                kakaoPlaceIds.size(), Duration.between(startTime, Instant.now()).toMillis());
+    }
+
+    private PlaceCollectionResult buildResult(CollectionTally tally, Instant startTime, boolean cancelled) {
+        Duration elapsed = Duration.between(startTime, Instant.now());
+        long elapsedSeconds = elapsed.getSeconds();
+        long elapsedMillis = Math.max(elapsed.toMillis(), 1);
+        double throughputPerSecond = tally.totalAttempted * 1000.0 / elapsedMillis;
 
         PlaceCollectionResult result = PlaceCollectionResult.builder()
-                .collectedCount(collectedCount)
-                .skippedCount(skippedCount)
-                .totalAttempted(totalAttempted)
+                .collectedCount(tally.collectedCount)
+                .skippedCount(tally.skippedCount)
+                .totalAttempted(tally.totalAttempted)
                 .elapsedTimeSeconds(elapsedSeconds)
-                .message(String.format("Successfully collected %d places (%d skipped, %d total attempted) in %d seconds",
-                        collectedCount, skippedCount, totalAttempted, elapsedSeconds))
+                .throughputPerSecond(throughputPerSecond)
+                .queryStats(tally.queryStats)
+                .message(String.format("%s %d places (%d skipped, %d total attempted) in %d seconds (%.1f places/sec)",
+                        cancelled ? "Cancelled after collecting" : "Successfully collected",
+                        tally.collectedCount, tally.skippedCount, tally.totalAttempted, elapsedSeconds, throughputPerSecond))
                 .build();
 
         log.info("Place collection completed: {}", result.getMessage());
         return result;
     }
 
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 쿼리 1건의 검색 결과와 소요 시간
+     */
+    private record QueryFetch(String query,
+                              List<KakaoLocalSearchResponse.Document> documents,
+                              long latencyMillis,
+                              boolean success) {
+    }
+
+    /**
+     * 수집 진행 중 누적되는 집계값
+     */
+    private static class CollectionTally {
+        private int collectedCount;
+        private int skippedCount;
+        private int totalAttempted;
+        private final List<QueryCollectionStat> queryStats = new ArrayList<>();
+    }
+
     /**
      * Kakao API 문서를 Place 엔티티로 변환
      *
      * @param doc 카카오 API 문서
      * @return Place 엔티티
      */
-    private Place convertToPlace(KakaoLocalSearchResponse.Document doc) {
+    Place convertToPlace(KakaoLocalSearchResponse.Document doc) {
+        double latitude = Double.parseDouble(doc.getY());
+        double longitude = Double.parseDouble(doc.getX());
         return Place.builder()
                 .kakaoPlaceId(doc.getId())
                 .placeName(doc.getPlaceName())
@@ -124,8 +330,9 @@ public class PlaceCollectionService {
                 .address(doc.getRoadAddressName() != null && !doc.getRoadAddressName().isEmpty()
                         ? doc.getRoadAddressName()
                         : doc.getAddressName())
-                .latitude(Double.parseDouble(doc.getY()))
-                .longitude(Double.parseDouble(doc.getX()))
+                .latitude(latitude)
+                .longitude(longitude)
+                .districtId(districtLocator.findDistrictId(latitude, longitude))
                 .phone(doc.getPhone())
                 .placeUrl(doc.getPlaceUrl())
                 // Curation 정보는 나중에 채움 (null로 유지)
@@ -1,24 +1,35 @@
 package com.bananadate.service;
 
+import com.bananadate.dto.CurationCacheStats;
 import com.bananadate.dto.PlaceBasicInfo;
+import com.bananadate.dto.PlaceBatchAnalysis;
 import com.bananadate.dto.PlaceCurationResult;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.netty.http.client.HttpClientRequest;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Claude API를 활용하여 장소 정보를 분석하고 데이트 적합도를 평가하는 서비스
+ * API 호출 시간(claude.api.call), 과부하 재시도 수(claude.api.retries), 응답 JSON 파싱 실패 수(curation.parse.failures)를 지표로 기록합니다.
  */
 @Slf4j
 @Service
@@ -27,25 +38,74 @@ public class PlaceCurationService {
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
     private final String apiKey;
+    private final CurationCache curationCache;
+    private final Timer callSuccessTimer;
+    private final Timer callOverloadTimer;
+    private final Timer callErrorTimer;
+    private final Counter retryCounter;
+    private final Counter singleParseFailureCounter;
+    private final Counter batchParseFailureCounter;
+    private final Counter responseParseFailureCounter;
+
+    // 스트리밍하지 않는 응답은 생성이 끝나야 첫 바이트가 오므로, 요청의 max_tokens로 응답 타임아웃을 정함
+    // (출력 토큰을 최저 속도로 모두 생성해도 끝나도록 기본 시간에 더함)
+    @Value("${claude.api.generation.base-timeout:PT30S}")
+    private Duration baseResponseTimeout = DEFAULT_BASE_RESPONSE_TIMEOUT;
+
+    @Value("${claude.api.generation.min-output-tokens-per-second:" + DEFAULT_MIN_OUTPUT_TOKENS_PER_SECOND + "}")
+    private int minOutputTokensPerSecond = DEFAULT_MIN_OUTPUT_TOKENS_PER_SECOND;
 
     private static final String CLAUDE_API_URL = "https://api.anthropic.com/v1/messages";
     private static final String CLAUDE_MODEL = "claude-opus-4-20250514";
     private static final int MAX_TOKENS = 1024;
+    // 여러 장소를 묶어 요청할 때 장소당 허용하는 출력 토큰 수
+    private static final int MAX_TOKENS_PER_BATCHED_PLACE = 300;
     private static final int MAX_RETRY_ATTEMPTS = 3;
+    static final Duration DEFAULT_BASE_RESPONSE_TIMEOUT = Duration.ofSeconds(30);
+    static final int DEFAULT_MIN_OUTPUT_TOKENS_PER_SECOND = 10;
+    // 프롬프트 템플릿이나 응답 형식을 바꾸면 함께 올려 이전 캐시 결과를 재사용하지 않도록 함
+    private static final String PROMPT_VERSION = "v1";
 
     public PlaceCurationService(
-            WebClient.Builder webClientBuilder,
+            @Qualifier("claudeWebClientBuilder") WebClient.Builder webClientBuilder,
             ObjectMapper objectMapper,
-            @Value("${claude.api.key:}") String apiKey) {
+            @Value("${claude.api.key:}") String apiKey,
+            CurationCache curationCache,
+            MeterRegistry meterRegistry) {
         this.webClient = webClientBuilder
                 .baseUrl(CLAUDE_API_URL)
                 .build();
         this.objectMapper = objectMapper;
         this.apiKey = apiKey;
+        this.curationCache = curationCache;
+        this.callSuccessTimer = callTimer(meterRegistry, "success");
+        this.callOverloadTimer = callTimer(meterRegistry, "overload");
+        this.callErrorTimer = callTimer(meterRegistry, "error");
+        this.retryCounter = Counter.builder("claude.api.retries")
+                .description("과부하 응답(429/503)으로 재시도한 Claude API 호출 수")
+                .register(meterRegistry);
+        this.singleParseFailureCounter = parseFailureCounter(meterRegistry, "single");
+        this.batchParseFailureCounter = parseFailureCounter(meterRegistry, "batch");
+        this.responseParseFailureCounter = parseFailureCounter(meterRegistry, "response");
+    }
+
+    private static Timer callTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("claude.api.call")
+                .description("Claude Messages API 호출 시간 (과부하 재시도와 백오프 포함)")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static Counter parseFailureCounter(MeterRegistry meterRegistry, String kind) {
+        return Counter.builder("curation.parse.failures")
+                .description("JSON으로 파싱할 수 없었던 Claude 응답 수")
+                .tag("kind", kind)
+                .register(meterRegistry);
     }
 
     /**
      * 장소 정보를 Claude API로 분석하여 큐레이션 결과를 반환
+     * 같은 프롬프트(버전, 모델 포함)로 분석한 결과가 캐시에 있으면 API를 호출하지 않습니다.
      *
      * @param placeInfo 카카오 API로 수집한 기본 장소 정보
      * @return 분석된 큐레이션 결과
@@ -54,11 +114,21 @@ public class PlaceCurationService {
         log.info("Analyzing place for date: {}", placeInfo.getPlaceName());
 
         try {
+            String prompt = buildPrompt(placeInfo);
+            String cacheKey = CurationCache.keyOf(PROMPT_VERSION, CLAUDE_MODEL, prompt);
+
+            Optional<String> cachedJson = curationCache.get(cacheKey);
+            if (cachedJson.isPresent()) {
+                log.info("Curation cache hit for place: {}", placeInfo.getPlaceName());
+                return parseAnalysisResult(cachedJson.get(), placeInfo);
+            }
+
             // Claude API 호출하여 JSON 응답 받기
-            String analysisJson = callClaudeApi(placeInfo);
+            String analysisJson = callClaudeApi(prompt, MAX_TOKENS).text();
 
-            // JSON 응답 파싱
+            // JSON 응답 파싱 (파싱에 성공한 응답만 캐시)
             PlaceCurationResult result = parseAnalysisResult(analysisJson, placeInfo);
+            curationCache.put(cacheKey, PROMPT_VERSION, CLAUDE_MODEL, analysisJson);
 
             log.info("Analysis completed for place: {}, score: {}",
                     placeInfo.getPlaceName(), result.getDateScore());
@@ -72,51 +142,314 @@ public class PlaceCurationService {
     }
 
     /**
-     * Claude API를 호출하여 장소 분석 수행
+     * 여러 장소를 하나의 Claude API 요청으로 분석
+     * 지시문은 한 번만 보내고, 모델은 카카오 장소 ID를 키로 한 JSON 배열로 응답합니다.
+     * 배열을 파싱할 수 없으면 묶음을 절반으로 나눠 재시도하고, 일부 장소가 빠지면 빠진 장소만 다시 요청합니다.
+     * 과부하(429/503)로 실패하거나 취소로 인터럽트된 묶음은 나눠도 도움이 되지 않으므로 재시도하지 않고 실패로 돌려줍니다.
+     *
+     * 캐시는 장소별 단건 프롬프트 키를 그대로 사용하므로, 단건/묶음 분석 결과를 서로 재사용합니다.
+     *
+     * @param places 분석할 장소 목록 (카카오 장소 ID 필수)
+     * @return 장소별 분석 결과, 실패 원인, 사용 토큰
      */
-    private String callClaudeApi(PlaceBasicInfo placeInfo) throws JsonProcessingException {
-        String prompt = buildPrompt(placeInfo);
+    public PlaceBatchAnalysis analyzePlacesForDate(List<PlaceBasicInfo> places) {
+        log.info("Analyzing {} places for date in one request", places.size());
+        PlaceBatchAnalysis analysis = new PlaceBatchAnalysis();
+
+        List<PlaceBasicInfo> pending = new ArrayList<>();
+        for (PlaceBasicInfo placeInfo : places) {
+            String cacheKey = cacheKeyOf(placeInfo);
+            Optional<String> cachedJson = curationCache.get(cacheKey);
+            if (cachedJson.isEmpty()) {
+                pending.add(placeInfo);
+                continue;
+            }
+            try {
+                analysis.getResults().put(placeInfo.getKakaoPlaceId(), parseAnalysisResult(cachedJson.get(), placeInfo));
+                analysis.setCacheHits(analysis.getCacheHits() + 1);
+            } catch (Exception e) {
+                pending.add(placeInfo);
+            }
+        }
 
-        Map<String, Object> requestBody = Map.of(
-                "model", CLAUDE_MODEL,
-                "max_tokens", MAX_TOKENS,
-                "messages", List.of(
-                        Map.of(
-                                "role", "user",
-                                "content", prompt
-                        )
-                )
-        );
+        if (!pending.isEmpty()) {
+            analyzeBatch(pending, analysis);
+        }
+
+        log.info("Batch analysis completed: {} succeeded, {} failed, {} API calls, {} input / {} output tokens",
+                analysis.getResults().size(), analysis.getFailures().size(), analysis.getApiCalls(),
+                analysis.getInputTokens(), analysis.getOutputTokens());
+        return analysis;
+    }
+
+    /**
+     * 묶음 하나를 분석하고, 실패하면 더 작은 묶음으로 나눠 재귀적으로 재시도
+     */
+    private void analyzeBatch(List<PlaceBasicInfo> batch, PlaceBatchAnalysis analysis) {
+        if (batch.size() == 1) {
+            analyzeSingle(batch.get(0), analysis);
+            return;
+        }
+
+        List<PlaceBasicInfo> missing;
+        try {
+            ClaudeReply reply = callClaudeApi(buildBatchPrompt(batch), MAX_TOKENS_PER_BATCHED_PLACE * batch.size());
+            recordUsage(reply, analysis);
+            missing = applyBatchResults(reply.text(), batch, analysis);
+
+        } catch (Exception e) {
+            if (isOverloadResponse(e) || Thread.currentThread().isInterrupted()) {
+                log.warn("Batch of {} places failed without retry: {}", batch.size(), e.getMessage());
+                batch.forEach(placeInfo -> analysis.getFailures().put(placeInfo.getKakaoPlaceId(), e));
+                return;
+            }
+            log.warn("Batch of {} places failed, splitting: {}", batch.size(), e.getMessage());
+            missing = batch;
+        }
+
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        if (missing.size() < batch.size()) {
+            // 일부만 빠진 경우 빠진 장소만 다시 요청
+            log.warn("Batch response missing {} of {} places, retrying them", missing.size(), batch.size());
+            analyzeBatch(missing, analysis);
+        } else {
+            int half = missing.size() / 2;
+            analyzeBatch(missing.subList(0, half), analysis);
+            analyzeBatch(missing.subList(half, missing.size()), analysis);
+        }
+    }
+
+    /**
+     * 단건 프롬프트로 장소 하나 분석 (분할 재시도의 마지막 단계)
+     */
+    private void analyzeSingle(PlaceBasicInfo placeInfo, PlaceBatchAnalysis analysis) {
+        try {
+            String prompt = buildPrompt(placeInfo);
+            ClaudeReply reply = callClaudeApi(prompt, MAX_TOKENS);
+            recordUsage(reply, analysis);
+
+            PlaceCurationResult result = parseAnalysisResult(reply.text(), placeInfo);
+            curationCache.put(CurationCache.keyOf(PROMPT_VERSION, CLAUDE_MODEL, prompt),
+                    PROMPT_VERSION, CLAUDE_MODEL, reply.text());
+            analysis.getResults().put(placeInfo.getKakaoPlaceId(), result);
+
+        } catch (Exception e) {
+            log.error("Failed to analyze place: {}", placeInfo.getPlaceName(), e);
+            analysis.getFailures().put(placeInfo.getKakaoPlaceId(), e);
+        }
+    }
+
+    /**
+     * 묶음 응답의 JSON 배열을 장소별 결과로 반영하고, 결과가 없는 장소 목록을 반환
+     */
+    private List<PlaceBasicInfo> applyBatchResults(String analysisJson, List<PlaceBasicInfo> batch,
+                                                   PlaceBatchAnalysis analysis) throws JsonProcessingException {
+        JsonNode rootNode = readJson(extractJsonFromMarkdown(analysisJson), batchParseFailureCounter);
+        if (!rootNode.isArray()) {
+            batchParseFailureCounter.increment();
+            throw new RuntimeException("Claude API 묶음 응답이 JSON 배열이 아닙니다");
+        }
+
+        Map<String, JsonNode> nodesByPlaceId = new HashMap<>();
+        rootNode.forEach(node -> nodesByPlaceId.put(node.path("place_id").asText(), node));
+
+        List<PlaceBasicInfo> missing = new ArrayList<>();
+        for (PlaceBasicInfo placeInfo : batch) {
+            JsonNode node = nodesByPlaceId.get(placeInfo.getKakaoPlaceId());
+            if (node == null || !node.path("date_score").isInt()) {
+                missing.add(placeInfo);
+                continue;
+            }
+
+            analysis.getResults().put(placeInfo.getKakaoPlaceId(), toCurationResult(node, placeInfo));
+            curationCache.put(cacheKeyOf(placeInfo), PROMPT_VERSION, CLAUDE_MODEL, node.toString());
+        }
+        return missing;
+    }
+
+    private void recordUsage(ClaudeReply reply, PlaceBatchAnalysis analysis) {
+        analysis.setApiCalls(analysis.getApiCalls() + 1);
+        analysis.setInputTokens(analysis.getInputTokens() + reply.inputTokens());
+        analysis.setOutputTokens(analysis.getOutputTokens() + reply.outputTokens());
+    }
+
+    private String cacheKeyOf(PlaceBasicInfo placeInfo) {
+        return CurationCache.keyOf(PROMPT_VERSION, CLAUDE_MODEL, buildPrompt(placeInfo));
+    }
+
+    /**
+     * Claude API를 호출하여 장소 분석 수행
+     */
+    private ClaudeReply callClaudeApi(String prompt, int maxTokens) throws JsonProcessingException {
+        Map<String, Object> requestBody = buildMessageParams(prompt, maxTokens);
+        Duration responseTimeout = responseTimeoutFor(maxTokens);
+        long startNanos = System.nanoTime();
+        String response;
 
         try {
-            String response = webClient.post()
+            response = webClient.post()
                     .header("x-api-key", apiKey)
                     .header("anthropic-version", "2023-06-01")
                     .header("Content-Type", "application/json")
+                    .httpRequest(httpRequest -> {
+                        // 연결 풀 기본값(claude.api.http.response-timeout) 대신 이 요청의 max_tokens에 맞춘 타임아웃 사용
+                        if (httpRequest.getNativeRequest() instanceof HttpClientRequest reactorRequest) {
+                            reactorRequest.responseTimeout(responseTimeout);
+                        }
+                    })
                     .bodyValue(requestBody)
                     .retrieve()
                     .bodyToMono(String.class)
                     .retryWhen(Retry.backoff(MAX_RETRY_ATTEMPTS, Duration.ofSeconds(1))
-                            .filter(throwable -> throwable instanceof WebClientResponseException.TooManyRequests
-                                    || throwable instanceof WebClientResponseException.ServiceUnavailable)
+                            .filter(PlaceCurationService::isOverloadResponse)
+                            .doBeforeRetry(retrySignal -> retryCounter.increment())
                             .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) ->
                                     new RuntimeException("Claude API 호출 재시도 횟수 초과", retrySignal.failure())))
                     .block();
-
-            return extractContentFromResponse(response);
+            callSuccessTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
 
         } catch (WebClientResponseException e) {
+            callErrorTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
             log.error("Claude API call failed with status: {}, body: {}",
                     e.getStatusCode(), e.getResponseBodyAsString());
             throw new RuntimeException("Claude API 호출 실패: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            (isOverloadResponse(e) ? callOverloadTimer : callErrorTimer)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+
+        return readReply(response);
+    }
+
+    /**
+     * max_tokens만큼 최저 출력 속도로 생성해도 끝나는 응답 타임아웃
+     */
+    Duration responseTimeoutFor(int maxTokens) {
+        return baseResponseTimeout.plusMillis(maxTokens * 1000L / minOutputTokensPerSecond);
+    }
+
+    /**
+     * Messages API 응답 본문에서 첫 번째 텍스트 컨텐츠와 사용 토큰 추출
+     */
+    ClaudeReply readReply(String response) throws JsonProcessingException {
+        JsonNode rootNode = readJson(response, responseParseFailureCounter);
+        JsonNode usageNode = rootNode.path("usage");
+        return new ClaudeReply(
+                extractContent(rootNode),
+                usageNode.path("input_tokens").asLong(),
+                usageNode.path("output_tokens").asLong());
+    }
+
+    /**
+     * JSON 파싱 (실패하면 종류별 파싱 실패 지표를 올리고 예외를 그대로 던짐)
+     */
+    private JsonNode readJson(String json, Counter parseFailureCounter) throws JsonProcessingException {
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            parseFailureCounter.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * Messages API 요청 본문(model, max_tokens, messages) 생성
+     */
+    private Map<String, Object> buildMessageParams(String prompt, int maxTokens) {
+        return Map.of(
+                "model", CLAUDE_MODEL,
+                "max_tokens", maxTokens,
+                "messages", List.of(
+                        Map.of(
+                                "role", "user",
+                                "content", prompt
+                        )
+                )
+        );
+    }
+
+    /**
+     * 장소 하나를 분석하는 Messages API 요청 본문 생성
+     * Message Batches API처럼 요청을 직접 보내는 쪽에서 동일한 프롬프트와 모델을 쓰도록 제공합니다.
+     *
+     * @param placeInfo 분석할 장소 정보
+     * @return model, max_tokens, messages를 담은 요청 본문
+     */
+    public Map<String, Object> buildMessageParams(PlaceBasicInfo placeInfo) {
+        return buildMessageParams(buildPrompt(placeInfo), MAX_TOKENS);
+    }
+
+    /**
+     * 캐시에 있는 장소 분석 결과 조회 (API 호출 없음)
+     *
+     * @param placeInfo 장소 정보
+     * @return 캐시된 분석 결과 (없거나 파싱할 수 없으면 empty)
+     */
+    public Optional<PlaceCurationResult> findCachedAnalysis(PlaceBasicInfo placeInfo) {
+        Optional<String> cachedJson = curationCache.get(cacheKeyOf(placeInfo));
+        if (cachedJson.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(parseAnalysisResult(cachedJson.get(), placeInfo));
+        } catch (JsonProcessingException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * buildMessageParams로 만든 요청에 대한 Messages API 응답 메시지를 파싱하고 캐시에 저장
+     *
+     * @param message   Messages API 응답 메시지 (content 배열 포함)
+     * @param placeInfo 분석한 장소 정보
+     * @return 분석된 큐레이션 결과
+     */
+    public PlaceCurationResult parseMessageResult(JsonNode message, PlaceBasicInfo placeInfo) {
+        try {
+            String analysisJson = extractContent(message);
+            PlaceCurationResult result = parseAnalysisResult(analysisJson, placeInfo);
+            curationCache.put(cacheKeyOf(placeInfo), PROMPT_VERSION, CLAUDE_MODEL, analysisJson);
+            return result;
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("장소 분석 결과 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 큐레이션 캐시 통계 조회
+     */
+    public CurationCacheStats getCacheStats() {
+        return curationCache.getStats();
+    }
+
+    /**
+     * 예외 원인 체인에 Claude API 과부하 응답(429/503)이 포함되어 있는지 확인
+     * 재시도 초과 예외나 analyzePlaceForDate가 감싼 RuntimeException도 원인을 따라가 판단합니다.
+     *
+     * @param throwable 확인할 예외
+     * @return 과부하 응답으로 인한 실패이면 true
+     */
+    public static boolean isOverloadResponse(Throwable throwable) {
+        for (Throwable current = throwable; current != null; current = current.getCause()) {
+            if (current instanceof WebClientResponseException.TooManyRequests
+                    || current instanceof WebClientResponseException.ServiceUnavailable) {
+                return true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
         }
+        return false;
     }
 
     /**
-     * Claude API 응답에서 실제 컨텐츠 추출
+     * Messages API 응답 메시지의 첫 번째 텍스트 컨텐츠 추출
      */
-    private String extractContentFromResponse(String response) throws JsonProcessingException {
-        JsonNode rootNode = objectMapper.readTree(response);
+    private String extractContent(JsonNode rootNode) {
         JsonNode contentArray = rootNode.path("content");
 
         if (contentArray.isArray() && contentArray.size() > 0) {
@@ -129,7 +462,7 @@ public class PlaceCurationService {
     /**
      * 장소 분석을 위한 프롬프트 생성
      */
-    private String buildPrompt(PlaceBasicInfo placeInfo) {
+    String buildPrompt(PlaceBasicInfo placeInfo) {
         return String.format("""
                 당신은 서울의 데이트 장소를 추천하는 전문가입니다.
                 아래 장소 정보를 바탕으로 데이트 적합도를 분석해주세요.
@@ -159,17 +492,64 @@ public class PlaceCurationService {
         );
     }
 
+    /**
+     * 여러 장소를 한 번에 분석하기 위한 프롬프트 생성
+     */
+    private String buildBatchPrompt(List<PlaceBasicInfo> places) throws JsonProcessingException {
+        List<Map<String, String>> placeList = places.stream()
+                .map(placeInfo -> Map.of(
+                        "place_id", placeInfo.getKakaoPlaceId(),
+                        "name", String.valueOf(placeInfo.getPlaceName()),
+                        "category", String.valueOf(placeInfo.getCategory()),
+                        "address", String.valueOf(placeInfo.getAddress())))
+                .toList();
+
+        return String.format("""
+                당신은 서울의 데이트 장소를 추천하는 전문가입니다.
+                아래 장소 목록의 각 장소에 대해 데이트 적합도를 분석해주세요.
+
+                장소 목록 (JSON):
+                %s
+
+                다음 형식의 JSON 배열로만 응답해주세요 (다른 설명 없이 JSON만, 장소마다 객체 하나):
+                [
+                  {
+                    "place_id": "장소 목록의 place_id 그대로",
+                    "date_score": 1-10 사이의 정수 (데이트 적합도 점수),
+                    "mood_tags": ["#태그1", "#태그2", "#태그3"] (최대 3개의 분위기 해시태그),
+                    "price_range": "예상 가격대 (예: 10,000-20,000원 또는 무료)",
+                    "best_time": "추천 시간대 (예: 저녁 6-9시)",
+                    "recommendation": "한 줄 추천 이유 (20자 이내)"
+                  }
+                ]
+
+                분석 시 고려사항:
+                - 장소 이름, 카테고리, 위치를 종합적으로 고려하여 추론
+                - 데이트 분위기, 접근성, 주변 환경 등을 고려
+                - 실제 리뷰 데이터가 없으므로 일반적인 특성으로 판단
+                - 장소끼리 비교하지 말고 각 장소를 독립적으로 평가
+                """,
+                objectMapper.writeValueAsString(placeList)
+        );
+    }
+
     /**
      * Claude API 응답 JSON을 PlaceCurationResult로 파싱
      */
-    private PlaceCurationResult parseAnalysisResult(String analysisJson, PlaceBasicInfo placeInfo)
+    PlaceCurationResult parseAnalysisResult(String analysisJson, PlaceBasicInfo placeInfo)
             throws JsonProcessingException {
 
         // JSON 추출 (```json ... ``` 형태로 오는 경우 처리)
         String cleanJson = extractJsonFromMarkdown(analysisJson);
 
-        JsonNode rootNode = objectMapper.readTree(cleanJson);
+        JsonNode rootNode = readJson(cleanJson, singleParseFailureCounter);
+        return toCurationResult(rootNode, placeInfo);
+    }
 
+    /**
+     * 분석 결과 JSON 객체 하나를 PlaceCurationResult로 변환
+     */
+    private PlaceCurationResult toCurationResult(JsonNode rootNode, PlaceBasicInfo placeInfo) {
         // mood_tags 파싱
         List<String> moodTags = new ArrayList<>();
         JsonNode moodTagsNode = rootNode.path("mood_tags");
@@ -190,7 +570,7 @@ public class PlaceCurationService {
     /**
      * 마크다운 코드 블록에서 JSON 추출
      */
-    private String extractJsonFromMarkdown(String text) {
+    static String extractJsonFromMarkdown(String text) {
         text = text.trim();
 
         // ```json ... ``` 형태인 경우
@@ -206,4 +586,10 @@ public class PlaceCurationService {
         // 이미 순수 JSON인 경우
         return text;
     }
+
+    /**
+     * Claude API 응답 본문과 사용 토큰
+     */
+    record ClaudeReply(String text, long inputTokens, long outputTokens) {
+    }
 }
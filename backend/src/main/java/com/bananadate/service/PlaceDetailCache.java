@@ -0,0 +1,149 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.PlaceResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 장소 상세 응답 near cache
+ * 장소 상세 응답을 JSON 바이트로 직렬화해 Caffeine(W-TinyLFU) 캐시에 보관하여, 캐시 적중 시 DB 조회와 직렬화를 모두 생략합니다.
+ *
+ * 큐레이션/구 ID backfill 이벤트를 받으면 커밋 이후에 해당 장소를 무효화하고(커밋 전 무효화 후 옛 값이 다시 적재되는 것을 방지),
+ * PlaceChangeNotifier로 다른 인스턴스에도 알립니다. 알림이 유실되는 경우에 대비해 항목은 일정 시간 후 만료됩니다.
+ */
+@Slf4j
+@Component
+public class PlaceDetailCache implements MeterBinder {
+
+    /**
+     * 직렬화된 장소 상세 응답
+     *
+     * @param json      응답 본문 (JSON)
+     * @param updatedAt 장소 수정 시각 (조건부 GET 검증자)
+     */
+    public record Entry(byte[] json, LocalDateTime updatedAt) {
+    }
+
+    private final PlaceQueryService placeQueryService;
+    private final ObjectMapper objectMapper;
+    private final PlaceChangeNotifier placeChangeNotifier;
+    private final Cache<Long, Entry> cache;
+
+    private final LongAdder localInvalidations = new LongAdder();
+    private final LongAdder remoteInvalidations = new LongAdder();
+
+    public PlaceDetailCache(
+            PlaceQueryService placeQueryService,
+            ObjectMapper objectMapper,
+            PlaceChangeNotifier placeChangeNotifier,
+            @Value("${place.detail-cache.max-entries:10000}") long maxEntries,
+            @Value("${place.detail-cache.expire-after-write:PT10M}") Duration expireAfterWrite) {
+        this.placeQueryService = placeQueryService;
+        this.objectMapper = objectMapper;
+        this.placeChangeNotifier = placeChangeNotifier;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 장소 상세 응답 조회 (캐시에 없으면 DB에서 읽어 직렬화한 뒤 저장)
+     *
+     * @param id 장소 ID
+     * @return 직렬화된 응답 (장소가 없으면 empty, 없는 장소는 캐시하지 않음)
+     */
+    public Optional<Entry> get(Long id) {
+        return Optional.ofNullable(cache.get(id, this::load));
+    }
+
+    /**
+     * 캐시에 있는 경우에만 조회 (DB를 읽지 않음)
+     */
+    public Optional<Entry> getIfPresent(Long id) {
+        return Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    /**
+     * 큐레이션된 장소 무효화 + 다른 인스턴스에 알림
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlacesCurated(PlacesCuratedEvent event) {
+        List<Long> placeIds = event.changes().stream()
+                .map(change -> change.place().getId())
+                .toList();
+        cache.invalidateAll(placeIds);
+        localInvalidations.add(placeIds.size());
+        placeChangeNotifier.publish(placeIds);
+    }
+
+    /**
+     * 구 ID backfill은 어느 장소가 바뀌었는지 이벤트에 담기지 않으므로 전체 무효화 + 다른 인스턴스에 알림
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDistrictsBackfilled(DistrictsBackfilledEvent event) {
+        localInvalidations.add(cache.estimatedSize());
+        cache.invalidateAll();
+        placeChangeNotifier.publishAll();
+    }
+
+    /**
+     * 다른 인스턴스의 변경 알림 반영
+     */
+    @EventListener
+    public void onRemotePlacesChanged(RemotePlacesChangedEvent event) {
+        if (event.all()) {
+            remoteInvalidations.add(cache.estimatedSize());
+            cache.invalidateAll();
+        } else {
+            remoteInvalidations.add(event.placeIds().size());
+            cache.invalidateAll(event.placeIds());
+        }
+    }
+
+    private Entry load(Long id) {
+        return placeQueryService.getPlace(id)
+                .map(this::serialize)
+                .orElse(null);
+    }
+
+    private Entry serialize(PlaceResponse place) {
+        try {
+            return new Entry(objectMapper.writeValueAsBytes(place), place.getUpdatedAt());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("장소 응답을 직렬화할 수 없습니다: " + place.getId(), e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size 등
+        CaffeineCacheMetrics.monitor(registry, cache, "place.detail");
+        FunctionCounter.builder("place.detail.cache.invalidations", localInvalidations, LongAdder::sum)
+                .description("장소 상세 캐시 무효화 요청 수")
+                .tag("source", "local")
+                .register(registry);
+        FunctionCounter.builder("place.detail.cache.invalidations", remoteInvalidations, LongAdder::sum)
+                .description("장소 상세 캐시 무효화 요청 수")
+                .tag("source", "remote")
+                .register(registry);
+    }
+}
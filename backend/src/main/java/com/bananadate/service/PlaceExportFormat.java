@@ -0,0 +1,51 @@
+package com.bananadate.service;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * 장소 내보내기 형식
+ */
+public enum PlaceExportFormat {
+
+    /**
+     * 한 줄에 장소 하나씩인 JSON (PlaceResponse와 같은 필드)
+     */
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+
+    /**
+     * 헤더가 있는 RFC 4180 CSV (분위기 태그는 "|"로 이어 한 칸에 기록)
+     */
+    CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    PlaceExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * 요청 파라미터로 형식 조회
+     *
+     * @throws IllegalArgumentException 지원하지 않는 형식
+     */
+    public static PlaceExportFormat from(String value) {
+        for (PlaceExportFormat format : values()) {
+            if (format.extension.equals(value.toLowerCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+    }
+}
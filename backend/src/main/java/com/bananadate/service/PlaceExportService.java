@@ -0,0 +1,216 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.PlaceResponse;
+import com.bananadate.repository.PlaceExportReader;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 장소 전체 내보내기
+ * PlaceExportReader의 JDBC 커서에서 읽은 장소를 바로 응답 스트림에 쓰므로, 메모리 사용량은 전체 장소 수와 관계없이
+ * fetch size와 출력 버퍼 크기로 고정됩니다.
+ *
+ * 처리량(행/초)과 내보내는 동안의 최대 힙 사용량을 함께 기록합니다.
+ * 힙 사용량은 일정 행마다 Runtime에서 읽은 표본의 최댓값이므로, 아직 수거되지 않은 객체와 같은 JVM의 다른 요청이 쓴 메모리도 포함됩니다.
+ */
+@Slf4j
+@Service
+public class PlaceExportService {
+
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+    private static final int HEAP_SAMPLE_INTERVAL = 1000;
+    private static final int CSV_BUFFER_SIZE = 64 * 1024;
+
+    private static final String MOOD_TAG_SEPARATOR = "|";
+    private static final List<String> CSV_HEADER = List.of(
+            "id", "kakao_place_id", "place_name", "category", "address", "latitude", "longitude", "phone",
+            "place_url", "district_id", "date_score", "mood_tags", "price_range", "best_time", "recommendation",
+            "created_at", "updated_at", "curated_at");
+
+    /**
+     * 내보내기 결과
+     *
+     * @param rows          내보낸 장소 수
+     * @param elapsedMillis 소요 시간
+     * @param rowsPerSecond 초당 장소 수
+     * @param peakHeapBytes 내보내는 동안 관측한 최대 힙 사용량
+     */
+    public record ExportStats(long rows, long elapsedMillis, long rowsPerSecond, long peakHeapBytes) {
+    }
+
+    private final PlaceExportReader placeExportReader;
+    private final ObjectWriter placeWriter;
+
+    @Value("${place.export.fetch-size:" + DEFAULT_FETCH_SIZE + "}")
+    private int fetchSize = DEFAULT_FETCH_SIZE;
+
+    public PlaceExportService(PlaceExportReader placeExportReader, ObjectMapper objectMapper) {
+        this.placeExportReader = placeExportReader;
+        this.placeWriter = objectMapper.writerFor(PlaceResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * 모든 장소를 지정한 형식으로 출력 (출력 스트림은 닫지 않음)
+     *
+     * @param format 내보내기 형식
+     * @param out    응답 스트림
+     * @return 내보내기 결과
+     */
+    public ExportStats export(PlaceExportFormat format, OutputStream out) throws IOException {
+        Instant startTime = Instant.now();
+        HeapSampler heapSampler = new HeapSampler();
+        long rows;
+        try (RowWriter writer = format == PlaceExportFormat.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out)) {
+            rows = placeExportReader.streamAll(fetchSize, place -> {
+                try {
+                    writer.write(place);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                heapSampler.onRow();
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        long elapsedMillis = Duration.between(startTime, Instant.now()).toMillis();
+        ExportStats stats = new ExportStats(rows, elapsedMillis,
+                rows * 1000 / Math.max(elapsedMillis, 1), heapSampler.sample());
+        log.info("Exported {} places as {} in {} ms ({} rows/s, peak heap {} MB)",
+                stats.rows(), format, stats.elapsedMillis(), stats.rowsPerSecond(),
+                stats.peakHeapBytes() / (1024 * 1024));
+        return stats;
+    }
+
+    /**
+     * CSV 한 칸 (쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씀)
+     */
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * 장소 하나를 CSV 행의 칸 목록으로 변환 (CSV_HEADER 순서)
+     */
+    static List<Object> csvValues(PlaceResponse place) {
+        List<String> moodTags = place.getMoodTags() != null ? place.getMoodTags() : List.of();
+        return Arrays.asList(
+                place.getId(), place.getKakaoPlaceId(), place.getPlaceName(), place.getCategory(),
+                place.getAddress(), place.getLatitude(), place.getLongitude(), place.getPhone(),
+                place.getPlaceUrl(), place.getDistrictId(), place.getDateScore(),
+                String.join(MOOD_TAG_SEPARATOR, moodTags), place.getPriceRange(), place.getBestTime(),
+                place.getRecommendation(), place.getCreatedAt(), place.getUpdatedAt(), place.getCuratedAt());
+    }
+
+    /**
+     * 형식별 행 출력기 (close는 버퍼만 비우고 응답 스트림은 닫지 않음)
+     */
+    private interface RowWriter extends AutoCloseable {
+
+        void write(PlaceResponse place) throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    /**
+     * 한 줄에 JSON 객체 하나 (Jackson 생성기의 버퍼가 찰 때만 응답 스트림에 씀)
+     */
+    private class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream out) throws IOException {
+            this.generator = placeWriter.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(PlaceResponse place) throws IOException {
+            placeWriter.writeValue(generator, place);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), CSV_BUFFER_SIZE);
+            writeRow(CSV_HEADER);
+        }
+
+        @Override
+        public void write(PlaceResponse place) throws IOException {
+            writeRow(csvValues(place));
+        }
+
+        private void writeRow(List<?> values) throws IOException {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(csvField(values.get(i)));
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    /**
+     * 일정 행마다 힙 사용량을 재어 최댓값 보관
+     */
+    private static class HeapSampler {
+
+        private final Runtime runtime = Runtime.getRuntime();
+        private long rows;
+        private long peakBytes;
+
+        void onRow() {
+            if (++rows % HEAP_SAMPLE_INTERVAL == 0) {
+                sample();
+            }
+        }
+
+        long sample() {
+            peakBytes = Math.max(peakBytes, runtime.totalMemory() - runtime.freeMemory());
+            return peakBytes;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.KakaoLocalSearchResponse;
+import com.bananadate.dto.PlaceImportResult;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 카카오 문서 일괄 가져오기 서비스 (스테이징/재해 복구용 초기 적재)
+ * gzip으로 압축한 NDJSON(한 줄에 KakaoLocalSearchResponse.Document 하나)을 Jackson 스트리밍 파서로 한 문서씩 읽고,
+ * batchSize개마다 수집과 같은 경로(PlaceCollectionService.storeNewDocuments)로 중복을 거른 뒤 한 번에 저장합니다.
+ * 메모리에는 한 배치만 올라오므로 파일 크기와 관계없이 일정한 메모리로 처리합니다.
+ *
+ * 업로드된 본문은 임시 파일에 그대로(압축된 채로) 저장한 뒤 백그라운드 작업으로 가져오며,
+ * 진행 상황은 문서 단위로 GET /api/jobs/{jobId}에 보고됩니다 (전체 문서 수는 미리 알 수 없어 0).
+ * 이미 저장된 배치는 이후에 실패하거나 취소되어도 유지됩니다.
+ */
+@Slf4j
+@Service
+public class PlaceImportService {
+
+    public static final String JOB_TYPE = "PLACE_IMPORT";
+
+    private static final int DEFAULT_BATCH_SIZE = 5000;
+    private static final int GZIP_MAGIC = 0x8b1f;
+
+    private final PlaceCollectionService placeCollectionService;
+    private final ObjectReader documentReader;
+
+    @Value("${place.import.batch-size:" + DEFAULT_BATCH_SIZE + "}")
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    public PlaceImportService(PlaceCollectionService placeCollectionService, ObjectMapper objectMapper) {
+        this.placeCollectionService = placeCollectionService;
+        this.documentReader = objectMapper.readerFor(KakaoLocalSearchResponse.Document.class);
+    }
+
+    /**
+     * 업로드된 본문을 임시 파일에 저장
+     *
+     * @param body 요청 본문 (gzip)
+     * @return 임시 파일 경로 (importStagedFile이 처리 후 삭제하며, 처리하지 못하면 discardStagedFile로 삭제)
+     * @throws IllegalArgumentException gzip 형식이 아닌 경우
+     */
+    public Path stage(InputStream body) throws IOException {
+        Path file = Files.createTempFile("places-import-", ".ndjson.gz");
+        try {
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+            if (!isGzip(file)) {
+                throw new IllegalArgumentException("gzip 형식이 아닙니다");
+            }
+            return file;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    /**
+     * 임시 파일의 문서를 가져온 뒤 파일 삭제
+     *
+     * @param file     stage로 저장한 파일
+     * @param progress 진행 상황 보고 및 취소 확인
+     * @return 가져오기 결과
+     */
+    public PlaceImportResult importStagedFile(Path file, JobProgress progress) {
+        try (InputStream in = Files.newInputStream(file)) {
+            return importDocuments(in, progress);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            discardStagedFile(file);
+        }
+    }
+
+    /**
+     * 임시 파일 삭제 (작업이 시작 전에 취소되거나 거절된 경우의 정리 작업, 이미 삭제되었으면 무시)
+     */
+    public void discardStagedFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete import file: {}", file, e);
+        }
+    }
+
+    /**
+     * gzip NDJSON 스트림의 문서를 배치로 저장
+     * 문서 사이의 공백/줄바꿈은 구분자로만 쓰이며, JSON 문법 오류가 있으면 앞서 저장한 배치까지만 남기고 중단합니다.
+     *
+     * @param gzipped  gzip으로 압축된 NDJSON 스트림
+     * @param progress 진행 상황 보고 및 취소 확인 (문서 단위)
+     * @return 가져오기 결과
+     */
+    public PlaceImportResult importDocuments(InputStream gzipped, JobProgress progress) throws IOException {
+        Instant startTime = Instant.now();
+        ImportTally tally = new ImportTally();
+        List<KakaoLocalSearchResponse.Document> batch = new ArrayList<>(batchSize);
+
+        try (JsonParser parser = documentReader.createParser(
+                new GZIPInputStream(new BufferedInputStream(gzipped)))) {
+            while (!progress.isCancelled() && parser.nextToken() == JsonToken.START_OBJECT) {
+                KakaoLocalSearchResponse.Document document = documentReader.readValue(parser);
+                tally.readCount++;
+                if (!isImportable(document)) {
+                    tally.invalidCount++;
+                    progress.recordFailure();
+                    continue;
+                }
+                batch.add(document);
+                if (batch.size() >= batchSize) {
+                    flush(batch, tally, progress);
+                }
+            }
+            if (!progress.isCancelled() && parser.currentToken() != null) {
+                throw new IllegalArgumentException("JSON 객체가 아닌 값이 있습니다: " + parser.currentToken());
+            }
+        }
+        flush(batch, tally, progress);
+
+        return buildResult(tally, startTime, progress.isCancelled());
+    }
+
+    private void flush(List<KakaoLocalSearchResponse.Document> batch, ImportTally tally, JobProgress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        int insertedCount = placeCollectionService.storeNewDocuments(batch);
+        tally.importedCount += insertedCount;
+        tally.skippedCount += batch.size() - insertedCount;
+        for (int i = 0; i < batch.size(); i++) {
+            progress.recordSuccess();
+        }
+        log.debug("Imported {} of {} places ({} documents read)", insertedCount, batch.size(), tally.readCount);
+        batch.clear();
+    }
+
+    /**
+     * 저장에 필요한 ID, 이름, 카테고리, 주소, 좌표가 모두 있는 문서인지 확인
+     */
+    static boolean isImportable(KakaoLocalSearchResponse.Document document) {
+        if (document.getId() == null || document.getId().isBlank()
+                || document.getPlaceName() == null || document.getCategoryName() == null
+                || (isBlank(document.getRoadAddressName()) && isBlank(document.getAddressName()))) {
+            return false;
+        }
+        try {
+            return Double.isFinite(Double.parseDouble(document.getX()))
+                    && Double.isFinite(Double.parseDouble(document.getY()));
+        } catch (NullPointerException | NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static boolean isGzip(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            int first = in.read();
+            int second = in.read();
+            return first >= 0 && second >= 0 && (first | (second << 8)) == GZIP_MAGIC;
+        }
+    }
+
+    private PlaceImportResult buildResult(ImportTally tally, Instant startTime, boolean cancelled) {
+        long elapsedMillis = Math.max(Duration.between(startTime, Instant.now()).toMillis(), 1);
+        double throughputPerSecond = tally.readCount * 1000.0 / elapsedMillis;
+
+        PlaceImportResult result = PlaceImportResult.builder()
+                .readCount(tally.readCount)
+                .importedCount(tally.importedCount)
+                .skippedCount(tally.skippedCount)
+                .invalidCount(tally.invalidCount)
+                .elapsedMillis(elapsedMillis)
+                .throughputPerSecond(throughputPerSecond)
+                .message(String.format("%s %d places (%d skipped, %d invalid, %d read) in %d ms (%.1f documents/sec)",
+                        cancelled ? "Cancelled after importing" : "Imported",
+                        tally.importedCount, tally.skippedCount, tally.invalidCount, tally.readCount,
+                        elapsedMillis, throughputPerSecond))
+                .build();
+
+        log.info("Place import completed: {}", result.getMessage());
+        return result;
+    }
+
+    /**
+     * 가져오기 진행 중 누적되는 집계값
+     */
+    private static class ImportTally {
+        private long readCount;
+        private long importedCount;
+        private long skippedCount;
+        private long invalidCount;
+    }
+}
@@ -0,0 +1,94 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.PlaceSearchDocument;
+import com.bananadate.dto.PlaceSearchResult;
+import com.bananadate.entity.Place;
+import com.bananadate.repository.PlaceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 장소 키워드 검색
+ * 애플리케이션 시작 시 모든 장소의 이름/카테고리/주소를 KeywordIndex에 적재하고, 이후 수집으로 저장된 장소는 PlacesCollectedEvent로 반영합니다.
+ * 검색은 메모리 바이그램 색인으로 ID를 고른 뒤 결과 장소만 DB에서 조회합니다.
+ */
+@Slf4j
+@Component
+public class PlaceKeywordSearch {
+
+    private static final int DEFAULT_LOAD_CHUNK_SIZE = 5000;
+
+    private final PlaceRepository placeRepository;
+    private final PlaceQueryService placeQueryService;
+
+    @Value("${place.keyword-search.load-chunk-size:" + DEFAULT_LOAD_CHUNK_SIZE + "}")
+    private int loadChunkSize = DEFAULT_LOAD_CHUNK_SIZE;
+
+    private final ReloadableIndex<KeywordIndex> index = new ReloadableIndex<>(KeywordIndex::new);
+
+    public PlaceKeywordSearch(PlaceRepository placeRepository, PlaceQueryService placeQueryService) {
+        this.placeRepository = placeRepository;
+        this.placeQueryService = placeQueryService;
+    }
+
+    /**
+     * 모든 장소의 검색 대상 텍스트를 ID 순 청크로 읽어 새 색인을 만든 뒤 교체
+     * 적재 중에 저장된 장소는 새 색인에 다시 추가한 뒤 교체하므로 빠지지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Instant startTime = Instant.now();
+        KeywordIndex fresh = index.reload(placeRepository::findSearchDocumentsAfter, PlaceSearchDocument::getId,
+                loadChunkSize, (keywords, chunk) -> {
+                    for (PlaceSearchDocument document : chunk) {
+                        keywords.put(document.getId(), document.getPlaceName(), document.getCategory(),
+                                document.getAddress());
+                    }
+                });
+        log.info("Indexed keywords of {} places in {} ms",
+                fresh.size(), Duration.between(startTime, Instant.now()).toMillis());
+    }
+
+    /**
+     * 새로 저장된 장소를 색인에 추가
+     */
+    @EventListener
+    public void onPlacesCollected(PlacesCollectedEvent event) {
+        index.apply(keywords -> {
+            for (Place place : event.places()) {
+                if (place.getId() != null) {
+                    keywords.put(place.getId(), place.getPlaceName(), place.getCategory(), place.getAddress());
+                }
+            }
+        });
+    }
+
+    /**
+     * 키워드로 장소 검색
+     *
+     * @param keyword 검색어 (공백으로 구분한 단어는 모두 포함해야 함)
+     * @param limit   최대 결과 수
+     * @return 관련도순 장소 목록과 전체 일치 수
+     * @throws IllegalArgumentException 두 글자 이상인 단어가 없는 경우
+     */
+    public PlaceSearchResult search(String keyword, int limit) {
+        KeywordIndex.Hits hits = index.current().search(keyword, limit);
+        return PlaceSearchResult.builder()
+                .totalCount(hits.totalCount())
+                .places(placeQueryService.getPlacesInOrder(hits.ids()))
+                .build();
+    }
+
+    /**
+     * 색인된 장소 수
+     */
+    public int size() {
+        return index.current().size();
+    }
+}
@@ -0,0 +1,202 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.CursorPage;
+import com.bananadate.dto.PlaceCursor;
+import com.bananadate.dto.PlaceMoodTag;
+import com.bananadate.dto.PlaceResponse;
+import com.bananadate.entity.Place;
+import com.bananadate.repository.PlaceRepository;
+import com.bananadate.repository.PlaceSpecifications;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 장소 조회 서비스
+ * 조회 결과는 엔티티 대신 PlaceResponse로 반환하며, 분위기 태그는 결과 장소 전체에 대해 IN 쿼리 1회로 조회합니다.
+ * 따라서 목록 조회의 SQL 문 수는 페이지 크기와 관계없이 일정합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlaceQueryService {
+
+    private final PlaceRepository placeRepository;
+
+    /**
+     * 페이지 번호 기반 장소 목록 조회 (최신순)
+     * 필터는 구 ID, 카테고리, 큐레이션 상태 순으로 하나만 적용합니다.
+     *
+     * @param page        페이지 번호 (0부터 시작)
+     * @param size        페이지당 개수
+     * @param category    카테고리 필터 (optional)
+     * @param curated     큐레이션 상태 필터 (optional)
+     * @param districtIds 구 ID 필터 (optional)
+     * @return 장소 목록
+     */
+    public Page<PlaceResponse> getPlaces(int page, int size, String category, Boolean curated, List<String> districtIds) {
+        return toResponsePage(findPlacePage(page, size, category, curated, districtIds));
+    }
+
+    /**
+     * 페이지 번호 기반 장소 목록의 장소 행만 조회 (분위기 태그는 조회하지 않음)
+     * 조건부 GET에서 페이지 검증자를 먼저 계산하고, 변경되었을 때만 toResponsePage로 변환하는 데 사용합니다.
+     */
+    public Page<Place> findPlacePage(int page, int size, String category, Boolean curated, List<String> districtIds) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        if (districtIds != null && !districtIds.isEmpty()) {
+            return placeRepository.findByDistrictIdIn(districtIds, pageable);
+        } else if (category != null && !category.isEmpty()) {
+            return placeRepository.findByCategoryContaining(category, pageable);
+        } else if (curated != null) {
+            if (curated) {
+                return placeRepository.findCuratedPlaces(pageable);
+            } else {
+                return placeRepository.findUncuratedPlaces(pageable);
+            }
+        }
+        return placeRepository.findAll(pageable);
+    }
+
+    /**
+     * 장소 행 페이지를 응답 DTO 페이지로 변환 (분위기 태그는 IN 쿼리 1회로 조회)
+     */
+    public Page<PlaceResponse> toResponsePage(Page<Place> places) {
+        return new PageImpl<>(toResponses(places.getContent()), places.getPageable(), places.getTotalElements());
+    }
+
+    /**
+     * 장소 수정 시각만 조회 (엔티티와 분위기 태그를 읽지 않음)
+     *
+     * @param id 장소 ID
+     * @return 수정 시각 (장소가 없으면 empty)
+     */
+    public Optional<LocalDateTime> getPlaceUpdatedAt(Long id) {
+        return placeRepository.findUpdatedAtById(id);
+    }
+
+    /**
+     * 장소 상세 조회
+     *
+     * @param id 장소 ID
+     * @return 장소 정보 (없으면 empty)
+     */
+    public Optional<PlaceResponse> getPlace(Long id) {
+        return placeRepository.findById(id)
+                .map(place -> toResponses(List.of(place)).get(0));
+    }
+
+    /**
+     * ID 목록의 장소를 주어진 순서대로 조회 (메모리 인덱스 검색 결과 조회용)
+     *
+     * @param ids 장소 ID 목록 (순위순)
+     * @return 같은 순서의 응답 목록 (삭제된 장소는 제외)
+     */
+    public List<PlaceResponse> getPlacesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PlaceResponse> placesById = new HashMap<>();
+        for (PlaceResponse place : toResponses(placeRepository.findAllById(ids))) {
+            placesById.put(place.getId(), place);
+        }
+        return ids.stream()
+                .map(placesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 장소 목록을 응답 DTO로 변환 (분위기 태그는 IN 쿼리 1회로 조회)
+     *
+     * @param places 장소 목록
+     * @return 같은 순서의 응답 목록
+     */
+    public List<PlaceResponse> toResponses(List<Place> places) {
+        if (places.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<String>> moodTagsByPlaceId = new HashMap<>();
+        List<Long> placeIds = places.stream().map(Place::getId).toList();
+        for (PlaceMoodTag moodTag : placeRepository.findMoodTagsByPlaceIds(placeIds)) {
+            moodTagsByPlaceId.computeIfAbsent(moodTag.getPlaceId(), id -> new ArrayList<>()).add(moodTag.getMoodTag());
+        }
+
+        return places.stream()
+                .map(place -> PlaceResponse.of(place, moodTagsByPlaceId.getOrDefault(place.getId(), List.of())))
+                .toList();
+    }
+
+    /**
+     * 커서 기반 장소 목록 조회
+     * OFFSET 대신 마지막으로 본 장소의 (정렬 키, id) 이후만 조회하므로 페이지가 깊어져도 비용이 일정하고,
+     * 전체 개수를 세지 않습니다. size + 1개를 조회하여 다음 페이지 존재 여부를 판단합니다.
+     *
+     * 큐레이션된 장소 목록(curated=true)은 데이트 점수순, 나머지는 최신순으로 정렬합니다.
+     *
+     * @param category    카테고리 필터 (optional)
+     * @param curated     큐레이션 상태 필터 (optional)
+     * @param districtIds 구 ID 필터 (optional)
+     * @param cursor      이전 페이지의 nextCursor (첫 페이지이면 null)
+     * @param size        페이지 크기
+     * @return 장소 목록과 다음 페이지 커서
+     * @throws IllegalArgumentException 커서 형식이 잘못되었거나 다른 정렬 기준의 커서인 경우
+     */
+    public CursorPage<PlaceResponse> findPlaces(String category, Boolean curated, List<String> districtIds,
+                                        String cursor, int size) {
+        PlaceCursor.SortKey sortKey = Boolean.TRUE.equals(curated)
+                ? PlaceCursor.SortKey.DATE_SCORE
+                : PlaceCursor.SortKey.CREATED_AT;
+
+        List<Specification<Place>> conditions = new ArrayList<>();
+        if (category != null && !category.isEmpty()) {
+            conditions.add(PlaceSpecifications.categoryContains(category));
+        }
+        if (curated != null) {
+            conditions.add(PlaceSpecifications.curated(curated));
+        }
+        if (districtIds != null && !districtIds.isEmpty()) {
+            conditions.add(PlaceSpecifications.inDistricts(districtIds));
+        }
+        if (cursor != null && !cursor.isEmpty()) {
+            PlaceCursor after = PlaceCursor.decode(cursor);
+            if (after.sortKey() != sortKey) {
+                throw new IllegalArgumentException("Cursor does not match the requested ordering: " + cursor);
+            }
+            conditions.add(PlaceSpecifications.after(after));
+        }
+
+        Sort sort = sortKey == PlaceCursor.SortKey.DATE_SCORE
+                ? Sort.by(Sort.Direction.DESC, "dateScore", "id")
+                : Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+        List<Place> places = placeRepository.findBy(Specification.allOf(conditions),
+                query -> query.sortBy(sort).limit(size + 1).all());
+
+        boolean hasNext = places.size() > size;
+        List<Place> content = hasNext ? places.subList(0, size) : places;
+        return CursorPage.<PlaceResponse>builder()
+                .content(toResponses(content))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? PlaceCursor.after(sortKey, content.get(content.size() - 1)).encode() : null)
+                .build();
+    }
+}
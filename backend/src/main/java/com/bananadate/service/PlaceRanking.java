@@ -0,0 +1,94 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.PlaceResponse;
+import com.bananadate.entity.Place;
+import com.bananadate.repository.PlaceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 데이트 점수 상위 장소 순위
+ * 애플리케이션 시작 시 큐레이션된 장소를 TopPlacesIndex에 적재하고, 이후 큐레이션 결과는 PlacesCuratedEvent로 반영하여
+ * 상위 N개 조회가 DB를 거치지 않도록 합니다.
+ * 구 ID backfill은 JDBC로 직접 갱신하므로 DistrictsBackfilledEvent를 받으면 전체를 다시 적재합니다.
+ */
+@Slf4j
+@Component
+public class PlaceRanking {
+
+    private static final int DEFAULT_LOAD_CHUNK_SIZE = 1000;
+
+    private final PlaceRepository placeRepository;
+    private final PlaceQueryService placeQueryService;
+
+    @Value("${place.ranking.load-chunk-size:" + DEFAULT_LOAD_CHUNK_SIZE + "}")
+    private int loadChunkSize = DEFAULT_LOAD_CHUNK_SIZE;
+
+    private final ReloadableIndex<TopPlacesIndex> index = new ReloadableIndex<>(TopPlacesIndex::new);
+
+    public PlaceRanking(PlaceRepository placeRepository, PlaceQueryService placeQueryService) {
+        this.placeRepository = placeRepository;
+        this.placeQueryService = placeQueryService;
+    }
+
+    /**
+     * 큐레이션된 장소 전체를 ID 순 청크로 읽어 새 인덱스를 만든 뒤 교체
+     * 적재 중에 들어온 큐레이션 결과는 새 인덱스에 다시 적용한 뒤 교체하므로 사라지지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Instant startTime = Instant.now();
+        TopPlacesIndex fresh = index.reload(placeRepository::findCuratedPlacesAfter, Place::getId, loadChunkSize,
+                (ranking, chunk) -> placeQueryService.toResponses(chunk).forEach(ranking::put));
+        log.info("Loaded {} curated places into ranking in {} ms",
+                fresh.size(), Duration.between(startTime, Instant.now()).toMillis());
+    }
+
+    /**
+     * 큐레이션 결과를 순위에 반영
+     */
+    @EventListener
+    public void onPlacesCurated(PlacesCuratedEvent event) {
+        index.apply(ranking -> {
+            for (PlacesCuratedEvent.Change change : event.changes()) {
+                Place place = change.place();
+                ranking.put(PlaceResponse.of(place,
+                        place.getMoodTags() != null ? List.copyOf(place.getMoodTags()) : List.of()));
+            }
+        });
+    }
+
+    /**
+     * 구 ID가 채워진 뒤 구별 순위를 다시 구성
+     */
+    @EventListener
+    public void onDistrictsBackfilled(DistrictsBackfilledEvent event) {
+        load();
+    }
+
+    /**
+     * 점수 상위 장소 조회
+     *
+     * @param districtId 구 ID (null이면 전체)
+     * @param category   카테고리 단계 하나 (예: "카페", null이면 전체)
+     * @param limit      최대 결과 수
+     * @return 점수 내림차순 장소 목록
+     */
+    public List<PlaceResponse> top(String districtId, String category, int limit) {
+        return index.current().top(districtId, category, limit);
+    }
+
+    /**
+     * 순위에 담긴 장소 수
+     */
+    public int size() {
+        return index.current().size();
+    }
+}
@@ -0,0 +1,83 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.PlaceCoordinate;
+import com.bananadate.entity.Place;
+import com.bananadate.repository.PlaceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 저장된 장소 좌표의 메모리 공간 인덱스
+ * 애플리케이션 시작 시 전체 좌표를 적재하고, 이후 수집으로 저장된 장소는 PlacesCollectedEvent로 반영합니다.
+ */
+@Slf4j
+@Component
+public class PlaceSpatialIndex {
+
+    private final PlaceRepository placeRepository;
+    private final GeoGridIndex index;
+
+    public PlaceSpatialIndex(
+            PlaceRepository placeRepository,
+            @Value("${place.spatial-index.cell-degrees:0.005}") double cellDegrees) {
+        this.placeRepository = placeRepository;
+        this.index = new GeoGridIndex(cellDegrees);
+    }
+
+    /**
+     * 애플리케이션 시작 시 저장된 모든 장소 좌표를 인덱스에 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Instant startTime = Instant.now();
+        List<PlaceCoordinate> coordinates = placeRepository.findAllCoordinates();
+        for (PlaceCoordinate coordinate : coordinates) {
+            index.add(coordinate.getId(), coordinate.getLatitude(), coordinate.getLongitude());
+        }
+        log.info("Loaded {} place coordinates into spatial index in {} ms",
+                coordinates.size(), Duration.between(startTime, Instant.now()).toMillis());
+    }
+
+    /**
+     * 새로 저장된 장소를 인덱스에 추가
+     */
+    @EventListener
+    public void onPlacesCollected(PlacesCollectedEvent event) {
+        for (Place place : event.places()) {
+            if (place.getId() != null && place.getLatitude() != null && place.getLongitude() != null) {
+                index.add(place.getId(), place.getLatitude(), place.getLongitude());
+            }
+        }
+    }
+
+    /**
+     * 주변 장소 검색
+     * 반경을 지정하면 반경 안의 장소를 가까운 순으로, 지정하지 않으면 가장 가까운 limit개를 반환합니다.
+     *
+     * @param latitude     검색 위도
+     * @param longitude    검색 경도
+     * @param radiusMeters 검색 반경 (미터, null이면 k-최근접 검색)
+     * @param limit        최대 결과 수
+     * @return 장소 ID와 거리 (가까운 순)
+     */
+    public List<GeoGridIndex.Neighbor> findNearby(double latitude, double longitude, Double radiusMeters, int limit) {
+        if (radiusMeters != null) {
+            return index.withinRadius(latitude, longitude, radiusMeters, limit);
+        }
+        return index.nearest(latitude, longitude, limit);
+    }
+
+    /**
+     * 인덱스에 담긴 장소 수
+     */
+    public int size() {
+        return index.size();
+    }
+}
@@ -0,0 +1,190 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.GroupCount;
+import com.bananadate.dto.PlaceStats;
+import com.bananadate.entity.Place;
+import com.bananadate.repository.PlaceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 장소 통계 카운터
+ * 매 요청마다 전체 테이블을 세지 않도록, 장소 저장/큐레이션 이벤트로 메모리 카운터(LongAdder)를 갱신하고
+ * 주기적으로 DB 집계 결과로 교체하여 누락된 변경(다른 인스턴스의 저장, JDBC 직접 갱신 등)을 바로잡습니다.
+ *
+ * 조회 비용은 테이블 크기가 아니라 카테고리/구 개수에만 비례합니다.
+ * DB 집계 중에 들어온 이벤트는 교체 시점에 사라질 수 있으며, 다음 집계에서 다시 맞춰집니다.
+ */
+@Slf4j
+@Component
+public class PlaceStatistics {
+
+    private static final int MIN_SCORE = 1;
+    private static final int MAX_SCORE = 10;
+    private static final int SCORE_BUCKET_WIDTH = 2;
+
+    private final PlaceRepository placeRepository;
+
+    private volatile Counters counters = new Counters();
+
+    public PlaceStatistics(PlaceRepository placeRepository) {
+        this.placeRepository = placeRepository;
+    }
+
+    /**
+     * 새로 저장된 장소를 카운터에 반영
+     */
+    @EventListener
+    public void onPlacesCollected(PlacesCollectedEvent event) {
+        Counters current = counters;
+        for (Place place : event.places()) {
+            current.total.increment();
+            if (place.getCategory() != null) {
+                current.increment(current.byCategory, place.getCategory());
+            }
+            if (place.getDistrictId() != null) {
+                current.increment(current.byDistrict, place.getDistrictId());
+            }
+        }
+    }
+
+    /**
+     * 큐레이션 결과를 카운터에 반영 (재큐레이션은 점수 구간만 이동)
+     */
+    @EventListener
+    public void onPlacesCurated(PlacesCuratedEvent event) {
+        Counters current = counters;
+        for (PlacesCuratedEvent.Change change : event.changes()) {
+            if (change.previousDateScore() == null) {
+                current.curated.increment();
+            } else {
+                current.byScore[scoreIndex(change.previousDateScore())].decrement();
+            }
+            current.byScore[scoreIndex(change.dateScore())].increment();
+        }
+    }
+
+    /**
+     * DB 집계로 카운터 교체 (시작 시 1회 + 주기적)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${place.stats.reconcile-interval:PT10M}",
+            initialDelayString = "${place.stats.reconcile-interval:PT10M}")
+    public void reconcile() {
+        Instant startTime = Instant.now();
+        Counters fresh = new Counters();
+        fresh.total.add(placeRepository.count());
+        fresh.curated.add(placeRepository.countCuratedPlaces());
+        for (GroupCount group : placeRepository.countByCategory()) {
+            if (group.getKey() != null) {
+                fresh.add(fresh.byCategory, group.getKey(), group.getCount());
+            }
+        }
+        for (GroupCount group : placeRepository.countByDistrict()) {
+            fresh.add(fresh.byDistrict, group.getKey(), group.getCount());
+        }
+        for (GroupCount group : placeRepository.countCuratedByDateScore()) {
+            fresh.byScore[scoreIndex(Integer.valueOf(group.getKey()))].add(group.getCount());
+        }
+        fresh.reconciledAt = LocalDateTime.now();
+
+        Counters previous = counters;
+        counters = fresh;
+        log.info("Reconciled place statistics in {} ms (total: {} -> {}, curated: {} -> {})",
+                Duration.between(startTime, Instant.now()).toMillis(),
+                previous.total.sum(), fresh.total.sum(), previous.curated.sum(), fresh.curated.sum());
+    }
+
+    /**
+     * 구 ID backfill 후 구별 분포를 DB 집계로 다시 맞춤
+     */
+    @EventListener
+    public void onDistrictsBackfilled(DistrictsBackfilledEvent event) {
+        reconcile();
+    }
+
+    /**
+     * 현재 통계 조회
+     */
+    public PlaceStats snapshot() {
+        Counters current = counters;
+        long totalCount = current.total.sum();
+        long curatedCount = Math.min(current.curated.sum(), totalCount);
+
+        Map<String, Long> byScoreBucket = new TreeMap<>();
+        for (int from = MIN_SCORE; from <= MAX_SCORE; from += SCORE_BUCKET_WIDTH) {
+            int to = Math.min(from + SCORE_BUCKET_WIDTH - 1, MAX_SCORE);
+            long count = 0;
+            for (int score = from; score <= to; score++) {
+                count += current.byScore[score].sum();
+            }
+            byScoreBucket.put(from + "-" + to, count);
+        }
+
+        return PlaceStats.builder()
+                .totalCount(totalCount)
+                .curatedCount(curatedCount)
+                .uncuratedCount(totalCount - curatedCount)
+                .curationRate(totalCount > 0 ? (double) curatedCount / totalCount * 100 : 0)
+                .byCategory(toSortedMap(current.byCategory))
+                .byDistrict(toSortedMap(current.byDistrict))
+                .byScoreBucket(byScoreBucket)
+                .reconciledAt(current.reconciledAt)
+                .build();
+    }
+
+    private static int scoreIndex(Integer score) {
+        if (score == null) {
+            return MIN_SCORE;
+        }
+        return Math.max(MIN_SCORE, Math.min(score, MAX_SCORE));
+    }
+
+    private static Map<String, Long> toSortedMap(Map<String, LongAdder> adders) {
+        Map<String, Long> result = new TreeMap<>();
+        adders.forEach((key, adder) -> {
+            long count = adder.sum();
+            if (count > 0) {
+                result.put(key, count);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 한 번의 DB 집계 이후 누적되는 카운터 묶음 (집계 시 통째로 교체)
+     */
+    private static class Counters {
+        private final LongAdder total = new LongAdder();
+        private final LongAdder curated = new LongAdder();
+        private final Map<String, LongAdder> byCategory = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> byDistrict = new ConcurrentHashMap<>();
+        private final LongAdder[] byScore = new LongAdder[MAX_SCORE + 1];
+        private LocalDateTime reconciledAt;
+
+        Counters() {
+            for (int i = 0; i < byScore.length; i++) {
+                byScore[i] = new LongAdder();
+            }
+        }
+
+        void increment(Map<String, LongAdder> adders, String key) {
+            adders.computeIfAbsent(key, k -> new LongAdder()).increment();
+        }
+
+        void add(Map<String, LongAdder> adders, String key, long count) {
+            adders.computeIfAbsent(key, k -> new LongAdder()).add(count);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.PlaceResponse;
+import com.bananadate.dto.PlaceSearchResult;
+import com.bananadate.entity.Place;
+import com.bananadate.repository.PlaceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 분위기 태그 검색
+ * 애플리케이션 시작 시 큐레이션된 장소의 태그를 MoodTagIndex에 적재하고, 이후 큐레이션 결과는 PlacesCuratedEvent로 반영합니다.
+ * 검색은 메모리 비트맵 연산으로 ID를 고른 뒤 결과 장소만 DB에서 조회합니다.
+ */
+@Slf4j
+@Component
+public class PlaceTagSearch {
+
+    private static final int DEFAULT_LOAD_CHUNK_SIZE = 1000;
+
+    private final PlaceRepository placeRepository;
+    private final PlaceQueryService placeQueryService;
+
+    @Value("${place.tag-search.load-chunk-size:" + DEFAULT_LOAD_CHUNK_SIZE + "}")
+    private int loadChunkSize = DEFAULT_LOAD_CHUNK_SIZE;
+
+    private final ReloadableIndex<MoodTagIndex> index = new ReloadableIndex<>(MoodTagIndex::new);
+
+    public PlaceTagSearch(PlaceRepository placeRepository, PlaceQueryService placeQueryService) {
+        this.placeRepository = placeRepository;
+        this.placeQueryService = placeQueryService;
+    }
+
+    /**
+     * 큐레이션된 장소 전체를 ID 순 청크로 읽어 새 색인을 만든 뒤 교체
+     * 적재 중에 들어온 큐레이션 결과는 새 색인에 다시 적용한 뒤 교체하므로 사라지지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Instant startTime = Instant.now();
+        MoodTagIndex fresh = index.reload(placeRepository::findCuratedPlacesAfter, Place::getId, loadChunkSize,
+                (tags, chunk) -> {
+                    for (PlaceResponse place : placeQueryService.toResponses(chunk)) {
+                        tags.put(place.getId(), place.getMoodTags(), place.getCategory(), place.getDateScore());
+                    }
+                });
+        log.info("Indexed mood tags of {} curated places in {} ms",
+                fresh.size(), Duration.between(startTime, Instant.now()).toMillis());
+    }
+
+    /**
+     * 큐레이션 결과를 색인에 반영
+     */
+    @EventListener
+    public void onPlacesCurated(PlacesCuratedEvent event) {
+        index.apply(tags -> {
+            for (PlacesCuratedEvent.Change change : event.changes()) {
+                Place place = change.place();
+                tags.put(place.getId(), place.getMoodTags(), place.getCategory(), place.getDateScore());
+            }
+        });
+    }
+
+    /**
+     * 태그 조건으로 장소 검색
+     *
+     * @param query    태그 조건
+     * @param category 카테고리 단계 하나 (null이면 전체)
+     * @param minScore 최소 점수 (null이면 제한 없음)
+     * @param maxScore 최대 점수 (null이면 제한 없음)
+     * @param limit    최대 결과 수
+     * @return 점수 내림차순 장소 목록과 전체 일치 수
+     */
+    public PlaceSearchResult search(TagQuery query, String category, Integer minScore, Integer maxScore, int limit) {
+        MoodTagIndex.Hits hits = index.current().search(query, category, minScore, maxScore, limit);
+        return PlaceSearchResult.builder()
+                .totalCount(hits.totalCount())
+                .places(placeQueryService.getPlacesInOrder(hits.ids()))
+                .build();
+    }
+
+    /**
+     * 색인된 장소 수
+     */
+    public int size() {
+        return index.current().size();
+    }
+}
@@ -0,0 +1,14 @@
+package com.bananadate.service;
+
+import com.bananadate.entity.Place;
+
+import java.util.List;
+
+/**
+ * 새 장소가 저장되었음을 알리는 이벤트
+ * 메모리 인덱스 등 저장된 장소 목록을 따라가야 하는 구성 요소가 구독합니다.
+ *
+ * @param places 새로 INSERT된 장소 (DB가 발급한 id 포함)
+ */
+public record PlacesCollectedEvent(List<Place> places) {
+}
@@ -0,0 +1,54 @@
+package com.bananadate.service;
+
+import com.bananadate.entity.Place;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 장소 큐레이션 결과가 저장되었음을 알리는 이벤트
+ * 장소는 save/saveAll이 반환한 엔티티여야 합니다. (저장 시 갱신된 updatedAt 등이 반영된 쪽)
+ *
+ * @param changes 저장된 장소와 이전 데이트 점수
+ */
+public record PlacesCuratedEvent(List<Change> changes) {
+
+    /**
+     * 장소 1건의 큐레이션 변화
+     *
+     * @param place             큐레이션 결과가 반영된 장소
+     * @param previousDateScore 이전 데이트 점수 (큐레이션되지 않았던 장소이면 null)
+     */
+    public record Change(Place place, Integer previousDateScore) {
+
+        /**
+         * 새 데이트 점수
+         */
+        public Integer dateScore() {
+            return place.getDateScore();
+        }
+    }
+
+    /**
+     * 큐레이션되지 않았던 장소들이 처음 큐레이션된 경우의 이벤트
+     */
+    public static PlacesCuratedEvent firstCuration(List<Place> places) {
+        return new PlacesCuratedEvent(places.stream()
+                .map(place -> new Change(place, null))
+                .toList());
+    }
+
+    /**
+     * 저장된 장소와 같은 순서의 이전 데이트 점수로 이벤트 생성
+     *
+     * @param savedPlaces        saveAll이 반환한 장소 목록
+     * @param previousDateScores 장소별 이전 데이트 점수 (큐레이션되지 않았던 장소이면 null)
+     */
+    public static PlacesCuratedEvent of(List<Place> savedPlaces, List<Integer> previousDateScores) {
+        List<Change> changes = new ArrayList<>(savedPlaces.size());
+        for (int i = 0; i < savedPlaces.size(); i++) {
+            changes.add(new Change(savedPlaces.get(i), previousDateScores.get(i)));
+        }
+        return new PlacesCuratedEvent(changes);
+    }
+}
@@ -0,0 +1,123 @@
+package com.bananadate.service;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * DB에서 ID 순 청크로 적재하고 이후 이벤트로 갱신하는 메모리 색인 보관소
+ * PlaceRanking, PlaceTagSearch, PlaceKeywordSearch가 같은 방식(시작 시 적재 + 이벤트 반영 + 필요 시 다시 적재)으로 사용합니다.
+ *
+ * 다시 적재할 때는 새 색인을 따로 만든 뒤 한 번에 교체하므로 적재 중에도 이전 색인으로 조회할 수 있습니다.
+ * 적재 중에 들어온 변경은 현재 색인에 반영하면서 함께 모아 두었다가, 교체 직전에 새 색인에 순서대로 다시 적용합니다.
+ * (이미 읽은 청크의 장소가 적재 중에 바뀌어도 교체 후에 사라지지 않음)
+ * 변경은 같은 장소를 최신 값으로 덮어쓰는 연산이어야 하며, 그래야 DB에서 읽은 값에 다시 적용해도 결과가 같습니다.
+ *
+ * @param <I> 색인 타입 (동시 읽기/쓰기에 안전해야 함)
+ */
+public class ReloadableIndex<I> {
+
+    private final Supplier<I> factory;
+
+    // synchronized 대신 ReentrantLock을 사용하여 가상 스레드가 캐리어 스레드에 고정(pinning)되지 않도록 함
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private final ReentrantLock changeLock = new ReentrantLock();
+
+    private volatile I index;
+
+    // 적재 중일 때만 null이 아님 (changeLock으로 보호)
+    private List<Consumer<I>> pendingChanges;
+
+    public ReloadableIndex(Supplier<I> factory) {
+        this.factory = factory;
+        this.index = factory.get();
+    }
+
+    /**
+     * 현재 색인
+     */
+    public I current() {
+        return index;
+    }
+
+    /**
+     * 변경 하나를 현재 색인에 반영 (적재 중이면 교체 후 다시 적용하도록 기록)
+     */
+    public void apply(Consumer<I> change) {
+        changeLock.lock();
+        try {
+            change.accept(index);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    /**
+     * 전체를 ID 순 청크(keyset)로 읽어 새 색인을 만든 뒤 교체
+     * 동시에 하나만 실행되며, 적재 중에 들어온 변경은 새 색인에 다시 적용한 뒤 교체합니다.
+     *
+     * @param query     마지막 ID 다음부터 한 청크를 읽는 조회
+     * @param idOf      행의 ID
+     * @param chunkSize 청크 크기
+     * @param addChunk  새 색인에 청크 추가
+     * @return 교체된 새 색인
+     */
+    public <T> I reload(KeysetQuery<T> query, Function<T, Long> idOf, int chunkSize, BiConsumer<I, List<T>> addChunk) {
+        reloadLock.lock();
+        try {
+            setPendingChanges(new ArrayList<>());
+            try {
+                I fresh = factory.get();
+                long lastId = 0L;
+                while (true) {
+                    List<T> chunk = query.findAfter(lastId, PageRequest.of(0, chunkSize));
+                    if (chunk.isEmpty()) {
+                        break;
+                    }
+                    addChunk.accept(fresh, chunk);
+                    lastId = idOf.apply(chunk.get(chunk.size() - 1));
+                }
+
+                changeLock.lock();
+                try {
+                    pendingChanges.forEach(change -> change.accept(fresh));
+                    index = fresh;
+                } finally {
+                    changeLock.unlock();
+                }
+                return fresh;
+            } finally {
+                setPendingChanges(null);
+            }
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private void setPendingChanges(List<Consumer<I>> changes) {
+        changeLock.lock();
+        try {
+            pendingChanges = changes;
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    /**
+     * ID 기준 keyset 페이지 조회 (예: PlaceRepository.findCuratedPlacesAfter)
+     */
+    @FunctionalInterface
+    public interface KeysetQuery<T> {
+        List<T> findAfter(Long lastId, Pageable pageable);
+    }
+}
@@ -0,0 +1,20 @@
+package com.bananadate.service;
+
+import java.util.List;
+
+/**
+ * 다른 인스턴스에서 장소가 변경되었음을 알리는 이벤트 (PlaceChangeNotifier가 NOTIFY를 받아 발행)
+ *
+ * @param placeIds 변경된 장소 ID (all이면 비어 있음)
+ * @param all      전체 장소가 변경되었거나 알림을 놓쳤을 수 있어 모두 무효화해야 하는 경우
+ */
+public record RemotePlacesChangedEvent(List<Long> placeIds, boolean all) {
+
+    public RemotePlacesChangedEvent {
+        placeIds = List.copyOf(placeIds);
+    }
+
+    public static RemotePlacesChangedEvent allPlaces() {
+        return new RemotePlacesChangedEvent(List.of(), true);
+    }
+}
@@ -0,0 +1,75 @@
+package com.bananadate.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 분위기 태그 검색 조건
+ * 쉼표로 구분한 항목은 모두 만족해야 하고(AND), 항목 안에서 "|"로 구분한 태그는 하나만 있으면 되며(OR),
+ * "-"로 시작하는 항목의 태그는 하나라도 있으면 제외합니다(NOT). 태그 앞의 "#"은 무시합니다.
+ *
+ * 예: "로맨틱,야경명소|루프탑,-시끄러운" = 로맨틱 AND (야경명소 OR 루프탑) AND NOT 시끄러운
+ *
+ * @param required 모두 만족해야 하는 OR 묶음 목록
+ * @param excluded 하나라도 있으면 제외할 태그
+ */
+public record TagQuery(List<Set<String>> required, Set<String> excluded) {
+
+    private static final String AND_SEPARATOR = ",";
+    private static final String OR_SEPARATOR = "\\|";
+    private static final String NOT_PREFIX = "-";
+    private static final String TAG_PREFIX = "#";
+
+    public TagQuery {
+        required = List.copyOf(required);
+        excluded = Set.copyOf(excluded);
+    }
+
+    /**
+     * 검색어 문자열 해석
+     *
+     * @throws IllegalArgumentException 포함할 태그가 하나도 없는 경우
+     */
+    public static TagQuery parse(String expression) {
+        List<Set<String>> required = new ArrayList<>();
+        Set<String> excluded = new LinkedHashSet<>();
+        if (expression != null) {
+            for (String term : expression.split(AND_SEPARATOR)) {
+                String trimmed = term.trim();
+                boolean negated = trimmed.startsWith(NOT_PREFIX);
+                Set<String> tags = new LinkedHashSet<>();
+                for (String tag : (negated ? trimmed.substring(NOT_PREFIX.length()) : trimmed).split(OR_SEPARATOR)) {
+                    String normalized = normalize(tag);
+                    if (!normalized.isEmpty()) {
+                        tags.add(normalized);
+                    }
+                }
+                if (tags.isEmpty()) {
+                    continue;
+                }
+                if (negated) {
+                    excluded.addAll(tags);
+                } else {
+                    required.add(tags);
+                }
+            }
+        }
+        if (required.isEmpty()) {
+            throw new IllegalArgumentException("검색할 태그가 없습니다: " + expression);
+        }
+        return new TagQuery(required, excluded);
+    }
+
+    /**
+     * 태그 정규화 (앞뒤 공백과 "#" 제거)
+     */
+    public static String normalize(String tag) {
+        String trimmed = tag.trim();
+        while (trimmed.startsWith(TAG_PREFIX)) {
+            trimmed = trimmed.substring(TAG_PREFIX.length()).trim();
+        }
+        return trimmed;
+    }
+}
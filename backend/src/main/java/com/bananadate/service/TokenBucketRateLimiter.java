@@ -0,0 +1,72 @@
+package com.bananadate.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 방식의 전역 Rate Limiter
+ * 초당 허용 요청 수(permitsPerSecond)만큼 토큰이 채워지고, 최대 burst 개까지 누적됩니다.
+ * 여러 스레드(가상 스레드 포함)가 동시에 호출해도 전체 요청 속도가 설정값을 넘지 않습니다.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double permitsPerSecond;
+    private final double burst;
+    private final LongSupplier nanoClock;
+
+    // synchronized 대신 ReentrantLock을 사용하여 가상 스레드가 캐리어 스레드에 고정(pinning)되지 않도록 함
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double availableTokens;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be at least 1: " + burst);
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.nanoClock = nanoClock;
+        this.availableTokens = burst;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * 토큰 하나를 예약하고, 토큰이 실제로 사용 가능해질 때까지 기다려야 하는 시간(나노초)을 반환
+     * 토큰이 부족하면 잔여 토큰이 음수가 되어 다음 호출자들이 순서대로 더 오래 기다리게 됩니다.
+     *
+     * @return 대기해야 하는 시간 (나노초, 즉시 사용 가능하면 0)
+     */
+    public long reserve() {
+        lock.lock();
+        try {
+            refill();
+            availableTokens -= 1;
+            if (availableTokens >= 0) {
+                return 0L;
+            }
+            return (long) Math.ceil(-availableTokens / permitsPerSecond * NANOS_PER_SECOND);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        long elapsedNanos = now - lastRefillNanos;
+        if (elapsedNanos > 0) {
+            availableTokens = Math.min(burst, availableTokens + elapsedNanos * permitsPerSecond / NANOS_PER_SECOND);
+            lastRefillNanos = now;
+        }
+    }
+}
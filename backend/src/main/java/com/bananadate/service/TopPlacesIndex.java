@@ -0,0 +1,139 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.PlaceResponse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * (구, 카테고리)별 데이트 점수 순위 인덱스
+ * 큐레이션된 장소를 구/카테고리 조합마다 점수 내림차순(같은 점수는 최신 ID 우선)으로 정렬된 집합에 담아 두어,
+ * 상위 N개 조회가 전체 장소 수와 관계없이 O(limit)으로 끝납니다.
+ *
+ * 장소 하나는 (구 또는 전체) × (카테고리 각 단계 또는 전체) 조합 모두에 들어갑니다.
+ * 예: "음식점 > 카페"인 강남구 장소는 (11230, 음식점), (11230, 카페), (11230, *), (*, 음식점), (*, 카페), (*, *)에 속합니다.
+ * 같은 장소를 다시 넣으면 이전 항목을 모두 지운 뒤 새 점수로 넣습니다.
+ */
+public class TopPlacesIndex {
+
+    /**
+     * 구/카테고리를 지정하지 않은 조합의 키
+     */
+    public static final String ANY = "*";
+
+    private static final Comparator<Entry> RANK_ORDER = Comparator
+            .comparingInt(Entry::dateScore).reversed()
+            .thenComparing(Comparator.comparingLong(Entry::id).reversed());
+
+    private final Map<RankKey, NavigableSet<Entry>> buckets = new ConcurrentHashMap<>();
+    private final Map<Long, Entry> entriesById = new ConcurrentHashMap<>();
+
+    /**
+     * 큐레이션된 장소를 순위에 반영 (이미 있으면 교체, 점수가 없으면 제거)
+     */
+    public void put(PlaceResponse place) {
+        if (place.getId() == null) {
+            return;
+        }
+        if (place.getDateScore() == null) {
+            remove(place.getId());
+            return;
+        }
+
+        Entry entry = new Entry(place.getId(), place.getDateScore(), place);
+        entriesById.compute(place.getId(), (id, previous) -> {
+            if (previous != null) {
+                removeFromBuckets(previous);
+            }
+            for (RankKey key : keysOf(place)) {
+                buckets.computeIfAbsent(key, k -> new ConcurrentSkipListSet<>(RANK_ORDER)).add(entry);
+            }
+            return entry;
+        });
+    }
+
+    /**
+     * 장소를 순위에서 제거
+     */
+    public void remove(long placeId) {
+        entriesById.computeIfPresent(placeId, (id, previous) -> {
+            removeFromBuckets(previous);
+            return null;
+        });
+    }
+
+    /**
+     * 점수 상위 장소 조회
+     *
+     * @param districtId 구 ID (null이면 전체)
+     * @param category   카테고리 단계 하나 (예: "카페", null이면 전체)
+     * @param limit      최대 결과 수
+     * @return 점수 내림차순 장소 목록
+     */
+    public List<PlaceResponse> top(String districtId, String category, int limit) {
+        NavigableSet<Entry> bucket = buckets.get(new RankKey(orAny(districtId), orAny(category)));
+        if (bucket == null) {
+            return List.of();
+        }
+
+        List<PlaceResponse> result = new ArrayList<>(Math.min(limit, 64));
+        for (Entry entry : bucket) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(entry.place());
+        }
+        return result;
+    }
+
+    /**
+     * 순위에 담긴 장소 수
+     */
+    public int size() {
+        return entriesById.size();
+    }
+
+    private void removeFromBuckets(Entry entry) {
+        for (RankKey key : keysOf(entry.place())) {
+            NavigableSet<Entry> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(entry);
+            }
+        }
+    }
+
+    private static List<RankKey> keysOf(PlaceResponse place) {
+        Set<String> categories = new LinkedHashSet<>();
+        categories.add(ANY);
+        categories.addAll(PlaceCategories.segments(place.getCategory()));
+
+        List<RankKey> keys = new ArrayList<>(categories.size() * 2);
+        for (String category : categories) {
+            keys.add(new RankKey(ANY, category));
+            if (place.getDistrictId() != null) {
+                keys.add(new RankKey(place.getDistrictId(), category));
+            }
+        }
+        return keys;
+    }
+
+    private static String orAny(String value) {
+        return value == null || value.isBlank() ? ANY : value.trim();
+    }
+
+    private record RankKey(String districtId, String category) {
+    }
+
+    /**
+     * 순위 항목 (정렬 키는 등록 시점의 점수로 고정)
+     */
+    private record Entry(long id, int dateScore, PlaceResponse place) {
+    }
+}
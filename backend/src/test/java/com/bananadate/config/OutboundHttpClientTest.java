@@ -0,0 +1,171 @@
+package com.bananadate.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * OutboundHttpClient 테스트
+ * 로컬 HttpServer를 업스트림 스텁으로 두고 타임아웃과 연결 풀 한도를 확인합니다.
+ */
+class OutboundHttpClientTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String baseUrl;
+    private OutboundHttpClient outboundHttpClient;
+    private SimpleMeterRegistry meterRegistry;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/ok", exchange -> respond(exchange, "ok"));
+        server.createContext("/slow", exchange -> {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            respond(exchange, "slow");
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+
+        meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (outboundHttpClient != null) {
+            outboundHttpClient.dispose();
+        }
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        Metrics.removeRegistry(meterRegistry);
+    }
+
+    @Test
+    void testGet_Http2FallsBackToHttp11OnPlainHttp() {
+        // Given: HTTP/2 협상을 켠 클라이언트, 평문 HTTP/1.1 서버
+        WebClient webClient = webClient(settings(Duration.ofSeconds(5), 2, Duration.ofSeconds(5)));
+
+        // When
+        String body = get(webClient, "/ok").block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(body).isEqualTo("ok");
+    }
+
+    @Test
+    void testGet_FailsAfterResponseTimeout() {
+        // Given: 응답하지 않는 업스트림
+        WebClient webClient = webClient(settings(Duration.ofMillis(300), 2, Duration.ofSeconds(5)));
+        long startNanos = System.nanoTime();
+
+        // When & Then: 응답 타임아웃 뒤 실패 (무한 대기하지 않음)
+        assertThatThrownBy(() -> get(webClient, "/slow").block(Duration.ofSeconds(5)))
+                .hasRootCauseInstanceOf(ReadTimeoutException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - startNanos)).isLessThan(Duration.ofSeconds(3));
+    }
+
+    @Test
+    void testGet_WaitsForPooledConnectionUpToAcquireTimeout() throws InterruptedException {
+        // Given: 연결 1개짜리 풀, 첫 요청이 연결을 점유
+        WebClient webClient = webClient(settings(Duration.ofSeconds(5), 1, Duration.ofMillis(300)));
+        Mono<String> first = get(webClient, "/slow").cache();
+        first.subscribe(body -> { }, error -> { });
+        waitUntil(() -> inFlight.get() == 1);
+
+        // When & Then: 두 번째 요청은 연결 획득 대기 시간이 지나 실패 (PoolAcquireTimeoutException)
+        assertThatThrownBy(() -> get(webClient, "/ok").block(Duration.ofSeconds(5)))
+                .hasRootCauseInstanceOf(TimeoutException.class);
+
+        // Then: 업스트림에는 동시에 1개 요청만 도달하고, 연결이 반환되면 다시 사용 가능
+        release.countDown();
+        assertThat(first.block(Duration.ofSeconds(5))).isEqualTo("slow");
+        assertThat(get(webClient, "/ok").block(Duration.ofSeconds(5))).isEqualTo("ok");
+        assertThat(maxInFlight.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testConnectionPool_ExposesMetrics() {
+        // Given
+        WebClient webClient = webClient(settings(Duration.ofSeconds(5), 2, Duration.ofSeconds(5)));
+
+        // When
+        get(webClient, "/ok").block(Duration.ofSeconds(5));
+
+        // Then: 업스트림 이름으로 풀 지표 조회
+        assertThat(meterRegistry.find("reactor.netty.connection.provider.max.connections")
+                .tag("name", "stub")
+                .gauge())
+                .isNotNull()
+                .satisfies(gauge -> assertThat(gauge.value()).isEqualTo(2.0));
+    }
+
+    private WebClient webClient(OutboundHttpClient.Settings settings) {
+        outboundHttpClient = new OutboundHttpClient(settings);
+        return outboundHttpClient.configure(WebClient.builder()).baseUrl(baseUrl).build();
+    }
+
+    private static Mono<String> get(WebClient webClient, String path) {
+        return webClient.get().uri(path).retrieve().bodyToMono(String.class);
+    }
+
+    private static OutboundHttpClient.Settings settings(
+            Duration responseTimeout, int maxConnections, Duration pendingAcquireTimeout) {
+        return new OutboundHttpClient.Settings("stub", Duration.ofSeconds(1), responseTimeout,
+                maxConnections, pendingAcquireTimeout, Duration.ofSeconds(30), true);
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/plain");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
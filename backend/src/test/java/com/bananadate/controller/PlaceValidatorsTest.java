@@ -0,0 +1,65 @@
+package com.bananadate.controller;
+
+import com.bananadate.entity.Place;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PlaceValidators 단위 테스트
+ */
+class PlaceValidatorsTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 11, 13, 12, 0);
+
+    @Test
+    void testPlaceETag_ChangesWithUpdatedAt() {
+        // When
+        String eTag = PlaceValidators.placeETag(1L, UPDATED_AT);
+
+        // Then: 따옴표로 감싼 강한 ETag, 수정 시각이 바뀌면 달라짐
+        assertThat(eTag).startsWith("\"1-").endsWith("\"");
+        assertThat(PlaceValidators.placeETag(1L, UPDATED_AT)).isEqualTo(eTag);
+        assertThat(PlaceValidators.placeETag(1L, UPDATED_AT.plusNanos(1_000_000))).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void testPageETag_StableForSameRows() {
+        // Given
+        Page<Place> page = page(0, 10, place(1L, UPDATED_AT), place(2L, UPDATED_AT));
+
+        // When & Then
+        assertThat(PlaceValidators.pageETag(page(0, 10, place(1L, UPDATED_AT), place(2L, UPDATED_AT))))
+                .isEqualTo(PlaceValidators.pageETag(page));
+    }
+
+    @Test
+    void testPageETag_ChangesWhenRowsOrPositionChange() {
+        // Given
+        String eTag = PlaceValidators.pageETag(page(0, 10, place(1L, UPDATED_AT), place(2L, UPDATED_AT)));
+
+        // When & Then: 항목 수정, 항목 교체, 순서, 페이지 위치가 바뀌면 달라짐
+        assertThat(PlaceValidators.pageETag(page(0, 10, place(1L, UPDATED_AT.plusSeconds(1)), place(2L, UPDATED_AT))))
+                .isNotEqualTo(eTag);
+        assertThat(PlaceValidators.pageETag(page(0, 10, place(1L, UPDATED_AT), place(3L, UPDATED_AT))))
+                .isNotEqualTo(eTag);
+        assertThat(PlaceValidators.pageETag(page(0, 10, place(2L, UPDATED_AT), place(1L, UPDATED_AT))))
+                .isNotEqualTo(eTag);
+        assertThat(PlaceValidators.pageETag(page(1, 10, place(1L, UPDATED_AT), place(2L, UPDATED_AT))))
+                .isNotEqualTo(eTag);
+    }
+
+    private static Page<Place> page(int number, int size, Place... places) {
+        return new PageImpl<>(List.of(places), PageRequest.of(number, size), number * size + places.length);
+    }
+
+    private static Place place(Long id, LocalDateTime updatedAt) {
+        return Place.builder().id(id).updatedAt(updatedAt).build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.bananadate.dto;
+
+import com.bananadate.entity.Place;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PlaceCursor 단위 테스트
+ */
+class PlaceCursorTest {
+
+    @Test
+    void testEncodeDecode_CreatedAt() {
+        // Given: 마이크로초까지 있는 생성 시각
+        Place place = Place.builder().id(42L).createdAt(LocalDateTime.of(2025, 11, 13, 10, 15, 30, 123_456_000)).build();
+
+        // When
+        String encoded = PlaceCursor.after(PlaceCursor.SortKey.CREATED_AT, place).encode();
+        PlaceCursor decoded = PlaceCursor.decode(encoded);
+
+        // Then: 정렬 키와 ID가 그대로 복원되고, 커서 문자열은 URL에 그대로 쓸 수 있음
+        assertThat(decoded).isEqualTo(new PlaceCursor(PlaceCursor.SortKey.CREATED_AT, place.getCreatedAt(), null, 42L));
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void testEncodeDecode_DateScore() {
+        // Given
+        Place place = Place.builder().id(7L).dateScore(9).build();
+
+        // When
+        PlaceCursor decoded = PlaceCursor.decode(PlaceCursor.after(PlaceCursor.SortKey.DATE_SCORE, place).encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(new PlaceCursor(PlaceCursor.SortKey.DATE_SCORE, null, 9, 7L));
+    }
+
+    @Test
+    void testDecode_InvalidCursor() {
+        assertThatThrownBy(() -> PlaceCursor.decode("not a cursor!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PlaceCursor.decode("Zm9v")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,101 @@
+package com.bananadate.repository;
+
+import com.bananadate.entity.Place;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PlaceBulkWriter 통합 테스트 (수집 저장 처리량 측정)
+ * 실제 PostgreSQL에 places 테이블이 있어야 합니다.
+ *
+ * 테스트 실행 방법:
+ * 1. BENCHMARK_DB_URL 환경변수 설정 (예: jdbc:postgresql://localhost:5432/bananadate)
+ * 2. DB_USERNAME, DB_PASSWORD 환경변수 설정
+ * 3. ./gradlew test --tests PlaceBulkWriterIntegrationTest
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_DB_URL", matches = ".+")
+class PlaceBulkWriterIntegrationTest {
+
+    private static final int ROW_COUNT = 5_000;
+    private static final String ID_PREFIX = "bulk-bench-";
+
+    private JdbcTemplate jdbcTemplate;
+    private PlaceBulkWriter placeBulkWriter;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getenv("BENCHMARK_DB_URL"),
+                System.getenv("DB_USERNAME"),
+                System.getenv("DB_PASSWORD"));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        placeBulkWriter = new PlaceBulkWriter(jdbcTemplate, 500, new SimpleMeterRegistry());
+        deleteBenchmarkRows();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteBenchmarkRows();
+    }
+
+    @Test
+    void insertIgnoringDuplicates_처리량_측정() {
+        // given
+        List<Place> rowByRowPlaces = createPlaces("row-", ROW_COUNT);
+        List<Place> bulkPlaces = createPlaces("bulk-", ROW_COUNT);
+
+        // when: 기존 방식 (장소마다 INSERT 1회)
+        long rowByRowStart = System.nanoTime();
+        for (Place place : rowByRowPlaces) {
+            placeBulkWriter.insertIgnoringDuplicates(List.of(place));
+        }
+        long rowByRowNanos = System.nanoTime() - rowByRowStart;
+
+        // when: 대량 INSERT
+        long bulkStart = System.nanoTime();
+        List<Place> inserted = placeBulkWriter.insertIgnoringDuplicates(bulkPlaces);
+        long bulkNanos = System.nanoTime() - bulkStart;
+
+        // when: 같은 장소를 다시 저장 (겹치는 수집 작업 시뮬레이션)
+        List<Place> reinserted = placeBulkWriter.insertIgnoringDuplicates(createPlaces("bulk-", ROW_COUNT));
+
+        // then
+        System.out.println("===== Place 저장 처리량 (" + ROW_COUNT + "건) =====");
+        System.out.printf("행 단위 INSERT: %.0f rows/sec%n", ROW_COUNT / (rowByRowNanos / 1e9));
+        System.out.printf("대량 INSERT:    %.0f rows/sec%n", ROW_COUNT / (bulkNanos / 1e9));
+        System.out.println("===============================");
+
+        assertThat(inserted).hasSize(ROW_COUNT);
+        assertThat(inserted).allSatisfy(place -> assertThat(place.getId()).isNotNull());
+        assertThat(reinserted).isEmpty();
+    }
+
+    private List<Place> createPlaces(String group, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Place.builder()
+                        .kakaoPlaceId(ID_PREFIX + group + i)
+                        .placeName("벤치마크 장소 " + i)
+                        .category("음식점 > 카페")
+                        .address("서울 강남구 테헤란로 " + i)
+                        .latitude(37.4979 + i * 1e-6)
+                        .longitude(127.0276 + i * 1e-6)
+                        .phone("02-1234-5678")
+                        .placeUrl("http://place.map.kakao.com/" + i)
+                        .build())
+                .toList();
+    }
+
+    private void deleteBenchmarkRows() {
+        jdbcTemplate.update("DELETE FROM places WHERE kakao_place_id LIKE ?", ID_PREFIX + "%");
+    }
+}
@@ -0,0 +1,144 @@
+package com.bananadate.service;
+
+import com.bananadate.service.AdaptiveConcurrencyLimiter.Outcome;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AdaptiveConcurrencyLimiter 단위 테스트
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(0);
+
+    @Test
+    void testSuccess_IncreasesLimitAdditively() {
+        // Given: 한도 2
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.5, clock::get);
+
+        // When: 한도만큼(2번) 성공
+        for (int i = 0; i < 2; i++) {
+            limiter.release(acquire(limiter), Outcome.SUCCESS);
+        }
+
+        // Then: 한 구간 성공 시 약 1 증가
+        assertThat(limiter.getLimit()).isBetween(2.9, 3.0);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void testOverload_DecreasesLimitMultiplicatively() {
+        // Given: 한도 8
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, 0.5, clock::get);
+        clock.incrementAndGet();
+
+        // When
+        limiter.release(acquire(limiter), Outcome.OVERLOAD);
+
+        // Then: 절반으로 감소
+        assertThat(limiter.getLimit()).isEqualTo(4.0);
+    }
+
+    @Test
+    void testOverload_RequestsStartedBeforeDecreaseAreIgnored() {
+        // Given: 동시에 시작된 요청 3개
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, 0.5, clock::get);
+        clock.incrementAndGet();
+        long first = acquire(limiter);
+        long second = acquire(limiter);
+        long third = acquire(limiter);
+
+        // When: 세 요청 모두 과부하 응답
+        clock.incrementAndGet();
+        limiter.release(first, Outcome.OVERLOAD);
+        limiter.release(second, Outcome.OVERLOAD);
+        limiter.release(third, Outcome.OVERLOAD);
+
+        // Then: 같은 과부하 구간이므로 한 번만 감소
+        assertThat(limiter.getLimit()).isEqualTo(4.0);
+
+        // When: 감소 이후 시작된 요청의 과부하
+        clock.incrementAndGet();
+        limiter.release(acquire(limiter), Outcome.OVERLOAD);
+
+        // Then: 다시 감소
+        assertThat(limiter.getLimit()).isEqualTo(2.0);
+    }
+
+    @Test
+    void testLimit_StaysWithinBounds() {
+        // Given: 최소 2, 최대 3
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(3, 2, 3, 0.5, clock::get);
+
+        // When: 성공이 계속되어도
+        for (int i = 0; i < 10; i++) {
+            limiter.release(acquire(limiter), Outcome.SUCCESS);
+        }
+
+        // Then: 최대값을 넘지 않음
+        assertThat(limiter.getLimit()).isEqualTo(3.0);
+
+        // When: 과부하가 계속되어도
+        for (int i = 0; i < 5; i++) {
+            clock.incrementAndGet();
+            limiter.release(acquire(limiter), Outcome.OVERLOAD);
+        }
+
+        // Then: 최소값 아래로 내려가지 않음
+        assertThat(limiter.getLimit()).isEqualTo(2.0);
+    }
+
+    @Test
+    void testIgnored_KeepsLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 10, 0.5, clock::get);
+        clock.incrementAndGet();
+
+        // When
+        limiter.release(acquire(limiter), Outcome.IGNORED);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(4.0);
+    }
+
+    @Test
+    void testAcquire_BlocksUntilSlotReleased() throws Exception {
+        // Given: 한도 1, 슬롯 사용 중
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 0.5, clock::get);
+        long held = acquire(limiter);
+
+        // When: 다른 스레드가 슬롯을 요청
+        CompletableFuture<Long> waiting = CompletableFuture.supplyAsync(() -> acquire(limiter));
+
+        // Then: 반환 전까지 대기하고, 반환 후 획득
+        Thread.sleep(100);
+        assertThat(waiting.isDone()).isFalse();
+
+        limiter.release(held, Outcome.IGNORED);
+        waiting.get(5, TimeUnit.SECONDS);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void testConstructor_RejectsInvalidBounds() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(1, 0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(1, 3, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long acquire(AdaptiveConcurrencyLimiter limiter) {
+        try {
+            return limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
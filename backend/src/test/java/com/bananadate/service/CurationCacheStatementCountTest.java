@@ -0,0 +1,73 @@
+package com.bananadate.service;
+
+import com.bananadate.entity.CurationCacheEntry;
+import com.bananadate.repository.CurationCacheRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CurationCache SQL 문 수 테스트 (내장 H2)
+ * 키를 직접 지정하는 캐시 항목 저장이 merge(SELECT 후 INSERT) 없이 INSERT 한 번으로 끝나는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(CurationCache.class)
+class CurationCacheStatementCountTest {
+
+    @Autowired
+    private CurationCache curationCache;
+
+    @Autowired
+    private CurationCacheRepository curationCacheRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testPut_InsertsWithoutSelect() {
+        // When
+        curationCache.put("key-1", "v1", "claude-test", "{\"date_score\": 8}");
+        entityManager.flush();
+
+        // Then: INSERT 1회만 실행
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testPut_LoadedEntryIsNotNew() {
+        // Given
+        curationCache.put("key-1", "v1", "claude-test", "{\"date_score\": 8}");
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        CurationCacheEntry loaded = curationCacheRepository.findById("key-1").orElseThrow();
+
+        // Then
+        assertThat(loaded.isNew()).isFalse();
+        assertThat(loaded.getAnalysisJson()).isEqualTo("{\"date_score\": 8}");
+    }
+}
@@ -0,0 +1,124 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.CurationCacheStats;
+import com.bananadate.entity.CurationCacheEntry;
+import com.bananadate.repository.CurationCacheRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * CurationCache 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class CurationCacheTest {
+
+    @Mock
+    private CurationCacheRepository curationCacheRepository;
+
+    private CurationCache curationCache;
+
+    @BeforeEach
+    void setUp() {
+        curationCache = new CurationCache(curationCacheRepository, 100);
+    }
+
+    @Test
+    void testKeyOf_DependsOnVersionModelAndPrompt() {
+        // Given
+        String key = CurationCache.keyOf("v1", "model-a", "프롬프트");
+
+        // When & Then: 같은 입력은 같은 키, 하나라도 다르면 다른 키
+        assertThat(key).hasSize(64).isEqualTo(CurationCache.keyOf("v1", "model-a", "프롬프트"));
+        assertThat(key).isNotEqualTo(CurationCache.keyOf("v2", "model-a", "프롬프트"));
+        assertThat(key).isNotEqualTo(CurationCache.keyOf("v1", "model-b", "프롬프트"));
+        assertThat(key).isNotEqualTo(CurationCache.keyOf("v1", "model-a", "다른 프롬프트"));
+        assertThat(CurationCache.keyOf("v1", "ab", "c")).isNotEqualTo(CurationCache.keyOf("v1", "a", "bc"));
+    }
+
+    @Test
+    void testGet_MemoryHitSkipsDatabase() {
+        // Given
+        curationCache.put("key", "v1", "model", "{\"date_score\": 8}");
+
+        // When
+        Optional<String> cached = curationCache.get("key");
+
+        // Then
+        assertThat(cached).contains("{\"date_score\": 8}");
+        verify(curationCacheRepository, never()).findById(any());
+        assertThat(curationCache.getStats().getMemoryHits()).isEqualTo(1);
+    }
+
+    @Test
+    void testGet_PersistentHitPopulatesMemory() {
+        // Given: DB에만 있는 항목
+        when(curationCacheRepository.findById("key")).thenReturn(Optional.of(CurationCacheEntry.builder()
+                .cacheKey("key")
+                .analysisJson("{\"date_score\": 5}")
+                .build()));
+
+        // When: 두 번 조회
+        curationCache.get("key");
+        Optional<String> second = curationCache.get("key");
+
+        // Then: 두 번째는 메모리에서 응답
+        assertThat(second).contains("{\"date_score\": 5}");
+        verify(curationCacheRepository, times(1)).findById("key");
+        CurationCacheStats stats = curationCache.getStats();
+        assertThat(stats.getPersistentHits()).isEqualTo(1);
+        assertThat(stats.getMemoryHits()).isEqualTo(1);
+        assertThat(stats.getSavedApiCalls()).isEqualTo(2);
+    }
+
+    @Test
+    void testGet_MissAndHitRate() {
+        // Given
+        curationCache.put("hit", "v1", "model", "{}");
+
+        // When
+        curationCache.get("hit");
+        curationCache.get("miss-1");
+        curationCache.get("miss-2");
+        curationCache.get("hit");
+
+        // Then
+        CurationCacheStats stats = curationCache.getStats();
+        assertThat(stats.getMisses()).isEqualTo(2);
+        assertThat(stats.getHitRate()).isEqualTo(0.5);
+        assertThat(stats.getMemoryEntries()).isEqualTo(1);
+    }
+
+    @Test
+    void testGet_DatabaseFailureIsTreatedAsMiss() {
+        // Given
+        when(curationCacheRepository.findById("key")).thenThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+
+        // When & Then: 예외 없이 미스
+        assertThat(curationCache.get("key")).isEmpty();
+        assertThat(curationCache.getStats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void testPut_ConcurrentInsertIsIgnored() {
+        // Given: 다른 요청이 같은 키를 먼저 저장한 경우
+        when(curationCacheRepository.save(any(CurationCacheEntry.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // When
+        curationCache.put("key", "v1", "model", "{}");
+
+        // Then: 메모리 캐시에는 저장됨
+        assertThat(curationCache.get("key")).contains("{}");
+    }
+}
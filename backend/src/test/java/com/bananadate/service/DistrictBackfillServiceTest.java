@@ -0,0 +1,115 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.DistrictBackfillResult;
+import com.bananadate.dto.PlaceCoordinate;
+import com.bananadate.repository.PlaceBulkWriter;
+import com.bananadate.repository.PlaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DistrictBackfillService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class DistrictBackfillServiceTest {
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @Mock
+    private PlaceBulkWriter placeBulkWriter;
+
+    @Mock
+    private DistrictLocator districtLocator;
+
+    @Mock
+    private JobService jobService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private DistrictBackfillService districtBackfillService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(districtBackfillService, "chunkSize", 2);
+    }
+
+    @Test
+    void testBackfillDistricts_KeysetChunks() {
+        // Given: 구 ID가 없는 장소 3개 (그중 1개는 서울시 밖)
+        when(placeRepository.countByDistrictIdIsNullAndDistrictCheckedAtIsNull()).thenReturn(3L);
+        when(placeRepository.findCoordinatesWithoutDistrictAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(coordinate(1L, 37.50, 127.04), coordinate(2L, 37.39, 127.11)));
+        when(placeRepository.findCoordinatesWithoutDistrictAfter(eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(coordinate(5L, 37.55, 126.92)));
+        when(placeRepository.findCoordinatesWithoutDistrictAfter(eq(5L), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(districtLocator.findDistrictId(37.50, 127.04)).thenReturn("11230");
+        when(districtLocator.findDistrictId(37.39, 127.11)).thenReturn(null);
+        when(districtLocator.findDistrictId(37.55, 126.92)).thenReturn("11140");
+        when(placeBulkWriter.updateDistrictIds(anyMap()))
+                .thenAnswer(invocation -> invocation.<Map<Long, String>>getArgument(0).size());
+
+        // When
+        DistrictBackfillResult result = districtBackfillService.backfillDistricts(JobProgress.NONE);
+
+        // Then: 청크마다 배치 UPDATE 1회, 서울시 밖 장소는 구 ID를 비워 두고 판정 완료로만 표시
+        assertThat(result.getScannedCount()).isEqualTo(3);
+        assertThat(result.getAssignedCount()).isEqualTo(2);
+        assertThat(result.getUnmatchedCount()).isEqualTo(1);
+        verify(placeBulkWriter).updateDistrictIds(Map.of(1L, "11230"));
+        verify(placeBulkWriter).updateDistrictIds(Map.of(5L, "11140"));
+        verify(placeBulkWriter, never()).updateDistrictIds(argThat(districtIds -> districtIds.containsKey(2L)));
+        verify(placeBulkWriter).markDistrictsChecked(List.of(2L));
+        verify(placeBulkWriter).markDistrictsChecked(List.of());
+        verify(eventPublisher).publishEvent(new DistrictsBackfilledEvent(2));
+    }
+
+    @Test
+    void testBackfillDistricts_Cancelled() {
+        // Given: 시작 전에 취소된 작업
+        Job job = new Job("job-1", DistrictBackfillService.JOB_TYPE);
+        job.requestCancel();
+        when(placeRepository.countByDistrictIdIsNullAndDistrictCheckedAtIsNull()).thenReturn(10L);
+
+        // When
+        DistrictBackfillResult result = districtBackfillService.backfillDistricts(job);
+
+        // Then: 아무것도 조회/갱신하지 않음
+        assertThat(result.getScannedCount()).isZero();
+        verify(placeRepository, never()).findCoordinatesWithoutDistrictAfter(anyLong(), any(Pageable.class));
+        verifyNoInteractions(placeBulkWriter);
+    }
+
+    @Test
+    void testSubmitBackfillOnStartup_SkipsWhenNothingToBackfill() {
+        // Given
+        when(placeRepository.countByDistrictIdIsNullAndDistrictCheckedAtIsNull()).thenReturn(0L);
+
+        // When
+        districtBackfillService.submitBackfillOnStartup();
+
+        // Then
+        verifyNoInteractions(jobService);
+    }
+
+    private static PlaceCoordinate coordinate(Long id, double latitude, double longitude) {
+        return PlaceCoordinate.builder().id(id).latitude(latitude).longitude(longitude).build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.bananadate.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DistrictPolygonIndex 단위 테스트
+ */
+class DistrictPolygonIndexTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static DistrictPolygonIndex seoulDistricts;
+
+    @BeforeAll
+    static void loadSeoulDistricts() throws IOException {
+        try (InputStream in = DistrictPolygonIndexTest.class.getResourceAsStream("/geo/seoul-districts.json")) {
+            seoulDistricts = DistrictPolygonIndex.fromGeoJson(OBJECT_MAPPER.readTree(in), "code");
+        }
+    }
+
+    @Test
+    void testFindDistrictId_SeoulLandmarks() {
+        // Then: 서울 GeoJSON의 구 코드로 판정
+        assertThat(seoulDistricts.size()).isEqualTo(25);
+        assertThat(seoulDistricts.findDistrictId(37.5045, 127.0490)).isEqualTo("11230");   // 선릉역 → 강남구
+        assertThat(seoulDistricts.findDistrictId(37.5572, 126.9245)).isEqualTo("11140");   // 홍대입구역 → 마포구
+        assertThat(seoulDistricts.findDistrictId(37.5345, 126.9946)).isEqualTo("11030");   // 이태원역 → 용산구
+        assertThat(seoulDistricts.findDistrictId(37.5445, 127.0560)).isEqualTo("11040");   // 성수역 → 성동구
+        assertThat(seoulDistricts.findDistrictId(37.5216, 126.9242)).isEqualTo("11190");   // 여의도역 → 영등포구
+    }
+
+    @Test
+    void testFindDistrictId_OutsideSeoul() {
+        // 판교역 (성남시)
+        assertThat(seoulDistricts.findDistrictId(37.3948, 127.1112)).isNull();
+    }
+
+    @Test
+    void testFindDistrictId_PolygonWithHole() throws IOException {
+        // Given: 가운데에 구멍이 있는 사각형
+        String geoJson = """
+                {"type": "FeatureCollection", "features": [{
+                  "type": "Feature",
+                  "properties": {"code": "A"},
+                  "geometry": {"type": "Polygon", "coordinates": [
+                    [[0, 0], [10, 0], [10, 10], [0, 10], [0, 0]],
+                    [[4, 4], [6, 4], [6, 6], [4, 6], [4, 4]]
+                  ]}
+                }]}
+                """;
+        DistrictPolygonIndex index = DistrictPolygonIndex.fromGeoJson(OBJECT_MAPPER.readTree(geoJson), "code");
+
+        // Then
+        assertThat(index.findDistrictId(2, 2)).isEqualTo("A");
+        assertThat(index.findDistrictId(5, 5)).isNull();
+        assertThat(index.findDistrictId(11, 5)).isNull();
+    }
+}
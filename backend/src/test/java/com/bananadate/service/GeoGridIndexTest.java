@@ -0,0 +1,117 @@
+package com.bananadate.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GeoGridIndex 단위 테스트
+ */
+class GeoGridIndexTest {
+
+    // 강남역 좌표
+    private static final double LAT = 37.4979;
+    private static final double LNG = 127.0276;
+
+    @Test
+    void testNearest_ReturnsClosestInOrder() {
+        // Given: 강남역에서 서로 다른 거리에 있는 장소 3개
+        GeoGridIndex index = new GeoGridIndex(0.005);
+        index.add(1, LAT + 0.02, LNG);    // 약 2.2km
+        index.add(2, LAT + 0.001, LNG);   // 약 110m
+        index.add(3, LAT, LNG + 0.005);   // 약 440m
+
+        // When: 가장 가까운 2개 검색
+        List<GeoGridIndex.Neighbor> result = index.nearest(LAT, LNG, 2);
+
+        // Then: 가까운 순으로 2개
+        assertThat(result).extracting(GeoGridIndex.Neighbor::id).containsExactly(2L, 3L);
+        assertThat(result.get(0).distanceMeters()).isBetween(100.0, 120.0);
+    }
+
+    @Test
+    void testNearest_FewerPointsThanK() {
+        // Given: 멀리 떨어진 장소 1개뿐인 경우
+        GeoGridIndex index = new GeoGridIndex(0.005);
+        index.add(1, LAT + 0.3, LNG - 0.3);
+
+        // When: 10개 검색
+        List<GeoGridIndex.Neighbor> result = index.nearest(LAT, LNG, 10);
+
+        // Then: 있는 만큼만 반환
+        assertThat(result).extracting(GeoGridIndex.Neighbor::id).containsExactly(1L);
+    }
+
+    @Test
+    void testWithinRadius_ExcludesOutsidePoints() {
+        // Given: 반경 500m 안쪽 2개, 바깥쪽 1개
+        GeoGridIndex index = new GeoGridIndex(0.005);
+        index.add(1, LAT + 0.001, LNG);   // 약 110m
+        index.add(2, LAT - 0.003, LNG);   // 약 330m
+        index.add(3, LAT + 0.006, LNG);   // 약 670m
+
+        // When
+        List<GeoGridIndex.Neighbor> result = index.withinRadius(LAT, LNG, 500, 10);
+
+        // Then
+        assertThat(result).extracting(GeoGridIndex.Neighbor::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void testAdd_IgnoresDuplicateId() {
+        // Given: 같은 장소가 두 번 추가된 경우 (시작 시 적재와 수집 이벤트가 겹침)
+        GeoGridIndex index = new GeoGridIndex(0.005);
+        index.add(1, LAT, LNG);
+        index.add(1, LAT, LNG);
+
+        // Then
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.nearest(LAT, LNG, 5)).hasSize(1);
+    }
+
+    @Test
+    void testEmptyIndex() {
+        // Given
+        GeoGridIndex index = new GeoGridIndex(0.005);
+
+        // Then
+        assertThat(index.nearest(LAT, LNG, 5)).isEmpty();
+        assertThat(index.withinRadius(LAT, LNG, 1000, 5)).isEmpty();
+    }
+
+    @Test
+    void testMatchesBruteForce() {
+        // Given: 서울 범위에 무작위 장소 5,000개
+        Random random = new Random(42);
+        GeoGridIndex index = new GeoGridIndex(0.005);
+        List<double[]> points = new ArrayList<>();
+        for (int id = 0; id < 5_000; id++) {
+            double lat = 37.45 + random.nextDouble() * 0.2;
+            double lng = 126.85 + random.nextDouble() * 0.3;
+            index.add(id, lat, lng);
+            points.add(new double[]{id, lat, lng});
+        }
+
+        for (int i = 0; i < 50; i++) {
+            double lat = 37.45 + random.nextDouble() * 0.2;
+            double lng = 126.85 + random.nextDouble() * 0.3;
+
+            // When
+            List<GeoGridIndex.Neighbor> nearest = index.nearest(lat, lng, 10);
+            List<GeoGridIndex.Neighbor> withinRadius = index.withinRadius(lat, lng, 800, 1_000);
+
+            // Then: 전수 조사 결과와 동일
+            List<GeoGridIndex.Neighbor> expected = points.stream()
+                    .map(p -> new GeoGridIndex.Neighbor((long) p[0], GeoGridIndex.distanceMeters(lat, lng, p[1], p[2])))
+                    .sorted(Comparator.comparingDouble(GeoGridIndex.Neighbor::distanceMeters))
+                    .toList();
+            assertThat(nearest).isEqualTo(expected.subList(0, 10));
+            assertThat(withinRadius).isEqualTo(expected.stream().filter(n -> n.distanceMeters() <= 800).toList());
+        }
+    }
+}
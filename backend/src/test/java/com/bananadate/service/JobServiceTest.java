@@ -0,0 +1,173 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.JobStatus;
+import com.bananadate.dto.JobStatusResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JobService 단위 테스트
+ */
+class JobServiceTest {
+
+    private JobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        // 실행 스레드 1개, 대기열 1개
+        jobService = new JobService(1, 1, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.shutdown();
+    }
+
+    @Test
+    void testSubmit_ReportsProgressAndResult() {
+        // When: 3개 중 2개 성공, 1개 실패하는 작업 실행
+        JobStatusResponse submitted = jobService.submit("TEST", progress -> {
+            progress.setTotal(3);
+            progress.recordSuccess();
+            progress.recordSuccess();
+            progress.recordFailure();
+            return "done";
+        });
+
+        // Then
+        JobStatusResponse finished = awaitFinished(submitted.getJobId());
+        assertThat(finished.getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(finished.getTotal()).isEqualTo(3);
+        assertThat(finished.getProcessed()).isEqualTo(3);
+        assertThat(finished.getSucceeded()).isEqualTo(2);
+        assertThat(finished.getFailed()).isEqualTo(1);
+        assertThat(finished.getResult()).isEqualTo("done");
+        assertThat(finished.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    void testSubmit_Failure() {
+        // When: 예외를 던지는 작업 실행
+        JobStatusResponse submitted = jobService.submit("TEST", progress -> {
+            throw new IllegalStateException("boom");
+        });
+
+        // Then
+        JobStatusResponse finished = awaitFinished(submitted.getJobId());
+        assertThat(finished.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(finished.getErrorMessage()).isEqualTo("boom");
+    }
+
+    @Test
+    void testCancel_RunningJobStops() throws InterruptedException {
+        // Given: 취소될 때까지 반복하는 작업
+        CountDownLatch started = new CountDownLatch(1);
+        JobStatusResponse submitted = jobService.submit("TEST", progress -> {
+            while (!progress.isCancelled()) {
+                progress.recordSuccess();
+                started.countDown();
+                Thread.onSpinWait();
+            }
+            return null;
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        jobService.cancel(submitted.getJobId());
+
+        // Then
+        JobStatusResponse finished = awaitFinished(submitted.getJobId());
+        assertThat(finished.getStatus()).isEqualTo(JobStatus.CANCELLED);
+        assertThat(finished.getSucceeded()).isPositive();
+    }
+
+    @Test
+    void testSubmit_RejectedWhenSaturated() throws InterruptedException {
+        // Given: 실행 중 1개 + 대기 1개로 가득 찬 상태
+        CountDownLatch release = new CountDownLatch(1);
+        JobStatusResponse running = jobService.submit("TEST", progress -> awaitLatch(release));
+        JobStatusResponse queued = jobService.submit("TEST", progress -> null);
+
+        // When & Then: 추가 작업은 거절
+        assertThatThrownBy(() -> jobService.submit("TEST", progress -> null))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        // 대기 중인 작업은 시작 전에 취소 가능
+        assertThat(jobService.cancel(queued.getJobId()))
+                .get()
+                .extracting(JobStatusResponse::getStatus)
+                .isEqualTo(JobStatus.CANCELLED);
+
+        release.countDown();
+        assertThat(awaitFinished(running.getJobId()).getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+    }
+
+    @Test
+    void testCleanup_RunsOnceForFinishedCancelledAndRejectedJobs() throws InterruptedException {
+        // Given: 실행 중 1개 + 대기 1개
+        AtomicInteger cleanups = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        JobStatusResponse running = jobService.submit("TEST", progress -> awaitLatch(release), cleanups::incrementAndGet);
+        JobStatusResponse queued = jobService.submit("TEST", progress -> {
+            throw new AssertionError("cancelled job must not run");
+        }, cleanups::incrementAndGet);
+
+        // When & Then: 거절된 작업과 시작 전에 취소된 작업은 바로 정리
+        assertThatThrownBy(() -> jobService.submit("TEST", progress -> null, cleanups::incrementAndGet))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(cleanups.get()).isEqualTo(1);
+        jobService.cancel(queued.getJobId());
+        assertThat(cleanups.get()).isEqualTo(2);
+
+        // 실행 중인 작업은 끝난 뒤 정리
+        release.countDown();
+        assertThat(awaitFinished(running.getJobId()).getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        awaitCount(cleanups, 3);
+        assertThat(jobService.getJob(queued.getJobId()).orElseThrow().getStatus()).isEqualTo(JobStatus.CANCELLED);
+    }
+
+    @Test
+    void testGetJob_NotFound() {
+        assertThat(jobService.getJob("unknown")).isEmpty();
+        assertThat(jobService.cancel("unknown")).isEmpty();
+    }
+
+    private JobStatusResponse awaitFinished(String jobId) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            JobStatusResponse status = jobService.getJob(jobId).orElseThrow();
+            if (status.getStatus().isFinished()) {
+                return status;
+            }
+            Thread.onSpinWait();
+        }
+        throw new AssertionError("Job did not finish in time: " + jobId);
+    }
+
+    private void awaitCount(AtomicInteger counter, int expected) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (counter.get() < expected && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(counter.get()).isEqualTo(expected);
+    }
+
+        private Object awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "released";
+    }
+}
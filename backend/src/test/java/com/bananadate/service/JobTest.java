@@ -0,0 +1,47 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.JobStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Job 상태 전이 단위 테스트
+ */
+class JobTest {
+
+    @Test
+    void testRequestCancel_BeforeStart_PreventsRunning() {
+        // Given
+        Job job = new Job("job-1", "TEST");
+
+        // When: 실행 스레드가 시작하기 전에 취소
+        boolean cancelled = job.requestCancel();
+
+        // Then: 취소 상태로 끝나고, 이후 실행 전이는 실패
+        assertThat(cancelled).isTrue();
+        assertThat(job.getStatus()).isEqualTo(JobStatus.CANCELLED);
+        assertThat(job.markRunning()).isFalse();
+        assertThat(job.getStatus()).isEqualTo(JobStatus.CANCELLED);
+        assertThat(job.toResponse().getStartedAt()).isNull();
+        assertThat(job.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    void testRequestCancel_AfterStart_KeepsRunningUntilWorkStops() {
+        // Given: 이미 시작한 작업
+        Job job = new Job("job-1", "TEST");
+        assertThat(job.markRunning()).isTrue();
+
+        // When
+        job.requestCancel();
+
+        // Then: 작업이 취소 요청을 확인하고 끝낼 때까지 실행 중으로 보임
+        assertThat(job.getStatus()).isEqualTo(JobStatus.RUNNING);
+        assertThat(job.isCancelled()).isTrue();
+
+        job.markFinished(JobStatus.CANCELLED, null, null);
+        assertThat(job.getStatus()).isEqualTo(JobStatus.CANCELLED);
+        assertThat(job.requestCancel()).isFalse();
+    }
+}
@@ -0,0 +1,134 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.KakaoLocalSearchResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * KakaoLocalApiService 단위 테스트
+ * 실제 카카오 API 대신 WebClient의 ExchangeFunction을 스텁으로 교체하여 페이지 응답을 흉내냅니다.
+ */
+class KakaoLocalApiServiceTest {
+
+    private static final int TOTAL_PAGES = 3;
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private KakaoLocalApiService kakaoLocalApiService;
+
+    @BeforeEach
+    void setUp() {
+        WebClient.Builder webClientBuilder = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requestCount.incrementAndGet();
+                    int page = Integer.parseInt(UriComponentsBuilder.fromUri(request.url())
+                            .build()
+                            .getQueryParams()
+                            .getFirst("page"));
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(createPageJson(page))
+                            .build());
+                });
+
+        kakaoLocalApiService = new KakaoLocalApiService(
+                webClientBuilder,
+                "test-api-key",
+                new TokenBucketRateLimiter(1000, 100),
+                meterRegistry
+        );
+    }
+
+    @Test
+    void testSearchPlacesFlux_StopsAtLimit() {
+        // When: 20개만 요청 (페이지당 15개)
+        List<KakaoLocalSearchResponse.Document> documents = kakaoLocalApiService.searchPlacesFlux("강남역 카페", 20)
+                .collectList()
+                .block();
+
+        // Then: 2페이지까지만 요청하고 20개만 반환
+        assertThat(documents).hasSize(20);
+        assertThat(requestCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testSearchPlacesFlux_StopsAtIsEnd() {
+        // When: 전체 문서 수보다 많이 요청
+        List<KakaoLocalSearchResponse.Document> documents = kakaoLocalApiService.searchPlacesFlux("강남역 카페", 100)
+                .collectList()
+                .block();
+
+        // Then: is_end=true인 마지막 페이지에서 중단하고, 페이지 요청마다 호출 시간 기록
+        assertThat(documents).hasSize(TOTAL_PAGES * 15);
+        assertThat(requestCount.get()).isEqualTo(TOTAL_PAGES);
+        assertThat(meterRegistry.get("kakao.api.search").tag("outcome", "success").timer().count())
+                .isEqualTo(TOTAL_PAGES);
+    }
+
+    @Test
+    void testSearchPlacesFlux_Cancellation() {
+        // When: 첫 문서만 요청하고 구독 취소
+        StepVerifier.create(kakaoLocalApiService.searchPlacesFlux("강남역 카페", 100), 1)
+                .expectNextCount(1)
+                .thenCancel()
+                .verify();
+
+        // Then: 다음 페이지는 요청하지 않음
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testSearchAllPlacesFlux_MergesQueries() {
+        // When: 3개 쿼리를 동시성 2로 검색
+        List<KakaoLocalSearchResponse.Document> documents = kakaoLocalApiService
+                .searchAllPlacesFlux(List.of("강남역 카페", "홍대입구 카페", "성수동 카페"), 10, 2)
+                .collectList()
+                .block();
+
+        // Then: 쿼리당 10개씩, 각 1페이지만 요청
+        assertThat(documents).hasSize(30);
+        assertThat(requestCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    void testSearchPlacesWithLimit_BlockingAdapter() {
+        // When
+        List<KakaoLocalSearchResponse.Document> documents = kakaoLocalApiService.searchPlacesWithLimit("강남역 카페");
+
+        // Then: 쿼리당 최대 25개
+        assertThat(documents).hasSize(25);
+        assertThat(documents.get(0).getId()).isEqualTo("1-0");
+        assertThat(requestCount.get()).isEqualTo(2);
+    }
+
+    /**
+     * 카카오 키워드 검색 응답 JSON 생성 헬퍼 메서드
+     */
+    private String createPageJson(int page) {
+        String documents = IntStream.range(0, 15)
+                .mapToObj(i -> String.format("""
+                        {"id": "%d-%d", "place_name": "장소 %d-%d", "category_name": "음식점 > 카페",
+                         "address_name": "서울 강남구", "road_address_name": "서울 강남구 테헤란로",
+                         "x": "127.0276", "y": "37.4979", "phone": "", "place_url": ""}""", page, i, page, i))
+                .collect(Collectors.joining(","));
+        return String.format("""
+                {"meta": {"total_count": %d, "pageable_count": %d, "is_end": %s}, "documents": [%s]}
+                """, TOTAL_PAGES * 15, TOTAL_PAGES * 15, page >= TOTAL_PAGES, documents);
+    }
+}
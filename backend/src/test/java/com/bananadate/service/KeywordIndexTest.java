@@ -0,0 +1,89 @@
+package com.bananadate.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * KeywordIndex 단위 테스트
+ */
+class KeywordIndexTest {
+
+    @Test
+    void testSearch_RanksNameMatchesAboveAddressMatches() {
+        // Given
+        KeywordIndex index = sampleIndex();
+
+        // When
+        KeywordIndex.Hits hits = index.search("강남", 10);
+
+        // Then: 이름 접두 일치 > 이름 포함 + 주소 > 주소만 일치
+        assertThat(hits.ids()).containsExactly(3L, 1L, 4L);
+        assertThat(hits.totalCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testSearch_AllWordsRequiredIgnoringSpaces() {
+        // Given
+        KeywordIndex index = sampleIndex();
+
+        // When & Then: 단어는 AND, 띄어쓰기와 무관하게 부분 일치
+        assertThat(index.search("스타벅스 강남", 10).ids()).containsExactly(1L, 3L);
+        assertThat(index.search("스타벅스강남", 10).ids()).containsExactly(1L);
+        assertThat(index.search("성수 스타벅스", 10).ids()).isEmpty();
+    }
+
+    @Test
+    void testSearch_VerifiesCandidatesFromBigrams() {
+        // Given: "남역"과 "강남"이 따로 있는 주소 (바이그램은 모두 있지만 "강남역"은 없음)
+        KeywordIndex index = new KeywordIndex();
+        index.put(1L, "남역 카페", "음식점 > 카페", "서울 강남구");
+
+        // When & Then
+        assertThat(index.search("강남역", 10).totalCount()).isZero();
+    }
+
+    @Test
+    void testSearch_CategoryAndLimit() {
+        // Given
+        KeywordIndex index = sampleIndex();
+
+        // When
+        KeywordIndex.Hits hits = index.search("커피전문점", 1);
+
+        // Then
+        assertThat(hits.ids()).hasSize(1);
+        assertThat(hits.totalCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testPut_ReplacesPreviousText() {
+        // Given
+        KeywordIndex index = sampleIndex();
+
+        // When: 1번 장소 이름 변경
+        index.put(1L, "투썸플레이스 역삼점", "음식점 > 카페", "서울 강남구 역삼동");
+
+        // Then
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.search("스타벅스", 10).ids()).containsExactly(3L);
+        assertThat(index.search("투썸", 10).ids()).containsExactly(1L);
+    }
+
+    @Test
+    void testSearch_RejectsSingleCharacterKeyword() {
+        // When & Then
+        assertThatThrownBy(() -> sampleIndex().search("역 ", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static KeywordIndex sampleIndex() {
+        KeywordIndex index = new KeywordIndex();
+        index.put(1L, "스타벅스 강남역점", "음식점 > 카페 > 커피전문점", "서울 강남구 역삼동 825");
+        index.put(2L, "블루보틀 성수", "음식점 > 카페 > 커피전문점", "서울 성동구 성수동1가");
+        index.put(3L, "강남 스타벅스 타워", "음식점 > 카페", "서울 서초구 서초동");
+        index.put(4L, "연남 파스타", "음식점 > 양식", "서울 강남구 논현동");
+        return index;
+    }
+}
@@ -0,0 +1,556 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.BatchCurationResult;
+import com.bananadate.dto.JobStatus;
+import com.bananadate.dto.JobStatusResponse;
+import com.bananadate.entity.Place;
+import com.bananadate.repository.CurationCacheRepository;
+import com.bananadate.repository.PlaceRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * MessageBatchCurationService 단위 테스트
+ * 로컬 HttpServer로 Message Batches API(제출, 상태 조회, 취소, JSONL 결과)를 흉내 냅니다.
+ * 배치 ID는 제출 순서대로 msgbatch_test_1, msgbatch_test_2, ...이며, 결과는 그 배치로 제출한 장소의 줄만 돌려줍니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class MessageBatchCurationServiceTest {
+
+    private static final String BATCH_ID = "msgbatch_test";
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @Mock
+    private CurationCacheRepository curationCacheRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private HttpServer server;
+    private String baseUrl;
+    private MessageBatchCurationService messageBatchCurationService;
+
+    private final List<JsonNode> submittedBatches = new CopyOnWriteArrayList<>();
+    private final AtomicInteger statusPolls = new AtomicInteger();
+    private final AtomicInteger cancelRequests = new AtomicInteger();
+    private final List<String> resultLines = new CopyOnWriteArrayList<>();
+    private volatile int pollsUntilEnded = 2;
+    private volatile Runnable onStatusPoll = () -> {
+    };
+    private volatile Runnable onSubmit = () -> {
+    };
+    private volatile Runnable onResults = () -> {
+    };
+    // 장애 주입: n번째 이후 제출은 500, 남은 횟수만큼 상태 조회 503, 남은 횟수만큼 결과를 두 줄만 보내고 끊음, 상태 조회가 항상 404인 배치
+    private volatile int failSubmitsFrom = Integer.MAX_VALUE;
+    private final AtomicInteger statusFailures = new AtomicInteger();
+    private final AtomicInteger truncatedResults = new AtomicInteger();
+    private volatile String missingBatchId;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/messages/batches", this::handle);
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+
+        PlaceCurationService placeCurationService = new PlaceCurationService(
+                WebClient.builder(),
+                objectMapper,
+                "test-api-key",
+                new CurationCache(curationCacheRepository, 100),
+                new SimpleMeterRegistry());
+
+        messageBatchCurationService = new MessageBatchCurationService(
+                WebClient.builder(),
+                objectMapper,
+                placeRepository,
+                placeCurationService,
+                eventPublisher,
+                "test-api-key",
+                baseUrl,
+                Duration.ofMillis(10),
+                2,
+                100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testCurateUncuratedPlaces_SubmitsPollsAndAppliesResults() {
+        // Given: 3개 장소 중 2번 장소 요청은 errored
+        List<Place> places = List.of(createPlace(1L, "카페 A"), createPlace(2L, "카페 B"), createPlace(3L, "카페 C"));
+        stubPlaces(places);
+        resultLines.add(succeeded(1L, 8));
+        resultLines.add("""
+                {"custom_id": "2", "result": {"type": "errored", "error": {"type": "invalid_request_error"}}}""");
+        resultLines.add(succeeded(3L, 6));
+
+        // When
+        BatchCurationResult result = messageBatchCurationService.curateUncuratedPlaces(null, JobProgress.NONE);
+
+        // Then: 3개 장소를 하나의 배치로 제출하고, 끝날 때까지 폴링
+        assertThat(submittedBatches).hasSize(1);
+        JsonNode requests = submittedBatches.get(0).path("requests");
+        assertThat(requests).hasSize(3);
+        assertThat(requests.get(0).path("custom_id").asText()).isEqualTo("1");
+        assertThat(requests.get(0).path("params").path("messages").get(0).path("content").asText()).contains("카페 A");
+        assertThat(statusPolls.get()).isEqualTo(2);
+
+        // Then: 성공한 결과만 반영하고, 결과는 chunkSize(2)개씩 커밋
+        assertThat(result.getSuccessCount()).isEqualTo(2);
+        assertThat(result.getFailedCount()).isEqualTo(1);
+        assertThat(result.getApiCalls()).isEqualTo(1);
+        assertThat(result.getInputTokens()).isEqualTo(2 * 400);
+        assertThat(result.getOutputTokens()).isEqualTo(2 * 100);
+        assertThat(places.get(0).getDateScore()).isEqualTo(8);
+        assertThat(places.get(0).getCuratedAt()).isNotNull();
+        assertThat(places.get(1).getDateScore()).isNull();
+        assertThat(places.get(2).getDateScore()).isEqualTo(6);
+        verify(placeRepository, times(2)).saveAll(any());
+        assertThat(cancelRequests.get()).isZero();
+    }
+
+    @Test
+    void testCurateUncuratedPlaces_SplitsIntoMultipleBatches() {
+        // Given: 배치당 최대 2개 요청
+        messageBatchCurationService = newService(2);
+        List<Place> places = List.of(createPlace(1L, "카페 A"), createPlace(2L, "카페 B"), createPlace(3L, "카페 C"));
+        stubPlaces(places);
+        pollsUntilEnded = 1;
+
+        // When
+        BatchCurationResult result = messageBatchCurationService.curateUncuratedPlaces(null, JobProgress.NONE);
+
+        // Then: 2개, 1개 요청으로 두 번 제출
+        assertThat(submittedBatches).hasSize(2);
+        assertThat(submittedBatches.get(0).path("requests")).hasSize(2);
+        assertThat(submittedBatches.get(1).path("requests")).hasSize(1);
+        assertThat(result.getApiCalls()).isEqualTo(2);
+    }
+
+    @Test
+    void testCurateUncuratedPlaces_CancelDuringPollingCancelsBatch() {
+        // Given: 폴링 중 취소 요청이 들어오고, 1번 장소만 처리된 뒤 나머지는 canceled
+        Job job = new Job("job-1", "BATCH_CURATION");
+        List<Place> places = List.of(createPlace(1L, "카페 A"), createPlace(2L, "카페 B"), createPlace(3L, "카페 C"));
+        stubPlaces(places);
+        pollsUntilEnded = 3;
+        onStatusPoll = job::requestCancel;
+        resultLines.add(succeeded(1L, 7));
+        resultLines.add("""
+                {"custom_id": "2", "result": {"type": "canceled"}}""");
+        resultLines.add("""
+                {"custom_id": "3", "result": {"type": "canceled"}}""");
+
+        // When
+        BatchCurationResult result = messageBatchCurationService.curateUncuratedPlaces(null, job);
+
+        // Then: 배치 취소를 한 번 요청하고, 이미 처리된 결과는 저장하며 canceled는 실패로 집계하지 않음
+        assertThat(cancelRequests.get()).isEqualTo(1);
+        assertThat(result.getSuccessCount()).isEqualTo(1);
+        assertThat(result.getFailedCount()).isZero();
+        assertThat(result.getMessage()).startsWith("Cancelled");
+        assertThat(places.get(0).getDateScore()).isEqualTo(7);
+        assertThat(places.get(1).getCuratedAt()).isNull();
+    }
+
+    @Test
+    void testCurateUncuratedPlaces_JobCancelInterruptsSubmitWithoutResending() throws InterruptedException {
+        // Given: 배치 제출 요청이 진행 중일 때 작업이 취소되어 실행 스레드가 인터럽트됨
+        List<Place> places = List.of(createPlace(1L, "카페 A"), createPlace(2L, "카페 B"), createPlace(3L, "카페 C"));
+        stubPlaces(places);
+        pollsUntilEnded = 1;
+        resultLines.add(succeeded(1L, 7));
+        resultLines.add("""
+                {"custom_id": "2", "result": {"type": "canceled"}}""");
+        resultLines.add("""
+                {"custom_id": "3", "result": {"type": "canceled"}}""");
+
+        // When
+        JobStatusResponse finished = runJobCancelledWhen(hook -> onSubmit = hook);
+
+        // Then: 제출은 한 번뿐이고, 만들어진 배치를 취소한 뒤 처리된 결과는 반영
+        assertThat(finished.getStatus()).isEqualTo(JobStatus.CANCELLED);
+        assertThat(submittedBatches).hasSize(1);
+        assertThat(cancelRequests.get()).isEqualTo(1);
+        assertThat(finished.getSucceeded()).isEqualTo(1);
+        assertThat(places.get(0).getDateScore()).isEqualTo(7);
+        assertThat(places.get(1).getCuratedAt()).isNull();
+    }
+
+    @Test
+    void testCurateUncuratedPlaces_JobCancelInterruptsResultStreamingKeepsApplying() throws InterruptedException {
+        // Given: 배치가 끝나 결과를 읽는 중에 작업이 취소되어 실행 스레드가 인터럽트됨
+        List<Place> places = List.of(createPlace(1L, "카페 A"), createPlace(2L, "카페 B"), createPlace(3L, "카페 C"));
+        stubPlaces(places);
+        pollsUntilEnded = 1;
+        resultLines.add(succeeded(1L, 8));
+        resultLines.add(succeeded(2L, 7));
+        resultLines.add(succeeded(3L, 6));
+
+        // When
+        JobStatusResponse finished = runJobCancelledWhen(hook -> onResults = hook);
+
+        // Then: 이미 끝난 배치의 결과는 모두 chunkSize(2)개씩 반영
+        assertThat(finished.getStatus()).isEqualTo(JobStatus.CANCELLED);
+        assertThat(finished.getSucceeded()).isEqualTo(3);
+        assertThat(places).allSatisfy(place -> assertThat(place.getCuratedAt()).isNotNull());
+        verify(placeRepository, times(2)).saveAll(any());
+    }
+
+    @Test
+    void testCurateUncuratedPlaces_RetriesTransientPollAndResultsFailures() {
+        // Given: 상태 조회가 두 번 503, 결과 응답이 두 줄만 보낸 뒤 한 번 끊김 (chunkSize 2)
+        List<Place> places = List.of(createPlace(1L, "카페 A"), createPlace(2L, "카페 B"), createPlace(3L, "카페 C"));
+        stubPlaces(places);
+        pollsUntilEnded = 1;
+        statusFailures.set(2);
+        truncatedResults.set(1);
+        resultLines.add(succeeded(1L, 8));
+        resultLines.add(succeeded(2L, 7));
+        resultLines.add(succeeded(3L, 6));
+
+        // When
+        BatchCurationResult result = messageBatchCurationService.curateUncuratedPlaces(null, JobProgress.NONE);
+
+        // Then: 재시도 끝에 모두 반영하고, 다시 받은 결과에서 이미 받은 줄은 건너뜀 (장소마다 한 번씩 저장)
+        assertThat(statusFailures.get()).isZero();
+        assertThat(truncatedResults.get()).isZero();
+        assertThat(result.getSuccessCount()).isEqualTo(3);
+        assertThat(result.getFailedCount()).isZero();
+        assertThat(countSavedPlaces()).isEqualTo(3);
+        assertThat(places).allSatisfy(place -> assertThat(place.getCuratedAt()).isNotNull());
+    }
+
+    @Test
+    void testCurateUncuratedPlaces_FailedBatchDoesNotAbandonOthers() {
+        // Given: 배치당 최대 2개 요청, 첫 번째 배치의 상태 조회가 404
+        messageBatchCurationService = newService(2);
+        List<Place> places = List.of(createPlace(1L, "카페 A"), createPlace(2L, "카페 B"), createPlace(3L, "카페 C"));
+        stubPlaces(places);
+        pollsUntilEnded = 1;
+        missingBatchId = BATCH_ID + "_1";
+        resultLines.add(succeeded(1L, 8));
+        resultLines.add(succeeded(2L, 7));
+        resultLines.add(succeeded(3L, 6));
+
+        // When
+        BatchCurationResult result = messageBatchCurationService.curateUncuratedPlaces(null, JobProgress.NONE);
+
+        // Then: 두 번째 배치는 반영하고, 반영하지 못한 첫 번째 배치 ID를 결과에 남김
+        assertThat(submittedBatches).hasSize(2);
+        assertThat(result.getSuccessCount()).isEqualTo(1);
+        assertThat(places.get(2).getDateScore()).isEqualTo(6);
+        assertThat(places.get(0).getCuratedAt()).isNull();
+        assertThat(result.getMessage()).contains("message batches not applied: [" + BATCH_ID + "_1]");
+    }
+
+    @Test
+    void testCurateUncuratedPlaces_SubmitFailureStillAppliesSubmittedBatches() {
+        // Given: 배치당 최대 2개 요청, 두 번째 배치 제출이 500으로 실패
+        messageBatchCurationService = newService(2);
+        List<Place> places = List.of(createPlace(1L, "카페 A"), createPlace(2L, "카페 B"), createPlace(3L, "카페 C"));
+        stubPlaces(places);
+        pollsUntilEnded = 1;
+        failSubmitsFrom = 2;
+        resultLines.add(succeeded(1L, 8));
+        resultLines.add(succeeded(2L, 7));
+
+        // When & Then: 이미 제출한 첫 번째 배치의 결과를 반영한 뒤 제출 실패를 알림
+        assertThatThrownBy(() -> messageBatchCurationService.curateUncuratedPlaces(null, JobProgress.NONE))
+                .isInstanceOf(IllegalStateException.class)
+                .hasRootCauseInstanceOf(WebClientResponseException.InternalServerError.class);
+        assertThat(places.get(0).getDateScore()).isEqualTo(8);
+        assertThat(places.get(1).getDateScore()).isEqualTo(7);
+        assertThat(places.get(2).getCuratedAt()).isNull();
+        assertThat(statusPolls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testIsTransientFailure() {
+        // Given & When & Then: 5xx, 429, 연결/읽기 오류만 재시도
+        assertThat(MessageBatchCurationService.isTransientFailure(WebClientResponseException.create(
+                502, "Bad Gateway", HttpHeaders.EMPTY, new byte[0], null))).isTrue();
+        assertThat(MessageBatchCurationService.isTransientFailure(WebClientResponseException.create(
+                429, "Too Many Requests", HttpHeaders.EMPTY, new byte[0], null))).isTrue();
+        assertThat(MessageBatchCurationService.isTransientFailure(
+                new RuntimeException(ReadTimeoutException.INSTANCE))).isTrue();
+        assertThat(MessageBatchCurationService.isTransientFailure(WebClientResponseException.create(
+                404, "Not Found", HttpHeaders.EMPTY, new byte[0], null))).isFalse();
+        assertThat(MessageBatchCurationService.isTransientFailure(new IllegalStateException("DB error"))).isFalse();
+    }
+
+    @Test
+    void testCurateUncuratedPlaces_NothingToCurate() {
+        // Given
+        when(placeRepository.countUncuratedPlaces()).thenReturn(0L);
+
+        // When
+        BatchCurationResult result = messageBatchCurationService.curateUncuratedPlaces(null, JobProgress.NONE);
+
+        // Then: 배치를 제출하지 않음
+        assertThat(result.getTotalProcessed()).isZero();
+        assertThat(submittedBatches).isEmpty();
+    }
+
+    private MessageBatchCurationService newService(int maxRequestsPerBatch) {
+        return new MessageBatchCurationService(
+                WebClient.builder(), objectMapper, placeRepository,
+                new PlaceCurationService(WebClient.builder(), objectMapper, "test-api-key",
+                        new CurationCache(curationCacheRepository, 100), new SimpleMeterRegistry()),
+                eventPublisher, "test-api-key", baseUrl, Duration.ofMillis(10), 2, maxRequestsPerBatch);
+    }
+
+    /**
+     * saveAll로 저장된 장소 수 합계
+     */
+    private int countSavedPlaces() {
+        return mockingDetails(placeRepository).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("saveAll"))
+                .mapToInt(invocation -> invocation.<List<Place>>getArgument(0).size())
+                .sum();
+    }
+
+    /**
+     * JobService에서 큐레이션을 실행하고, 주어진 스텁 API 훅이 호출되면 작업을 취소 (future.cancel(true)로 인터럽트)
+     *
+     * @return 끝난 작업 상태
+     */
+    private JobStatusResponse runJobCancelledWhen(Consumer<Runnable> hookSetter) throws InterruptedException {
+        JobService jobService = new JobService(1, 1, 60);
+        AtomicReference<String> jobId = new AtomicReference<>();
+        CountDownLatch submitted = new CountDownLatch(1);
+        hookSetter.accept(() -> jobService.cancel(jobId.get()));
+        try {
+            jobId.set(jobService.submit("BATCH_CURATION", progress -> {
+                awaitLatch(submitted);
+                return messageBatchCurationService.curateUncuratedPlaces(null, progress);
+            }).getJobId());
+            submitted.countDown();
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (System.nanoTime() < deadline) {
+                JobStatusResponse status = jobService.getJob(jobId.get()).orElseThrow();
+                if (status.getStatus().isFinished()) {
+                    return status;
+                }
+                Thread.sleep(10);
+            }
+            throw new AssertionError("Job did not finish in time: " + jobId.get());
+        } finally {
+            jobService.shutdown();
+        }
+    }
+
+    private void awaitLatch(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * 스텁 Message Batches API
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        assertThat(exchange.getRequestHeaders().getFirst("x-api-key")).isEqualTo("test-api-key");
+
+        if (method.equals("POST") && path.equals("/v1/messages/batches")) {
+            submittedBatches.add(objectMapper.readTree(exchange.getRequestBody()));
+            onSubmit.run();
+            if (submittedBatches.size() >= failSubmitsFrom) {
+                respondStatus(exchange, 500);
+                return;
+            }
+            respond(exchange, "application/json", batchStatus(BATCH_ID + "_" + submittedBatches.size(), "in_progress"));
+        } else if (method.equals("POST") && path.endsWith("/cancel")) {
+            cancelRequests.incrementAndGet();
+            respond(exchange, "application/json", batchStatus(batchIdOf(path), "canceling"));
+        } else if (method.equals("GET") && path.endsWith("/results")) {
+            onResults.run();
+            String body = resultsOf(batchIdOf(path));
+            if (truncatedResults.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+                // 앞의 두 줄만 청크로 보낸 뒤 마지막 청크 없이 연결을 끊음 (핸들러에서 예외가 나면 서버가 연결을 닫음)
+                exchange.getResponseHeaders().set("Content-Type", "application/binary");
+                exchange.sendResponseHeaders(200, 0);
+                OutputStream out = exchange.getResponseBody();
+                out.write(body.substring(0, body.indexOf('\n', body.indexOf('\n') + 1) + 1).getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                sleepQuietly(Duration.ofMillis(200));
+                throw new IOException("results stream aborted");
+            }
+            respond(exchange, "application/binary", body);
+        } else if (method.equals("GET")) {
+            onStatusPoll.run();
+            String batchId = batchIdOf(path);
+            if (batchId.equals(missingBatchId)) {
+                respondStatus(exchange, 404);
+                return;
+            }
+            if (statusFailures.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+                respondStatus(exchange, 503);
+                return;
+            }
+            boolean ended = statusPolls.incrementAndGet() >= pollsUntilEnded;
+            respond(exchange, "application/json", batchStatus(batchId, ended ? "ended" : "in_progress"));
+        } else {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        }
+    }
+
+    /**
+     * /v1/messages/batches/{batchId}[/cancel|/results] 경로의 배치 ID
+     */
+    private static String batchIdOf(String path) {
+        return path.substring("/v1/messages/batches/".length()).split("/")[0];
+    }
+
+    /**
+     * 배치로 제출한 장소(custom_id)의 결과 줄만 JSONL로 반환
+     */
+    private String resultsOf(String batchId) throws IOException {
+        int index = Integer.parseInt(batchId.substring(BATCH_ID.length() + 1)) - 1;
+        List<String> customIds = new ArrayList<>();
+        submittedBatches.get(index).path("requests").forEach(request -> customIds.add(request.path("custom_id").asText()));
+
+        StringBuilder body = new StringBuilder();
+        for (String line : resultLines) {
+            if (customIds.contains(objectMapper.readTree(line).path("custom_id").asText())) {
+                body.append(line).append('\n');
+            }
+        }
+        return body.toString();
+    }
+
+    private String batchStatus(String batchId, String processingStatus) {
+        ObjectNode batch = objectMapper.createObjectNode()
+                .put("id", batchId)
+                .put("type", "message_batch")
+                .put("processing_status", processingStatus);
+        if (processingStatus.equals("ended")) {
+            batch.put("results_url", baseUrl + "/v1/messages/batches/" + batchId + "/results");
+        } else {
+            batch.putNull("results_url");
+        }
+        return batch.toString();
+    }
+
+    private String succeeded(Long placeId, int dateScore) {
+        ObjectNode line = objectMapper.createObjectNode().put("custom_id", String.valueOf(placeId));
+        ObjectNode message = line.putObject("result").put("type", "succeeded").putObject("message");
+        message.putArray("content").addObject()
+                .put("type", "text")
+                .put("text", "{\"date_score\": " + dateScore + ", \"mood_tags\": [\"#로맨틱\"], "
+                        + "\"price_range\": \"1만원대\", \"best_time\": \"저녁\", \"recommendation\": \"추천\"}");
+        message.putObject("usage").put("input_tokens", 400).put("output_tokens", 100);
+        return line.toString();
+    }
+
+    private static void sleepQuietly(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respondStatus(HttpExchange exchange, int status) throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+
+    private void respond(HttpExchange exchange, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * 미큐레이션 장소 조회(ID 기준 페이지)와 ID 목록 조회를 스텁
+     */
+    private void stubPlaces(List<Place> places) {
+        when(placeRepository.countUncuratedPlaces()).thenReturn((long) places.size());
+        when(placeRepository.findUncuratedPlacesAfter(anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    long lastId = invocation.getArgument(0);
+                    Pageable pageable = invocation.getArgument(1);
+                    return places.stream()
+                            .filter(place -> place.getId() > lastId)
+                            .limit(pageable.getPageSize())
+                            .toList();
+                });
+        lenient().when(placeRepository.findAllById(any()))
+                .thenAnswer(invocation -> {
+                    Collection<Long> ids = invocation.getArgument(0);
+                    List<Place> found = new ArrayList<>();
+                    places.stream().filter(place -> ids.contains(place.getId())).forEach(found::add);
+                    return found;
+                });
+    }
+
+    private Place createPlace(Long id, String placeName) {
+        Place place = new Place();
+        place.setId(id);
+        place.setKakaoPlaceId(String.valueOf(id));
+        place.setPlaceName(placeName);
+        place.setCategory("음식점 > 카페");
+        place.setAddress("서울특별시 강남구");
+        place.setLatitude(37.4979);
+        place.setLongitude(127.0276);
+        place.setCreatedAt(LocalDateTime.now());
+        return place;
+    }
+}
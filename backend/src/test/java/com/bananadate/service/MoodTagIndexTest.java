@@ -0,0 +1,86 @@
+package com.bananadate.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MoodTagIndex 단위 테스트
+ */
+class MoodTagIndexTest {
+
+    @Test
+    void testSearch_AndOrNotOrderedByScore() {
+        // Given
+        MoodTagIndex index = sampleIndex();
+
+        // When: 로맨틱 AND (야경명소 OR 루프탑) AND NOT 시끄러운
+        MoodTagIndex.Hits hits = index.search(TagQuery.parse("로맨틱,야경명소|루프탑,-시끄러운"), null, null, null, 10);
+
+        // Then: 점수 내림차순, 같은 점수는 최신 ID 우선
+        assertThat(hits.ids()).containsExactly(4L, 2L, 1L);
+        assertThat(hits.totalCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testSearch_CategoryAndScoreFilters() {
+        // Given
+        MoodTagIndex index = sampleIndex();
+
+        // When & Then: 카테고리 단계와 점수 범위는 비트맵 교집합으로 적용
+        assertThat(index.search(TagQuery.parse("로맨틱"), "카페", null, null, 10).ids()).containsExactly(2L, 1L);
+        assertThat(index.search(TagQuery.parse("로맨틱"), null, 8, 9, 10).ids()).containsExactly(4L, 2L, 3L);
+        assertThat(index.search(TagQuery.parse("로맨틱"), "전시", null, null, 10).ids()).isEmpty();
+    }
+
+    @Test
+    void testSearch_LimitKeepsTotalCount() {
+        // Given
+        MoodTagIndex index = sampleIndex();
+
+        // When
+        MoodTagIndex.Hits hits = index.search(TagQuery.parse("로맨틱"), null, null, null, 2);
+
+        // Then: 반환은 2개, 전체 일치 수는 그대로
+        assertThat(hits.ids()).containsExactly(4L, 2L);
+        assertThat(hits.totalCount()).isEqualTo(4);
+    }
+
+    @Test
+    void testPut_ReplacesPreviousTags() {
+        // Given
+        MoodTagIndex index = sampleIndex();
+
+        // When: 4번 장소가 재큐레이션되어 로맨틱 태그가 빠짐
+        index.put(4L, List.of("#조용한"), "음식점 > 일식", 5);
+
+        // Then
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.search(TagQuery.parse("로맨틱"), null, null, null, 10).ids()).containsExactly(2L, 3L, 1L);
+        assertThat(index.search(TagQuery.parse("조용한"), null, null, null, 10).ids()).containsExactly(4L);
+    }
+
+    @Test
+    void testRemove() {
+        // Given
+        MoodTagIndex index = sampleIndex();
+
+        // When
+        index.remove(2L);
+
+        // Then
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search(TagQuery.parse("로맨틱"), "카페", null, null, 10).ids()).containsExactly(1L);
+    }
+
+    private static MoodTagIndex sampleIndex() {
+        MoodTagIndex index = new MoodTagIndex();
+        index.put(1L, List.of("#로맨틱", "#야경명소"), "음식점 > 카페", 7);
+        index.put(2L, List.of("#로맨틱", "#루프탑"), "음식점 > 카페", 9);
+        index.put(3L, List.of("#로맨틱", "#야경명소", "#시끄러운"), "음식점 > 일식", 8);
+        index.put(4L, List.of("#로맨틱", "#루프탑"), "음식점 > 일식", 9);
+        return index;
+    }
+}
@@ -1,6 +1,8 @@
 package com.bananadate.service;
 
 import com.bananadate.dto.BatchCurationResult;
+import com.bananadate.dto.PlaceBasicInfo;
+import com.bananadate.dto.PlaceBatchAnalysis;
 import com.bananadate.dto.PlaceCurationResult;
 import com.bananadate.entity.Place;
 import com.bananadate.repository.PlaceRepository;
@@ -9,16 +11,32 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -27,12 +45,20 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class PlaceBatchCurationServiceTest {
 
+    private static final LocalDateTime SAVED_AT = LocalDateTime.of(2030, 1, 1, 12, 0);
+
     @Mock
     private PlaceRepository placeRepository;
 
     @Mock
     private PlaceCurationService placeCurationService;
 
+    @Spy
+    private AdaptiveConcurrencyLimiter concurrencyLimiter = new AdaptiveConcurrencyLimiter(4, 1, 16);
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PlaceBatchCurationService placeBatchCurationService;
 
@@ -61,9 +87,9 @@ class PlaceBatchCurationServiceTest {
     @Test
     void testCurateUncuratedPlaces_Success() {
         // Given: 큐레이션되지 않은 장소 3개가 있고 모두 성공하는 경우
-        when(placeRepository.findUncuratedPlaces()).thenReturn(mockUncuratedPlaces);
-        when(placeCurationService.analyzePlaceForDate(any())).thenReturn(mockCurationResult);
-        when(placeRepository.save(any(Place.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        stubUncuratedPlaces(mockUncuratedPlaces);
+        stubAnalysis(placeInfo -> mockCurationResult);
+        List<Place> savedPlaces = stubSaveAllReturnsMergedCopies();
 
         // When: 배치 큐레이션 실행
         BatchCurationResult result = placeBatchCurationService.curateUncuratedPlaces(null);
@@ -75,18 +101,23 @@ class PlaceBatchCurationServiceTest {
         assertThat(result.getTotalProcessed()).isEqualTo(3);
         assertThat(result.getElapsedTimeSeconds()).isGreaterThanOrEqualTo(0);
 
-        // Claude API가 3번 호출되었는지 확인
-        verify(placeCurationService, times(3)).analyzePlaceForDate(any());
-        // DB에 3개 저장되었는지 확인
-        verify(placeRepository, times(3)).save(any(Place.class));
+        // 3개 장소가 한 번의 묶음 요청으로 분석되었는지 확인
+        verify(placeCurationService, times(1)).analyzePlacesForDate(anyList());
+        assertThat(countAnalyzedPlaces()).isEqualTo(3);
+        assertThat(result.getApiCalls()).isEqualTo(1);
+        // 하나의 청크로 3개 저장되었는지 확인
+        verify(placeRepository, times(1)).saveAll(any());
+        assertThat(countSavedPlaces()).isEqualTo(3);
+        // 저장된 청크는 saveAll이 반환한 엔티티(갱신된 updatedAt 포함)로 이벤트 발행
+        assertThat(savedPlaces).hasSize(3).allSatisfy(place -> assertThat(place.getUpdatedAt()).isEqualTo(SAVED_AT));
+        verify(eventPublisher, times(1)).publishEvent(PlacesCuratedEvent.firstCuration(savedPlaces));
     }
 
     @Test
     void testCurateUncuratedPlaces_WithLimit() {
         // Given: 큐레이션되지 않은 장소 3개가 있지만 limit=2로 제한
-        when(placeRepository.findUncuratedPlaces()).thenReturn(mockUncuratedPlaces);
-        when(placeCurationService.analyzePlaceForDate(any())).thenReturn(mockCurationResult);
-        when(placeRepository.save(any(Place.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        stubUncuratedPlaces(mockUncuratedPlaces);
+        stubAnalysis(placeInfo -> mockCurationResult);
 
         // When: limit=2로 배치 큐레이션 실행
         BatchCurationResult result = placeBatchCurationService.curateUncuratedPlaces(2);
@@ -97,20 +128,21 @@ class PlaceBatchCurationServiceTest {
         assertThat(result.getFailedCount()).isEqualTo(0);
         assertThat(result.getTotalProcessed()).isEqualTo(2);
 
-        // Claude API가 2번만 호출되었는지 확인
-        verify(placeCurationService, times(2)).analyzePlaceForDate(any());
-        verify(placeRepository, times(2)).save(any(Place.class));
+        // 2개 장소만 분석되었는지 확인
+        assertThat(countAnalyzedPlaces()).isEqualTo(2);
+        assertThat(countSavedPlaces()).isEqualTo(2);
     }
 
     @Test
     void testCurateUncuratedPlaces_PartialFailure() {
         // Given: 일부 장소의 큐레이션이 실패하는 경우
-        when(placeRepository.findUncuratedPlaces()).thenReturn(mockUncuratedPlaces);
-        when(placeCurationService.analyzePlaceForDate(any()))
-                .thenReturn(mockCurationResult)  // 첫 번째 성공
-                .thenThrow(new RuntimeException("API Error"))  // 두 번째 실패
-                .thenReturn(mockCurationResult);  // 세 번째 성공
-        when(placeRepository.save(any(Place.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        stubUncuratedPlaces(mockUncuratedPlaces);
+        stubAnalysis(placeInfo -> {
+            if (placeInfo.getPlaceName().equals("테스트 레스토랑")) {
+                throw new RuntimeException("API Error");  // 두 번째 실패
+            }
+            return mockCurationResult;
+        });
 
         // When: 배치 큐레이션 실행
         BatchCurationResult result = placeBatchCurationService.curateUncuratedPlaces(null);
@@ -121,10 +153,234 @@ class PlaceBatchCurationServiceTest {
         assertThat(result.getFailedCount()).isEqualTo(1);
         assertThat(result.getTotalProcessed()).isEqualTo(3);
 
-        // Claude API가 3번 호출되었는지 확인
-        verify(placeCurationService, times(3)).analyzePlaceForDate(any());
+        // 3개 장소 모두 분석을 시도했는지 확인
+        assertThat(countAnalyzedPlaces()).isEqualTo(3);
         // DB에는 성공한 2개만 저장되었는지 확인
-        verify(placeRepository, times(2)).save(any(Place.class));
+        assertThat(countSavedPlaces()).isEqualTo(2);
+    }
+
+    @Test
+    void testCurateUncuratedPlaces_CommitsPerChunk() {
+        // Given: 5개 장소, 청크 크기 2, 요청당 2개
+        ReflectionTestUtils.setField(placeBatchCurationService, "chunkSize", 2);
+        ReflectionTestUtils.setField(placeBatchCurationService, "placesPerRequest", 2);
+        List<Place> places = Arrays.asList(
+                createMockPlace(1L, "장소1", "음식점 > 카페"),
+                createMockPlace(2L, "장소2", "음식점 > 카페"),
+                createMockPlace(3L, "장소3", "음식점 > 카페"),
+                createMockPlace(4L, "장소4", "음식점 > 카페"),
+                createMockPlace(5L, "장소5", "음식점 > 카페")
+        );
+        stubUncuratedPlaces(places);
+        stubAnalysis(placeInfo -> {
+            if (placeInfo.getPlaceName().equals("장소5")) {
+                throw new RuntimeException("API Error");  // 마지막 장소만 실패
+            }
+            return mockCurationResult;
+        });
+
+        // When: 배치 큐레이션 실행
+        BatchCurationResult result = placeBatchCurationService.curateUncuratedPlaces(null);
+
+        // Then: 묶음(2, 2, 1)마다 조회하고, 성공한 4개를 2개씩 커밋
+        assertThat(result.getSuccessCount()).isEqualTo(4);
+        assertThat(result.getFailedCount()).isEqualTo(1);
+        verify(placeRepository).findUncuratedPlacesAfter(eq(0L), any(Pageable.class));
+        verify(placeRepository).findUncuratedPlacesAfter(eq(2L), any(Pageable.class));
+        verify(placeRepository).findUncuratedPlacesAfter(eq(4L), any(Pageable.class));
+        verify(placeRepository, times(2)).saveAll(any());
+        assertThat(countSavedPlaces()).isEqualTo(4);
+    }
+
+    @Test
+    void testCurateUncuratedPlaces_CancelledKeepsCompletedWork() {
+        // Given: 두 번째 장소 분석 중 취소 요청이 들어오는 경우 (요청당 1개, 동시 호출 1개로 순서 고정)
+        ReflectionTestUtils.setField(placeBatchCurationService, "placesPerRequest", 1);
+        ReflectionTestUtils.setField(placeBatchCurationService, "concurrencyLimiter",
+                new AdaptiveConcurrencyLimiter(1, 1, 1));
+        Job job = new Job("job-1", "BATCH_CURATION");
+        stubUncuratedPlaces(mockUncuratedPlaces);
+        AtomicInteger calls = new AtomicInteger();
+        stubAnalysis(placeInfo -> {
+            if (calls.incrementAndGet() == 2) {
+                job.requestCancel();
+            }
+            return mockCurationResult;
+        });
+
+        // When
+        BatchCurationResult result = placeBatchCurationService.curateUncuratedPlaces(null, job);
+
+        // Then: 세 번째 장소는 시작하지 않고, 완료된 2개는 저장
+        assertThat(countAnalyzedPlaces()).isEqualTo(2);
+        assertThat(countSavedPlaces()).isEqualTo(2);
+        assertThat(result.getMessage()).startsWith("Cancelled");
+    }
+
+    @Test
+    void testCurateUncuratedPlaces_InterruptedSavesReceivedResults() throws InterruptedException {
+        // Given: 요청당 1개 장소, 1번 장소만 응답하고 나머지는 인터럽트될 때까지 응답하지 않는 Claude API
+        ReflectionTestUtils.setField(placeBatchCurationService, "placesPerRequest", 1);
+        Job job = new Job("job-1", "BATCH_CURATION");
+        stubUncuratedPlaces(mockUncuratedPlaces);
+        CountDownLatch blocked = new CountDownLatch(2);
+        stubAnalysis(placeInfo -> {
+            if (placeInfo.getKakaoPlaceId().equals("1")) {
+                return mockCurationResult;
+            }
+            blocked.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return mockCurationResult;
+        });
+        AtomicReference<BatchCurationResult> result = new AtomicReference<>();
+        AtomicBoolean interruptRestored = new AtomicBoolean();
+        Thread worker = new Thread(() -> {
+            result.set(placeBatchCurationService.curateUncuratedPlaces(null, job));
+            interruptRestored.set(Thread.currentThread().isInterrupted());
+        });
+        worker.start();
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When: 작업 취소 (JobService.cancel처럼 취소 요청 후 인터럽트)
+        job.requestCancel();
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+
+        // Then: 진행 중인 호출은 중단되고, 이미 받은 1번 장소 결과는 저장한 뒤 인터럽트 상태를 복원
+        assertThat(worker.isAlive()).isFalse();
+        assertThat(countSavedPlaces()).isEqualTo(1);
+        assertThat(result.get().getSuccessCount()).isEqualTo(1);
+        assertThat(result.get().getFailedCount()).isZero();
+        assertThat(result.get().getMessage()).startsWith("Cancelled");
+        assertThat(interruptRestored).isTrue();
+        assertThat(concurrencyLimiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void testCurateUncuratedPlaces_GroupsPlacesPerRequestAndReportsTokens() {
+        // Given: 5개 장소, 요청당 2개
+        ReflectionTestUtils.setField(placeBatchCurationService, "placesPerRequest", 2);
+        List<Place> places = Arrays.asList(
+                createMockPlace(1L, "장소1", "음식점 > 카페"),
+                createMockPlace(2L, "장소2", "음식점 > 카페"),
+                createMockPlace(3L, "장소3", "음식점 > 카페"),
+                createMockPlace(4L, "장소4", "음식점 > 카페"),
+                createMockPlace(5L, "장소5", "음식점 > 카페")
+        );
+        stubUncuratedPlaces(places);
+        stubAnalysis(placeInfo -> mockCurationResult);
+
+        // When
+        BatchCurationResult result = placeBatchCurationService.curateUncuratedPlaces(null);
+
+        // Then: 2, 2, 1개씩 3번 요청하고, 요청마다 보고된 토큰을 합산
+        verify(placeCurationService, times(3)).analyzePlacesForDate(anyList());
+        assertThat(result.getSuccessCount()).isEqualTo(5);
+        assertThat(result.getApiCalls()).isEqualTo(3);
+        assertThat(result.getInputTokens()).isEqualTo(3 * 1000);
+        assertThat(result.getOutputTokens()).isEqualTo(3 * 200);
+        assertThat(result.getTokensPerPlace()).isEqualTo(3 * 1200 / 5.0);
+        assertThat(result.getMillisPerPlace()).isGreaterThanOrEqualTo(0);
+        assertThat(countSavedPlaces()).isEqualTo(5);
+    }
+
+    @Test
+    void testCurateUncuratedPlaces_CuratesChunkConcurrently() {
+        // Given: 요청당 1개 장소, 3개 요청이 모두 동시에 호출 중이어야만 응답하는 Claude API
+        ReflectionTestUtils.setField(placeBatchCurationService, "placesPerRequest", 1);
+        CountDownLatch allInFlight = new CountDownLatch(3);
+        stubUncuratedPlaces(mockUncuratedPlaces);
+        stubAnalysis(placeInfo -> {
+            allInFlight.countDown();
+            try {
+                if (!allInFlight.await(5, TimeUnit.SECONDS)) {
+                    throw new RuntimeException("호출이 동시에 실행되지 않음");
+                }
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return mockCurationResult;
+        });
+
+        // When
+        BatchCurationResult result = placeBatchCurationService.curateUncuratedPlaces(null);
+
+        // Then: 동시 한도(4) 안에서 3개가 함께 실행되어 모두 성공하고, 청크는 한 번에 저장
+        assertThat(result.getSuccessCount()).isEqualTo(3);
+        verify(placeRepository, times(1)).saveAll(any());
+        assertThat(countSavedPlaces()).isEqualTo(3);
+        assertThat(concurrencyLimiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void testCurateUncuratedPlaces_FansOutBeyondCommitChunk() {
+        // Given: 청크 크기 2, 요청당 1개 장소, 6개 장소 중 4개 요청이 동시에 호출 중이어야만 응답하는 Claude API
+        ReflectionTestUtils.setField(placeBatchCurationService, "chunkSize", 2);
+        ReflectionTestUtils.setField(placeBatchCurationService, "placesPerRequest", 1);
+        List<Place> places = new ArrayList<>();
+        for (long id = 1; id <= 6; id++) {
+            places.add(createMockPlace(id, "장소" + id, "음식점 > 카페"));
+        }
+        CountDownLatch allInFlight = new CountDownLatch(4);
+        stubUncuratedPlaces(places);
+        stubAnalysis(placeInfo -> {
+            allInFlight.countDown();
+            try {
+                if (!allInFlight.await(5, TimeUnit.SECONDS)) {
+                    throw new RuntimeException("호출이 동시에 실행되지 않음");
+                }
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return mockCurationResult;
+        });
+
+        // When
+        BatchCurationResult result = placeBatchCurationService.curateUncuratedPlaces(null);
+
+        // Then: 커밋 청크(2)와 무관하게 동시 한도(4)만큼 함께 호출하고, 결과는 2개씩 커밋
+        assertThat(result.getSuccessCount()).isEqualTo(6);
+        verify(placeRepository, times(3)).saveAll(any());
+        assertThat(countSavedPlaces()).isEqualTo(6);
+        assertThat(concurrencyLimiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void testCurateUncuratedPlaces_OverloadShrinksConcurrency() {
+        // Given: Claude API가 재시도 후에도 429를 반환하는 경우
+        stubUncuratedPlaces(mockUncuratedPlaces);
+        WebClientResponseException tooManyRequests = WebClientResponseException.create(
+                429, "Too Many Requests", HttpHeaders.EMPTY, new byte[0], null);
+        stubAnalysis(placeInfo -> {
+            throw new RuntimeException("Claude API 호출 재시도 횟수 초과", tooManyRequests);
+        });
+
+        // When
+        BatchCurationResult result = placeBatchCurationService.curateUncuratedPlaces(null);
+
+        // Then: 모두 실패로 집계되고, 동시 호출 한도는 줄어듦
+        assertThat(result.getFailedCount()).isEqualTo(3);
+        assertThat(concurrencyLimiter.getLimit()).isLessThan(4);
+        verify(placeRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void testCurateUncuratedPlaces_NonOverloadFailureKeepsConcurrency() {
+        // Given: 응답 파싱 실패처럼 과부하와 무관한 오류
+        stubUncuratedPlaces(mockUncuratedPlaces);
+        stubAnalysis(placeInfo -> {
+            throw new RuntimeException("Claude 응답 파싱 실패");
+        });
+
+        // When
+        placeBatchCurationService.curateUncuratedPlaces(null);
+
+        // Then: 동시 호출 한도는 그대로
+        assertThat(concurrencyLimiter.getLimit()).isEqualTo(4);
     }
 
     @Test
@@ -133,7 +389,8 @@ class PlaceBatchCurationServiceTest {
         Place mockPlace = createMockPlace(1L, "테스트 카페", "음식점 > 카페");
         when(placeRepository.findById(1L)).thenReturn(Optional.of(mockPlace));
         when(placeCurationService.analyzePlaceForDate(any())).thenReturn(mockCurationResult);
-        when(placeRepository.save(any(Place.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        Place savedPlace = mergedCopy(mockPlace);
+        when(placeRepository.save(any(Place.class))).thenReturn(savedPlace);
 
         // When: 단일 장소 큐레이션 실행
         PlaceCurationResult result = placeBatchCurationService.curateSinglePlace(1L);
@@ -153,6 +410,7 @@ class PlaceBatchCurationServiceTest {
 
         verify(placeCurationService, times(1)).analyzePlaceForDate(any());
         verify(placeRepository, times(1)).save(mockPlace);
+        verify(eventPublisher).publishEvent(new PlacesCuratedEvent(List.of(new PlacesCuratedEvent.Change(savedPlace, null))));
     }
 
     @Test
@@ -169,6 +427,95 @@ class PlaceBatchCurationServiceTest {
         verify(placeRepository, never()).save(any(Place.class));
     }
 
+    /**
+     * 큐레이션되지 않은 장소 조회를 ID 기준 페이지 조회처럼 동작하도록 스텁
+     */
+    private void stubUncuratedPlaces(List<Place> places) {
+        when(placeRepository.countUncuratedPlaces()).thenReturn((long) places.size());
+        when(placeRepository.findUncuratedPlacesAfter(anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    long lastId = invocation.getArgument(0);
+                    Pageable pageable = invocation.getArgument(1);
+                    return places.stream()
+                            .filter(place -> place.getId() > lastId)
+                            .limit(pageable.getPageSize())
+                            .toList();
+                });
+    }
+
+    /**
+     * 묶음 분석을 장소별 분석 함수로 스텁
+     * 함수가 예외를 던진 장소는 실패로 담고, 요청마다 입력 1000 / 출력 200 토큰을 사용한 것으로 보고합니다.
+     */
+    private void stubAnalysis(Function<PlaceBasicInfo, PlaceCurationResult> analyzer) {
+        when(placeCurationService.analyzePlacesForDate(anyList())).thenAnswer(invocation -> {
+            PlaceBatchAnalysis analysis = new PlaceBatchAnalysis();
+            for (PlaceBasicInfo placeInfo : invocation.<List<PlaceBasicInfo>>getArgument(0)) {
+                try {
+                    analysis.getResults().put(placeInfo.getKakaoPlaceId(), analyzer.apply(placeInfo));
+                } catch (RuntimeException e) {
+                    analysis.getFailures().put(placeInfo.getKakaoPlaceId(), e);
+                }
+            }
+            analysis.setApiCalls(1);
+            analysis.setInputTokens(1000);
+            analysis.setOutputTokens(200);
+            return analysis;
+        });
+    }
+
+    /**
+     * analyzePlacesForDate로 분석을 요청한 장소 수 합계
+     */
+    private int countAnalyzedPlaces() {
+        return mockingDetails(placeCurationService).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("analyzePlacesForDate"))
+                .mapToInt(invocation -> invocation.<List<PlaceBasicInfo>>getArgument(0).size())
+                .sum();
+    }
+
+    /**
+     * saveAll이 merge처럼 새 인스턴스(갱신된 updatedAt)를 반환하도록 스텁
+     *
+     * @return 반환한 인스턴스가 차례로 쌓이는 목록
+     */
+    private List<Place> stubSaveAllReturnsMergedCopies() {
+        List<Place> savedPlaces = new ArrayList<>();
+        when(placeRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Place> saved = invocation.<List<Place>>getArgument(0).stream().map(this::mergedCopy).toList();
+            savedPlaces.addAll(saved);
+            return saved;
+        });
+        return savedPlaces;
+    }
+
+    /**
+     * 저장 후 영속성 컨텍스트가 돌려주는 것과 같은 별도 인스턴스
+     */
+    private Place mergedCopy(Place place) {
+        return Place.builder()
+                .id(place.getId())
+                .kakaoPlaceId(place.getKakaoPlaceId())
+                .placeName(place.getPlaceName())
+                .category(place.getCategory())
+                .dateScore(place.getDateScore())
+                .moodTags(place.getMoodTags())
+                .curatedAt(place.getCuratedAt())
+                .createdAt(place.getCreatedAt())
+                .updatedAt(SAVED_AT)
+                .build();
+    }
+
+    /**
+     * saveAll로 저장된 장소 수 합계
+     */
+    private int countSavedPlaces() {
+        return mockingDetails(placeRepository).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("saveAll"))
+                .mapToInt(invocation -> invocation.<List<Place>>getArgument(0).size())
+                .sum();
+    }
+
     /**
      * Mock Place 생성 헬퍼 메서드
      */
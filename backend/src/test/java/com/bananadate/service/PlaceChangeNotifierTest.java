@@ -0,0 +1,97 @@
+package com.bananadate.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * PlaceChangeNotifier 단위 테스트 (알림 페이로드 처리)
+ */
+@ExtendWith(MockitoExtension.class)
+class PlaceChangeNotifierTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final DataSourceProperties dataSourceProperties = new DataSourceProperties();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PlaceChangeNotifier notifier;
+
+    @BeforeEach
+    void setUp() {
+        notifier = new PlaceChangeNotifier(dataSource, dataSourceProperties, jdbcTemplate, eventPublisher, true);
+    }
+
+    @Test
+    void testHandle_PublishesChangedIdsFromOtherNode() {
+        // When
+        notifier.handle("other-node|1,2,x,3");
+
+        // Then: 잘못된 ID는 건너뜀
+        verify(eventPublisher).publishEvent(new RemotePlacesChangedEvent(List.of(1L, 2L, 3L), false));
+    }
+
+    @Test
+    void testHandle_AllPlaces() {
+        // When
+        notifier.handle("other-node|*");
+
+        // Then
+        verify(eventPublisher).publishEvent(RemotePlacesChangedEvent.allPlaces());
+    }
+
+    @Test
+    void testHandle_IgnoresOwnNotifications() {
+        // When
+        notifier.handle(notifier.nodeId() + "|1,2");
+        notifier.handle("malformed");
+
+        // Then
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void testPublish_NoOpWhenListenerNotStarted() {
+        // When: PostgreSQL 연결 전(또는 H2)에는 NOTIFY하지 않음
+        notifier.publish(List.of(1L));
+        notifier.publishAll();
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testOpenListenConnection_BypassesPool() throws SQLException {
+        // Given: 풀과 같은 접속 정보 (내장 H2)
+        dataSourceProperties.setUrl("jdbc:h2:mem:listen-test");
+        dataSourceProperties.setUsername("sa");
+        dataSourceProperties.setPassword("");
+
+        // When
+        try (Connection connection = notifier.openListenConnection()) {
+            // Then: 풀(DataSource)에서 빌리지 않은 별도 연결
+            assertThat(connection.isValid(1)).isTrue();
+            verifyNoInteractions(dataSource);
+        }
+    }
+}
@@ -3,15 +3,19 @@ package com.bananadate.service;
 import com.bananadate.dto.KakaoLocalSearchResponse;
 import com.bananadate.dto.PlaceCollectionResult;
 import com.bananadate.entity.Place;
+import com.bananadate.repository.PlaceBulkWriter;
 import com.bananadate.repository.PlaceRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -31,6 +35,18 @@ class PlaceCollectionServiceTest {
     @Mock
     private PlaceRepository placeRepository;
 
+    @Mock
+    private PlaceBulkWriter placeBulkWriter;
+
+    @Spy
+    private KnownPlaceIdRegistry knownPlaceIdRegistry = new KnownPlaceIdRegistry();
+
+    @Mock
+    private DistrictLocator districtLocator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PlaceCollectionService placeCollectionService;
 
@@ -44,12 +60,12 @@ class PlaceCollectionServiceTest {
 
     @Test
     void testCollectPlaces_Success() {
-        // Given: 카카오 API가 정상적으로 응답하고 중복이 없는 경우
+        // Given: 카카오 API가 쿼리마다 서로 다른 장소를 응답하고 중복이 없는 경우
         when(kakaoLocalApiService.searchPlacesWithLimit(anyString()))
-                .thenReturn(mockDocuments);
-        when(placeRepository.existsByKakaoPlaceId(anyString()))
-                .thenReturn(false);
-        when(placeRepository.save(any(Place.class)))
+                .thenAnswer(invocation -> createMockDocumentsForQuery(invocation.getArgument(0)));
+        when(placeRepository.findExistingKakaoPlaceIds(anyCollection()))
+                .thenReturn(Collections.emptyList());
+        when(placeBulkWriter.insertIgnoringDuplicates(anyList()))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
         // When: 장소 수집 실행
@@ -63,25 +79,30 @@ class PlaceCollectionServiceTest {
 
         // 카카오 API가 20번 호출되었는지 확인
         verify(kakaoLocalApiService, times(20)).searchPlacesWithLimit(anyString());
-        // DB에 60개 저장되었는지 확인
-        verify(placeRepository, times(60)).save(any(Place.class));
+        // 중복 확인은 쿼리당 IN 쿼리 1회
+        verify(placeRepository, times(20)).findExistingKakaoPlaceIds(anyCollection());
+        verify(placeRepository, never()).existsByKakaoPlaceId(anyString());
+        // 쿼리마다 INSERT 1회로 총 60개 저장되었는지 확인
+        verify(placeBulkWriter, times(20)).insertIgnoringDuplicates(anyList());
+        assertThat(countInsertedPlaces()).isEqualTo(60);
+        // 저장된 장소는 쿼리마다 이벤트로 알림
+        verify(eventPublisher, times(20)).publishEvent(any(PlacesCollectedEvent.class));
     }
 
     @Test
     void testCollectPlaces_WithDuplicates() {
         // Given: 일부 장소가 이미 DB에 존재하는 경우
         when(kakaoLocalApiService.searchPlacesWithLimit(anyString()))
-                .thenReturn(mockDocuments);
+                .thenAnswer(invocation -> createMockDocumentsForQuery(invocation.getArgument(0)));
 
-        // 첫 번째 장소만 항상 중복, 나머지는 새로운 것
-        when(placeRepository.existsByKakaoPlaceId("1"))
-                .thenReturn(true);
-        when(placeRepository.existsByKakaoPlaceId("2"))
-                .thenReturn(false);
-        when(placeRepository.existsByKakaoPlaceId("3"))
-                .thenReturn(false);
+        // 쿼리마다 첫 번째 장소만 중복, 나머지는 새로운 것
+        when(placeRepository.findExistingKakaoPlaceIds(anyCollection()))
+                .thenAnswer(invocation -> {
+                    Collection<String> ids = invocation.getArgument(0);
+                    return ids.stream().filter(id -> id.endsWith("-1")).toList();
+                });
 
-        when(placeRepository.save(any(Place.class)))
+        when(placeBulkWriter.insertIgnoringDuplicates(anyList()))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
         // When: 장소 수집 실행
@@ -94,7 +115,7 @@ class PlaceCollectionServiceTest {
         assertThat(result.getTotalAttempted()).isEqualTo(60);
 
         // DB에 40개만 저장되었는지 확인
-        verify(placeRepository, times(40)).save(any(Place.class));
+        assertThat(countInsertedPlaces()).isEqualTo(40);
     }
 
     @Test
@@ -114,7 +135,8 @@ class PlaceCollectionServiceTest {
 
         // 카카오 API는 20번 호출되었지만 저장은 0번
         verify(kakaoLocalApiService, times(20)).searchPlacesWithLimit(anyString());
-        verify(placeRepository, never()).save(any(Place.class));
+        verify(placeBulkWriter, never()).insertIgnoringDuplicates(anyList());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -124,9 +146,9 @@ class PlaceCollectionServiceTest {
                 .thenReturn(mockDocuments)  // 첫 번째 쿼리는 성공
                 .thenThrow(new RuntimeException("API Error"))  // 두 번째 쿼리는 실패
                 .thenReturn(mockDocuments); // 세 번째 쿼리는 성공
-        when(placeRepository.existsByKakaoPlaceId(anyString()))
-                .thenReturn(false);
-        when(placeRepository.save(any(Place.class)))
+        when(placeRepository.findExistingKakaoPlaceIds(anyCollection()))
+                .thenReturn(Collections.emptyList());
+        when(placeBulkWriter.insertIgnoringDuplicates(anyList()))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
         // When: 장소 수집 실행
@@ -138,6 +160,192 @@ class PlaceCollectionServiceTest {
         assertThat(result.getTotalAttempted()).isGreaterThan(0);
     }
 
+    @Test
+    void testCollectPlacesConcurrently_Success() {
+        // Given: 카카오 API가 쿼리마다 서로 다른 장소를 응답하고 중복이 없는 경우
+        when(kakaoLocalApiService.searchPlacesWithLimit(anyString()))
+                .thenAnswer(invocation -> createMockDocumentsForQuery(invocation.getArgument(0)));
+        when(placeRepository.findExistingKakaoPlaceIds(anyCollection()))
+                .thenReturn(Collections.emptyList());
+        when(placeBulkWriter.insertIgnoringDuplicates(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When: 동시 수집 실행
+        PlaceCollectionResult result = placeCollectionService.collectPlacesConcurrently();
+
+        // Then: 순차 수집과 동일한 결과 + 쿼리별 통계
+        assertThat(result).isNotNull();
+        assertThat(result.getCollectedCount()).isEqualTo(60);
+        assertThat(result.getSkippedCount()).isEqualTo(0);
+        assertThat(result.getTotalAttempted()).isEqualTo(60);
+        assertThat(result.getQueryStats()).hasSize(20);
+        assertThat(result.getQueryStats()).allSatisfy(stat -> {
+            assertThat(stat.isSuccess()).isTrue();
+            assertThat(stat.getDocumentCount()).isEqualTo(3);
+        });
+        assertThat(result.getThroughputPerSecond()).isGreaterThan(0);
+
+        verify(kakaoLocalApiService, times(20)).searchPlacesWithLimit(anyString());
+        assertThat(countInsertedPlaces()).isEqualTo(60);
+    }
+
+    @Test
+    void testCollectPlacesConcurrently_PartialFailure() {
+        // Given: 특정 쿼리만 실패하는 경우
+        when(kakaoLocalApiService.searchPlacesWithLimit(anyString()))
+                .thenAnswer(invocation -> createMockDocumentsForQuery(invocation.getArgument(0)));
+        doThrow(new RuntimeException("API Error"))
+                .when(kakaoLocalApiService).searchPlacesWithLimit("강남역 카페");
+        when(placeRepository.findExistingKakaoPlaceIds(anyCollection()))
+                .thenReturn(Collections.emptyList());
+        when(placeBulkWriter.insertIgnoringDuplicates(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When: 동시 수집 실행
+        PlaceCollectionResult result = placeCollectionService.collectPlacesConcurrently();
+
+        // Then: 실패한 쿼리를 제외하고 수집 계속 진행
+        assertThat(result.getCollectedCount()).isEqualTo(57);
+        assertThat(result.getQueryStats())
+                .filteredOn(stat -> !stat.isSuccess())
+                .extracting("query")
+                .containsExactly("강남역 카페");
+    }
+
+    @Test
+    void testCollectPlaces_KnownIdsSkipDatabase() {
+        // Given: 시작 시 적재된 ID 집합에 모든 장소가 이미 있는 경우
+        when(kakaoLocalApiService.searchPlacesWithLimit(anyString()))
+                .thenReturn(mockDocuments);
+        knownPlaceIdRegistry.warmUp(List.of("1", "2", "3"));
+
+        // When: 장소 수집 실행
+        PlaceCollectionResult result = placeCollectionService.collectPlaces();
+
+        // Then: DB 조회/저장 없이 모두 중복 처리
+        assertThat(result.getCollectedCount()).isEqualTo(0);
+        assertThat(result.getSkippedCount()).isEqualTo(60);
+        verifyNoInteractions(placeRepository, placeBulkWriter);
+    }
+
+    @Test
+    void testCollectPlaces_DbRoundTripsPerCollectedPlace() {
+        // Given: 20개 쿼리가 같은 3개 장소를 반복해서 반환하는 경우 (실제 상권 검색에서 흔한 겹침)
+        when(kakaoLocalApiService.searchPlacesWithLimit(anyString()))
+                .thenReturn(mockDocuments);
+        when(placeRepository.findExistingKakaoPlaceIds(anyCollection()))
+                .thenReturn(Collections.emptyList());
+        when(placeBulkWriter.insertIgnoringDuplicates(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When: 장소 수집 실행
+        PlaceCollectionResult result = placeCollectionService.collectPlaces();
+
+        // Then: 첫 쿼리에서만 IN 쿼리 1회 + INSERT 1회, 이후 쿼리는 메모리 집합으로 처리
+        // (기존 방식: 문서마다 exists 1회 = 60회 + 장소마다 INSERT 1회 = 3회)
+        assertThat(result.getCollectedCount()).isEqualTo(3);
+        assertThat(result.getSkippedCount()).isEqualTo(57);
+        verify(placeRepository, times(1)).findExistingKakaoPlaceIds(anyCollection());
+        verify(placeBulkWriter, times(1)).insertIgnoringDuplicates(anyList());
+        assertThat(mockingDetails(placeRepository).getInvocations()).hasSize(1);
+        assertThat(countInsertedPlaces()).isEqualTo(3);
+    }
+
+    @Test
+    void testCollectPlaces_ConcurrentRunAlreadyInserted() {
+        // Given: 다른 수집 작업이 IN 조회 이후 먼저 저장하여 INSERT가 일부 무시되는 경우
+        when(kakaoLocalApiService.searchPlacesWithLimit(anyString()))
+                .thenAnswer(invocation -> createMockDocumentsForQuery(invocation.getArgument(0)));
+        when(placeRepository.findExistingKakaoPlaceIds(anyCollection()))
+                .thenReturn(Collections.emptyList());
+        when(placeBulkWriter.insertIgnoringDuplicates(anyList()))
+                .thenAnswer(invocation -> {
+                    List<Place> places = invocation.getArgument(0);
+                    return places.subList(1, places.size());
+                });
+
+        // When: 장소 수집 실행
+        PlaceCollectionResult result = placeCollectionService.collectPlaces();
+
+        // Then: 무시된 장소는 중복으로 집계
+        assertThat(result.getCollectedCount()).isEqualTo(40);
+        assertThat(result.getSkippedCount()).isEqualTo(20);
+        assertThat(result.getTotalAttempted()).isEqualTo(60);
+    }
+
+    @Test
+    void testCollectPlaces_CancelledStopsRemainingQueries() {
+        // Given: 두 번째 쿼리 도중 취소 요청이 들어오는 경우
+        Job job = new Job("job-1", "PLACE_COLLECTION");
+        when(kakaoLocalApiService.searchPlacesWithLimit(anyString()))
+                .thenReturn(Collections.emptyList())
+                .thenAnswer(invocation -> {
+                    job.requestCancel();
+                    return Collections.emptyList();
+                });
+
+        // When
+        PlaceCollectionResult result = placeCollectionService.collectPlaces(job);
+
+        // Then: 진행 중이던 쿼리까지만 처리하고 중단
+        verify(kakaoLocalApiService, times(2)).searchPlacesWithLimit(anyString());
+        assertThat(job.toResponse().getTotal()).isEqualTo(20);
+        assertThat(job.toResponse().getProcessed()).isEqualTo(2);
+        assertThat(result.getMessage()).startsWith("Cancelled");
+    }
+
+    @Test
+    void testCollectPlaces_AssignsDistrictIdAtIngest() {
+        // Given: 강남역 좌표의 장소가 수집되는 경우
+        when(kakaoLocalApiService.searchPlacesWithLimit(anyString()))
+                .thenReturn(mockDocuments);
+        when(placeRepository.findExistingKakaoPlaceIds(anyCollection()))
+                .thenReturn(Collections.emptyList());
+        when(placeBulkWriter.insertIgnoringDuplicates(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(districtLocator.findDistrictId(37.4979, 127.0276)).thenReturn("11230");
+
+        // When: 장소 수집 실행
+        placeCollectionService.collectPlaces();
+
+        // Then: 저장되는 장소에 구 ID가 채워짐
+        List<Place> inserted = mockingDetails(placeBulkWriter).getInvocations().iterator().next().getArgument(0);
+        assertThat(inserted).extracting(Place::getDistrictId).containsOnly("11230");
+    }
+
+    @Test
+    void testWarmUpKnownPlaceIds() {
+        // Given
+        when(placeRepository.findAllKakaoPlaceIds()).thenReturn(List.of("1", "2"));
+
+        // When
+        placeCollectionService.warmUpKnownPlaceIds();
+
+        // Then
+        assertThat(knownPlaceIdRegistry.contains("1")).isTrue();
+        assertThat(knownPlaceIdRegistry.contains("3")).isFalse();
+    }
+
+    /**
+     * PlaceBulkWriter에 전달된 장소 수 합계
+     */
+    private int countInsertedPlaces() {
+        return mockingDetails(placeBulkWriter).getInvocations().stream()
+                .mapToInt(invocation -> invocation.<List<Place>>getArgument(0).size())
+                .sum();
+    }
+
+    /**
+     * 쿼리별로 서로 다른 ID를 갖는 Mock 문서 생성 헬퍼 메서드
+     */
+    private List<KakaoLocalSearchResponse.Document> createMockDocumentsForQuery(String query) {
+        return Arrays.asList(
+                createMockDocument(query + "-1", query + " 이탈리안 레스토랑", "음식점 > 이탈리안"),
+                createMockDocument(query + "-2", query + " 카페", "음식점 > 카페"),
+                createMockDocument(query + "-3", query + " 일식당", "음식점 > 일식")
+        );
+    }
+
     /**
      * Mock 문서 생성 헬퍼 메서드
      */
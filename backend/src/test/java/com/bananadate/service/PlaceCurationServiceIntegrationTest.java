@@ -2,12 +2,15 @@ package com.bananadate.service;
 
 import com.bananadate.dto.PlaceBasicInfo;
 import com.bananadate.dto.PlaceCurationResult;
+import com.bananadate.repository.CurationCacheRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 
 /**
  * PlaceCurationService 통합 테스트
@@ -30,7 +33,9 @@ class PlaceCurationServiceIntegrationTest {
         PlaceCurationService service = new PlaceCurationService(
                 WebClient.builder(),
                 new ObjectMapper(),
-                apiKey
+                apiKey,
+                new CurationCache(mock(CurationCacheRepository.class), 100),
+                new SimpleMeterRegistry()
         );
 
         PlaceBasicInfo placeInfo = PlaceBasicInfo.builder()
@@ -74,7 +79,9 @@ class PlaceCurationServiceIntegrationTest {
         PlaceCurationService service = new PlaceCurationService(
                 WebClient.builder(),
                 new ObjectMapper(),
-                apiKey
+                apiKey,
+                new CurationCache(mock(CurationCacheRepository.class), 100),
+                new SimpleMeterRegistry()
         );
 
         PlaceBasicInfo placeInfo = PlaceBasicInfo.builder()
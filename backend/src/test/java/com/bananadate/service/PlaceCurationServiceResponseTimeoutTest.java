@@ -0,0 +1,182 @@
+package com.bananadate.service;
+
+import com.bananadate.config.OutboundHttpClient;
+import com.bananadate.dto.PlaceBasicInfo;
+import com.bananadate.dto.PlaceBatchAnalysis;
+import com.bananadate.repository.CurationCacheRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PlaceCurationService 응답 타임아웃 테스트
+ * 로컬 HttpServer를 Messages API 스텁으로 두고, 생성이 끝나야 응답하는(스트리밍하지 않는) 느린 응답을 흉내 냅니다.
+ * 시간은 실제 설정(연결 풀 PT2M, 기본 30초 + 초당 10토큰)을 줄인 값입니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class PlaceCurationServiceResponseTimeoutTest {
+
+    // 연결 풀 기본 응답 타임아웃 (claude.api.http.response-timeout 대신)
+    private static final Duration POOL_RESPONSE_TIMEOUT = Duration.ofMillis(200);
+    // 요청마다 정하는 응답 타임아웃: 200ms + max_tokens / 초당 5000토큰 (장소 10곳 묶음 3000토큰: 800ms, 단건 1024토큰: 약 400ms)
+    private static final Duration BASE_RESPONSE_TIMEOUT = Duration.ofMillis(200);
+    private static final int MIN_OUTPUT_TOKENS_PER_SECOND = 5000;
+    // 스텁이 응답하기까지 걸리는 시간 (묶음 요청 타임아웃에 가까운 값)
+    private static final Duration GENERATION_TIME = Duration.ofMillis(600);
+
+    @Mock
+    private CurationCacheRepository curationCacheRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<JsonNode> receivedRequests = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private OutboundHttpClient outboundHttpClient;
+    private PlaceCurationService placeCurationService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/messages", this::handle);
+        server.setExecutor(serverExecutor);
+        server.start();
+        URI stubUri = URI.create("http://localhost:" + server.getAddress().getPort() + "/v1/messages");
+
+        outboundHttpClient = new OutboundHttpClient(new OutboundHttpClient.Settings("claude-stub",
+                Duration.ofSeconds(1), POOL_RESPONSE_TIMEOUT, 4, Duration.ofSeconds(5), Duration.ofSeconds(30), true));
+        // 고정된 Claude API 주소 대신 스텁으로 보냄
+        WebClient.Builder webClientBuilder = outboundHttpClient.configure(WebClient.builder())
+                .filter((request, next) -> next.exchange(ClientRequest.from(request).url(stubUri).build()));
+
+        placeCurationService = new PlaceCurationService(
+                webClientBuilder,
+                objectMapper,
+                "test-api-key",
+                new CurationCache(curationCacheRepository, 100),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(placeCurationService, "baseResponseTimeout", BASE_RESPONSE_TIMEOUT);
+        ReflectionTestUtils.setField(placeCurationService, "minOutputTokensPerSecond", MIN_OUTPUT_TOKENS_PER_SECOND);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboundHttpClient.dispose();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void testAnalyzePlacesForDate_BatchedCallNearLimitCompletes() {
+        // Given: 장소 10곳 묶음 (max_tokens 3000), 연결 풀 기본 타임아웃보다 오래 걸리는 응답
+        List<PlaceBasicInfo> places = IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> place(String.valueOf(i), "카페 " + i))
+                .toList();
+
+        // When
+        PlaceBatchAnalysis analysis = placeCurationService.analyzePlacesForDate(places);
+
+        // Then: max_tokens에 맞춘 타임아웃 안에 응답을 받아, 묶음을 나눠 다시 요청하지 않음
+        assertThat(analysis.getFailures()).isEmpty();
+        assertThat(analysis.getResults()).hasSize(10);
+        assertThat(analysis.getApiCalls()).isEqualTo(1);
+        assertThat(receivedRequests).hasSize(1);
+        assertThat(receivedRequests.get(0).path("max_tokens").asInt()).isEqualTo(3000);
+    }
+
+    @Test
+    void testAnalyzePlacesForDate_SingleCallUsesSmallerTimeout() {
+        // Given: 단건 요청 (max_tokens 1024), 타임아웃(약 400ms)보다 오래 걸리는 응답
+        List<PlaceBasicInfo> places = List.of(place("1", "카페 1"));
+
+        // When
+        PlaceBatchAnalysis analysis = placeCurationService.analyzePlacesForDate(places);
+
+        // Then: 요청마다 정한 타임아웃으로 실패
+        assertThat(analysis.getResults()).isEmpty();
+        assertThat(analysis.getFailures().get("1")).hasRootCauseInstanceOf(ReadTimeoutException.class);
+        assertThat(placeCurationService.responseTimeoutFor(1024)).isLessThan(GENERATION_TIME);
+    }
+
+    @Test
+    void testResponseTimeoutFor_GrowsWithMaxTokens() {
+        // Given & When & Then: 기본 시간 + max_tokens / 최저 출력 속도
+        assertThat(placeCurationService.responseTimeoutFor(3000)).isEqualTo(Duration.ofMillis(800));
+        assertThat(placeCurationService.responseTimeoutFor(300)).isEqualTo(Duration.ofMillis(260));
+    }
+
+    /**
+     * 생성 시간만큼 기다린 뒤, 요청한 장소 ID마다 결과를 담은 JSON 배열로 응답
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        receivedRequests.add(objectMapper.readTree(exchange.getRequestBody()));
+        try {
+            Thread.sleep(GENERATION_TIME.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        ArrayNode results = objectMapper.createArrayNode();
+        IntStream.rangeClosed(1, 10).forEach(i -> results.addObject()
+                .put("place_id", String.valueOf(i))
+                .put("date_score", 7)
+                .put("price_range", "5,000-10,000원")
+                .put("best_time", "오후 2-5시")
+                .put("recommendation", "편안한 분위기의 카페")
+                .putArray("mood_tags").add("#조용한"));
+
+        ObjectNode root = objectMapper.createObjectNode();
+        root.putArray("content").addObject()
+                .put("type", "text")
+                .put("text", results.toString());
+        root.putObject("usage")
+                .put("input_tokens", 1000)
+                .put("output_tokens", 2500);
+
+        byte[] bytes = root.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private PlaceBasicInfo place(String kakaoPlaceId, String placeName) {
+        return PlaceBasicInfo.builder()
+                .kakaoPlaceId(kakaoPlaceId)
+                .placeName(placeName)
+                .category("음식점 > 카페")
+                .address("서울 강남구")
+                .build();
+    }
+}
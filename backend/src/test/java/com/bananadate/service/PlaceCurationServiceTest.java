@@ -1,16 +1,25 @@
 package com.bananadate.service;
 
 import com.bananadate.dto.PlaceBasicInfo;
+import com.bananadate.dto.PlaceBatchAnalysis;
 import com.bananadate.dto.PlaceCurationResult;
+import com.bananadate.entity.CurationCacheEntry;
+import com.bananadate.repository.CurationCacheRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,22 +47,42 @@ class PlaceCurationServiceTest {
     @Mock
     private WebClient.ResponseSpec responseSpec;
 
+    @Mock
+    private CurationCacheRepository curationCacheRepository;
+
     private PlaceCurationService placeCurationService;
+    private CurationCache curationCache;
     private ObjectMapper objectMapper;
+    private SimpleMeterRegistry meterRegistry;
 
     private static final String TEST_API_KEY = "test-api-key";
 
+    private static final String CLAUDE_RESPONSE = """
+            {
+              "content": [
+                {
+                  "type": "text",
+                  "text": "{\\"date_score\\": 7, \\"mood_tags\\": [\\"#조용한\\", \\"#카페\\"], \\"price_range\\": \\"5,000-10,000원\\", \\"best_time\\": \\"오후 2-5시\\", \\"recommendation\\": \\"편안한 분위기의 카페\\"}"
+                }
+              ]
+            }
+            """;
+
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
+        meterRegistry = new SimpleMeterRegistry();
 
         when(webClientBuilder.baseUrl(anyString())).thenReturn(webClientBuilder);
         when(webClientBuilder.build()).thenReturn(webClient);
 
+        curationCache = new CurationCache(curationCacheRepository, 100);
         placeCurationService = new PlaceCurationService(
                 webClientBuilder,
                 objectMapper,
-                TEST_API_KEY
+                TEST_API_KEY,
+                curationCache,
+                meterRegistry
         );
     }
 
@@ -84,6 +113,7 @@ class PlaceCurationServiceTest {
         when(webClient.post()).thenReturn(requestBodyUriSpec);
         when(requestBodyUriSpec.header(anyString(), anyString())).thenReturn(requestBodySpec);
         when(requestBodySpec.header(anyString(), anyString())).thenReturn(requestBodySpec);
+        when(requestBodySpec.httpRequest(any())).thenReturn(requestBodySpec);
         when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
         when(responseSpec.bodyToMono(String.class)).thenReturn(Mono.just(mockClaudeResponse));
@@ -128,6 +158,7 @@ class PlaceCurationServiceTest {
         when(webClient.post()).thenReturn(requestBodyUriSpec);
         when(requestBodyUriSpec.header(anyString(), anyString())).thenReturn(requestBodySpec);
         when(requestBodySpec.header(anyString(), anyString())).thenReturn(requestBodySpec);
+        when(requestBodySpec.httpRequest(any())).thenReturn(requestBodySpec);
         when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
         when(responseSpec.bodyToMono(String.class)).thenReturn(Mono.just(mockClaudeResponse));
@@ -153,6 +184,7 @@ class PlaceCurationServiceTest {
         when(webClient.post()).thenReturn(requestBodyUriSpec);
         when(requestBodyUriSpec.header(anyString(), anyString())).thenReturn(requestBodySpec);
         when(requestBodySpec.header(anyString(), anyString())).thenReturn(requestBodySpec);
+        when(requestBodySpec.httpRequest(any())).thenReturn(requestBodySpec);
         when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
         when(responseSpec.bodyToMono(String.class)).thenReturn(Mono.error(new RuntimeException("API 호출 실패")));
@@ -162,4 +194,234 @@ class PlaceCurationServiceTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("장소 분석 중 오류가 발생했습니다");
     }
+
+    @Test
+    void analyzePlaceForDate_같은입력_재요청시_캐시사용() {
+        // given
+        PlaceBasicInfo placeInfo = PlaceBasicInfo.builder()
+                .placeName("테스트 카페")
+                .category("음식점 > 카페")
+                .address("서울 강남구")
+                .build();
+        stubClaudeResponse(Mono.just(CLAUDE_RESPONSE));
+
+        // when
+        PlaceCurationResult first = placeCurationService.analyzePlaceForDate(placeInfo);
+        PlaceCurationResult second = placeCurationService.analyzePlaceForDate(placeInfo);
+
+        // then: Claude API는 한 번만 호출되고, 결과는 DB 캐시에도 저장
+        assertThat(second.getDateScore()).isEqualTo(first.getDateScore());
+        assertThat(second.getMoodTags()).isEqualTo(first.getMoodTags());
+        verify(webClient, times(1)).post();
+        verify(curationCacheRepository, times(1)).save(any(CurationCacheEntry.class));
+        assertThat(placeCurationService.getCacheStats().getSavedApiCalls()).isEqualTo(1);
+        assertThat(placeCurationService.getCacheStats().getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void analyzePlaceForDate_DB캐시_적중시_API미호출() {
+        // given: 다른 인스턴스가 저장한 분석 결과가 DB에 있는 경우
+        PlaceBasicInfo placeInfo = PlaceBasicInfo.builder()
+                .placeName("테스트 카페")
+                .category("음식점 > 카페")
+                .address("서울 강남구")
+                .build();
+        when(curationCacheRepository.findById(anyString())).thenReturn(Optional.of(CurationCacheEntry.builder()
+                .analysisJson("{\"date_score\": 6, \"mood_tags\": [\"#아늑한\"]}")
+                .build()));
+
+        // when
+        PlaceCurationResult result = placeCurationService.analyzePlaceForDate(placeInfo);
+
+        // then
+        assertThat(result.getDateScore()).isEqualTo(6);
+        assertThat(result.getPlaceInfo()).isEqualTo(placeInfo);
+        verify(webClient, never()).post();
+    }
+
+    @Test
+    void analyzePlaceForDate_다른입력은_캐시미스() {
+        // given
+        PlaceBasicInfo cafe = PlaceBasicInfo.builder()
+                .placeName("테스트 카페")
+                .category("음식점 > 카페")
+                .address("서울 강남구")
+                .build();
+        PlaceBasicInfo otherBranch = PlaceBasicInfo.builder()
+                .placeName("테스트 카페")
+                .category("음식점 > 카페")
+                .address("서울 마포구")
+                .build();
+        stubClaudeResponse(Mono.just(CLAUDE_RESPONSE));
+
+        // when
+        placeCurationService.analyzePlaceForDate(cafe);
+        placeCurationService.analyzePlaceForDate(otherBranch);
+
+        // then: 주소가 다르면 각각 호출
+        verify(webClient, times(2)).post();
+    }
+
+    @Test
+    void analyzePlaceForDate_파싱실패_응답은_캐시하지않음() {
+        // given
+        PlaceBasicInfo placeInfo = PlaceBasicInfo.builder()
+                .placeName("테스트 장소")
+                .category("음식점")
+                .address("서울")
+                .build();
+        stubClaudeResponse(Mono.just("""
+                {"content": [{"type": "text", "text": "JSON이 아닌 응답"}]}
+                """));
+
+        // when & then
+        assertThatThrownBy(() -> placeCurationService.analyzePlaceForDate(placeInfo))
+                .isInstanceOf(RuntimeException.class);
+        verify(curationCacheRepository, never()).save(any());
+        assertThat(meterRegistry.get("curation.parse.failures").tag("kind", "single").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void analyzePlacesForDate_여러장소_한번의요청으로_분석() {
+        // given
+        List<PlaceBasicInfo> places = List.of(place("1", "카페 A"), place("2", "카페 B"));
+        stubClaudeResponse(claudeResponse("""
+                [
+                  {"place_id": "1", "date_score": 8, "mood_tags": ["#아늑한"], "price_range": "1만원대", "best_time": "오후", "recommendation": "조용한 카페"},
+                  {"place_id": "2", "date_score": 6, "mood_tags": ["#활기찬"], "price_range": "1만원대", "best_time": "저녁", "recommendation": "넓은 카페"}
+                ]
+                """, 500, 300));
+
+        // when
+        PlaceBatchAnalysis analysis = placeCurationService.analyzePlacesForDate(places);
+
+        // then: 한 번의 요청에 두 장소가 모두 담기고, 장소 ID별로 결과 반환
+        assertThat(analysis.getResults()).hasSize(2);
+        assertThat(analysis.getResults().get("1").getDateScore()).isEqualTo(8);
+        assertThat(analysis.getResults().get("2").getDateScore()).isEqualTo(6);
+        assertThat(analysis.getResults().get("2").getPlaceInfo()).isEqualTo(places.get(1));
+        assertThat(analysis.getFailures()).isEmpty();
+        assertThat(analysis.getApiCalls()).isEqualTo(1);
+        assertThat(analysis.getInputTokens()).isEqualTo(500);
+        assertThat(analysis.getOutputTokens()).isEqualTo(300);
+
+        ArgumentCaptor<Object> requestBody = ArgumentCaptor.forClass(Object.class);
+        verify(requestBodySpec).bodyValue(requestBody.capture());
+        assertThat(requestBody.getValue().toString()).contains("카페 A", "카페 B");
+    }
+
+    @Test
+    void analyzePlacesForDate_일부누락시_누락장소만_재요청() {
+        // given: 첫 응답에 2번 장소가 빠진 경우
+        List<PlaceBasicInfo> places = List.of(place("1", "카페 A"), place("2", "카페 B"));
+        stubClaudeResponse(
+                claudeResponse("""
+                        [{"place_id": "1", "date_score": 8, "mood_tags": []}]
+                        """, 500, 100),
+                claudeResponse("""
+                        {"date_score": 6, "mood_tags": ["#활기찬"]}
+                        """, 300, 80));
+
+        // when
+        PlaceBatchAnalysis analysis = placeCurationService.analyzePlacesForDate(places);
+
+        // then
+        assertThat(analysis.getResults()).containsOnlyKeys("1", "2");
+        assertThat(analysis.getResults().get("2").getDateScore()).isEqualTo(6);
+        assertThat(analysis.getApiCalls()).isEqualTo(2);
+        assertThat(analysis.getInputTokens()).isEqualTo(800);
+        verify(webClient, times(2)).post();
+    }
+
+    @Test
+    void analyzePlacesForDate_배열파싱실패시_분할재시도() {
+        // given: 묶음 응답이 JSON이 아니고, 나눠서 보낸 단건 요청은 성공
+        List<PlaceBasicInfo> places = List.of(place("1", "카페 A"), place("2", "카페 B"));
+        stubClaudeResponse(
+                claudeResponse("죄송합니다, 분석할 수 없습니다", 500, 20),
+                claudeResponse("{\"date_score\": 8, \"mood_tags\": []}", 300, 80),
+                claudeResponse("{\"date_score\": 6, \"mood_tags\": []}", 300, 80));
+
+        // when
+        PlaceBatchAnalysis analysis = placeCurationService.analyzePlacesForDate(places);
+
+        // then
+        assertThat(analysis.getResults().get("1").getDateScore()).isEqualTo(8);
+        assertThat(analysis.getResults().get("2").getDateScore()).isEqualTo(6);
+        assertThat(analysis.getFailures()).isEmpty();
+        assertThat(analysis.getApiCalls()).isEqualTo(3);
+        assertThat(meterRegistry.get("curation.parse.failures").tag("kind", "batch").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("claude.api.call").tag("outcome", "success").timer().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void analyzePlacesForDate_단건까지_실패하면_실패로_반환() {
+        // given
+        List<PlaceBasicInfo> places = List.of(place("1", "카페 A"));
+        stubClaudeResponse(claudeResponse("JSON이 아닌 응답", 300, 20));
+
+        // when
+        PlaceBatchAnalysis analysis = placeCurationService.analyzePlacesForDate(places);
+
+        // then: 예외를 던지지 않고 장소별 실패로 담음
+        assertThat(analysis.getResults()).isEmpty();
+        assertThat(analysis.getFailures()).containsOnlyKeys("1");
+    }
+
+    @Test
+    void analyzePlacesForDate_캐시된장소는_요청에서_제외() {
+        // given: 1번 장소는 이미 단건으로 분석됨
+        stubClaudeResponse(
+                claudeResponse("{\"date_score\": 8, \"mood_tags\": []}", 300, 80),
+                claudeResponse("{\"date_score\": 6, \"mood_tags\": []}", 300, 80));
+        placeCurationService.analyzePlaceForDate(place("1", "카페 A"));
+
+        // when
+        PlaceBatchAnalysis analysis = placeCurationService.analyzePlacesForDate(
+                List.of(place("1", "카페 A"), place("2", "카페 B")));
+
+        // then: 2번 장소만 요청
+        assertThat(analysis.getResults().get("1").getDateScore()).isEqualTo(8);
+        assertThat(analysis.getResults().get("2").getDateScore()).isEqualTo(6);
+        assertThat(analysis.getCacheHits()).isEqualTo(1);
+        assertThat(analysis.getApiCalls()).isEqualTo(1);
+        verify(webClient, times(2)).post();
+    }
+
+    @SafeVarargs
+    private void stubClaudeResponse(Mono<String> response, Mono<String>... nextResponses) {
+        when(webClient.post()).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.header(anyString(), anyString())).thenReturn(requestBodySpec);
+        when(requestBodySpec.header(anyString(), anyString())).thenReturn(requestBodySpec);
+        when(requestBodySpec.httpRequest(any())).thenReturn(requestBodySpec);
+        doReturn(requestHeadersSpec).when(requestBodySpec).bodyValue(any());
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(String.class)).thenReturn(response, nextResponses);
+    }
+
+    /**
+     * 분석 결과 텍스트와 사용 토큰을 담은 Claude API 응답 생성
+     */
+    private Mono<String> claudeResponse(String text, int inputTokens, int outputTokens) {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.putArray("content").addObject()
+                .put("type", "text")
+                .put("text", text);
+        root.putObject("usage")
+                .put("input_tokens", inputTokens)
+                .put("output_tokens", outputTokens);
+        return Mono.just(root.toString());
+    }
+
+    private PlaceBasicInfo place(String kakaoPlaceId, String placeName) {
+        return PlaceBasicInfo.builder()
+                .kakaoPlaceId(kakaoPlaceId)
+                .placeName(placeName)
+                .category("음식점 > 카페")
+                .address("서울 강남구")
+                .build();
+    }
 }
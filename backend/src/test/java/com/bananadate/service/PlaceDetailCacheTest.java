@@ -0,0 +1,141 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.PlaceResponse;
+import com.bananadate.entity.Place;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * PlaceDetailCache 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class PlaceDetailCacheTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 11, 13, 12, 0);
+
+    @Mock
+    private PlaceQueryService placeQueryService;
+
+    @Mock
+    private PlaceChangeNotifier placeChangeNotifier;
+
+    private PlaceDetailCache placeDetailCache;
+
+    @BeforeEach
+    void setUp() {
+        placeDetailCache = new PlaceDetailCache(placeQueryService, new ObjectMapper().findAndRegisterModules(),
+                placeChangeNotifier, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void testGet_ReadsThroughOnce() {
+        // Given
+        when(placeQueryService.getPlace(1L)).thenReturn(Optional.of(response(1L, "스타벅스 강남역점")));
+
+        // When: 두 번 조회
+        Optional<PlaceDetailCache.Entry> first = placeDetailCache.get(1L);
+        Optional<PlaceDetailCache.Entry> second = placeDetailCache.get(1L);
+
+        // Then: DB 조회는 1회, 직렬화된 JSON과 수정 시각 보관
+        assertThat(first).isPresent();
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(new String(first.get().json(), StandardCharsets.UTF_8)).contains("\"placeName\":\"스타벅스 강남역점\"");
+        assertThat(first.get().updatedAt()).isEqualTo(UPDATED_AT);
+        verify(placeQueryService, times(1)).getPlace(1L);
+    }
+
+    @Test
+    void testGet_DoesNotCacheMissingPlace() {
+        // Given
+        when(placeQueryService.getPlace(99L)).thenReturn(Optional.empty());
+
+        // When
+        placeDetailCache.get(99L);
+        placeDetailCache.get(99L);
+
+        // Then: 없는 장소는 매번 조회
+        assertThat(placeDetailCache.getIfPresent(99L)).isEmpty();
+        verify(placeQueryService, times(2)).getPlace(99L);
+    }
+
+    @Test
+    void testOnPlacesCurated_InvalidatesAndNotifiesOtherNodes() {
+        // Given
+        when(placeQueryService.getPlace(1L)).thenReturn(Optional.of(response(1L, "스타벅스 강남역점")));
+        placeDetailCache.get(1L);
+
+        // When
+        Place curated = Place.builder().id(1L).dateScore(9).curatedAt(UPDATED_AT).build();
+        placeDetailCache.onPlacesCurated(PlacesCuratedEvent.firstCuration(List.of(curated)));
+
+        // Then
+        assertThat(placeDetailCache.getIfPresent(1L)).isEmpty();
+        verify(placeChangeNotifier).publish(List.of(1L));
+    }
+
+    @Test
+    void testOnRemotePlacesChanged_InvalidatesWithoutNotifying() {
+        // Given
+        when(placeQueryService.getPlace(anyLong())).thenAnswer(invocation ->
+                Optional.of(response(invocation.getArgument(0), "장소")));
+        placeDetailCache.get(1L);
+        placeDetailCache.get(2L);
+
+        // When: 다른 노드에서 1번 장소 변경
+        placeDetailCache.onRemotePlacesChanged(new RemotePlacesChangedEvent(List.of(1L), false));
+
+        // Then
+        assertThat(placeDetailCache.getIfPresent(1L)).isEmpty();
+        assertThat(placeDetailCache.getIfPresent(2L)).isPresent();
+        verifyNoInteractions(placeChangeNotifier);
+
+        // When: 다른 노드의 전체 무효화
+        placeDetailCache.onRemotePlacesChanged(RemotePlacesChangedEvent.allPlaces());
+
+        // Then
+        assertThat(placeDetailCache.getIfPresent(2L)).isEmpty();
+    }
+
+    @Test
+    void testBindTo_ExposesHitAndMissMetrics() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        placeDetailCache.bindTo(registry);
+        when(placeQueryService.getPlace(1L)).thenReturn(Optional.of(response(1L, "스타벅스 강남역점")));
+
+        // When: 미스 1회, 적중 2회
+        placeDetailCache.get(1L);
+        placeDetailCache.get(1L);
+        placeDetailCache.get(1L);
+
+        // Then
+        assertThat(registry.get("cache.gets").tag("cache", "place.detail").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("cache.gets").tag("cache", "place.detail").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.find("cache.evictions").tag("cache", "place.detail").functionCounter()).isNotNull();
+    }
+
+    private static PlaceResponse response(Long id, String placeName) {
+        return PlaceResponse.builder()
+                .id(id)
+                .placeName(placeName)
+                .moodTags(List.of())
+                .updatedAt(UPDATED_AT)
+                .build();
+    }
+}
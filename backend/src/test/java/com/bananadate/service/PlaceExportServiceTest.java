@@ -0,0 +1,157 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.PlaceResponse;
+import com.bananadate.repository.PlaceExportReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * PlaceExportService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class PlaceExportServiceTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 11, 13, 12, 0);
+
+    @Mock
+    private PlaceExportReader placeExportReader;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private PlaceExportService placeExportService;
+
+    @BeforeEach
+    void setUp() {
+        placeExportService = new PlaceExportService(placeExportReader, objectMapper);
+    }
+
+    @Test
+    void testExport_Ndjson_WritesOneObjectPerLine() throws IOException {
+        // Given
+        givenPlaces(place(1L, "스타벅스 강남역점", List.of("로맨틱", "조용한")), place(2L, "블루보틀", List.of()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        PlaceExportService.ExportStats stats = placeExportService.export(PlaceExportFormat.NDJSON, out);
+
+        // Then: 장소마다 한 줄, 분위기 태그 포함
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("placeName").asText()).isEqualTo("스타벅스 강남역점");
+        assertThat(first.get("moodTags")).hasSize(2);
+        assertThat(objectMapper.readTree(lines[1]).get("id").asLong()).isEqualTo(2L);
+        assertThat(out.toString(StandardCharsets.UTF_8)).endsWith("\n");
+        assertThat(stats.rows()).isEqualTo(2);
+        assertThat(stats.peakHeapBytes()).isPositive();
+    }
+
+    @Test
+    void testExport_Csv_WritesHeaderAndEscapedRows() throws IOException {
+        // Given: 쉼표와 따옴표가 있는 이름
+        givenPlaces(place(1L, "카페 \"봄\", 강남", List.of("로맨틱", "조용한")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        placeExportService.export(PlaceExportFormat.CSV, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("id,kakao_place_id,place_name,");
+        assertThat(lines[1]).startsWith("1,k1,\"카페 \"\"봄\"\", 강남\",음식점 > 카페,");
+        assertThat(lines[1]).contains(",로맨틱|조용한,");
+    }
+
+    @Test
+    void testExport_DoesNotCloseOutputStream() throws IOException {
+        // Given
+        givenPlaces(place(1L, "블루보틀", List.of()));
+        OutputStream out = spy(new ByteArrayOutputStream());
+
+        // When
+        placeExportService.export(PlaceExportFormat.NDJSON, out);
+
+        // Then: 응답 스트림은 컨테이너가 닫음
+        verify(out, never()).close();
+    }
+
+    @Test
+    void testExport_PropagatesWriteFailure() throws IOException {
+        // Given: 클라이언트 연결이 끊긴 스트림
+        givenPlaces(place(1L, "블루보틀", List.of()));
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // When & Then
+        assertThatThrownBy(() -> placeExportService.export(PlaceExportFormat.CSV, out))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Broken pipe");
+    }
+
+    @Test
+    void testCsvField_QuotesOnlyWhenNeeded() {
+        assertThat(PlaceExportService.csvField(null)).isEmpty();
+        assertThat(PlaceExportService.csvField("블루보틀")).isEqualTo("블루보틀");
+        assertThat(PlaceExportService.csvField("a,b")).isEqualTo("\"a,b\"");
+        assertThat(PlaceExportService.csvField("줄\n바꿈")).isEqualTo("\"줄\n바꿈\"");
+        assertThat(PlaceExportService.csvField("\"봄\"")).isEqualTo("\"\"\"봄\"\"\"");
+    }
+
+    @Test
+    void testFormatFrom() {
+        assertThat(PlaceExportFormat.from("CSV")).isEqualTo(PlaceExportFormat.CSV);
+        assertThat(PlaceExportFormat.from("ndjson")).isEqualTo(PlaceExportFormat.NDJSON);
+        assertThatThrownBy(() -> PlaceExportFormat.from("xml")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPlaces(PlaceResponse... places) {
+        when(placeExportReader.streamAll(anyInt(), any(Consumer.class))).thenAnswer(invocation -> {
+            Consumer<PlaceResponse> consumer = invocation.getArgument(1);
+            for (PlaceResponse place : places) {
+                consumer.accept(place);
+            }
+            return (long) places.length;
+        });
+    }
+
+    private static PlaceResponse place(Long id, String placeName, List<String> moodTags) {
+        return PlaceResponse.builder()
+                .id(id)
+                .kakaoPlaceId("k" + id)
+                .placeName(placeName)
+                .category("음식점 > 카페")
+                .address("서울 강남구")
+                .latitude(37.5)
+                .longitude(127.0)
+                .dateScore(8)
+                .moodTags(moodTags)
+                .createdAt(UPDATED_AT)
+                .updatedAt(UPDATED_AT)
+                .build();
+    }
+}
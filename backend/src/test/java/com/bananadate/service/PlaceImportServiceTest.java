@@ -0,0 +1,182 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.JobStatusResponse;
+import com.bananadate.dto.KakaoLocalSearchResponse;
+import com.bananadate.dto.PlaceImportResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * PlaceImportService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class PlaceImportServiceTest {
+
+    @Mock
+    private PlaceCollectionService placeCollectionService;
+
+    private PlaceImportService placeImportService;
+
+    @BeforeEach
+    void setUp() {
+        placeImportService = new PlaceImportService(placeCollectionService, new ObjectMapper());
+        ReflectionTestUtils.setField(placeImportService, "batchSize", 2);
+    }
+
+    @Test
+    void testImportDocuments_StoresInBatches() throws IOException {
+        // Given: 문서 5개, 배치 크기 2 (저장 시 인자 목록이 비워지므로 복사해 둠)
+        List<List<String>> storedIds = new ArrayList<>();
+        when(placeCollectionService.storeNewDocuments(anyList())).thenAnswer(invocation -> {
+            List<KakaoLocalSearchResponse.Document> batch = invocation.getArgument(0);
+            storedIds.add(batch.stream().map(KakaoLocalSearchResponse.Document::getId).toList());
+            return batch.size() - (batch.get(0).getId().equals("1") ? 1 : 0);
+        });
+        Job job = new Job("job-1", PlaceImportService.JOB_TYPE);
+
+        // When
+        PlaceImportResult result = placeImportService.importDocuments(
+                gzip(document("1"), document("2"), document("3"), document("4"), document("5")), job);
+
+        // Then: 2 + 2 + 1로 나누어 저장, 첫 배치의 1개는 이미 있던 장소
+        assertThat(storedIds).containsExactly(List.of("1", "2"), List.of("3", "4"), List.of("5"));
+        assertThat(result.getReadCount()).isEqualTo(5);
+        assertThat(result.getImportedCount()).isEqualTo(4);
+        assertThat(result.getSkippedCount()).isEqualTo(1);
+        JobStatusResponse status = job.toResponse();
+        assertThat(status.getSucceeded()).isEqualTo(5);
+        assertThat(status.getFailed()).isZero();
+    }
+
+    @Test
+    void testImportDocuments_SkipsInvalidDocuments() throws IOException {
+        // Given: 좌표가 없는 문서와 ID가 없는 문서
+        when(placeCollectionService.storeNewDocuments(anyList()))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+        Job job = new Job("job-1", PlaceImportService.JOB_TYPE);
+        String noCoordinates = "{\"id\":\"2\",\"place_name\":\"카페\",\"category_name\":\"음식점 > 카페\","
+                + "\"address_name\":\"서울 강남구\"}";
+        String noId = "{\"place_name\":\"카페\",\"category_name\":\"음식점 > 카페\",\"address_name\":\"서울 강남구\","
+                + "\"x\":\"127.0\",\"y\":\"37.5\"}";
+
+        // When
+        PlaceImportResult result = placeImportService.importDocuments(gzip(document("1"), noCoordinates, noId), job);
+
+        // Then
+        assertThat(result.getReadCount()).isEqualTo(3);
+        assertThat(result.getImportedCount()).isEqualTo(1);
+        assertThat(result.getInvalidCount()).isEqualTo(2);
+        assertThat(job.toResponse().getFailed()).isEqualTo(2);
+    }
+
+    @Test
+    void testImportDocuments_StopsWhenCancelled() throws IOException {
+        // Given: 시작 전에 취소된 작업
+        Job job = new Job("job-1", PlaceImportService.JOB_TYPE);
+        job.requestCancel();
+
+        // When
+        PlaceImportResult result = placeImportService.importDocuments(gzip(document("1"), document("2")), job);
+
+        // Then
+        assertThat(result.getReadCount()).isZero();
+        verifyNoInteractions(placeCollectionService);
+    }
+
+    @Test
+    void testImportDocuments_RejectsNonObjectValue() {
+        // When & Then: 배열은 NDJSON 문서가 아님
+        assertThatThrownBy(() -> placeImportService.importDocuments(gzip("[1, 2]"), JobProgress.NONE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testStage_RejectsUncompressedBody() {
+        // When & Then
+        assertThatThrownBy(() -> placeImportService.stage(
+                new ByteArrayInputStream(document("1").getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testImportStagedFile_DeletesFile() throws IOException {
+        // Given
+        when(placeCollectionService.storeNewDocuments(anyList())).thenReturn(1);
+        Path file = placeImportService.stage(gzip(document("1")));
+
+        // When
+        PlaceImportResult result = placeImportService.importStagedFile(file, JobProgress.NONE);
+
+        // Then
+        assertThat(result.getImportedCount()).isEqualTo(1);
+        assertThat(Files.exists(file)).isFalse();
+    }
+
+    @Test
+    void testStagedFile_DeletedWhenCancelledWhileQueued() throws Exception {
+        // Given: 실행 스레드 1개가 다른 작업으로 막혀 있어 가져오기 작업이 대기열에 있음
+        JobService jobService = new JobService(1, 1, 60);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            jobService.submit("BLOCKER", progress -> {
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            });
+            Path file = placeImportService.stage(gzip(document("1")));
+            JobStatusResponse queued = jobService.submit(PlaceImportService.JOB_TYPE,
+                    progress -> placeImportService.importStagedFile(file, progress),
+                    () -> placeImportService.discardStagedFile(file));
+
+            // When: 시작 전에 취소
+            jobService.cancel(queued.getJobId());
+
+            // Then: 작업은 실행되지 않지만 임시 파일은 삭제됨
+            assertThat(Files.exists(file)).isFalse();
+            release.countDown();
+            verifyNoInteractions(placeCollectionService);
+        } finally {
+            release.countDown();
+            jobService.shutdown();
+        }
+    }
+
+    private static String document(String id) {
+        return "{\"id\":\"" + id + "\",\"place_name\":\"카페 " + id + "\",\"category_name\":\"음식점 > 카페\","
+                + "\"address_name\":\"서울 강남구\",\"x\":\"127.0276\",\"y\":\"37.4979\",\"distance\":\"\"}";
+    }
+
+    private static InputStream gzip(String... lines) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+        }
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+}
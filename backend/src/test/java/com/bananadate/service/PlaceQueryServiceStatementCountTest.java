@@ -0,0 +1,114 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.PlaceResponse;
+import com.bananadate.entity.Place;
+import com.bananadate.repository.PlaceRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PlaceQueryService SQL 문 수 테스트 (내장 H2)
+ * 목록 조회의 SQL 문 수가 페이지 크기와 관계없이 일정한지 (분위기 태그 N+1이 없는지) 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(PlaceQueryService.class)
+class PlaceQueryServiceStatementCountTest {
+
+    private static final int PLACE_COUNT = 30;
+
+    @Autowired
+    private PlaceQueryService placeQueryService;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // Given: 분위기 태그가 2개씩 있는 큐레이션된 장소 30개
+        placeRepository.saveAll(IntStream.range(0, PLACE_COUNT)
+                .mapToObj(i -> Place.builder()
+                        .kakaoPlaceId("kakao-" + i)
+                        .placeName("장소 " + i)
+                        .category("음식점 > 카페")
+                        .address("서울특별시 강남구")
+                        .latitude(37.5)
+                        .longitude(127.0)
+                        .dateScore(i % 10 + 1)
+                        .moodTags(List.of("로맨틱", "조용한"))
+                        .curatedAt(LocalDateTime.now())
+                        .build())
+                .toList());
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testGetPlaces_StatementCountIndependentOfPageSize() {
+        // When: 페이지 크기 5와 20으로 각각 조회
+        long smallPageStatements = countStatements(() -> placeQueryService.getPlaces(0, 5, null, null, null));
+        long largePageStatements = countStatements(() -> placeQueryService.getPlaces(0, 20, null, null, null));
+
+        // Then: 목록 + COUNT + 태그 IN 조회 = 3회로 동일
+        assertThat(smallPageStatements).isEqualTo(3);
+        assertThat(largePageStatements).isEqualTo(smallPageStatements);
+    }
+
+    @Test
+    void testFindPlacesByCursor_StatementCountIndependentOfPageSize() {
+        // When
+        long smallPageStatements = countStatements(() -> placeQueryService.findPlaces(null, true, null, null, 5));
+        long largePageStatements = countStatements(() -> placeQueryService.findPlaces(null, true, null, null, 20));
+
+        // Then: 목록 + 태그 IN 조회 = 2회 (COUNT 없음)
+        assertThat(smallPageStatements).isEqualTo(2);
+        assertThat(largePageStatements).isEqualTo(smallPageStatements);
+    }
+
+    @Test
+    void testGetPlaces_IncludesMoodTags() {
+        // When
+        Page<PlaceResponse> page = placeQueryService.getPlaces(0, 10, null, null, null);
+        entityManager.clear();
+
+        // Then: 세션이 닫힌 뒤에도 태그가 채워져 있음
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getContent()).allSatisfy(place ->
+                assertThat(place.getMoodTags()).containsExactlyInAnyOrder("로맨틱", "조용한"));
+        assertThat(page.getTotalElements()).isEqualTo(PLACE_COUNT);
+    }
+
+    private long countStatements(Runnable query) {
+        entityManager.clear();
+        statistics.clear();
+        query.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,117 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.CursorPage;
+import com.bananadate.dto.PlaceCursor;
+import com.bananadate.dto.PlaceMoodTag;
+import com.bananadate.dto.PlaceResponse;
+import com.bananadate.entity.Place;
+import com.bananadate.repository.PlaceRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * PlaceQueryService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class PlaceQueryServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 11, 13, 12, 0);
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @InjectMocks
+    private PlaceQueryService placeQueryService;
+
+    @Test
+    void testFindPlaces_HasNextPage() {
+        // Given: size + 1개가 조회되는 경우
+        when(placeRepository.findBy(any(Specification.class), any())).thenReturn(places(11));
+
+        // When
+        CursorPage<PlaceResponse> page = placeQueryService.findPlaces(null, null, null, null, 10);
+
+        // Then: size개만 반환하고 마지막 장소 기준 커서 생성, COUNT 쿼리 없음
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(PlaceCursor.decode(page.getNextCursor()))
+                .isEqualTo(new PlaceCursor(PlaceCursor.SortKey.CREATED_AT, NOW.minusMinutes(10), null, 10L));
+        verify(placeRepository, never()).count();
+    }
+
+    @Test
+    void testFindPlaces_LastPage() {
+        // Given
+        when(placeRepository.findBy(any(Specification.class), any())).thenReturn(places(3));
+
+        // When
+        CursorPage<PlaceResponse> page = placeQueryService.findPlaces(null, null, null, null, 10);
+
+        // Then
+        assertThat(page.getContent()).hasSize(3);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void testFindPlaces_RejectsCursorOfOtherOrdering() {
+        // Given: 최신순 목록에서 받은 커서
+        String createdAtCursor = new PlaceCursor(PlaceCursor.SortKey.CREATED_AT, NOW, null, 1L).encode();
+
+        // When & Then: 데이트 점수순(curated=true) 목록에는 사용할 수 없음
+        assertThatThrownBy(() -> placeQueryService.findPlaces(null, true, null, createdAtCursor, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(placeRepository);
+    }
+
+    @Test
+    void testToResponses_LoadsMoodTagsInOneQuery() {
+        // Given: 장소 3개 중 2개에 분위기 태그가 있는 경우
+        when(placeRepository.findMoodTagsByPlaceIds(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                new PlaceMoodTag(1L, "로맨틱"),
+                new PlaceMoodTag(1L, "조용한"),
+                new PlaceMoodTag(3L, "활기찬")));
+
+        // When
+        List<PlaceResponse> responses = placeQueryService.toResponses(places(3));
+
+        // Then: 태그 조회는 1회, 순서는 그대로
+        assertThat(responses).extracting(PlaceResponse::getId).containsExactly(1L, 2L, 3L);
+        assertThat(responses.get(0).getMoodTags()).containsExactly("로맨틱", "조용한");
+        assertThat(responses.get(1).getMoodTags()).isEmpty();
+        assertThat(responses.get(2).getMoodTags()).containsExactly("활기찬");
+        verify(placeRepository, times(1)).findMoodTagsByPlaceIds(any());
+    }
+
+    @Test
+    void testGetPlacesInOrder_KeepsRequestedOrder() {
+        // Given: 색인 순위는 3, 1, 2이고 DB는 ID 순으로 반환, 2번은 삭제됨
+        when(placeRepository.findAllById(List.of(3L, 1L, 2L))).thenReturn(List.of(places(3).get(0), places(3).get(2)));
+        when(placeRepository.findMoodTagsByPlaceIds(any())).thenReturn(List.of());
+
+        // When
+        List<PlaceResponse> responses = placeQueryService.getPlacesInOrder(List.of(3L, 1L, 2L));
+
+        // Then: 요청한 순서 유지, 없는 장소는 제외
+        assertThat(responses).extracting(PlaceResponse::getId).containsExactly(3L, 1L);
+    }
+
+    private static List<Place> places(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> Place.builder().id(id).createdAt(NOW.minusMinutes(id)).build())
+                .toList();
+    }
+}
@@ -0,0 +1,109 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.PlaceResponse;
+import com.bananadate.entity.Place;
+import com.bananadate.repository.PlaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * PlaceRanking 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class PlaceRankingTest {
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @Mock
+    private PlaceQueryService placeQueryService;
+
+    @InjectMocks
+    private PlaceRanking placeRanking;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(placeRanking, "loadChunkSize", 2);
+    }
+
+    @Test
+    void testLoad_ReadsCuratedPlacesInKeysetChunks() {
+        // Given: 큐레이션된 장소 3개 (청크 크기 2)
+        List<Place> firstChunk = List.of(place(1L, 7), place(2L, 9));
+        List<Place> secondChunk = List.of(place(4L, 8));
+        when(placeRepository.findCuratedPlacesAfter(eq(0L), any(Pageable.class))).thenReturn(firstChunk);
+        when(placeRepository.findCuratedPlacesAfter(eq(2L), any(Pageable.class))).thenReturn(secondChunk);
+        when(placeRepository.findCuratedPlacesAfter(eq(4L), any(Pageable.class))).thenReturn(List.of());
+        when(placeQueryService.toResponses(anyList())).thenAnswer(invocation -> invocation.<List<Place>>getArgument(0)
+                .stream().map(place -> PlaceResponse.of(place, List.of())).toList());
+
+        // When
+        placeRanking.load();
+
+        // Then
+        assertThat(placeRanking.size()).isEqualTo(3);
+        assertThat(placeRanking.top(null, null, 10)).extracting(PlaceResponse::getId).containsExactly(2L, 4L, 1L);
+    }
+
+    @Test
+    void testLoad_KeepsCurationAppliedWhileLoading() {
+        // Given: 첫 청크를 읽은 뒤 1번 장소가 3점으로 재큐레이션됨
+        when(placeRepository.findCuratedPlacesAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(place(1L, 7), place(2L, 9)));
+        when(placeRepository.findCuratedPlacesAfter(eq(2L), any(Pageable.class))).thenAnswer(invocation -> {
+            Place recurated = place(1L, 3);
+            placeRanking.onPlacesCurated(new PlacesCuratedEvent(List.of(new PlacesCuratedEvent.Change(recurated, 7))));
+            return List.of();
+        });
+        when(placeQueryService.toResponses(anyList())).thenAnswer(invocation -> invocation.<List<Place>>getArgument(0)
+                .stream().map(place -> PlaceResponse.of(place, List.of())).toList());
+
+        // When
+        placeRanking.load();
+
+        // Then: 교체 후에도 재큐레이션된 점수로 순위가 매겨짐
+        assertThat(placeRanking.top(null, null, 10)).extracting(PlaceResponse::getDateScore).containsExactly(9, 3);
+    }
+
+    @Test
+    void testOnPlacesCurated_UpdatesWithoutQueries() {
+        // Given: 기존 9점 장소
+        Place place = place(1L, 9);
+        placeRanking.onPlacesCurated(PlacesCuratedEvent.firstCuration(List.of(place, place(2L, 6))));
+
+        // When: 4점으로 재큐레이션
+        place.setDateScore(4);
+        placeRanking.onPlacesCurated(new PlacesCuratedEvent(List.of(new PlacesCuratedEvent.Change(place, 9))));
+
+        // Then: DB 조회 없이 순위 갱신
+        assertThat(placeRanking.top("11230", "카페", 10)).extracting(PlaceResponse::getId).containsExactly(2L, 1L);
+        assertThat(placeRanking.top("11230", "카페", 10).get(0).getMoodTags()).containsExactly("로맨틱");
+        verifyNoInteractions(placeRepository, placeQueryService);
+    }
+
+    private static Place place(Long id, int dateScore) {
+        return Place.builder()
+                .id(id)
+                .kakaoPlaceId("kakao-" + id)
+                .placeName("장소 " + id)
+                .category("음식점 > 카페")
+                .districtId("11230")
+                .dateScore(dateScore)
+                .moodTags(List.of("로맨틱"))
+                .curatedAt(LocalDateTime.now())
+                .build();
+    }
+}
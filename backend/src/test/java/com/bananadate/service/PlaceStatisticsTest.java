@@ -0,0 +1,111 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.GroupCount;
+import com.bananadate.dto.PlaceStats;
+import com.bananadate.entity.Place;
+import com.bananadate.repository.PlaceRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * PlaceStatistics 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class PlaceStatisticsTest {
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @InjectMocks
+    private PlaceStatistics placeStatistics;
+
+    @Test
+    void testReconcile_LoadsDatabaseAggregates() {
+        // Given: 장소 10개 중 4개 큐레이션
+        stubAggregates();
+
+        // When
+        placeStatistics.reconcile();
+        PlaceStats stats = placeStatistics.snapshot();
+
+        // Then
+        assertThat(stats.getTotalCount()).isEqualTo(10);
+        assertThat(stats.getCuratedCount()).isEqualTo(4);
+        assertThat(stats.getUncuratedCount()).isEqualTo(6);
+        assertThat(stats.getCurationRate()).isEqualTo(40.0);
+        assertThat(stats.getByCategory()).isEqualTo(Map.of("음식점 > 카페", 7L, "음식점 > 일식", 3L));
+        assertThat(stats.getByDistrict()).isEqualTo(Map.of("11230", 6L, "11140", 4L));
+        assertThat(stats.getByScoreBucket()).containsEntry("7-8", 3L).containsEntry("9-10", 1L).containsEntry("1-2", 0L);
+        assertThat(stats.getReconciledAt()).isNotNull();
+    }
+
+    @Test
+    void testEvents_UpdateCountersWithoutQueries() {
+        // Given
+        stubAggregates();
+        placeStatistics.reconcile();
+        clearInvocations(placeRepository);
+
+        // When: 장소 2개 저장, 그중 1개 첫 큐레이션, 기존 장소 1개 재큐레이션 (8점 → 10점)
+        placeStatistics.onPlacesCollected(new PlacesCollectedEvent(List.of(
+                place("음식점 > 카페", "11230"),
+                place("음식점 > 양식", null))));
+        placeStatistics.onPlacesCurated(new PlacesCuratedEvent(List.of(
+                new PlacesCuratedEvent.Change(curatedPlace(5), null),
+                new PlacesCuratedEvent.Change(curatedPlace(10), 8))));
+        PlaceStats stats = placeStatistics.snapshot();
+
+        // Then: DB 조회 없이 카운터만으로 응답
+        assertThat(stats.getTotalCount()).isEqualTo(12);
+        assertThat(stats.getCuratedCount()).isEqualTo(5);
+        assertThat(stats.getByCategory()).containsEntry("음식점 > 카페", 8L).containsEntry("음식점 > 양식", 1L);
+        assertThat(stats.getByDistrict()).containsEntry("11230", 7L);
+        assertThat(stats.getByScoreBucket())
+                .containsEntry("5-6", 1L)
+                .containsEntry("7-8", 2L)
+                .containsEntry("9-10", 2L);
+        verifyNoInteractions(placeRepository);
+    }
+
+    @Test
+    void testReconcile_CorrectsDrift() {
+        // Given: 이벤트로 반영된 값이 DB와 달라진 경우
+        stubAggregates();
+        placeStatistics.onPlacesCollected(new PlacesCollectedEvent(List.of(place("음식점 > 카페", "11230"))));
+
+        // When
+        placeStatistics.reconcile();
+
+        // Then: DB 집계 값으로 교체
+        assertThat(placeStatistics.snapshot().getTotalCount()).isEqualTo(10);
+        assertThat(placeStatistics.snapshot().getByCategory()).containsEntry("음식점 > 카페", 7L);
+    }
+
+    private void stubAggregates() {
+        when(placeRepository.count()).thenReturn(10L);
+        when(placeRepository.countCuratedPlaces()).thenReturn(4L);
+        when(placeRepository.countByCategory()).thenReturn(List.of(
+                new GroupCount("음식점 > 카페", 7L), new GroupCount("음식점 > 일식", 3L)));
+        when(placeRepository.countByDistrict()).thenReturn(List.of(
+                new GroupCount("11230", 6L), new GroupCount("11140", 4L)));
+        when(placeRepository.countCuratedByDateScore()).thenReturn(List.of(
+                new GroupCount("7", 1L), new GroupCount("8", 2L), new GroupCount("9", 1L)));
+    }
+
+    private static Place curatedPlace(int dateScore) {
+        return Place.builder().category("음식점 > 카페").dateScore(dateScore).build();
+    }
+
+    private static Place place(String category, String districtId) {
+        return Place.builder().category(category).districtId(districtId).build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.bananadate.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ReloadableIndex 단위 테스트
+ * 색인 대신 ID 집합이나 ID별 점수 맵을 사용합니다.
+ */
+class ReloadableIndexTest {
+
+    @Test
+    void testReload_ReadsKeysetChunksAndSwaps() {
+        // Given: ID 1, 2, 4, 5, 7 (청크 크기 2)
+        List<Long> rows = List.of(1L, 2L, 4L, 5L, 7L);
+        List<Long> queriedAfter = new ArrayList<>();
+        ReloadableIndex<Set<Long>> index = new ReloadableIndex<>(ConcurrentSkipListSet::new);
+        Set<Long> previous = index.current();
+
+        // When
+        Set<Long> fresh = index.reload((lastId, pageable) -> {
+            queriedAfter.add(lastId);
+            return page(rows, lastId, pageable);
+        }, id -> id, 2, Set::addAll);
+
+        // Then: 마지막 ID 다음부터 청크를 읽고, 빈 청크에서 멈춘 뒤 새 색인으로 교체
+        assertThat(queriedAfter).containsExactly(0L, 2L, 5L, 7L);
+        assertThat(fresh).containsExactly(1L, 2L, 4L, 5L, 7L);
+        assertThat(index.current()).isSameAs(fresh);
+        assertThat(previous).isEmpty();
+    }
+
+    @Test
+    void testReload_ReplaysChangesAppliedWhileLoading() {
+        // Given: 장소별 점수 (청크 크기 2), 첫 청크를 읽은 뒤 1번 장소 점수가 9로 바뀜
+        Map<Long, Integer> rows = new TreeMap<>(Map.of(1L, 5, 2L, 6, 3L, 7));
+        ReloadableIndex<Map<Long, Integer>> index = new ReloadableIndex<>(ConcurrentHashMap::new);
+        index.apply(scores -> scores.put(1L, 5));
+
+        // When
+        Map<Long, Integer> fresh = index.reload((lastId, pageable) -> {
+            if (lastId == 2L) {
+                rows.put(1L, 9);
+                index.apply(scores -> scores.put(1L, 9));
+            }
+            return page(List.copyOf(rows.keySet()), lastId, pageable);
+        }, id -> id, 2, (scores, ids) -> ids.forEach(id -> scores.put(id, rows.get(id))));
+
+        // Then: 이미 읽은 1번 장소의 변경이 교체 후에도 남아 있고, 이후 변경은 새 색인에만 반영
+        assertThat(fresh).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 9, 2L, 6, 3L, 7));
+        index.apply(scores -> scores.put(2L, 1));
+        assertThat(index.current()).isSameAs(fresh).containsEntry(2L, 1);
+    }
+
+    @Test
+    void testReload_FailureKeepsPreviousIndex() {
+        // Given
+        ReloadableIndex<Set<Long>> index = new ReloadableIndex<>(ConcurrentSkipListSet::new);
+        index.apply(ids -> ids.add(1L));
+        Set<Long> previous = index.current();
+
+        // When
+        assertThatThrownBy(() -> index.<Long>reload((lastId, pageable) -> {
+            throw new IllegalStateException("DB unavailable");
+        }, id -> id, 2, Set::addAll)).isInstanceOf(IllegalStateException.class);
+
+        // Then: 이전 색인을 계속 사용
+        index.apply(ids -> ids.add(2L));
+        assertThat(index.current()).isSameAs(previous).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void testApply_UpdatesCurrentIndex() {
+        // Given
+        ReloadableIndex<Set<Long>> index = new ReloadableIndex<>(ConcurrentSkipListSet::new);
+
+        // When
+        index.apply(ids -> ids.add(3L));
+
+        // Then
+        assertThat(index.current()).containsExactly(3L);
+    }
+
+    private static List<Long> page(List<Long> rows, Long lastId, Pageable pageable) {
+        return rows.stream().filter(id -> id > lastId).limit(pageable.getPageSize()).toList();
+    }
+}
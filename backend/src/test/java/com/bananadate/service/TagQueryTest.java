@@ -0,0 +1,44 @@
+package com.bananadate.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TagQuery 단위 테스트
+ */
+class TagQueryTest {
+
+    @Test
+    void testParse_AndOrNot() {
+        // When
+        TagQuery query = TagQuery.parse("#로맨틱, 야경명소|#루프탑 ,-시끄러운|북적이는");
+
+        // Then
+        assertThat(query.required()).containsExactly(Set.of("로맨틱"), Set.of("야경명소", "루프탑"));
+        assertThat(query.excluded()).containsExactlyInAnyOrder("시끄러운", "북적이는");
+    }
+
+    @Test
+    void testParse_IgnoresEmptyTerms() {
+        // When
+        TagQuery query = TagQuery.parse("로맨틱,, #,|");
+
+        // Then
+        assertThat(query.required()).isEqualTo(List.of(Set.of("로맨틱")));
+        assertThat(query.excluded()).isEmpty();
+    }
+
+    @Test
+    void testParse_RejectsOnlyExclusions() {
+        // When & Then: 제외 조건만으로는 검색할 수 없음
+        assertThatThrownBy(() -> TagQuery.parse("-시끄러운"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TagQuery.parse(" "))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
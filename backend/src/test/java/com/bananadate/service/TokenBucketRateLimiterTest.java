@@ -0,0 +1,82 @@
+package com.bananadate.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TokenBucketRateLimiter 단위 테스트
+ */
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(0);
+
+    @Test
+    void testReserve_BurstThenWait() {
+        // Given: 초당 2개, burst 3개
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 3, clock::get);
+
+        // When & Then: burst 만큼은 대기 없이 예약, 그 이후는 토큰 간격(500ms)만큼 대기
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    void testReserve_RefillsOverTime() {
+        // Given: 초당 2개, burst 1개, 토큰을 하나 미리 당겨 씀
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 1, clock::get);
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+
+        // When: 1초 경과 (토큰 2개 충전, 당겨 쓴 1개 상환)
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        // Then
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isPositive();
+    }
+
+    @Test
+    void testReserve_DoesNotExceedBurst() {
+        // Given: 초당 10개, burst 2개
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 2, clock::get);
+
+        // When: 오랜 시간 유휴 상태
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        // Then: burst 이상 누적되지 않음
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    void testReserve_QueuesWaitTimesInOrder() {
+        // Given: 초당 4개 (토큰당 250ms), burst 1개
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(4, 1, clock::get);
+
+        // When: 같은 시점에 3번 예약
+        long first = limiter.reserve();
+        long second = limiter.reserve();
+        long third = limiter.reserve();
+
+        // Then: 뒤에 예약한 호출일수록 토큰 간격만큼 더 기다림
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(TimeUnit.MILLISECONDS.toNanos(250));
+        assertThat(third).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    void testConstructor_InvalidArguments() {
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,102 @@
+package com.bananadate.service;
+
+import com.bananadate.dto.PlaceResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TopPlacesIndex 단위 테스트
+ */
+class TopPlacesIndexTest {
+
+    @Test
+    void testTop_OrdersByScoreThenNewestId() {
+        // Given: 점수가 같은 장소 2개와 더 높은 점수의 장소 1개
+        TopPlacesIndex index = new TopPlacesIndex();
+        index.put(place(1L, 8, "음식점 > 카페", "11230"));
+        index.put(place(2L, 8, "음식점 > 카페", "11230"));
+        index.put(place(3L, 10, "음식점 > 카페", "11230"));
+
+        // When
+        List<PlaceResponse> result = index.top(null, null, 10);
+
+        // Then: 점수 내림차순, 같은 점수는 최신 ID 우선
+        assertThat(result).extracting(PlaceResponse::getId).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void testTop_FiltersByDistrictAndCategorySegment() {
+        // Given: 강남구 카페, 강남구 일식, 마포구 카페
+        TopPlacesIndex index = new TopPlacesIndex();
+        index.put(place(1L, 9, "음식점 > 카페", "11230"));
+        index.put(place(2L, 7, "음식점 > 일식", "11230"));
+        index.put(place(3L, 10, "음식점 > 카페", "11140"));
+
+        // When & Then: 카테고리는 어느 단계로든 조회 가능
+        assertThat(index.top("11230", "카페", 10)).extracting(PlaceResponse::getId).containsExactly(1L);
+        assertThat(index.top("11230", "음식점", 10)).extracting(PlaceResponse::getId).containsExactly(1L, 2L);
+        assertThat(index.top(null, "카페", 10)).extracting(PlaceResponse::getId).containsExactly(3L, 1L);
+        assertThat(index.top("11230", null, 1)).extracting(PlaceResponse::getId).containsExactly(1L);
+        assertThat(index.top("11440", null, 10)).isEmpty();
+    }
+
+    @Test
+    void testPut_ReplacesPreviousScore() {
+        // Given: 9점 장소와 7점 장소
+        TopPlacesIndex index = new TopPlacesIndex();
+        index.put(place(1L, 9, "음식점 > 카페", "11230"));
+        index.put(place(2L, 7, "음식점 > 카페", "11230"));
+
+        // When: 1번 장소를 5점으로 재큐레이션
+        index.put(place(1L, 5, "음식점 > 카페", "11230"));
+
+        // Then: 중복 없이 순서만 바뀜
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.top("11230", "카페", 10)).extracting(PlaceResponse::getId).containsExactly(2L, 1L);
+        assertThat(index.top("11230", "카페", 10).get(1).getDateScore()).isEqualTo(5);
+    }
+
+    @Test
+    void testPut_MovesDistrictWhenChanged() {
+        // Given: 구 ID 없이 들어간 장소
+        TopPlacesIndex index = new TopPlacesIndex();
+        index.put(place(1L, 9, "음식점 > 카페", null));
+
+        // When: 구 ID가 채워진 뒤 다시 반영
+        index.put(place(1L, 9, "음식점 > 카페", "11230"));
+
+        // Then
+        assertThat(index.top("11230", null, 10)).extracting(PlaceResponse::getId).containsExactly(1L);
+        assertThat(index.top(null, null, 10)).hasSize(1);
+    }
+
+    @Test
+    void testRemove() {
+        // Given
+        TopPlacesIndex index = new TopPlacesIndex();
+        index.put(place(1L, 9, "음식점 > 카페", "11230"));
+
+        // When
+        index.remove(1L);
+
+        // Then
+        assertThat(index.size()).isZero();
+        assertThat(index.top(null, null, 10)).isEmpty();
+        assertThat(index.top("11230", "카페", 10)).isEmpty();
+    }
+
+    private static PlaceResponse place(Long id, int dateScore, String category, String districtId) {
+        return PlaceResponse.builder()
+                .id(id)
+                .placeName("장소 " + id)
+                .category(category)
+                .districtId(districtId)
+                .dateScore(dateScore)
+                .moodTags(List.of())
+                .curated(true)
+                .build();
+    }
+}